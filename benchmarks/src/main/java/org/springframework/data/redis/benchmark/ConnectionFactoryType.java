@@ -0,0 +1,185 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.benchmark;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.protocol.ProtocolVersion;
+
+import java.time.Duration;
+
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisClientConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.AutoBatchingPolicy;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettucePoolingClientConfiguration;
+
+/**
+ * Connection factory arrangements compared by the end-to-end benchmarks.
+ *
+ * @author agent
+ */
+public enum ConnectionFactoryType {
+
+	/**
+	 * {@link JedisConnectionFactory} using a connection pool.
+	 */
+	JEDIS_POOLED {
+
+		@Override
+		RedisConnectionFactory doCreate(RedisStandaloneConfiguration configuration) {
+			return new JedisConnectionFactory(configuration,
+					JedisClientConfiguration.builder().usePooling().poolConfig(poolConfig()).build());
+		}
+	},
+
+	/**
+	 * {@link JedisConnectionFactory} opening a new connection for each {@code RedisConnection}.
+	 */
+	JEDIS_UNPOOLED {
+
+		@Override
+		RedisConnectionFactory doCreate(RedisStandaloneConfiguration configuration) {
+			return new JedisConnectionFactory(configuration, JedisClientConfiguration.builder().build());
+		}
+	},
+
+	/**
+	 * {@link LettuceConnectionFactory} sharing a single native connection across threads.
+	 */
+	LETTUCE_SHARED {
+
+		@Override
+		RedisConnectionFactory doCreate(RedisStandaloneConfiguration configuration) {
+
+			LettuceConnectionFactory factory = new LettuceConnectionFactory(configuration,
+					LettuceClientConfiguration.builder().clientOptions(clientOptions()).build());
+			factory.setShareNativeConnection(true);
+			return factory;
+		}
+	},
+
+	/**
+	 * {@link LettuceConnectionFactory} sharing a single native connection across threads and batching concurrently
+	 * issued commands.
+	 */
+	LETTUCE_SHARED_AUTO_BATCHING {
+
+		@Override
+		RedisConnectionFactory doCreate(RedisStandaloneConfiguration configuration) {
+
+			LettuceConnectionFactory factory = new LettuceConnectionFactory(configuration,
+					LettuceClientConfiguration.builder().clientOptions(clientOptions()).build());
+			factory.setShareNativeConnection(true);
+			factory.setAutoBatchingPolicy(AutoBatchingPolicy.enabled(Duration.ofNanos(100_000), POOL_SIZE));
+			return factory;
+		}
+	},
+
+	/**
+	 * {@link LettuceConnectionFactory} using multiple shared native connections assigned by thread.
+	 */
+	LETTUCE_SHARED_STRIPED {
+
+		@Override
+		RedisConnectionFactory doCreate(RedisStandaloneConfiguration configuration) {
+
+			LettuceConnectionFactory factory = new LettuceConnectionFactory(configuration,
+					LettuceClientConfiguration.builder().clientOptions(clientOptions()).build());
+			factory.setShareNativeConnection(true);
+			factory.setSharedConnectionCount(4);
+			return factory;
+		}
+	},
+
+	/**
+	 * {@link LettuceConnectionFactory} using a connection pool without sharing the native connection.
+	 */
+	LETTUCE_POOLED {
+
+		@Override
+		RedisConnectionFactory doCreate(RedisStandaloneConfiguration configuration) {
+
+			LettuceConnectionFactory factory = new LettuceConnectionFactory(configuration,
+					LettucePoolingClientConfiguration.builder().clientOptions(clientOptions()).poolConfig(poolConfig()).build());
+			factory.setShareNativeConnection(false);
+			return factory;
+		}
+	};
+
+	/**
+	 * Number of pooled connections. Matches the number of benchmark threads so that pooled arrangements do not wait for
+	 * connections.
+	 */
+	static final int POOL_SIZE = 8;
+
+	/**
+	 * Create and initialize a {@link RedisConnectionFactory} connecting to the given {@link RespStubServer}.
+	 *
+	 * @param server the server to connect to.
+	 * @return the initialized {@link RedisConnectionFactory}. Must be destroyed after usage.
+	 */
+	public RedisConnectionFactory create(RespStubServer server) {
+
+		RedisConnectionFactory factory = doCreate(new RedisStandaloneConfiguration(server.getHost(), server.getPort()));
+
+		if (factory instanceof JedisConnectionFactory) {
+			((JedisConnectionFactory) factory).afterPropertiesSet();
+		} else {
+			((LettuceConnectionFactory) factory).afterPropertiesSet();
+		}
+
+		return factory;
+	}
+
+	/**
+	 * Destroy the given {@link RedisConnectionFactory} previously created by {@link #create(RespStubServer)}.
+	 *
+	 * @param factory the factory to destroy.
+	 */
+	public static void destroy(RedisConnectionFactory factory) {
+
+		if (factory instanceof JedisConnectionFactory) {
+			((JedisConnectionFactory) factory).destroy();
+		} else if (factory instanceof LettuceConnectionFactory) {
+			((LettuceConnectionFactory) factory).destroy();
+		}
+	}
+
+	abstract RedisConnectionFactory doCreate(RedisStandaloneConfiguration configuration);
+
+	private static GenericObjectPoolConfig<?> poolConfig() {
+
+		GenericObjectPoolConfig<?> config = new GenericObjectPoolConfig<>();
+		config.setMaxTotal(POOL_SIZE);
+		config.setMaxIdle(POOL_SIZE);
+		config.setMinIdle(POOL_SIZE);
+		return config;
+	}
+
+	/**
+	 * Use RESP2 without the {@code HELLO} handshake as the stub server does not support RESP3.
+	 */
+	private static ClientOptions clientOptions() {
+		return ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).timeoutOptions(TimeoutOptions.enabled())
+				.build();
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * Base class for end-to-end benchmarks running against a {@link RespStubServer}. Each trial starts a server and a
+ * {@link RedisConnectionFactory} according to the {@link ConnectionFactoryType} parameter. Benchmarks report throughput
+ * (ops/time unit) and the latency distribution including percentiles ({@link Mode#SampleTime}).
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(ConnectionFactoryType.POOL_SIZE)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public abstract class EndToEndBenchmarkSupport {
+
+	@Param({ "JEDIS_POOLED", "JEDIS_UNPOOLED", "LETTUCE_SHARED", "LETTUCE_SHARED_AUTO_BATCHING", "LETTUCE_SHARED_STRIPED",
+			"LETTUCE_POOLED" })
+	ConnectionFactoryType factoryType;
+
+	private RespStubServer server;
+
+	private RedisConnectionFactory connectionFactory;
+
+	@Setup(Level.Trial)
+	public void startServer() throws Exception {
+
+		this.server = RespStubServer.start();
+		this.connectionFactory = factoryType.create(server);
+
+		initialize(connectionFactory);
+	}
+
+	@TearDown(Level.Trial)
+	public void stopServer() {
+
+		ConnectionFactoryType.destroy(connectionFactory);
+		server.close();
+	}
+
+	/**
+	 * Initialize the benchmark state using the given {@link RedisConnectionFactory}.
+	 *
+	 * @param connectionFactory the initialized connection factory.
+	 * @throws Exception if initialization fails.
+	 */
+	protected abstract void initialize(RedisConnectionFactory connectionFactory) throws Exception;
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.benchmark;
+
+import java.io.Serializable;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * End-to-end benchmarks for {@link RedisCache} running against a {@link RespStubServer}.
+ *
+ * @author agent
+ */
+public class RedisCacheBenchmarks extends EndToEndBenchmarkSupport {
+
+	private static final int KEYS = 1024;
+
+	private Cache cache;
+
+	private final CachedValue value = new CachedValue("Walter", "White", 50);
+
+	@Override
+	protected void initialize(RedisConnectionFactory connectionFactory) {
+
+		RedisCacheManager cacheManager = RedisCacheManager.create(connectionFactory);
+		cacheManager.afterPropertiesSet();
+
+		this.cache = cacheManager.getCache("benchmark");
+
+		for (int i = 0; i < KEYS; i++) {
+			cache.put(i, value);
+		}
+	}
+
+	@Benchmark
+	public void put() {
+		cache.put(ThreadLocalRandom.current().nextInt(KEYS), value);
+	}
+
+	@Benchmark
+	public Object getHit() {
+		return cache.get(ThreadLocalRandom.current().nextInt(KEYS), CachedValue.class);
+	}
+
+	@Benchmark
+	public Object getMiss() {
+		return cache.get(KEYS + ThreadLocalRandom.current().nextInt(KEYS));
+	}
+
+	@Benchmark
+	public Object putIfAbsent() {
+		return cache.putIfAbsent(ThreadLocalRandom.current().nextInt(KEYS), value);
+	}
+
+	@Benchmark
+	public void evict() {
+		cache.evict(KEYS + ThreadLocalRandom.current().nextInt(KEYS));
+	}
+
+	static class CachedValue implements Serializable {
+
+		private final String firstname;
+		private final String lastname;
+		private final int age;
+
+		CachedValue(String firstname, String lastname, int age) {
+			this.firstname = firstname;
+			this.lastname = lastname;
+			this.age = age;
+		}
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.RedisKeyValueAdapter;
+import org.springframework.data.redis.core.RedisKeyValueTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.repository.support.RedisRepositoryFactory;
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * End-to-end benchmarks for Redis repositories running against a {@link RespStubServer}.
+ *
+ * @author agent
+ */
+public class RedisRepositoryBenchmarks extends EndToEndBenchmarkSupport {
+
+	private static final int ENTITIES = 1024;
+
+	private PersonRepository repository;
+
+	@Override
+	protected void initialize(RedisConnectionFactory connectionFactory) {
+
+		RedisTemplate<byte[], byte[]> template = new RedisTemplate<>();
+		template.setConnectionFactory(connectionFactory);
+		template.afterPropertiesSet();
+
+		RedisMappingContext mappingContext = new RedisMappingContext();
+		RedisKeyValueAdapter adapter = new RedisKeyValueAdapter(template, mappingContext);
+		adapter.afterPropertiesSet();
+
+		this.repository = new RedisRepositoryFactory(new RedisKeyValueTemplate(adapter, mappingContext))
+				.getRepository(PersonRepository.class);
+
+		for (int i = 0; i < ENTITIES; i++) {
+			repository.save(person(i));
+		}
+	}
+
+	@Benchmark
+	public Person save() {
+		return repository.save(person(ThreadLocalRandom.current().nextInt(ENTITIES)));
+	}
+
+	@Benchmark
+	public Optional<Person> findById() {
+		return repository.findById(Integer.toString(ThreadLocalRandom.current().nextInt(ENTITIES)));
+	}
+
+	private static Person person(int id) {
+
+		Person person = new Person();
+		person.id = Integer.toString(id);
+		person.firstname = "Walter";
+		person.lastname = "White";
+		person.age = 50;
+		return person;
+	}
+
+	interface PersonRepository extends CrudRepository<Person, String> {}
+
+	@RedisHash("persons")
+	static class Person {
+
+		@Id String id;
+		String firstname;
+		String lastname;
+		int age;
+	}
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.benchmark;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * End-to-end benchmarks for {@link StringRedisTemplate} running single commands and pipelines against a
+ * {@link RespStubServer}.
+ *
+ * @author agent
+ */
+public class RedisTemplateBenchmarks extends EndToEndBenchmarkSupport {
+
+	private static final int KEYS = 1024;
+
+	@Param({ "10" })
+	int pipelineSize;
+
+	private StringRedisTemplate template;
+
+	private String[] keys;
+
+	private byte[][] binaryKeys;
+
+	private final String value = "x".repeat(100);
+
+	private final byte[] binaryValue = value.getBytes(StandardCharsets.UTF_8);
+
+	@Override
+	protected void initialize(RedisConnectionFactory connectionFactory) {
+
+		this.template = new StringRedisTemplate(connectionFactory);
+		this.keys = new String[KEYS];
+		this.binaryKeys = new byte[KEYS][];
+
+		for (int i = 0; i < KEYS; i++) {
+			keys[i] = "key:" + i;
+			binaryKeys[i] = keys[i].getBytes(StandardCharsets.UTF_8);
+			template.opsForValue().set(keys[i], value);
+		}
+	}
+
+	@Benchmark
+	public void set() {
+		template.opsForValue().set(randomKey(), value);
+	}
+
+	@Benchmark
+	public String get() {
+		return template.opsForValue().get(randomKey());
+	}
+
+	@Benchmark
+	public Long incr() {
+		return template.opsForValue().increment("counter");
+	}
+
+	@Benchmark
+	public List<Object> pipelinedSet() {
+
+		return template.executePipelined((RedisCallback<Object>) connection -> {
+
+			for (int i = 0; i < pipelineSize; i++) {
+				connection.stringCommands().set(binaryKeys[ThreadLocalRandom.current().nextInt(KEYS)], binaryValue);
+			}
+
+			return null;
+		});
+	}
+
+	@Benchmark
+	public List<Object> pipelinedGet() {
+
+		return template.executePipelined((RedisCallback<Object>) connection -> {
+
+			for (int i = 0; i < pipelineSize; i++) {
+				connection.stringCommands().get(binaryKeys[ThreadLocalRandom.current().nextInt(KEYS)]);
+			}
+
+			return null;
+		});
+	}
+
+	private String randomKey() {
+		return keys[ThreadLocalRandom.current().nextInt(KEYS)];
+	}
+}
@@ -0,0 +1,743 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.benchmark;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.handler.codec.DecoderException;
+
+import java.io.Closeable;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Lightweight in-process server speaking the RESP2 protocol on {@code localhost}. The server keeps its data in memory
+ * and implements the subset of string, hash, set and key commands issued by {@code RedisTemplate}, {@code RedisCache}
+ * and Redis repositories. Key expiration is accepted but not enforced. Replies for pipelined commands are flushed once
+ * per network read so that clients can observe the effect of pipelining.
+ * <p>
+ * The server is intended to measure client-side overhead of the connection layer and is by no means a Redis
+ * replacement.
+ *
+ * @author agent
+ */
+public class RespStubServer implements Closeable {
+
+	private static final byte[] CRLF = { '\r', '\n' };
+
+	private static final byte[] OK = "+OK\r\n".getBytes(StandardCharsets.US_ASCII);
+
+	private static final byte[] PONG = "+PONG\r\n".getBytes(StandardCharsets.US_ASCII);
+
+	private static final byte[] NULL_BULK = "$-1\r\n".getBytes(StandardCharsets.US_ASCII);
+
+	private static final byte[] WRONGTYPE = "-WRONGTYPE Operation against a key holding the wrong kind of value\r\n"
+			.getBytes(StandardCharsets.US_ASCII);
+
+	private final ConcurrentMap<ByteBuffer, Object> data = new ConcurrentHashMap<>();
+
+	private final AtomicInteger commands = new AtomicInteger();
+
+	private final AtomicBoolean closed = new AtomicBoolean();
+
+	private final EventLoopGroup bossGroup;
+
+	private final EventLoopGroup workerGroup;
+
+	private final Channel serverChannel;
+
+	private RespStubServer(int workerThreads) {
+
+		this.bossGroup = new NioEventLoopGroup(1);
+		this.workerGroup = new NioEventLoopGroup(workerThreads);
+
+		ServerBootstrap bootstrap = new ServerBootstrap() //
+				.group(bossGroup, workerGroup) //
+				.channel(NioServerSocketChannel.class) //
+				.childOption(ChannelOption.TCP_NODELAY, true) //
+				.childHandler(new ChannelInitializer<SocketChannel>() {
+
+					@Override
+					protected void initChannel(SocketChannel channel) {
+						channel.pipeline().addLast(new RespCommandDecoder(), new CommandHandler());
+					}
+				});
+
+		this.serverChannel = bootstrap.bind("localhost", 0).syncUninterruptibly().channel();
+	}
+
+	/**
+	 * Start a new {@link RespStubServer} bound to an ephemeral port on {@code localhost} using one worker thread per
+	 * available processor.
+	 *
+	 * @return the started server.
+	 */
+	public static RespStubServer start() {
+		return start(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Start a new {@link RespStubServer} bound to an ephemeral port on {@code localhost}.
+	 *
+	 * @param workerThreads number of I/O threads serving client connections.
+	 * @return the started server.
+	 */
+	public static RespStubServer start(int workerThreads) {
+		return new RespStubServer(workerThreads);
+	}
+
+	/**
+	 * @return the host name the server is bound to.
+	 */
+	public String getHost() {
+		return "localhost";
+	}
+
+	/**
+	 * @return the port the server is bound to.
+	 */
+	public int getPort() {
+		return ((InetSocketAddress) serverChannel.localAddress()).getPort();
+	}
+
+	/**
+	 * @return number of commands processed since the server was started or {@link #reset() reset}.
+	 */
+	public int getCommandCount() {
+		return commands.get();
+	}
+
+	/**
+	 * Remove all data and reset the command counter.
+	 */
+	public void reset() {
+
+		data.clear();
+		commands.set(0);
+	}
+
+	@Override
+	public void close() {
+
+		if (!closed.compareAndSet(false, true)) {
+			return;
+		}
+
+		serverChannel.close().syncUninterruptibly();
+		workerGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+		bossGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS).syncUninterruptibly();
+	}
+
+	/**
+	 * Execute a command and write the reply to {@code reply}.
+	 *
+	 * @param command command name and arguments.
+	 * @param reply the reply buffer.
+	 * @return {@literal true} to keep the connection open.
+	 */
+	private boolean execute(byte[][] command, ByteBuf reply) {
+
+		commands.incrementAndGet();
+
+		String name = new String(command[0], StandardCharsets.US_ASCII).toUpperCase(Locale.ROOT);
+
+		switch (name) {
+			case "PING":
+				if (command.length > 1) {
+					writeBulk(reply, command[1]);
+				} else {
+					reply.writeBytes(PONG);
+				}
+				return true;
+			case "ECHO":
+				writeBulk(reply, command[1]);
+				return true;
+			case "QUIT":
+				reply.writeBytes(OK);
+				return false;
+			case "AUTH":
+			case "SELECT":
+			case "CLIENT":
+			case "READONLY":
+			case "READWRITE":
+				reply.writeBytes(OK);
+				return true;
+			case "FLUSHDB":
+			case "FLUSHALL":
+				data.clear();
+				reply.writeBytes(OK);
+				return true;
+			case "DBSIZE":
+				writeInteger(reply, data.size());
+				return true;
+			case "GET":
+				get(command, reply);
+				return true;
+			case "MGET":
+				mget(command, reply);
+				return true;
+			case "SET":
+				set(command, reply);
+				return true;
+			case "SETEX":
+			case "PSETEX":
+				data.put(key(command[1]), command[3]);
+				reply.writeBytes(OK);
+				return true;
+			case "SETNX":
+				writeInteger(reply, data.putIfAbsent(key(command[1]), command[2]) == null ? 1 : 0);
+				return true;
+			case "MSET":
+				for (int i = 1; i + 1 < command.length; i += 2) {
+					data.put(key(command[i]), command[i + 1]);
+				}
+				reply.writeBytes(OK);
+				return true;
+			case "INCR":
+				incrBy(command[1], 1, reply);
+				return true;
+			case "DECR":
+				incrBy(command[1], -1, reply);
+				return true;
+			case "INCRBY":
+				incrBy(command[1], Long.parseLong(string(command[2])), reply);
+				return true;
+			case "DEL":
+			case "UNLINK":
+				int removed = 0;
+				for (int i = 1; i < command.length; i++) {
+					removed += data.remove(key(command[i])) != null ? 1 : 0;
+				}
+				writeInteger(reply, removed);
+				return true;
+			case "EXISTS":
+				int existing = 0;
+				for (int i = 1; i < command.length; i++) {
+					existing += data.containsKey(key(command[i])) ? 1 : 0;
+				}
+				writeInteger(reply, existing);
+				return true;
+			case "EXPIRE":
+			case "PEXPIRE":
+			case "EXPIREAT":
+			case "PEXPIREAT":
+			case "PERSIST":
+				writeInteger(reply, data.containsKey(key(command[1])) ? 1 : 0);
+				return true;
+			case "TTL":
+			case "PTTL":
+				writeInteger(reply, data.containsKey(key(command[1])) ? -1 : -2);
+				return true;
+			case "HSET":
+			case "HMSET":
+				hset(command, reply, name.equals("HMSET"));
+				return true;
+			case "HGET":
+				hget(command, reply);
+				return true;
+			case "HGETALL":
+				hgetall(command, reply);
+				return true;
+			case "HDEL":
+				hdel(command, reply);
+				return true;
+			case "HLEN":
+				hlen(command, reply);
+				return true;
+			case "SADD":
+				sadd(command, reply);
+				return true;
+			case "SREM":
+				srem(command, reply);
+				return true;
+			case "SMEMBERS":
+				smembers(command, reply);
+				return true;
+			case "SISMEMBER":
+				sismember(command, reply);
+				return true;
+			case "SCARD":
+				scard(command, reply);
+				return true;
+			default:
+				writeError(reply, "ERR unknown command '" + string(command[0]) + "'");
+				return true;
+		}
+	}
+
+	private void get(byte[][] command, ByteBuf reply) {
+
+		Object value = data.get(key(command[1]));
+
+		if (value == null) {
+			reply.writeBytes(NULL_BULK);
+		} else if (value instanceof byte[]) {
+			writeBulk(reply, (byte[]) value);
+		} else {
+			reply.writeBytes(WRONGTYPE);
+		}
+	}
+
+	private void mget(byte[][] command, ByteBuf reply) {
+
+		writeArrayHeader(reply, command.length - 1);
+
+		for (int i = 1; i < command.length; i++) {
+
+			Object value = data.get(key(command[i]));
+			writeBulk(reply, value instanceof byte[] ? (byte[]) value : null);
+		}
+	}
+
+	private void set(byte[][] command, ByteBuf reply) {
+
+		boolean nx = false;
+		boolean xx = false;
+		boolean get = false;
+
+		for (int i = 3; i < command.length; i++) {
+
+			String option = string(command[i]).toUpperCase(Locale.ROOT);
+
+			switch (option) {
+				case "NX":
+					nx = true;
+					break;
+				case "XX":
+					xx = true;
+					break;
+				case "GET":
+					get = true;
+					break;
+				case "EX":
+				case "PX":
+				case "EXAT":
+				case "PXAT":
+					i++;
+					break;
+				default:
+			}
+		}
+
+		ByteBuffer key = key(command[1]);
+		Object previous;
+		boolean written;
+
+		if (nx) {
+			previous = data.putIfAbsent(key, command[2]);
+			written = previous == null;
+		} else if (xx) {
+			previous = data.computeIfPresent(key, (k, v) -> command[2]);
+			written = previous != null;
+		} else {
+			previous = data.put(key, command[2]);
+			written = true;
+		}
+
+		if (get) {
+			writeBulk(reply, previous instanceof byte[] ? (byte[]) previous : null);
+		} else if (written) {
+			reply.writeBytes(OK);
+		} else {
+			reply.writeBytes(NULL_BULK);
+		}
+	}
+
+	private void incrBy(byte[] key, long delta, ByteBuf reply) {
+
+		try {
+			Object result = data.compute(key(key), (k, v) -> {
+
+				long current = v == null ? 0 : Long.parseLong(string((byte[]) v));
+				return Long.toString(current + delta).getBytes(StandardCharsets.US_ASCII);
+			});
+
+			writeInteger(reply, Long.parseLong(string((byte[]) result)));
+		} catch (RuntimeException e) {
+			writeError(reply, "ERR value is not an integer or out of range");
+		}
+	}
+
+	private void hset(byte[][] command, ByteBuf reply, boolean hmset) {
+
+		Map<ByteBuffer, byte[]> hash = getOrCreate(command[1], Map.class, ConcurrentHashMap::new);
+
+		if (hash == null) {
+			reply.writeBytes(WRONGTYPE);
+			return;
+		}
+
+		int added = 0;
+		for (int i = 2; i + 1 < command.length; i += 2) {
+			added += hash.put(key(command[i]), command[i + 1]) == null ? 1 : 0;
+		}
+
+		if (hmset) {
+			reply.writeBytes(OK);
+		} else {
+			writeInteger(reply, added);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void hget(byte[][] command, ByteBuf reply) {
+
+		Object value = data.get(key(command[1]));
+
+		if (value == null) {
+			reply.writeBytes(NULL_BULK);
+		} else if (value instanceof Map) {
+			writeBulk(reply, ((Map<ByteBuffer, byte[]>) value).get(key(command[2])));
+		} else {
+			reply.writeBytes(WRONGTYPE);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void hgetall(byte[][] command, ByteBuf reply) {
+
+		Object value = data.get(key(command[1]));
+
+		if (value == null) {
+			writeArrayHeader(reply, 0);
+		} else if (value instanceof Map) {
+
+			List<byte[]> entries = new ArrayList<>();
+			((Map<ByteBuffer, byte[]>) value).forEach((field, fieldValue) -> {
+				entries.add(bytes(field));
+				entries.add(fieldValue);
+			});
+
+			writeArray(reply, entries);
+		} else {
+			reply.writeBytes(WRONGTYPE);
+		}
+	}
+
+	private void hdel(byte[][] command, ByteBuf reply) {
+
+		Object value = data.get(key(command[1]));
+
+		if (value instanceof Map) {
+
+			int removed = 0;
+			for (int i = 2; i < command.length; i++) {
+				removed += ((Map<?, ?>) value).remove(key(command[i])) != null ? 1 : 0;
+			}
+			writeInteger(reply, removed);
+		} else if (value == null) {
+			writeInteger(reply, 0);
+		} else {
+			reply.writeBytes(WRONGTYPE);
+		}
+	}
+
+	private void hlen(byte[][] command, ByteBuf reply) {
+
+		Object value = data.get(key(command[1]));
+
+		if (value == null || value instanceof Map) {
+			writeInteger(reply, value == null ? 0 : ((Map<?, ?>) value).size());
+		} else {
+			reply.writeBytes(WRONGTYPE);
+		}
+	}
+
+	private void sadd(byte[][] command, ByteBuf reply) {
+
+		Set<ByteBuffer> set = getOrCreate(command[1], Set.class, ConcurrentHashMap::newKeySet);
+
+		if (set == null) {
+			reply.writeBytes(WRONGTYPE);
+			return;
+		}
+
+		int added = 0;
+		for (int i = 2; i < command.length; i++) {
+			added += set.add(key(command[i])) ? 1 : 0;
+		}
+
+		writeInteger(reply, added);
+	}
+
+	private void srem(byte[][] command, ByteBuf reply) {
+
+		Object value = data.get(key(command[1]));
+
+		if (value instanceof Set) {
+
+			int removed = 0;
+			for (int i = 2; i < command.length; i++) {
+				removed += ((Set<?>) value).remove(key(command[i])) ? 1 : 0;
+			}
+			writeInteger(reply, removed);
+		} else if (value == null) {
+			writeInteger(reply, 0);
+		} else {
+			reply.writeBytes(WRONGTYPE);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void smembers(byte[][] command, ByteBuf reply) {
+
+		Object value = data.get(key(command[1]));
+
+		if (value == null) {
+			writeArrayHeader(reply, 0);
+		} else if (value instanceof Set) {
+
+			List<byte[]> members = new ArrayList<>();
+			for (ByteBuffer member : (Set<ByteBuffer>) value) {
+				members.add(bytes(member));
+			}
+
+			writeArray(reply, members);
+		} else {
+			reply.writeBytes(WRONGTYPE);
+		}
+	}
+
+	private void sismember(byte[][] command, ByteBuf reply) {
+
+		Object value = data.get(key(command[1]));
+
+		if (value == null || value instanceof Set) {
+			writeInteger(reply, value != null && ((Set<?>) value).contains(key(command[2])) ? 1 : 0);
+		} else {
+			reply.writeBytes(WRONGTYPE);
+		}
+	}
+
+	private void scard(byte[][] command, ByteBuf reply) {
+
+		Object value = data.get(key(command[1]));
+
+		if (value == null || value instanceof Set) {
+			writeInteger(reply, value == null ? 0 : ((Set<?>) value).size());
+		} else {
+			reply.writeBytes(WRONGTYPE);
+		}
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private <T> T getOrCreate(byte[] key, Class<?> type, Supplier<T> factory) {
+
+		Object value = data.computeIfAbsent(key(key), k -> factory.get());
+		return type.isInstance(value) ? (T) value : null;
+	}
+
+	private static ByteBuffer key(byte[] bytes) {
+		return ByteBuffer.wrap(bytes);
+	}
+
+	private static byte[] bytes(ByteBuffer buffer) {
+		return buffer.array();
+	}
+
+	private static String string(byte[] bytes) {
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeInteger(ByteBuf reply, long value) {
+
+		reply.writeByte(':');
+		writeAscii(reply, value);
+		reply.writeBytes(CRLF);
+	}
+
+	private static void writeError(ByteBuf reply, String message) {
+
+		reply.writeByte('-');
+		reply.writeCharSequence(message, StandardCharsets.UTF_8);
+		reply.writeBytes(CRLF);
+	}
+
+	private static void writeBulk(ByteBuf reply, @Nullable byte[] value) {
+
+		if (value == null) {
+			reply.writeBytes(NULL_BULK);
+			return;
+		}
+
+		reply.writeByte('$');
+		writeAscii(reply, value.length);
+		reply.writeBytes(CRLF);
+		reply.writeBytes(value);
+		reply.writeBytes(CRLF);
+	}
+
+	private static void writeArrayHeader(ByteBuf reply, int size) {
+
+		reply.writeByte('*');
+		writeAscii(reply, size);
+		reply.writeBytes(CRLF);
+	}
+
+	private static void writeArray(ByteBuf reply, Collection<byte[]> values) {
+
+		writeArrayHeader(reply, values.size());
+
+		for (byte[] value : values) {
+			writeBulk(reply, value);
+		}
+	}
+
+	private static void writeAscii(ByteBuf reply, long value) {
+		reply.writeCharSequence(Long.toString(value), StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Decoder for RESP arrays of bulk strings as sent by clients. Inline commands are not supported.
+	 */
+	static class RespCommandDecoder extends ByteToMessageDecoder {
+
+		@Override
+		protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+
+			int start = in.readerIndex();
+			byte[][] command = readCommand(in);
+
+			if (command == null) {
+				in.readerIndex(start);
+				return;
+			}
+
+			out.add(command);
+		}
+
+		@Nullable
+		private static byte[][] readCommand(ByteBuf in) {
+
+			if (!in.isReadable()) {
+				return null;
+			}
+
+			if (in.readByte() != '*') {
+				throw new DecoderException("Expected RESP array, inline commands are not supported");
+			}
+
+			long count = readLength(in);
+
+			if (count < 1) {
+				return null;
+			}
+
+			byte[][] command = new byte[(int) count][];
+
+			for (int i = 0; i < count; i++) {
+
+				if (!in.isReadable()) {
+					return null;
+				}
+
+				if (in.readByte() != '$') {
+					throw new DecoderException("Expected RESP bulk string");
+				}
+
+				long length = readLength(in);
+
+				if (length < 0 || in.readableBytes() < length + 2) {
+					return null;
+				}
+
+				command[i] = new byte[(int) length];
+				in.readBytes(command[i]);
+				in.skipBytes(2);
+			}
+
+			return command;
+		}
+
+		/**
+		 * Read a CRLF-terminated number.
+		 *
+		 * @return the number or {@literal -1} if the line is incomplete.
+		 */
+		private static long readLength(ByteBuf in) {
+
+			int eol = in.indexOf(in.readerIndex(), in.writerIndex(), (byte) '\n');
+
+			if (eol < 0) {
+				return -1;
+			}
+
+			long value = 0;
+			for (int i = in.readerIndex(); i < eol - 1; i++) {
+				value = value * 10 + (in.getByte(i) - '0');
+			}
+
+			in.readerIndex(eol + 1);
+			return value;
+		}
+	}
+
+	/**
+	 * Executes decoded commands and flushes replies once all commands of a read are processed.
+	 */
+	class CommandHandler extends ChannelInboundHandlerAdapter {
+
+		@Override
+		public void channelRead(ChannelHandlerContext ctx, Object msg) {
+
+			ByteBuf reply = ctx.alloc().buffer();
+
+			if (!execute((byte[][]) msg, reply)) {
+				ctx.writeAndFlush(reply).addListener(ChannelFutureListener.CLOSE);
+				return;
+			}
+
+			ctx.write(reply);
+		}
+
+		@Override
+		public void channelReadComplete(ChannelHandlerContext ctx) {
+			ctx.flush();
+		}
+
+		@Override
+		public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+			ctx.close();
+		}
+	}
+}
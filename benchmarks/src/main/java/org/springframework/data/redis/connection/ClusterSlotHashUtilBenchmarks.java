@@ -0,0 +1,129 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link ClusterSlotHashUtil#calculateSlot(String)} and {@link ClusterSlotHashUtil#calculateSlot(byte[])}
+ * using different key shapes. Each invocation cycles through a set of distinct keys to avoid measuring a single,
+ * constant-folded key.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClusterSlotHashUtilBenchmarks {
+
+	private static final int KEYS = 1024;
+
+	@Param({ "SHORT", "LONG", "HASHTAG", "EMPTY_HASHTAG" })
+	KeyShape shape;
+
+	private String[] stringKeys;
+
+	private byte[][] binaryKeys;
+
+	private int index;
+
+	@Setup
+	public void setUp() {
+
+		this.stringKeys = new String[KEYS];
+		this.binaryKeys = new byte[KEYS][];
+
+		for (int i = 0; i < KEYS; i++) {
+			stringKeys[i] = shape.create(i);
+			binaryKeys[i] = stringKeys[i].getBytes(StandardCharsets.UTF_8);
+		}
+	}
+
+	@Benchmark
+	public int calculateSlotString() {
+		return ClusterSlotHashUtil.calculateSlot(stringKeys[next()]);
+	}
+
+	@Benchmark
+	public int calculateSlotBinary() {
+		return ClusterSlotHashUtil.calculateSlot(binaryKeys[next()]);
+	}
+
+	private int next() {
+		return index = (index + 1) & (KEYS - 1);
+	}
+
+	public enum KeyShape {
+
+		/**
+		 * Short key without hash tag, e.g. {@code user:42}.
+		 */
+		SHORT {
+			@Override
+			String create(int index) {
+				return "user:" + index;
+			}
+		},
+
+		/**
+		 * Key with a length of about 256 characters without hash tag.
+		 */
+		LONG {
+			@Override
+			String create(int index) {
+				return "tenant:acme:region:eu-central:service:checkout:session:" + "x".repeat(200) + ":" + index;
+			}
+		},
+
+		/**
+		 * Key with a hash tag, e.g. {@code {user:42}:profile}.
+		 */
+		HASHTAG {
+			@Override
+			String create(int index) {
+				return "{user:" + index + "}:profile:settings";
+			}
+		},
+
+		/**
+		 * Key with an empty hash tag which is hashed as a whole, e.g. {@code {}user:42}.
+		 */
+		EMPTY_HASHTAG {
+			@Override
+			String create(int index) {
+				return "{}user:" + index + ":profile";
+			}
+		};
+
+		abstract String create(int index);
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core.convert;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.index.Indexed;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+
+/**
+ * Benchmarks for {@link MappingRedisConverter} reading and writing entities of different shapes to and from
+ * {@link RedisData}.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MappingRedisConverterBenchmarks {
+
+	@Param({ "FLAT", "NESTED", "COLLECTIONS" })
+	EntityShape shape;
+
+	private MappingRedisConverter converter;
+
+	private Object entity;
+
+	private RedisData written;
+
+	@Setup
+	public void setUp() {
+
+		this.converter = new MappingRedisConverter(new RedisMappingContext(), null, null);
+		this.converter.afterPropertiesSet();
+
+		this.entity = shape.create();
+		this.written = new RedisData();
+		this.converter.write(entity, written);
+
+		// initialize the mapping context for the entity type before measuring
+		this.converter.read(entity.getClass(), written);
+	}
+
+	@Benchmark
+	public RedisData write() {
+
+		RedisData target = new RedisData();
+		converter.write(entity, target);
+		return target;
+	}
+
+	@Benchmark
+	public Object read() {
+		return converter.read(entity.getClass(), written);
+	}
+
+	@Benchmark
+	public Object readRaw() {
+		return converter.read(entity.getClass(), new RedisData(written.getBucket().rawMap()));
+	}
+
+	public enum EntityShape {
+
+		/**
+		 * Entity with simple properties only.
+		 */
+		FLAT {
+
+			@Override
+			Object create() {
+				return person("1");
+			}
+		},
+
+		/**
+		 * Entity with nested objects.
+		 */
+		NESTED {
+
+			@Override
+			Object create() {
+
+				Person person = person("1");
+				person.address = address("Albuquerque");
+				person.spouse = person("2");
+				person.spouse.address = address("Albuquerque");
+				return person;
+			}
+		},
+
+		/**
+		 * Entity with collections and maps of simple values and nested objects.
+		 */
+		COLLECTIONS {
+
+			@Override
+			Object create() {
+
+				Person person = person("1");
+				person.nicknames = new ArrayList<>();
+				person.addresses = new ArrayList<>();
+				person.attributes = new LinkedHashMap<>();
+
+				for (int i = 0; i < 10; i++) {
+					person.nicknames.add("nickname-" + i);
+					person.addresses.add(address("city-" + i));
+					person.attributes.put("attribute-" + i, "value-" + i);
+				}
+
+				return person;
+			}
+		};
+
+		abstract Object create();
+
+		static Person person(String id) {
+
+			Person person = new Person();
+			person.id = id;
+			person.firstname = "Walter";
+			person.lastname = "White";
+			person.age = 50;
+			person.active = true;
+			return person;
+		}
+
+		static Address address(String city) {
+
+			Address address = new Address();
+			address.city = city;
+			address.street = "308 Negra Arroyo Lane";
+			address.zip = 87104;
+			return address;
+		}
+	}
+
+	@RedisHash("persons")
+	public static class Person {
+
+		@Id String id;
+		@Indexed String firstname;
+		String lastname;
+		int age;
+		boolean active;
+		Address address;
+		Person spouse;
+		List<String> nicknames;
+		List<Address> addresses;
+		Map<String, String> attributes;
+	}
+
+	public static class Address {
+
+		String city;
+		String street;
+		int zip;
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.hash;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link ObjectHashMapper} converting objects of different shapes to and from hashes.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ObjectHashMapperBenchmarks {
+
+	@Param({ "0", "10", "100" })
+	int elements;
+
+	private ObjectHashMapper mapper;
+
+	private Person person;
+
+	private Map<byte[], byte[]> hash;
+
+	@Setup
+	public void setUp() {
+
+		this.mapper = new ObjectHashMapper();
+
+		this.person = new Person();
+		this.person.firstname = "Walter";
+		this.person.lastname = "White";
+		this.person.age = 50;
+		this.person.address = new Address();
+		this.person.address.city = "Albuquerque";
+		this.person.address.zip = 87104;
+		this.person.nicknames = new ArrayList<>(elements);
+
+		for (int i = 0; i < elements; i++) {
+			this.person.nicknames.add("nickname-" + i);
+		}
+
+		this.hash = mapper.toHash(person);
+	}
+
+	@Benchmark
+	public Map<byte[], byte[]> toHash() {
+		return mapper.toHash(person);
+	}
+
+	@Benchmark
+	public Person fromHash() {
+		return mapper.fromHash(hash, Person.class);
+	}
+
+	public static class Person {
+
+		String firstname;
+		String lastname;
+		int age;
+		Address address;
+		List<String> nicknames;
+	}
+
+	public static class Address {
+
+		String city;
+		int zip;
+	}
+}
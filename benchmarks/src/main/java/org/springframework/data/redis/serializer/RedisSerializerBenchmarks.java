@@ -0,0 +1,206 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link RedisSerializer} implementations serializing the same object graph in different sizes. Run
+ * with {@code -prof gc} to compare allocation rates.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RedisSerializerBenchmarks {
+
+	@Param({ "jdk", "jackson", "genericJackson", "genericJacksonCompactTypeIds", "compactBinary" })
+	String serializer;
+
+	@Param({ "SMALL", "MEDIUM", "LARGE" })
+	Payload payload;
+
+	private RedisSerializer<Object> redisSerializer;
+
+	private RedisElementWriter<Object> elementWriter;
+
+	private RedisElementReader<Object> elementReader;
+
+	private Order order;
+
+	private byte[] serialized;
+
+	private ByteBuffer serializedBuffer;
+
+	@Setup
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void setUp() {
+
+		this.redisSerializer = (RedisSerializer) createSerializer(serializer);
+		this.elementWriter = RedisElementWriter.from(redisSerializer);
+		this.elementReader = RedisElementReader.from(redisSerializer);
+		this.order = payload.create();
+		this.serialized = redisSerializer.serialize(order);
+		this.serializedBuffer = ByteBuffer.wrap(serialized);
+	}
+
+	@Benchmark
+	public byte[] serialize() {
+		return redisSerializer.serialize(order);
+	}
+
+	@Benchmark
+	public Object deserialize() {
+		return redisSerializer.deserialize(serialized);
+	}
+
+	@Benchmark
+	public Object roundtrip() {
+		return redisSerializer.deserialize(redisSerializer.serialize(order));
+	}
+
+	@Benchmark
+	public ByteBuffer serializeToByteBuffer() {
+		return elementWriter.write(order);
+	}
+
+	@Benchmark
+	public Object deserializeFromByteBuffer() {
+		return elementReader.read(serializedBuffer);
+	}
+
+	private static RedisSerializer<?> createSerializer(String name) {
+
+		switch (name) {
+			case "jdk":
+				return new JdkSerializationRedisSerializer();
+			case "jackson":
+				return new Jackson2JsonRedisSerializer<>(Order.class);
+			case "genericJackson":
+				return new GenericJackson2JsonRedisSerializer();
+			case "genericJacksonCompactTypeIds":
+
+				Map<Class<?>, Integer> typeIds = new LinkedHashMap<>();
+				typeIds.put(Order.class, 1);
+				typeIds.put(OrderLine.class, 2);
+				typeIds.put(ArrayList.class, 3);
+				typeIds.put(LinkedHashMap.class, 4);
+
+				return new GenericJackson2JsonRedisSerializer("@class", typeIds);
+			case "compactBinary":
+				return new CompactBinaryRedisSerializer<>(Order.class);
+			default:
+				throw new IllegalArgumentException("Unknown serializer: " + name);
+		}
+	}
+
+	public enum Payload {
+
+		/**
+		 * Flat object with a few simple properties.
+		 */
+		SMALL(0, 1),
+
+		/**
+		 * Object with a handful of nested objects and collection entries.
+		 */
+		MEDIUM(10, 5),
+
+		/**
+		 * Object with many nested objects and collection entries.
+		 */
+		LARGE(200, 50);
+
+		private final int lines;
+		private final int attributes;
+
+		Payload(int lines, int attributes) {
+			this.lines = lines;
+			this.attributes = attributes;
+		}
+
+		Order create() {
+
+			Order order = new Order();
+			order.id = "order-4711";
+			order.customer = "Walter White";
+			order.total = 1234.56;
+			order.quantity = lines;
+			order.createdAt = 1650000000000L;
+			order.express = true;
+			order.attributes = new LinkedHashMap<>();
+			order.lines = new ArrayList<>(lines);
+
+			for (int i = 0; i < attributes; i++) {
+				order.attributes.put("attribute-" + i, "value-" + i);
+			}
+
+			for (int i = 0; i < lines; i++) {
+
+				OrderLine line = new OrderLine();
+				line.sku = "sku-" + i;
+				line.description = "Blue crystal, batch " + i;
+				line.quantity = i + 1;
+				line.price = 9.99 * (i + 1);
+				order.lines.add(line);
+			}
+
+			return order;
+		}
+	}
+
+	public static class Order implements Serializable {
+
+		@BinaryField(1) public String id;
+		@BinaryField(2) public String customer;
+		@BinaryField(3) public double total;
+		@BinaryField(4) public int quantity;
+		@BinaryField(5) public long createdAt;
+		@BinaryField(6) public boolean express;
+		@BinaryField(7) public Map<String, String> attributes;
+		@BinaryField(8) public List<OrderLine> lines;
+	}
+
+	public static class OrderLine implements Serializable {
+
+		@BinaryField(1) public String sku;
+		@BinaryField(2) public String description;
+		@BinaryField(3) public int quantity;
+		@BinaryField(4) public double price;
+	}
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks for {@link ByteUtils} operations commonly used on key and value paths.
+ *
+ * @author agent
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ByteUtilsBenchmarks {
+
+	@Param({ "16", "256", "4096" })
+	int size;
+
+	private byte[] left;
+
+	private byte[] right;
+
+	private byte[] prefix;
+
+	private byte[] separated;
+
+	private ByteBuffer heapBuffer;
+
+	private ByteBuffer directBuffer;
+
+	@Setup
+	public void setUp() {
+
+		this.left = new byte[size];
+		this.right = new byte[size];
+		Arrays.fill(left, (byte) 'a');
+		Arrays.fill(right, (byte) 'b');
+
+		this.prefix = Arrays.copyOf(left, Math.max(1, size / 2));
+
+		this.separated = new byte[size];
+		for (int i = 0; i < size; i++) {
+			separated[i] = i % 8 == 7 ? (byte) ':' : (byte) 'k';
+		}
+
+		this.heapBuffer = ByteBuffer.wrap(left);
+		this.directBuffer = ByteBuffer.allocateDirect(size);
+		this.directBuffer.put(left).flip();
+	}
+
+	@Benchmark
+	public byte[] concat() {
+		return ByteUtils.concat(left, right);
+	}
+
+	@Benchmark
+	public byte[] concatAll() {
+		return ByteUtils.concatAll(left, right, left);
+	}
+
+	@Benchmark
+	public byte[][] split() {
+		return ByteUtils.split(separated, ':');
+	}
+
+	@Benchmark
+	public boolean startsWith() {
+		return ByteUtils.startsWith(left, prefix);
+	}
+
+	@Benchmark
+	public int indexOf() {
+		return ByteUtils.indexOf(left, (byte) 'b');
+	}
+
+	@Benchmark
+	public byte[] getBytesFromHeapBuffer() {
+		return ByteUtils.getBytes(heapBuffer);
+	}
+
+	@Benchmark
+	public byte[] getBytesFromDirectBuffer() {
+		return ByteUtils.getBytes(directBuffer);
+	}
+
+	@Benchmark
+	public byte[] extractBytesFromHeapBuffer() {
+		return ByteUtils.extractBytes(heapBuffer);
+	}
+
+	@Benchmark
+	public ByteBuffer getByteBuffer() {
+		return ByteUtils.getByteBuffer("user:4711:profile");
+	}
+}
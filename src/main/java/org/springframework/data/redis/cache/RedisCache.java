@@ -23,6 +23,8 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.StringJoiner;
 import java.util.concurrent.Callable;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.springframework.cache.support.AbstractValueAdaptingCache;
 import org.springframework.cache.support.NullValue;
@@ -57,6 +59,7 @@ public class RedisCache extends AbstractValueAdaptingCache {
 	private final RedisCacheWriter cacheWriter;
 	private final RedisCacheConfiguration cacheConfig;
 	private final ConversionService conversionService;
+	private final Lock lock = new ReentrantLock();
 
 	/**
 	 * Create new {@link RedisCache}.
@@ -115,22 +118,28 @@ public class RedisCache extends AbstractValueAdaptingCache {
 	}
 
 	@SuppressWarnings("unchecked")
-	private synchronized <T> T getSynchronized(Object key, Callable<T> valueLoader) {
+	private <T> T getSynchronized(Object key, Callable<T> valueLoader) {
 
-		ValueWrapper result = get(key);
+		lock.lock();
+		try {
 
-		if (result != null) {
-			return (T) result.get();
-		}
+			ValueWrapper result = get(key);
 
-		T value;
-		try {
-			value = valueLoader.call();
-		} catch (Exception e) {
-			throw new ValueRetrievalException(key, valueLoader, e);
+			if (result != null) {
+				return (T) result.get();
+			}
+
+			T value;
+			try {
+				value = valueLoader.call();
+			} catch (Exception e) {
+				throw new ValueRetrievalException(key, valueLoader, e);
+			}
+			put(key, value);
+			return value;
+		} finally {
+			lock.unlock();
 		}
-		put(key, value);
-		return value;
 	}
 
 	@Override
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * {@link RedisConnection} that can issue commands without awaiting their response. Connection decorators that
+ * implement this interface can observe asynchronously executed commands.
+ *
+ * @author agent
+ * @since 3.0
+ */
+public interface AsyncRedisConnection extends RedisConnection {
+
+	/**
+	 * Issue the Redis command invoked by {@code command} without awaiting its response. The command is expected to
+	 * invoke a single command method of the given connection, for example
+	 * {@code connection -> connection.stringCommands().get(key)}. The return value of the invoked method is discarded
+	 * and the returned {@link CompletableFuture} completes with the result the method would have returned, once the
+	 * response is received.
+	 *
+	 * @param command callback invoking a single command on the given connection. Must not be {@literal null}.
+	 * @return the {@link CompletableFuture} completing with the command result.
+	 * @throws org.springframework.dao.InvalidDataAccessApiUsageException if the connection is pipelined or queueing or
+	 *           if the command does not support asynchronous execution.
+	 */
+	<T> CompletableFuture<T> executeAsync(Function<? super RedisConnection, T> command);
+}
@@ -114,6 +114,7 @@ public class DefaultStringRedisConnection implements StringRedisConnection, Deco
 	@SuppressWarnings("rawtypes") private Queue<Converter> pipelineConverters = new LinkedList<>();
 	@SuppressWarnings("rawtypes") private Queue<Converter> txConverters = new LinkedList<>();
 	private boolean deserializePipelineAndTxResults = false;
+	private boolean streamingPipeline = false;
 
 	private Entry<String, String> convertEntry(Entry<byte[], byte[]> source) {
 		return Converters.entryOf(bytesToString.convert(source.getKey()), bytesToString.convert(source.getValue()));
@@ -2426,6 +2427,12 @@ public class DefaultStringRedisConnection implements StringRedisConnection, Deco
 	@Override
 	public List<Object> closePipeline() {
 
+		if (streamingPipeline) {
+
+			streamingPipeline = false;
+			return delegate.closePipeline();
+		}
+
 		try {
 			return convertResults(delegate.closePipeline(), pipelineConverters);
 		} finally {
@@ -2443,6 +2450,24 @@ public class DefaultStringRedisConnection implements StringRedisConnection, Deco
 		delegate.openPipeline();
 	}
 
+	/**
+	 * Streamed pipeline results are emitted as returned by the delegate connection. Results are not deserialized
+	 * regardless of {@link #setDeserializePipelineAndTxResults(boolean)}.
+	 */
+	@Override
+	public void openPipeline(java.util.function.Consumer<Object> resultConsumer, int maxInFlightCommands) {
+
+		if (!isPipelined()) {
+			delegate.openPipeline(resultConsumer, maxInFlightCommands);
+			streamingPipeline = true;
+		}
+	}
+
+	@Override
+	public boolean supportsStreamingPipeline() {
+		return delegate.supportsStreamingPipeline();
+	}
+
 	@Override
 	public Object execute(String command) {
 		return execute(command, EMPTY_2D_BYTE_ARRAY);
@@ -2968,7 +2993,7 @@ public class DefaultStringRedisConnection implements StringRedisConnection, Deco
 	private void addResultConverter(Converter<?, ?> converter) {
 		if (isQueueing()) {
 			txConverters.add(converter);
-		} else {
+		} else if (!streamingPipeline) {
 			pipelineConverters.add(converter);
 		}
 	}
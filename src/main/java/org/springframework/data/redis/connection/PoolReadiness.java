@@ -0,0 +1,170 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Report of a {@link PoolWarmUp connection pool warm-up}. Lists the number of connections that were created per pool
+ * and whether the warm-up completed.
+ *
+ * @author agent
+ * @since 3.0
+ * @see PoolWarmUp
+ */
+public final class PoolReadiness {
+
+	private static final PoolReadiness NONE = new PoolReadiness(Collections.emptyList(), Duration.ZERO);
+
+	private final List<PoolState> pools;
+
+	private final Duration elapsed;
+
+	PoolReadiness(List<PoolState> pools, Duration elapsed) {
+		this.pools = Collections.unmodifiableList(pools);
+		this.elapsed = elapsed;
+	}
+
+	/**
+	 * Return a {@link PoolReadiness} for connection factories that did not warm up any pools.
+	 *
+	 * @return an empty {@link PoolReadiness}.
+	 */
+	public static PoolReadiness none() {
+		return NONE;
+	}
+
+	/**
+	 * @return {@literal true} if all pools have created the requested number of connections.
+	 */
+	public boolean isReady() {
+
+		for (PoolState pool : pools) {
+			if (!pool.isReady()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * @return the warm-up state per pool.
+	 */
+	public List<PoolState> getPools() {
+		return pools;
+	}
+
+	/**
+	 * @return the time spent warming up pools.
+	 */
+	public Duration getElapsed() {
+		return elapsed;
+	}
+
+	/**
+	 * Combine this report with {@code other}, for example to report multiple warm-up phases.
+	 *
+	 * @param other must not be {@literal null}.
+	 * @return a new {@link PoolReadiness} containing the pools of both reports.
+	 */
+	public PoolReadiness and(PoolReadiness other) {
+
+		Assert.notNull(other, "Other PoolReadiness must not be null!");
+
+		List<PoolState> pools = new ArrayList<>(this.pools.size() + other.pools.size());
+		pools.addAll(this.pools);
+		pools.addAll(other.pools);
+
+		return new PoolReadiness(pools, elapsed.plus(other.elapsed));
+	}
+
+	@Override
+	public String toString() {
+		return String.format("PoolReadiness[ready=%s, elapsed=%s, pools=%s]", isReady(), elapsed, pools);
+	}
+
+	/**
+	 * Warm-up state of a single pool.
+	 *
+	 * @author agent
+	 * @since 3.0
+	 */
+	public static final class PoolState {
+
+		private final String name;
+
+		private final int requested;
+
+		private final int created;
+
+		private final @Nullable Throwable error;
+
+		PoolState(String name, int requested, int created, @Nullable Throwable error) {
+			this.name = name;
+			this.requested = requested;
+			this.created = Math.min(requested, created);
+			this.error = error;
+		}
+
+		/**
+		 * @return the pool name.
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return the number of connections requested to be created.
+		 */
+		public int getRequested() {
+			return requested;
+		}
+
+		/**
+		 * @return the number of connections created within the warm-up timeout.
+		 */
+		public int getCreated() {
+			return created;
+		}
+
+		/**
+		 * @return the last error that occurred while creating connections. {@literal null} if no error occurred.
+		 */
+		@Nullable
+		public Throwable getError() {
+			return error;
+		}
+
+		/**
+		 * @return {@literal true} if all requested connections were created.
+		 */
+		public boolean isReady() {
+			return created >= requested;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s: %d/%d", name, created, requested);
+		}
+	}
+}
@@ -0,0 +1,314 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.data.redis.connection.PoolReadiness.PoolState;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Configuration to pre-warm connection pools upon connection factory initialization. With warm-up enabled, connection
+ * factories create the configured {@code minIdle} number of pooled connections in parallel instead of connecting lazily
+ * upon first use. Cluster setups warm up connections to each cluster node. Warm-up is bounded by a {@link #getTimeout()
+ * timeout}. Connections that could not be created within the timeout are created lazily as without warm-up.
+ * <p>
+ * The outcome of the warm-up is reported as {@link PoolReadiness}. By default, an incomplete warm-up is logged and does
+ * not prevent the connection factory from starting. Use {@link #failIfNotReady()} to fail initialization with a
+ * {@link PoolException} instead.
+ *
+ * @author agent
+ * @since 3.0
+ * @see PoolReadiness
+ */
+public final class PoolWarmUp {
+
+	private static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(10);
+
+	private static final int DEFAULT_PARALLELISM = 8;
+
+	private static final PoolWarmUp DISABLED = new PoolWarmUp(Duration.ZERO, 1, false);
+
+	private final Duration timeout;
+
+	private final int parallelism;
+
+	private final boolean failIfNotReady;
+
+	private PoolWarmUp(Duration timeout, int parallelism, boolean failIfNotReady) {
+		this.timeout = timeout;
+		this.parallelism = parallelism;
+		this.failIfNotReady = failIfNotReady;
+	}
+
+	/**
+	 * Return a {@link PoolWarmUp} that disables pool warm-up. Pooled connections are created lazily (default behavior).
+	 *
+	 * @return a {@link PoolWarmUp} that disables warm-up.
+	 */
+	public static PoolWarmUp disabled() {
+		return DISABLED;
+	}
+
+	/**
+	 * Return a {@link PoolWarmUp} that warms up pools using a timeout of 10 seconds and up to 8 parallel connects.
+	 *
+	 * @return a {@link PoolWarmUp} that enables warm-up.
+	 */
+	public static PoolWarmUp enabled() {
+		return enabled(DEFAULT_TIMEOUT);
+	}
+
+	/**
+	 * Return a {@link PoolWarmUp} that warms up pools within the given {@code timeout} using up to 8 parallel connects.
+	 *
+	 * @param timeout the maximum time to wait for the warm-up. Must be greater than zero.
+	 * @return a {@link PoolWarmUp} that enables warm-up.
+	 */
+	public static PoolWarmUp enabled(Duration timeout) {
+
+		Assert.notNull(timeout, "Timeout must not be null!");
+		Assert.isTrue(!timeout.isNegative() && !timeout.isZero(), "Timeout must be greater than zero");
+
+		return new PoolWarmUp(timeout, DEFAULT_PARALLELISM, false);
+	}
+
+	/**
+	 * Create a new {@link PoolWarmUp} using {@code parallelism} threads to create connections.
+	 *
+	 * @param parallelism the maximum number of connections created concurrently. Must be greater than zero.
+	 * @return a new {@link PoolWarmUp} with the given parallelism.
+	 */
+	public PoolWarmUp parallelism(int parallelism) {
+
+		Assert.state(isEnabled(), "Cannot configure parallelism for a disabled warm-up");
+		Assert.isTrue(parallelism > 0, "Parallelism must be greater than 0");
+
+		return new PoolWarmUp(timeout, parallelism, failIfNotReady);
+	}
+
+	/**
+	 * Create a new {@link PoolWarmUp} that fails connection factory initialization with a {@link PoolException} if the
+	 * warm-up did not complete within its timeout.
+	 *
+	 * @return a new {@link PoolWarmUp} requiring a completed warm-up.
+	 */
+	public PoolWarmUp failIfNotReady() {
+
+		Assert.state(isEnabled(), "Cannot require readiness for a disabled warm-up");
+
+		return new PoolWarmUp(timeout, parallelism, true);
+	}
+
+	/**
+	 * @return {@literal true} if pool warm-up is enabled.
+	 */
+	public boolean isEnabled() {
+		return this != DISABLED;
+	}
+
+	/**
+	 * @return the maximum time to wait for the warm-up.
+	 */
+	public Duration getTimeout() {
+		return timeout;
+	}
+
+	/**
+	 * @return the maximum number of connections created concurrently.
+	 */
+	public int getParallelism() {
+		return parallelism;
+	}
+
+	/**
+	 * @return {@literal true} if an incomplete warm-up should fail connection factory initialization.
+	 */
+	public boolean isFailIfNotReady() {
+		return failIfNotReady;
+	}
+
+	/**
+	 * Warm up the given {@link Target targets} by invoking each target's connect action {@link Target#getCount()} times.
+	 * Connect actions of all targets run in parallel on a temporary thread pool which is shut down once all actions have
+	 * completed or the {@link #getTimeout() timeout} has elapsed, whichever comes first.
+	 *
+	 * @param targets the pools to warm up. Must not be {@literal null}.
+	 * @return the resulting {@link PoolReadiness}.
+	 */
+	public PoolReadiness warmUp(List<Target> targets) {
+		return warmUp(targets, timeout);
+	}
+
+	/**
+	 * Warm up the given {@link Target targets} within {@code timeout}. Connection factories use this method to run
+	 * multiple warm-up phases within the overall {@link #getTimeout() timeout}.
+	 *
+	 * @param targets the pools to warm up. Must not be {@literal null}.
+	 * @param timeout the maximum time to wait. Must not be {@literal null}.
+	 * @return the resulting {@link PoolReadiness}.
+	 * @see #warmUp(List)
+	 */
+	public PoolReadiness warmUp(List<Target> targets, Duration timeout) {
+
+		Assert.notNull(targets, "Targets must not be null!");
+		Assert.notNull(timeout, "Timeout must not be null!");
+
+		long start = System.nanoTime();
+		List<TargetState> states = new ArrayList<>(targets.size());
+		int total = 0;
+
+		for (Target target : targets) {
+			states.add(new TargetState(target));
+			total += target.getCount();
+		}
+
+		if (total > 0 && !timeout.isNegative() && !timeout.isZero()) {
+			run(states, total, start + timeout.toNanos());
+		}
+
+		List<PoolState> pools = new ArrayList<>(states.size());
+		for (TargetState state : states) {
+			pools.add(new PoolState(state.target.getName(), state.target.getCount(), state.created.get(), state.error));
+		}
+
+		return new PoolReadiness(pools, Duration.ofNanos(System.nanoTime() - start));
+	}
+
+	private void run(List<TargetState> states, int total, long deadline) {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("redis-pool-warm-up-");
+		threadFactory.setDaemon(true);
+
+		ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, total), threadFactory);
+		CompletionService<Object> completionService = new ExecutorCompletionService<>(executor);
+
+		try {
+
+			for (TargetState state : states) {
+				for (int i = 0; i < state.target.getCount(); i++) {
+					completionService.submit(state::connect, state);
+				}
+			}
+
+			for (int i = 0; i < total; i++) {
+
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0 || completionService.poll(remaining, TimeUnit.NANOSECONDS) == null) {
+					break;
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return isEnabled()
+				? String.format("PoolWarmUp[timeout=%s, parallelism=%d, failIfNotReady=%s]", timeout, parallelism,
+						failIfNotReady)
+				: "PoolWarmUp[disabled]";
+	}
+
+	/**
+	 * A pool to warm up, consisting of a {@link #getName() name} used for {@link PoolReadiness reporting}, the number of
+	 * connections to create and an action that creates a single pooled connection.
+	 *
+	 * @author agent
+	 * @since 3.0
+	 */
+	public static final class Target {
+
+		private final String name;
+
+		private final int count;
+
+		private final Callable<?> connect;
+
+		private Target(String name, int count, Callable<?> connect) {
+			this.name = name;
+			this.count = count;
+			this.connect = connect;
+		}
+
+		/**
+		 * Create a new {@link Target}.
+		 *
+		 * @param name the pool name, typically the {@code host:port} of the Redis node. Must not be {@literal null}.
+		 * @param count the number of connections to create. Negative values are considered as zero.
+		 * @param connect action creating a single pooled connection. Must not be {@literal null}.
+		 * @return the {@link Target}.
+		 */
+		public static Target of(String name, int count, Callable<?> connect) {
+
+			Assert.notNull(name, "Name must not be null!");
+			Assert.notNull(connect, "Connect action must not be null!");
+
+			return new Target(name, Math.max(0, count), connect);
+		}
+
+		/**
+		 * @return the pool name.
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * @return the number of connections to create.
+		 */
+		public int getCount() {
+			return count;
+		}
+	}
+
+	private static class TargetState {
+
+		final Target target;
+
+		final AtomicInteger created = new AtomicInteger();
+
+		volatile @Nullable Throwable error;
+
+		TargetState(Target target) {
+			this.target = target;
+		}
+
+		void connect() {
+
+			try {
+				target.connect.call();
+				created.incrementAndGet();
+			} catch (Exception e) {
+				error = e;
+			}
+		}
+	}
+}
@@ -16,6 +16,7 @@
 package org.springframework.data.redis.connection;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.springframework.dao.DataAccessException;
 
@@ -87,6 +88,39 @@ public interface RedisConnection extends RedisCommandsProvider, DefaultedRedisCo
 	 */
 	void openPipeline();
 
+	/**
+	 * Activates the pipeline mode for this connection emitting results to {@code resultConsumer} while commands are
+	 * issued instead of collecting them until {@link #closePipeline()}. Results are emitted in the order commands were
+	 * issued. Once more than {@code maxInFlightCommands} commands await their response, issuing a command reads pending
+	 * responses and emits their results before returning so that the number of outstanding responses remains bounded.
+	 * Remaining results are emitted upon {@link #closePipeline()}.
+	 * <p>
+	 * Results of failed commands are emitted as {@link Exception}. {@link #closePipeline()} returns an empty
+	 * {@link List} and throws {@link RedisPipelineException} if any command failed. Calling this method when the
+	 * connection is already pipelined has no effect.
+	 *
+	 * @param resultConsumer consumer of pipelined results. Must not be {@literal null}.
+	 * @param maxInFlightCommands maximum number of commands awaiting their response. Must be greater than zero.
+	 * @throws UnsupportedOperationException if the connection does not {@link #supportsStreamingPipeline() support
+	 *           streaming pipeline results}.
+	 * @since 3.0
+	 * @see #openPipeline()
+	 * @see #supportsStreamingPipeline()
+	 */
+	default void openPipeline(Consumer<Object> resultConsumer, int maxInFlightCommands) {
+		throw new UnsupportedOperationException("Streaming pipeline results is not supported by " + getClass().getName());
+	}
+
+	/**
+	 * Returns whether this connection supports {@link #openPipeline(Consumer, int) streaming pipeline results}.
+	 *
+	 * @return {@literal true} if the connection emits pipeline results while commands are issued.
+	 * @since 3.0
+	 */
+	default boolean supportsStreamingPipeline() {
+		return false;
+	}
+
 	/**
 	 * Executes the commands in the pipeline and returns their result. If the connection is not pipelined, an empty
 	 * collection is returned.
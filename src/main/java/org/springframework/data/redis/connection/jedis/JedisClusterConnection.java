@@ -794,11 +794,10 @@ public class JedisClusterConnection implements RedisClusterConnection {
 	 */
 	public static class JedisClusterTopologyProvider implements ClusterTopologyProvider {
 
-		private final Object lock = new Object();
 		private final JedisCluster cluster;
 		private final long cacheTimeMs;
-		private long time = 0;
-		private @Nullable ClusterTopology cached;
+		private volatile long time = 0;
+		private volatile @Nullable ClusterTopology cached;
 
 		/**
 		 * Create new {@link JedisClusterTopologyProvider}. Uses a default cache timeout of 100 milliseconds.
@@ -829,8 +828,9 @@ public class JedisClusterConnection implements RedisClusterConnection {
 		@Override
 		public ClusterTopology getTopology() {
 
-			if (cached != null && shouldUseCachedValue()) {
-				return cached;
+			ClusterTopology topology = cached;
+			if (topology != null && shouldUseCachedValue()) {
+				return topology;
 			}
 
 			Map<String, Exception> errors = new LinkedHashMap<>();
@@ -842,13 +842,12 @@ public class JedisClusterConnection implements RedisClusterConnection {
 
 				try (Jedis jedis = entry.getValue().getResource()) {
 
-					time = System.currentTimeMillis();
 					Set<RedisClusterNode> nodes = Converters.toSetOfRedisClusterNodes(jedis.clusterNodes());
+					ClusterTopology topology = new ClusterTopology(nodes);
 
-					synchronized (lock) {
-						cached = new ClusterTopology(nodes);
-					}
-					return cached;
+					cached = topology;
+					time = System.currentTimeMillis();
+					return topology;
 				} catch (Exception ex) {
 					errors.put(entry.getKey(), ex);
 				}
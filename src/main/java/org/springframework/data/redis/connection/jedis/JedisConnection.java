@@ -83,6 +83,7 @@ public class JedisConnection extends AbstractRedisConnection {
 	private final JedisZSetCommands zSetCommands = new JedisZSetCommands(this);
 
 	private final @Nullable Pool<Jedis> pool;
+	private final @Nullable ThreadAffineJedisPool threadAffinePool;
 	private final String clientName;
 	private final JedisClientConfig nodeConfig;
 	private final JedisClientConfig sentinelConfig;
@@ -94,6 +95,10 @@ public class JedisConnection extends AbstractRedisConnection {
 	private volatile @Nullable JedisSubscription subscription;
 	private volatile @Nullable Transaction transaction;
 	private volatile @Nullable Pipeline pipeline;
+	private @Nullable Consumer<Object> pipelineResultConsumer;
+	private int maxInFlightPipelineCommands;
+	private @Nullable Exception pipelineProblem;
+	private boolean commandFailed;
 
 	private boolean convertPipelineAndTxResults = true;
 
@@ -145,9 +150,29 @@ public class JedisConnection extends AbstractRedisConnection {
 	 */
 	protected JedisConnection(Jedis jedis, @Nullable Pool<Jedis> pool, JedisClientConfig nodeConfig,
 			JedisClientConfig sentinelConfig) {
+		this(jedis, pool, null, nodeConfig, sentinelConfig);
+	}
+
+	/**
+	 * Constructs a new <code>JedisConnection</code> instance backed by a jedis pool that binds connections to threads.
+	 *
+	 * @param jedis
+	 * @param threadAffinePool the pool to release the connection to.
+	 * @param nodeConfig node configuration
+	 * @param sentinelConfig sentinel configuration
+	 * @since 3.0
+	 */
+	JedisConnection(Jedis jedis, ThreadAffineJedisPool threadAffinePool, JedisClientConfig nodeConfig,
+			JedisClientConfig sentinelConfig) {
+		this(jedis, threadAffinePool.getPool(), threadAffinePool, nodeConfig, sentinelConfig);
+	}
+
+	private JedisConnection(Jedis jedis, @Nullable Pool<Jedis> pool, @Nullable ThreadAffineJedisPool threadAffinePool,
+			JedisClientConfig nodeConfig, JedisClientConfig sentinelConfig) {
 
 		this.jedis = jedis;
 		this.pool = pool;
+		this.threadAffinePool = threadAffinePool;
 		this.clientName = nodeConfig.getClientName();
 		this.nodeConfig = nodeConfig;
 		this.sentinelConfig = sentinelConfig;
@@ -197,6 +222,10 @@ public class JedisConnection extends AbstractRedisConnection {
 	}
 
 	protected DataAccessException convertJedisAccessException(Exception ex) {
+
+		// do not keep a connection bound to its thread after it returned an error
+		commandFailed = true;
+
 		DataAccessException exception = EXCEPTION_TRANSLATION.translate(ex);
 		return exception != null ? exception : new RedisSystemException(ex.getMessage(), ex);
 	}
@@ -297,6 +326,12 @@ public class JedisConnection extends AbstractRedisConnection {
 
 		super.close();
 
+		// return the connection to the thread-bound pool
+		if (threadAffinePool != null) {
+			threadAffinePool.release(jedis, commandFailed);
+			return;
+		}
+
 		// return the connection to the pool
 		if (pool != null) {
 			jedis.close();
@@ -345,14 +380,35 @@ public class JedisConnection extends AbstractRedisConnection {
 		}
 	}
 
+	@Override
+	public boolean supportsStreamingPipeline() {
+		return true;
+	}
+
+	@Override
+	public void openPipeline(Consumer<Object> resultConsumer, int maxInFlightCommands) {
+
+		Assert.notNull(resultConsumer, "Result consumer must not be null!");
+		Assert.isTrue(maxInFlightCommands > 0, "Max in-flight commands must be greater than 0");
+
+		if (pipeline == null) {
+			openPipeline();
+			pipelineResultConsumer = resultConsumer;
+			maxInFlightPipelineCommands = maxInFlightCommands;
+			pipelineProblem = null;
+		}
+	}
+
 	@Override
 	public List<Object> closePipeline() {
 		if (pipeline != null) {
 			try {
-				return convertPipelineResults();
+				return pipelineResultConsumer != null ? closeStreamingPipeline() : convertPipelineResults();
 			} finally {
 				pipeline = null;
 				pipelinedResults.clear();
+				pipelineResultConsumer = null;
+				pipelineProblem = null;
 			}
 		}
 		return Collections.emptyList();
@@ -363,24 +419,9 @@ public class JedisConnection extends AbstractRedisConnection {
 		getRequiredPipeline().sync();
 		Exception cause = null;
 		for (JedisResult result : pipelinedResults) {
-			try {
-
-				Object data = result.get();
-
-				if (!result.isStatus()) {
-					results.add(result.conversionRequired() ? result.convert(data) : data);
-				}
-			} catch (JedisDataException e) {
-				DataAccessException dataAccessException = convertJedisAccessException(e);
-				if (cause == null) {
-					cause = dataAccessException;
-				}
-				results.add(dataAccessException);
-			} catch (DataAccessException e) {
-				if (cause == null) {
-					cause = e;
-				}
-				results.add(e);
+			Exception problem = collectPipelineResult(result, results::add);
+			if (cause == null) {
+				cause = problem;
 			}
 		}
 		if (cause != null) {
@@ -389,11 +430,80 @@ public class JedisConnection extends AbstractRedisConnection {
 		return results;
 	}
 
+	private List<Object> closeStreamingPipeline() {
+
+		drainPipeline();
+
+		if (pipelineProblem != null) {
+			throw new RedisPipelineException(pipelineProblem, Collections.emptyList());
+		}
+
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Read responses of all pipelined commands and emit their results to the {@link #pipelineResultConsumer}. Jedis reads
+	 * pipelined responses in bulk, so draining the pipeline awaits all commands issued so far.
+	 */
+	private void drainPipeline() {
+
+		getRequiredPipeline().sync();
+
+		try {
+			for (JedisResult result : pipelinedResults) {
+				Exception problem = collectPipelineResult(result, pipelineResultConsumer);
+				if (pipelineProblem == null) {
+					pipelineProblem = problem;
+				}
+			}
+		} finally {
+			pipelinedResults.clear();
+		}
+	}
+
+	/**
+	 * Emit the result of a pipelined command to {@code target}. Errors are emitted as exception object. Status results
+	 * are not emitted.
+	 *
+	 * @param result the result.
+	 * @param target the consumer of the result.
+	 * @return the exception if the command failed or the result could not be converted, otherwise {@literal null}.
+	 */
+	@Nullable
+	private Exception collectPipelineResult(JedisResult result, Consumer<Object> target) {
+
+		Object value;
+		try {
+
+			Object data = result.get();
+
+			if (result.isStatus()) {
+				return null;
+			}
+
+			value = result.conversionRequired() ? result.convert(data) : data;
+		} catch (JedisDataException e) {
+			DataAccessException dataAccessException = convertJedisAccessException(e);
+			target.accept(dataAccessException);
+			return dataAccessException;
+		} catch (DataAccessException e) {
+			target.accept(e);
+			return e;
+		}
+
+		target.accept(value);
+		return null;
+	}
+
 	void pipeline(JedisResult result) {
 		if (isQueueing()) {
 			transaction(result);
 		} else {
 			pipelinedResults.add(result);
+
+			if (pipelineResultConsumer != null && pipelinedResults.size() >= maxInFlightPipelineCommands) {
+				drainPipeline();
+			}
 		}
 	}
 
@@ -28,10 +28,13 @@ import redis.clients.jedis.Protocol;
 import redis.clients.jedis.util.Pool;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -56,6 +59,7 @@ import org.springframework.data.redis.connection.RedisConfiguration.SentinelConf
 import org.springframework.data.redis.connection.RedisConfiguration.WithDatabaseIndex;
 import org.springframework.data.redis.connection.RedisConfiguration.WithPassword;
 import org.springframework.data.redis.connection.jedis.JedisClusterConnection.JedisClusterTopologyProvider;
+import org.springframework.data.redis.connection.metrics.CommandInstrumentation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -94,6 +98,8 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 	private final JedisClientConfiguration clientConfiguration;
 	private JedisClientConfig clientConfig = DefaultJedisClientConfig.builder().build();
 	private @Nullable Pool<Jedis> pool;
+	private @Nullable ThreadAffineJedisPool threadAffinePool;
+	private Duration threadAffineIdleTimeout = Duration.ZERO;
 	private boolean convertPipelineAndTxResults = true;
 	private RedisStandaloneConfiguration standaloneConfig = new RedisStandaloneConfiguration("localhost",
 			Protocol.DEFAULT_PORT);
@@ -104,6 +110,10 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 	private @Nullable ClusterTopologyProvider topologyProvider;
 	private @Nullable ClusterCommandExecutor clusterCommandExecutor;
 
+	private PoolWarmUp poolWarmUp = PoolWarmUp.disabled();
+	private @Nullable CommandInstrumentation commandInstrumentation;
+	private PoolReadiness poolReadiness = PoolReadiness.none();
+
 	private boolean initialized;
 	private boolean destroyed;
 
@@ -260,7 +270,7 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 		try {
 
 			if (getUsePool() && pool != null) {
-				return pool.getResource();
+				return threadAffinePool != null ? threadAffinePool.getResource() : pool.getResource();
 			}
 
 			Jedis jedis = createJedis();
@@ -294,7 +304,13 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 		clientConfig = createClientConfig(getDatabase(), getRedisUsername(), getRedisPassword());
 
 		if (getUsePool() && !isRedisClusterAware()) {
+
 			this.pool = createPool();
+
+			if (this.pool != null && isThreadAffinityEnabled()) {
+				this.threadAffinePool = new ThreadAffineJedisPool(this.pool, threadAffineIdleTimeout,
+						getPoolConfig() != null && getPoolConfig().getTestOnBorrow());
+			}
 		}
 
 		if (isRedisClusterAware()) {
@@ -307,6 +323,57 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 		}
 
 		this.initialized = true;
+
+		if (poolWarmUp.isEnabled()) {
+			warmUpPools();
+		}
+	}
+
+	private void warmUpPools() {
+
+		GenericObjectPoolConfig<Jedis> poolConfig = getPoolConfig();
+		int minIdle = poolConfig != null ? poolConfig.getMinIdle() : 0;
+		List<PoolWarmUp.Target> targets = new ArrayList<>();
+
+		if (this.pool != null) {
+
+			String name = isRedisSentinelAware() ? ((RedisSentinelConfiguration) this.configuration).getMaster().getName()
+					: getHostName() + ":" + getPort();
+			targets.add(createWarmUpTarget(name, this.pool, minIdle));
+		}
+
+		if (this.cluster != null) {
+			for (Map.Entry<String, JedisPool> entry : this.cluster.getClusterNodes().entrySet()) {
+				targets.add(createWarmUpTarget(entry.getKey(), entry.getValue(), minIdle));
+			}
+		}
+
+		this.poolReadiness = poolWarmUp.warmUp(targets);
+
+		if (poolReadiness.isReady()) {
+
+			if (log.isDebugEnabled()) {
+				log.debug("Connection pool warm-up completed: " + poolReadiness);
+			}
+			return;
+		}
+
+		if (poolWarmUp.isFailIfNotReady()) {
+
+			destroy();
+			throw new PoolException("Connection pool warm-up did not complete: " + poolReadiness);
+		}
+
+		if (log.isWarnEnabled()) {
+			log.warn("Connection pool warm-up did not complete: " + poolReadiness);
+		}
+	}
+
+	private static PoolWarmUp.Target createWarmUpTarget(String name, Pool<Jedis> pool, int minIdle) {
+		return PoolWarmUp.Target.of(name, minIdle - pool.getNumIdle(), () -> {
+			pool.addObjects(1);
+			return null;
+		});
 	}
 
 	JedisClientConfig createSentinelClientConfig(SentinelConfiguration sentinelConfiguration) {
@@ -417,6 +484,12 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 
 	public void destroy() {
 
+		if (threadAffinePool != null) {
+
+			threadAffinePool.destroy();
+			threadAffinePool = null;
+		}
+
 		if (getUsePool() && pool != null) {
 
 			try {
@@ -461,10 +534,27 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 			sentinelConfig = createSentinelClientConfig(sentinelConfiguration);
 		}
 
-		JedisConnection connection = (getUsePool() ? new JedisConnection(jedis, pool, this.clientConfig, sentinelConfig)
-				: new JedisConnection(jedis, null, this.clientConfig, sentinelConfig));
+		JedisConnection connection;
+
+		if (getUsePool() && threadAffinePool != null) {
+			connection = new JedisConnection(jedis, threadAffinePool, this.clientConfig, sentinelConfig);
+		} else {
+			connection = getUsePool() ? new JedisConnection(jedis, pool, this.clientConfig, sentinelConfig)
+					: new JedisConnection(jedis, null, this.clientConfig, sentinelConfig);
+		}
+
 		connection.setConvertPipelineAndTxResults(convertPipelineAndTxResults);
-		return postProcessConnection(connection);
+
+		RedisConnection result = postProcessConnection(connection);
+		return commandInstrumentation != null ? commandInstrumentation.instrument(result, getInstrumentationNodeName())
+				: result;
+	}
+
+	private String getInstrumentationNodeName() {
+
+		RedisSentinelConfiguration sentinelConfiguration = getSentinelConfiguration();
+		return sentinelConfiguration != null ? sentinelConfiguration.getMaster().getName()
+				: getHostName() + ":" + getPort();
 	}
 
 	@Override
@@ -475,7 +565,9 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 		if (!isRedisClusterAware()) {
 			throw new InvalidDataAccessApiUsageException("Cluster is not configured!");
 		}
-		return new JedisClusterConnection(this.cluster, this.clusterCommandExecutor, this.topologyProvider);
+		RedisClusterConnection connection = new JedisClusterConnection(this.cluster, this.clusterCommandExecutor,
+				this.topologyProvider);
+		return commandInstrumentation != null ? commandInstrumentation.instrument(connection, "cluster") : connection;
 	}
 
 	public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
@@ -777,6 +869,100 @@ public class JedisConnectionFactory implements InitializingBean, DisposableBean,
 		this.convertPipelineAndTxResults = convertPipelineAndTxResults;
 	}
 
+	/**
+	 * Configure command-level instrumentation. Connections obtained from this factory report each executed command to
+	 * the {@link org.springframework.data.redis.connection.metrics.CommandRecorder} of the given
+	 * {@link CommandInstrumentation}. Instrumentation is disabled by default.
+	 *
+	 * @param commandInstrumentation the instrumentation to apply, can be {@literal null} to disable instrumentation.
+	 * @since 3.0
+	 */
+	public void setCommandInstrumentation(@Nullable CommandInstrumentation commandInstrumentation) {
+		this.commandInstrumentation = commandInstrumentation;
+	}
+
+	/**
+	 * @return the {@link CommandInstrumentation} or {@literal null} if instrumentation is disabled.
+	 * @since 3.0
+	 */
+	@Nullable
+	public CommandInstrumentation getCommandInstrumentation() {
+		return commandInstrumentation;
+	}
+
+	/**
+	 * Configure thread-affine reuse of pooled connections. With a positive {@code idleTimeout}, a pooled connection stays
+	 * bound to the thread that obtained it after {@link RedisConnection#close() closing} the {@link RedisConnection}, so
+	 * that subsequent connection requests from the same thread reuse the connection without borrowing from and returning
+	 * to the pool. Bound connections that are not used within {@code idleTimeout} or whose thread has terminated are
+	 * returned to the pool in the background. Nested connection requests while the bound connection is in use obtain a
+	 * connection from the pool. Bound connections are validated before reuse according to the pool's
+	 * {@code testOnBorrow} setting, after being idle for a short time, and, with Redis Sentinel, against the current
+	 * master. Connections are unbound once a command fails.
+	 * <p>
+	 * Bound connections count towards the pool's {@code maxTotal}. Size the pool according to the number of threads that
+	 * use Redis concurrently. Thread affinity applies to Redis Standalone and Sentinel pools and is disabled by default
+	 * ({@link Duration#ZERO}).
+	 *
+	 * @param idleTimeout the time after which an unused bound connection is returned to the pool. {@link Duration#ZERO}
+	 *          disables thread affinity. Must not be {@literal null} or negative.
+	 * @since 3.0
+	 */
+	public void setThreadAffineIdleTimeout(Duration idleTimeout) {
+
+		Assert.notNull(idleTimeout, "Idle timeout must not be null!");
+		Assert.isTrue(!idleTimeout.isNegative(), "Idle timeout must not be negative");
+
+		this.threadAffineIdleTimeout = idleTimeout;
+	}
+
+	/**
+	 * @return the time after which an unused thread-bound connection is returned to the pool. {@link Duration#ZERO} if
+	 *         thread affinity is disabled.
+	 * @since 3.0
+	 */
+	public Duration getThreadAffineIdleTimeout() {
+		return threadAffineIdleTimeout;
+	}
+
+	private boolean isThreadAffinityEnabled() {
+		return !threadAffineIdleTimeout.isZero();
+	}
+
+	/**
+	 * Configure warm-up of connection pools. With warm-up enabled, {@link #afterPropertiesSet()} creates the configured
+	 * {@link GenericObjectPoolConfig#getMinIdle() minIdle} number of pooled connections in parallel. Cluster setups warm
+	 * up the pool of each cluster node. Defaults to {@link PoolWarmUp#disabled()}.
+	 *
+	 * @param poolWarmUp the warm-up configuration. Must not be {@literal null}.
+	 * @since 3.0
+	 * @see #getPoolReadiness()
+	 */
+	public void setPoolWarmUp(PoolWarmUp poolWarmUp) {
+
+		Assert.notNull(poolWarmUp, "PoolWarmUp must not be null!");
+
+		this.poolWarmUp = poolWarmUp;
+	}
+
+	/**
+	 * @return the {@link PoolWarmUp} configuration.
+	 * @since 3.0
+	 */
+	public PoolWarmUp getPoolWarmUp() {
+		return poolWarmUp;
+	}
+
+	/**
+	 * Return the outcome of the {@link #setPoolWarmUp(PoolWarmUp) connection pool warm-up}.
+	 *
+	 * @return the {@link PoolReadiness}. {@link PoolReadiness#none()} if pools were not warmed up.
+	 * @since 3.0
+	 */
+	public PoolReadiness getPoolReadiness() {
+		return poolReadiness;
+	}
+
 	/**
 	 * @return true when {@link RedisSentinelConfiguration} is present.
 	 * @since 1.4
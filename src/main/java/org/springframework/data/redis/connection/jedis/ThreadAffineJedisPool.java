@@ -0,0 +1,333 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.jedis;
+
+import redis.clients.jedis.Client;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisSentinelPool;
+import redis.clients.jedis.util.Pool;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Binds pooled {@link Jedis} connections to the thread that obtained them. Releasing a bound connection keeps it
+ * associated with its thread instead of returning it to the {@link Pool} so that subsequent connection requests from the
+ * same thread reuse the connection without interacting with the pool.
+ * <p>
+ * Bound connections that remain unused for longer than the idle timeout, and connections bound to threads that have
+ * terminated, are returned to the pool by a background evictor. Nested connection requests while the bound connection
+ * is in use obtain a connection from the pool. Connections released after eviction, broken connections and connections
+ * whose last command failed are returned to the pool directly.
+ * <p>
+ * A bound connection is validated before it is reused. Connections of a {@link JedisSentinelPool} must point to the
+ * current master. Connections are pinged if the pool is configured to test on borrow or if the connection was idle for
+ * longer than {@link #VALIDATION_IDLE_THRESHOLD}. Invalid connections are disconnected and returned to the pool.
+ *
+ * @author agent
+ * @since 3.0
+ */
+final class ThreadAffineJedisPool {
+
+	private static final Log log = LogFactory.getLog(ThreadAffineJedisPool.class);
+
+	/**
+	 * Idle time after which a bound connection is pinged before it is reused.
+	 */
+	static final Duration VALIDATION_IDLE_THRESHOLD = Duration.ofSeconds(1);
+
+	private final Pool<Jedis> pool;
+
+	private final long idleTimeoutNanos;
+
+	private final boolean testOnBorrow;
+
+	private final ThreadLocal<Lease> current = new ThreadLocal<>();
+
+	private final Map<Jedis, Lease> leases = new ConcurrentHashMap<>();
+
+	private final ScheduledExecutorService evictor;
+
+	/**
+	 * Create a new {@link ThreadAffineJedisPool} and start its evictor.
+	 *
+	 * @param pool the underlying pool, must not be {@literal null}.
+	 * @param idleTimeout time after which an unused bound connection is returned to the pool, must be greater than zero.
+	 */
+	ThreadAffineJedisPool(Pool<Jedis> pool, Duration idleTimeout) {
+		this(pool, idleTimeout, false);
+	}
+
+	/**
+	 * Create a new {@link ThreadAffineJedisPool} and start its evictor.
+	 *
+	 * @param pool the underlying pool, must not be {@literal null}.
+	 * @param idleTimeout time after which an unused bound connection is returned to the pool, must be greater than zero.
+	 * @param testOnBorrow whether to ping bound connections each time they are reused.
+	 */
+	ThreadAffineJedisPool(Pool<Jedis> pool, Duration idleTimeout, boolean testOnBorrow) {
+
+		Assert.notNull(pool, "Pool must not be null!");
+		Assert.notNull(idleTimeout, "Idle timeout must not be null!");
+		Assert.isTrue(!idleTimeout.isNegative() && !idleTimeout.isZero(), "Idle timeout must be greater than zero");
+
+		this.pool = pool;
+		this.idleTimeoutNanos = idleTimeout.toNanos();
+		this.testOnBorrow = testOnBorrow;
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("jedis-affinity-evictor-");
+		threadFactory.setDaemon(true);
+
+		ScheduledThreadPoolExecutor evictor = new ScheduledThreadPoolExecutor(1, threadFactory);
+		evictor.setRemoveOnCancelPolicy(true);
+
+		long period = Math.max(TimeUnit.MILLISECONDS.toNanos(10), idleTimeoutNanos / 2);
+		evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.NANOSECONDS);
+
+		this.evictor = evictor;
+	}
+
+	/**
+	 * @return the underlying pool.
+	 */
+	Pool<Jedis> getPool() {
+		return pool;
+	}
+
+	/**
+	 * Obtain a connection for the calling thread. Returns the connection bound to the calling thread if it is not in use
+	 * and valid, otherwise obtains a connection from the pool and binds it to the calling thread if no connection is
+	 * bound.
+	 *
+	 * @return the {@link Jedis} connection.
+	 */
+	Jedis getResource() {
+
+		Lease lease = current.get();
+
+		if (lease != null && lease.acquire()) {
+
+			if (isValid(lease)) {
+				return lease.jedis;
+			}
+
+			invalidate(lease);
+		}
+
+		Jedis jedis = pool.getResource();
+
+		if (lease == null || lease.isEvicted()) {
+
+			Lease newLease = new Lease(Thread.currentThread(), jedis);
+			leases.put(jedis, newLease);
+			current.set(newLease);
+		}
+
+		return jedis;
+	}
+
+	/**
+	 * Release a connection obtained from {@link #getResource()}. Bound connections remain bound to their thread, unbound
+	 * and broken connections are returned to the pool.
+	 *
+	 * @param jedis the connection to release.
+	 */
+	void release(Jedis jedis) {
+		release(jedis, false);
+	}
+
+	/**
+	 * Release a connection obtained from {@link #getResource()}. Bound connections remain bound to their thread unless
+	 * {@code failed} is {@literal true}. Unbound and broken connections are returned to the pool.
+	 *
+	 * @param jedis the connection to release.
+	 * @param failed whether a command failed while the connection was in use. Connections that returned an error are
+	 *          unbound as they might point to a demoted master or be in an unknown state.
+	 */
+	void release(Jedis jedis, boolean failed) {
+
+		Lease lease = leases.get(jedis);
+
+		if (lease == null) {
+			jedis.close();
+			return;
+		}
+
+		if (!failed && !jedis.isBroken()) {
+
+			try {
+				jedis.resetState();
+				lease.release();
+				return;
+			} catch (RuntimeException e) {
+				log.debug("Cannot reset state of thread-bound connection; Returning connection to the pool", e);
+			}
+		}
+
+		leases.remove(jedis);
+		lease.evict();
+		jedis.close();
+	}
+
+	/**
+	 * Return idle connections to the pool that were not used within the idle timeout or whose thread has terminated.
+	 */
+	void evictIdle() {
+
+		long now = System.nanoTime();
+
+		leases.forEach((jedis, lease) -> {
+
+			if ((!lease.isOwnerAlive() || now - lease.lastUsed > idleTimeoutNanos) && lease.evictIfIdle()) {
+				returnToPool(jedis);
+			}
+		});
+	}
+
+	/**
+	 * Stop the evictor and return all idle connections to the pool. Connections in use are returned to the pool upon
+	 * {@link #release(Jedis) release}.
+	 */
+	void destroy() {
+
+		evictor.shutdownNow();
+
+		leases.forEach((jedis, lease) -> {
+			if (lease.evictIfIdle()) {
+				returnToPool(jedis);
+			}
+		});
+	}
+
+	private boolean isValid(Lease lease) {
+
+		Jedis jedis = lease.jedis;
+
+		try {
+
+			if (pool instanceof JedisSentinelPool && !isCurrentMaster(jedis, (JedisSentinelPool) pool)) {
+				return false;
+			}
+
+			if (!testOnBorrow && System.nanoTime() - lease.lastUsed < VALIDATION_IDLE_THRESHOLD.toNanos()) {
+				return true;
+			}
+
+			return jedis.isConnected() && "PONG".equals(jedis.ping());
+		} catch (RuntimeException e) {
+
+			log.debug("Validation of thread-bound connection failed", e);
+			return false;
+		}
+	}
+
+	private static boolean isCurrentMaster(Jedis jedis, JedisSentinelPool pool) {
+
+		HostAndPort master = pool.getCurrentHostMaster();
+		Client client = jedis.getClient();
+
+		return master == null || (master.getHost().equals(client.getHost()) && master.getPort() == client.getPort());
+	}
+
+	private void invalidate(Lease lease) {
+
+		leases.remove(lease.jedis);
+		lease.evict();
+
+		// disconnect so that the pool does not hand out the stale socket
+		try {
+			lease.jedis.disconnect();
+		} catch (RuntimeException e) {
+			log.debug("Cannot disconnect invalid thread-bound connection", e);
+		}
+
+		returnToPool(lease.jedis);
+	}
+
+	private void returnToPool(Jedis jedis) {
+
+		leases.remove(jedis);
+
+		try {
+			jedis.close();
+		} catch (RuntimeException e) {
+			log.debug("Cannot return thread-bound connection to the pool", e);
+		}
+	}
+
+	/**
+	 * Association of a {@link Jedis} connection with its owning thread.
+	 */
+	private static class Lease {
+
+		private static final int IN_USE = 0;
+		private static final int IDLE = 1;
+		private static final int EVICTED = 2;
+
+		final WeakReference<Thread> owner;
+
+		final Jedis jedis;
+
+		final AtomicInteger state = new AtomicInteger(IN_USE);
+
+		volatile long lastUsed = System.nanoTime();
+
+		Lease(Thread owner, Jedis jedis) {
+			this.owner = new WeakReference<>(owner);
+			this.jedis = jedis;
+		}
+
+		boolean acquire() {
+			return state.compareAndSet(IDLE, IN_USE);
+		}
+
+		void release() {
+
+			lastUsed = System.nanoTime();
+			state.compareAndSet(IN_USE, IDLE);
+		}
+
+		boolean evictIfIdle() {
+			return state.compareAndSet(IDLE, EVICTED);
+		}
+
+		void evict() {
+			state.set(EVICTED);
+		}
+
+		boolean isEvicted() {
+			return state.get() == EVICTED;
+		}
+
+		boolean isOwnerAlive() {
+
+			Thread thread = owner.get();
+			return thread != null && thread.isAlive();
+		}
+	}
+}
@@ -0,0 +1,405 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.RedisCommand;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.data.redis.connection.lettuce.LettuceConnection.PipeliningFlushPolicy;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection.PipeliningFlushState;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Adaptive {@link PipeliningFlushPolicy} for long-running pipelines. Commands are buffered and flushed once one of the
+ * following conditions applies:
+ * <ul>
+ * <li>the number of buffered commands reaches the current batch size,</li>
+ * <li>the estimated size of the buffered commands reaches {@link #withMaxBufferedBytes(int) max buffered bytes}, if
+ * enabled,</li>
+ * <li>the first buffered command was issued longer than {@link #withMaxFlushDelay(Duration) max flush delay} ago. The
+ * deadline is checked when issuing commands.</li>
+ * </ul>
+ * The batch size starts at {@link #withBatchSize(int, int) the minimum batch size} and is adapted to the round-trip
+ * time observed for each flushed batch: It grows while round-trip times remain close to the lowest observed round-trip
+ * time and shrinks when round-trip times increase, indicating that requests or responses queue up. The number of
+ * flushed commands awaiting a response is bounded by {@link #withMaxInFlightCommands(int) max in-flight commands}.
+ * Issuing further commands blocks until responses for previously flushed commands were received to limit memory
+ * required for outstanding responses.
+ * <p>
+ * Instances are immutable. Use {@link PipeliningFlushPolicy#adaptive()} to obtain a policy with default settings.
+ *
+ * @author agent
+ * @since 3.0
+ * @see PipeliningFlushPolicy#adaptive()
+ */
+public final class AdaptivePipeliningFlushPolicy implements PipeliningFlushPolicy {
+
+	static final AdaptivePipeliningFlushPolicy DEFAULT = new AdaptivePipeliningFlushPolicy(16, 4096, 0,
+			Duration.ofMillis(1), 64 * 1024);
+
+	private final int minBatchSize;
+
+	private final int maxBatchSize;
+
+	private final int maxBufferedBytes;
+
+	private final Duration maxFlushDelay;
+
+	private final int maxInFlightCommands;
+
+	private AdaptivePipeliningFlushPolicy(int minBatchSize, int maxBatchSize, int maxBufferedBytes,
+			Duration maxFlushDelay, int maxInFlightCommands) {
+
+		this.minBatchSize = minBatchSize;
+		this.maxBatchSize = maxBatchSize;
+		this.maxBufferedBytes = maxBufferedBytes;
+		this.maxFlushDelay = maxFlushDelay;
+		this.maxInFlightCommands = maxInFlightCommands;
+	}
+
+	/**
+	 * Create a new {@link AdaptivePipeliningFlushPolicy} adapting the batch size between {@code minBatchSize} and
+	 * {@code maxBatchSize} commands.
+	 *
+	 * @param minBatchSize the minimum and initial batch size. Must be greater than zero.
+	 * @param maxBatchSize the maximum batch size. Must be greater or equal to {@code minBatchSize}.
+	 * @return a new {@link AdaptivePipeliningFlushPolicy}.
+	 */
+	public AdaptivePipeliningFlushPolicy withBatchSize(int minBatchSize, int maxBatchSize) {
+
+		Assert.isTrue(minBatchSize > 0, "Min batch size must be greater than 0");
+		Assert.isTrue(maxBatchSize >= minBatchSize, "Max batch size must be greater or equal to min batch size");
+
+		return new AdaptivePipeliningFlushPolicy(minBatchSize, maxBatchSize, maxBufferedBytes, maxFlushDelay,
+				maxInFlightCommands);
+	}
+
+	/**
+	 * Create a new {@link AdaptivePipeliningFlushPolicy} flushing once the estimated size of buffered commands reaches
+	 * {@code maxBufferedBytes}. Size-based flushing is disabled by default as estimating the command size requires
+	 * encoding command arguments an additional time.
+	 *
+	 * @param maxBufferedBytes the maximum number of bytes to buffer. {@literal 0} disables size-based flushing.
+	 * @return a new {@link AdaptivePipeliningFlushPolicy}.
+	 */
+	public AdaptivePipeliningFlushPolicy withMaxBufferedBytes(int maxBufferedBytes) {
+
+		Assert.isTrue(maxBufferedBytes >= 0, "Max buffered bytes must be greater or equal to 0");
+
+		return new AdaptivePipeliningFlushPolicy(minBatchSize, maxBatchSize, maxBufferedBytes, maxFlushDelay,
+				maxInFlightCommands);
+	}
+
+	/**
+	 * Create a new {@link AdaptivePipeliningFlushPolicy} flushing buffered commands once the first buffered command was
+	 * issued longer than {@code maxFlushDelay} ago.
+	 *
+	 * @param maxFlushDelay the maximum delay. Must not be {@literal null} or negative.
+	 * @return a new {@link AdaptivePipeliningFlushPolicy}.
+	 */
+	public AdaptivePipeliningFlushPolicy withMaxFlushDelay(Duration maxFlushDelay) {
+
+		Assert.notNull(maxFlushDelay, "Max flush delay must not be null!");
+		Assert.isTrue(!maxFlushDelay.isNegative(), "Max flush delay must not be negative");
+
+		return new AdaptivePipeliningFlushPolicy(minBatchSize, maxBatchSize, maxBufferedBytes, maxFlushDelay,
+				maxInFlightCommands);
+	}
+
+	/**
+	 * Create a new {@link AdaptivePipeliningFlushPolicy} limiting the number of flushed commands awaiting a response.
+	 *
+	 * @param maxInFlightCommands the maximum number of in-flight commands. Must be greater or equal to the maximum batch
+	 *          size.
+	 * @return a new {@link AdaptivePipeliningFlushPolicy}.
+	 */
+	public AdaptivePipeliningFlushPolicy withMaxInFlightCommands(int maxInFlightCommands) {
+
+		Assert.isTrue(maxInFlightCommands >= maxBatchSize,
+				"Max in-flight commands must be greater or equal to max batch size");
+
+		return new AdaptivePipeliningFlushPolicy(minBatchSize, maxBatchSize, maxBufferedBytes, maxFlushDelay,
+				maxInFlightCommands);
+	}
+
+	/**
+	 * @return the minimum and initial batch size.
+	 */
+	public int getMinBatchSize() {
+		return minBatchSize;
+	}
+
+	/**
+	 * @return the maximum batch size.
+	 */
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	/**
+	 * @return the maximum number of bytes to buffer. {@literal 0} if size-based flushing is disabled.
+	 */
+	public int getMaxBufferedBytes() {
+		return maxBufferedBytes;
+	}
+
+	/**
+	 * @return the maximum delay between issuing the first buffered command and flushing.
+	 */
+	public Duration getMaxFlushDelay() {
+		return maxFlushDelay;
+	}
+
+	/**
+	 * @return the maximum number of flushed commands awaiting a response.
+	 */
+	public int getMaxInFlightCommands() {
+		return maxInFlightCommands;
+	}
+
+	@Override
+	public PipeliningFlushState newPipeline() {
+		return new AdaptiveFlushing(this);
+	}
+
+	/**
+	 * Pipeline state for adaptive flushing. The state is used by the thread issuing pipelined commands while completion
+	 * callbacks update round-trip time statistics and the number of in-flight commands.
+	 */
+	static class AdaptiveFlushing implements PipeliningFlushState {
+
+		/**
+		 * Round-trip times exceeding the lowest observed round-trip time by this factor reduce the batch size.
+		 */
+		private static final int RTT_INFLATION_FACTOR = 2;
+
+		private final AdaptivePipeliningFlushPolicy policy;
+
+		private final long maxFlushDelayNanos;
+
+		private final AtomicLong inFlightCommands = new AtomicLong();
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private final Condition responsesReceived = lock.newCondition();
+
+		private volatile int batchSize;
+
+		private volatile long minRttNanos = Long.MAX_VALUE;
+
+		private int bufferedCommands;
+
+		private long bufferedBytes;
+
+		private long firstBufferedNanos;
+
+		private @Nullable CompletionStage<?> lastCommand;
+
+		/**
+		 * Capacity up to which the buffer used to estimate command sizes is retained across commands.
+		 */
+		private static final int MAX_RETAINED_ESTIMATION_BUFFER_CAPACITY = 8 * 1024;
+
+		private @Nullable ByteBuf sizeEstimationBuffer;
+
+		AdaptiveFlushing(AdaptivePipeliningFlushPolicy policy) {
+
+			this.policy = policy;
+			this.maxFlushDelayNanos = policy.getMaxFlushDelay().toNanos();
+			this.batchSize = policy.getMinBatchSize();
+		}
+
+		@Override
+		public void onOpen(StatefulConnection<?, ?> connection) {
+			connection.setAutoFlushCommands(false);
+		}
+
+		@Override
+		public void onCommand(StatefulConnection<?, ?> connection) {
+			onCommand(connection, null);
+		}
+
+		@Override
+		public void onCommand(StatefulConnection<?, ?> connection, @Nullable RedisCommand<?, ?, ?> command) {
+
+			long now = System.nanoTime();
+
+			if (bufferedCommands == 0) {
+				firstBufferedNanos = now;
+			}
+
+			bufferedCommands++;
+
+			if (command instanceof CompletionStage) {
+				lastCommand = (CompletionStage<?>) command;
+			}
+
+			if (command != null && policy.getMaxBufferedBytes() > 0) {
+				bufferedBytes += estimateSize(command);
+			}
+
+			if (bufferedCommands >= batchSize || (policy.getMaxBufferedBytes() > 0
+					&& bufferedBytes >= policy.getMaxBufferedBytes()) || now - firstBufferedNanos >= maxFlushDelayNanos) {
+				flush(connection, now);
+			}
+		}
+
+		@Override
+		public void onClose(StatefulConnection<?, ?> connection) {
+
+			if (bufferedCommands > 0) {
+				flush(connection, System.nanoTime());
+			}
+
+			connection.setAutoFlushCommands(true);
+
+			releaseSizeEstimationBuffer();
+		}
+
+		/**
+		 * @return the current batch size.
+		 */
+		int getBatchSize() {
+			return batchSize;
+		}
+
+		/**
+		 * @return the number of flushed commands awaiting a response.
+		 */
+		long getInFlightCommands() {
+			return inFlightCommands.get();
+		}
+
+		/**
+		 * @return the capacity of the retained size estimation buffer. {@literal 0} if no buffer is retained.
+		 */
+		int getSizeEstimationBufferCapacity() {
+			return sizeEstimationBuffer != null ? sizeEstimationBuffer.capacity() : 0;
+		}
+
+		private void flush(StatefulConnection<?, ?> connection, long now) {
+
+			int commands = bufferedCommands;
+			CompletionStage<?> batchCompletion = lastCommand;
+
+			bufferedCommands = 0;
+			bufferedBytes = 0;
+			lastCommand = null;
+
+			if (batchCompletion != null) {
+
+				// responses arrive in order, completion of the last command completes the entire batch
+				inFlightCommands.addAndGet(commands);
+				batchCompletion.whenComplete((result, error) -> onBatchCompleted(commands, now));
+			}
+
+			connection.flushCommands();
+
+			if (inFlightCommands.get() > policy.getMaxInFlightCommands()) {
+				awaitResponses(connection);
+			}
+		}
+
+		void onBatchCompleted(int commands, long flushedNanos) {
+
+			long rtt = System.nanoTime() - flushedNanos;
+
+			if (rtt < minRttNanos) {
+				minRttNanos = rtt;
+			}
+
+			int currentBatchSize = batchSize;
+
+			if (rtt > minRttNanos * RTT_INFLATION_FACTOR) {
+				batchSize = Math.max(policy.getMinBatchSize(), currentBatchSize / 2);
+			} else if (commands >= currentBatchSize) {
+				batchSize = (int) Math.min(policy.getMaxBatchSize(), currentBatchSize + (currentBatchSize / 4L) + 1);
+			}
+
+			inFlightCommands.addAndGet(-commands);
+
+			lock.lock();
+			try {
+				responsesReceived.signalAll();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private void awaitResponses(StatefulConnection<?, ?> connection) {
+
+			long threshold = policy.getMaxInFlightCommands() / 2;
+
+			lock.lock();
+			try {
+				while (inFlightCommands.get() > threshold && connection.isOpen()) {
+					responsesReceived.await(100, TimeUnit.MILLISECONDS);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		private int estimateSize(RedisCommand<?, ?, ?> command) {
+
+			CommandArgs<?, ?> args = command.getArgs();
+
+			// keywords are ASCII, name() does not allocate for CommandType
+			int typeLength = command.getType().name().length();
+
+			if (args == null) {
+				return typeLength + 16;
+			}
+
+			if (sizeEstimationBuffer == null) {
+				sizeEstimationBuffer = Unpooled.buffer(256);
+			}
+
+			sizeEstimationBuffer.clear();
+			args.encode(sizeEstimationBuffer);
+
+			int size = typeLength + sizeEstimationBuffer.readableBytes() + 16;
+
+			// do not retain memory sized after the largest argument of the pipeline
+			if (sizeEstimationBuffer.capacity() > MAX_RETAINED_ESTIMATION_BUFFER_CAPACITY) {
+				releaseSizeEstimationBuffer();
+			}
+
+			return size;
+		}
+
+		private void releaseSizeEstimationBuffer() {
+
+			if (sizeEstimationBuffer != null) {
+				sizeEstimationBuffer.release();
+				sizeEstimationBuffer = null;
+			}
+		}
+	}
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.api.StatefulConnection;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * Flushes commands buffered on a {@link StatefulConnection} with disabled
+ * {@link StatefulConnection#setAutoFlushCommands(boolean) auto-flushing} according to an {@link AutoBatchingPolicy}.
+ * Callers notify the flusher through {@link #onCommand()} after dispatching a command. The first command of a batch
+ * schedules a flush after the flush interval while reaching the maximum batch size flushes immediately on the calling
+ * thread. Commands issued directly on the native connection are captured through a {@link #decorate(Object) decorated}
+ * view of the connection API.
+ *
+ * @author agent
+ * @since 3.0
+ */
+class AutoBatchingFlusher {
+
+	private final StatefulConnection<?, ?> connection;
+
+	private final ScheduledExecutorService scheduler;
+
+	private final long flushIntervalNanos;
+
+	private final int maxBatchSize;
+
+	private final AtomicInteger pending = new AtomicInteger();
+
+	private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+	private volatile boolean disposed;
+
+	AutoBatchingFlusher(StatefulConnection<?, ?> connection, ScheduledExecutorService scheduler,
+			AutoBatchingPolicy policy) {
+
+		this.connection = connection;
+		this.scheduler = scheduler;
+		this.flushIntervalNanos = policy.getFlushInterval().toNanos();
+		this.maxBatchSize = policy.getMaxBatchSize();
+
+		connection.setAutoFlushCommands(false);
+	}
+
+	/**
+	 * Callback for each command dispatched on the connection. Must be called after dispatching the command.
+	 */
+	void onCommand() {
+
+		if (disposed) {
+			return;
+		}
+
+		if (pending.incrementAndGet() >= maxBatchSize) {
+			flush();
+			return;
+		}
+
+		if (flushScheduled.compareAndSet(false, true)) {
+
+			try {
+				scheduler.schedule(this::scheduledFlush, flushIntervalNanos, TimeUnit.NANOSECONDS);
+			} catch (RejectedExecutionException e) {
+
+				flushScheduled.set(false);
+				flush();
+			}
+		}
+	}
+
+	/**
+	 * Decorate the given command API of the connection so that each command dispatched through the returned view notifies
+	 * this flusher. Commands are considered dispatched once the invoked method returns a {@link RedisFuture}.
+	 *
+	 * @param commands the command API obtained from the connection, e.g. {@code async()}.
+	 * @return a view of {@code commands} implementing all of its public interfaces.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> T decorate(T commands) {
+
+		ClassLoader classLoader = commands.getClass().getClassLoader();
+		Class<?>[] interfaces = Arrays.stream(ClassUtils.getAllInterfacesForClass(commands.getClass(), classLoader))
+				.filter(it -> Modifier.isPublic(it.getModifiers())).toArray(Class<?>[]::new);
+
+		return (T) Proxy.newProxyInstance(classLoader, interfaces, (proxy, method, args) -> {
+
+			Object result;
+			try {
+				result = method.invoke(commands, args);
+			} catch (InvocationTargetException e) {
+				throw e.getTargetException();
+			}
+
+			if (result instanceof RedisFuture) {
+				onCommand();
+			}
+
+			return result;
+		});
+	}
+
+	/**
+	 * Flush all buffered commands.
+	 */
+	void flush() {
+
+		// reset before flushing so that commands dispatched concurrently start a new batch
+		pending.set(0);
+		connection.flushCommands();
+	}
+
+	/**
+	 * Flush buffered commands and restore auto-flushing on the connection.
+	 */
+	void dispose() {
+
+		disposed = true;
+		connection.setAutoFlushCommands(true);
+		connection.flushCommands();
+	}
+
+	/**
+	 * @return the number of commands dispatched since the last flush.
+	 */
+	int getPendingCommands() {
+		return pending.get();
+	}
+
+	private void scheduledFlush() {
+
+		flushScheduled.set(false);
+
+		if (pending.get() > 0) {
+			flush();
+		}
+	}
+}
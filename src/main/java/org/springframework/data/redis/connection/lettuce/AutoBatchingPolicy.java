@@ -0,0 +1,105 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Policy to control auto-batching of commands issued through the shared native connection of
+ * {@link LettuceConnectionFactory}. With auto-batching enabled, commands issued concurrently by multiple threads are
+ * buffered and written to the connection together instead of writing and flushing each command individually. Buffered
+ * commands are flushed once the configured number of commands was issued or once the flush interval has elapsed after
+ * the first buffered command, whichever comes first. The flush interval bounds the additional latency for each command.
+ * <p>
+ * Auto-batching applies to non-pipelined, non-transactional commands issued through the shared connection for Redis
+ * Standalone, Sentinel and Master/Replica setups. Pipelining, transactions, blocking commands and Pub/Sub use dedicated
+ * connections and are not affected. Commands issued through {@link LettuceConnection#getNativeConnection()} (e.g. within
+ * a {@link org.springframework.data.redis.core.RedisCallback}) participate in auto-batching as well. Commands dispatched
+ * directly on the underlying {@link io.lettuce.core.api.StatefulConnection} bypass the flusher and are written with the
+ * next batch only.
+ *
+ * @author agent
+ * @since 3.0
+ * @see LettuceConnectionFactory#setAutoBatchingPolicy(AutoBatchingPolicy)
+ */
+public final class AutoBatchingPolicy {
+
+	private static final AutoBatchingPolicy DISABLED = new AutoBatchingPolicy(Duration.ZERO, 1);
+
+	private final Duration flushInterval;
+
+	private final int maxBatchSize;
+
+	private AutoBatchingPolicy(Duration flushInterval, int maxBatchSize) {
+		this.flushInterval = flushInterval;
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * Return a policy that disables auto-batching. Each command is flushed individually (default behavior).
+	 *
+	 * @return a policy that disables auto-batching.
+	 */
+	public static AutoBatchingPolicy disabled() {
+		return DISABLED;
+	}
+
+	/**
+	 * Return a policy that buffers commands and flushes them after {@code flushInterval} or once {@code maxBatchSize}
+	 * commands are buffered.
+	 *
+	 * @param flushInterval the maximum time to buffer a command before flushing. Must be greater than zero.
+	 * @param maxBatchSize the number of buffered commands that triggers a flush. Must be greater than zero.
+	 * @return a policy to batch commands issued through the shared connection.
+	 */
+	public static AutoBatchingPolicy enabled(Duration flushInterval, int maxBatchSize) {
+
+		Assert.notNull(flushInterval, "Flush interval must not be null!");
+		Assert.isTrue(!flushInterval.isNegative() && !flushInterval.isZero(), "Flush interval must be greater than zero");
+		Assert.isTrue(maxBatchSize > 0, "Max batch size must be greater than 0");
+
+		return new AutoBatchingPolicy(flushInterval, maxBatchSize);
+	}
+
+	/**
+	 * @return {@literal true} if auto-batching is enabled.
+	 */
+	public boolean isEnabled() {
+		return this != DISABLED;
+	}
+
+	/**
+	 * @return the maximum time to buffer a command before flushing.
+	 */
+	public Duration getFlushInterval() {
+		return flushInterval;
+	}
+
+	/**
+	 * @return the number of buffered commands that triggers a flush.
+	 */
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	@Override
+	public String toString() {
+		return isEnabled() ? String.format("AutoBatchingPolicy[flushInterval=%s, maxBatchSize=%d]", flushInterval,
+				maxBatchSize) : "AutoBatchingPolicy[disabled]";
+	}
+}
@@ -25,6 +25,8 @@ import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
 
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -43,7 +45,7 @@ class ClusterConnectionProvider implements LettuceConnectionProvider, RedisClien
 	private final RedisCodec<?, ?> codec;
 	private final Optional<ReadFrom> readFrom;
 
-	private final Object monitor = new Object();
+	private final Lock lock = new ReentrantLock();
 
 	private volatile boolean initialized;
 
@@ -83,11 +85,14 @@ class ClusterConnectionProvider implements LettuceConnectionProvider, RedisClien
 			// partitions have to be initialized before asynchronous usage.
 			// Needs to happen only once. Initialize eagerly if
 			// blocking is not an options.
-			synchronized (monitor) {
+			lock.lock();
+			try {
 				if (!initialized) {
 					client.getPartitions();
 					initialized = true;
 				}
+			} finally {
+				lock.unlock();
 			}
 		}
 
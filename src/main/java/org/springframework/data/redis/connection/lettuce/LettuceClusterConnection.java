@@ -29,6 +29,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -260,7 +262,7 @@ public class LettuceClusterConnection extends LettuceConnection
 
 	@Override
 	public String ping() {
-		Collection<String> ping = clusterCommandExecutor
+		Collection<String> ping = getClusterCommandExecutor()
 				.executeCommandOnAllNodes((LettuceClusterCommandCallback<String>) BaseRedisCommands::ping).resultsAsList();
 
 		for (String result : ping) {
@@ -275,7 +277,7 @@ public class LettuceClusterConnection extends LettuceConnection
 	@Override
 	public String ping(RedisClusterNode node) {
 
-		return clusterCommandExecutor
+		return getClusterCommandExecutor()
 				.executeCommandOnSingleNode((LettuceClusterCommandCallback<String>) BaseRedisCommands::ping, node).getValue();
 	}
 
@@ -291,7 +293,7 @@ public class LettuceClusterConnection extends LettuceConnection
 
 		RedisClusterNode nodeToUse = topologyProvider.getTopology().lookup(master);
 
-		return clusterCommandExecutor
+		return getClusterCommandExecutor()
 				.executeCommandOnSingleNode((LettuceClusterCommandCallback<Set<RedisClusterNode>>) client -> LettuceConverters
 						.toSetOfRedisClusterNodes(client.clusterSlaves(nodeToUse.getId())), master)
 				.getValue();
@@ -300,10 +302,12 @@ public class LettuceClusterConnection extends LettuceConnection
 	@Override
 	public Map<RedisClusterNode, Collection<RedisClusterNode>> clusterGetMasterReplicaMap() {
 
-		List<NodeResult<Collection<RedisClusterNode>>> nodeResults = clusterCommandExecutor.executeCommandAsyncOnNodes(
-				(LettuceClusterCommandCallback<Collection<RedisClusterNode>>) client -> Converters
-						.toSetOfRedisClusterNodes(client.clusterSlaves(client.clusterMyId())),
-				topologyProvider.getTopology().getActiveMasterNodes()).getResults();
+		List<NodeResult<Collection<RedisClusterNode>>> nodeResults = getClusterCommandExecutor()
+				.executeCommandAsyncOnNodes(
+						(LettuceClusterCommandCallback<Collection<RedisClusterNode>>) client -> Converters
+								.toSetOfRedisClusterNodes(client.clusterSlaves(client.clusterMyId())),
+						topologyProvider.getTopology().getActiveMasterNodes())
+				.getResults();
 
 		Map<RedisClusterNode, Collection<RedisClusterNode>> result = new LinkedHashMap<>();
 
@@ -337,7 +341,7 @@ public class LettuceClusterConnection extends LettuceConnection
 	@Override
 	public ClusterInfo clusterGetClusterInfo() {
 
-		return clusterCommandExecutor
+		return getClusterCommandExecutor()
 				.executeCommandOnArbitraryNode((LettuceClusterCommandCallback<ClusterInfo>) client -> new ClusterInfo(
 						LettuceConverters.toProperties(client.clusterInfo())))
 				.getValue();
@@ -346,7 +350,7 @@ public class LettuceClusterConnection extends LettuceConnection
 	@Override
 	public void clusterAddSlots(RedisClusterNode node, int... slots) {
 
-		clusterCommandExecutor.executeCommandOnSingleNode(
+		getClusterCommandExecutor().executeCommandOnSingleNode(
 				(LettuceClusterCommandCallback<String>) client -> client.clusterAddSlots(slots), node);
 	}
 
@@ -370,7 +374,7 @@ public class LettuceClusterConnection extends LettuceConnection
 
 	@Override
 	public void clusterDeleteSlots(RedisClusterNode node, int... slots) {
-		clusterCommandExecutor.executeCommandOnSingleNode(
+		getClusterCommandExecutor().executeCommandOnSingleNode(
 				(LettuceClusterCommandCallback<String>) client -> client.clusterDelSlots(slots), node);
 	}
 
@@ -389,7 +393,7 @@ public class LettuceClusterConnection extends LettuceConnection
 		RedisClusterNode nodeToRemove = topologyProvider.getTopology().lookup(node);
 		nodes.remove(nodeToRemove);
 
-		this.clusterCommandExecutor.executeCommandAsyncOnNodes(
+		getClusterCommandExecutor().executeCommandAsyncOnNodes(
 				(LettuceClusterCommandCallback<String>) client -> client.clusterForget(nodeToRemove.getId()), nodes);
 	}
 
@@ -400,7 +404,7 @@ public class LettuceClusterConnection extends LettuceConnection
 		Assert.hasText(node.getHost(), "Node to meet cluster must have a host!");
 		Assert.isTrue(node.getPort() > 0, "Node to meet cluster must have a port greater 0!");
 
-		this.clusterCommandExecutor.executeCommandOnAllNodes(
+		getClusterCommandExecutor().executeCommandOnAllNodes(
 				(LettuceClusterCommandCallback<String>) client -> client.clusterMeet(node.getHost(), node.getPort()));
 	}
 
@@ -413,7 +417,7 @@ public class LettuceClusterConnection extends LettuceConnection
 		RedisClusterNode nodeToUse = topologyProvider.getTopology().lookup(node);
 		String nodeId = nodeToUse.getId();
 
-		clusterCommandExecutor.executeCommandOnSingleNode((LettuceClusterCommandCallback<String>) client -> {
+		getClusterCommandExecutor().executeCommandOnSingleNode((LettuceClusterCommandCallback<String>) client -> {
 			switch (mode) {
 				case MIGRATING:
 					return client.clusterSetSlotMigrating(slot, nodeId);
@@ -443,7 +447,7 @@ public class LettuceClusterConnection extends LettuceConnection
 	public void clusterReplicate(RedisClusterNode master, RedisClusterNode replica) {
 
 		RedisClusterNode masterNode = topologyProvider.getTopology().lookup(master);
-		clusterCommandExecutor.executeCommandOnSingleNode(
+		getClusterCommandExecutor().executeCommandOnSingleNode(
 				(LettuceClusterCommandCallback<String>) client -> client.clusterReplicate(masterNode.getId()), replica);
 	}
 
@@ -488,6 +492,8 @@ public class LettuceClusterConnection extends LettuceConnection
 
 
 	public ClusterCommandExecutor getClusterCommandExecutor() {
+
+		assertNotProbingAsyncCommand();
 		return clusterCommandExecutor;
 	}
 
@@ -534,6 +540,7 @@ public class LettuceClusterConnection extends LettuceConnection
 	static class LettuceClusterNodeResourceProvider implements ClusterNodeResourceProvider, DisposableBean {
 
 		private final LettuceConnectionProvider connectionProvider;
+		private final Lock lock = new ReentrantLock();
 		private volatile @Nullable StatefulRedisClusterConnection<byte[], byte[]> connection;
 
 		LettuceClusterNodeResourceProvider(LettuceConnectionProvider connectionProvider) {
@@ -547,10 +554,14 @@ public class LettuceClusterConnection extends LettuceConnection
 			Assert.notNull(node, "Node must not be null!");
 
 			if (connection == null) {
-				synchronized (this) {
+
+				lock.lock();
+				try {
 					if (connection == null) {
 						this.connection = connectionProvider.getConnection(StatefulRedisClusterConnection.class);
 					}
+				} finally {
+					lock.unlock();
 				}
 			}
 
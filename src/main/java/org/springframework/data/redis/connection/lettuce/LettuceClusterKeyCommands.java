@@ -102,6 +102,8 @@ class LettuceClusterKeyCommands extends LettuceKeyCommands {
 			return;
 		}
 
+		connection.assertNotProbingAsyncCommand();
+
 		byte[] value = dump(oldKey);
 
 		if (value != null && value.length > 0) {
@@ -121,6 +123,8 @@ class LettuceClusterKeyCommands extends LettuceKeyCommands {
 			return super.renameNX(sourceKey, targetKey);
 		}
 
+		connection.assertNotProbingAsyncCommand();
+
 		byte[] value = dump(sourceKey);
 
 		if (value != null && value.length > 0 && !exists(targetKey)) {
@@ -196,6 +200,8 @@ class LettuceClusterKeyCommands extends LettuceKeyCommands {
 			return super.sort(key, params, storeKey);
 		}
 
+		connection.assertNotProbingAsyncCommand();
+
 		List<byte[]> sorted = sort(key, params);
 		if (!CollectionUtils.isEmpty(sorted)) {
 
@@ -97,6 +97,8 @@ class LettuceClusterListCommands extends LettuceListCommands {
 			return super.rPopLPush(srcKey, dstKey);
 		}
 
+		connection.assertNotProbingAsyncCommand();
+
 		byte[] val = rPop(srcKey);
 		lPush(dstKey, val);
 		return val;
@@ -112,6 +114,8 @@ class LettuceClusterListCommands extends LettuceListCommands {
 			return super.bRPopLPush(timeout, srcKey, dstKey);
 		}
 
+		connection.assertNotProbingAsyncCommand();
+
 		List<byte[]> val = bRPop(timeout, srcKey);
 		if (!CollectionUtils.isEmpty(val)) {
 			lPush(dstKey, val.get(1));
@@ -54,6 +54,8 @@ class LettuceClusterSetCommands extends LettuceSetCommands {
 			return super.sMove(srcKey, destKey, value);
 		}
 
+		connection.assertNotProbingAsyncCommand();
+
 		if (connection.keyCommands().exists(srcKey)) {
 			if (sRem(srcKey, value) > 0 && !sIsMember(destKey, value)) {
 				return LettuceConverters.toBoolean(sAdd(destKey, value));
@@ -111,6 +113,8 @@ class LettuceClusterSetCommands extends LettuceSetCommands {
 			return super.sInterStore(destKey, keys);
 		}
 
+		connection.assertNotProbingAsyncCommand();
+
 		Set<byte[]> result = sInter(keys);
 		if (result.isEmpty()) {
 			return 0L;
@@ -158,6 +162,8 @@ class LettuceClusterSetCommands extends LettuceSetCommands {
 			return super.sUnionStore(destKey, keys);
 		}
 
+		connection.assertNotProbingAsyncCommand();
+
 		Set<byte[]> result = sUnion(keys);
 		if (result.isEmpty()) {
 			return 0L;
@@ -208,6 +214,8 @@ class LettuceClusterSetCommands extends LettuceSetCommands {
 			return super.sDiffStore(destKey, keys);
 		}
 
+		connection.assertNotProbingAsyncCommand();
+
 		Set<byte[]> diff = sDiff(keys);
 		if (diff.isEmpty()) {
 			return 0L;
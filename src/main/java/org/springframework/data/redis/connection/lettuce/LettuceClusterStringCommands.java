@@ -27,8 +27,12 @@ import org.springframework.util.Assert;
  */
 class LettuceClusterStringCommands extends LettuceStringCommands {
 
+	private final LettuceClusterConnection connection;
+
 	LettuceClusterStringCommands(LettuceClusterConnection connection) {
+
 		super(connection);
+		this.connection = connection;
 	}
 
 	@Override
@@ -40,6 +44,8 @@ class LettuceClusterStringCommands extends LettuceStringCommands {
 			return super.mSetNX(tuples);
 		}
 
+		connection.assertNotProbingAsyncCommand();
+
 		boolean result = true;
 		for (Map.Entry<byte[], byte[]> entry : tuples.entrySet()) {
 			if (!setNX(entry.getKey(), entry.getValue()) && result) {
@@ -42,17 +42,22 @@ import io.lettuce.core.sentinel.api.StatefulRedisSentinelConnection;
 
 import java.lang.reflect.Constructor;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.springframework.beans.BeanUtils;
@@ -87,13 +92,15 @@ import org.springframework.util.ObjectUtils;
  * @author Tamil Selvan
  * @author ihaohong
  */
-public class LettuceConnection extends AbstractRedisConnection {
+public class LettuceConnection extends AbstractRedisConnection implements AsyncRedisConnection {
 
 	static final RedisCodec<byte[], byte[]> CODEC = ByteArrayCodec.INSTANCE;
 
 	private static final ExceptionTranslationStrategy EXCEPTION_TRANSLATION = new FallbackExceptionTranslationStrategy(
 			LettuceExceptionConverter.INSTANCE);
 	private static final TypeHints typeHints = new TypeHints();
+	private static final String ASYNC_COMPOSITE_COMMAND_MESSAGE = "Command is composed of multiple Redis commands"
+			+ " and cannot be executed asynchronously";
 
 	private final LettuceGeoCommands geoCommands = new LettuceGeoCommands(this);
 	private final LettuceHashCommands hashCommands = new LettuceHashCommands(this);
@@ -120,13 +127,21 @@ public class LettuceConnection extends AbstractRedisConnection {
 	private boolean isClosed = false;
 	private boolean isMulti = false;
 	private boolean isPipelined = false;
-	private @Nullable List<LettuceResult<?, ?>> ppline;
+	private @Nullable Deque<LettuceResult<?, ?>> ppline;
 	private @Nullable PipeliningFlushState flushState;
+	private @Nullable Consumer<Object> pipelineResultConsumer;
+	private int maxInFlightPipelineCommands;
+	private @Nullable Exception pipelineProblem;
+	private boolean probeAsyncCommand = false;
+	private int probedAsyncCommands;
+	private boolean captureAsyncResult = false;
+	private @Nullable CompletableFuture<Object> asyncResult;
 	private final Queue<FutureResult<?>> txResults = new LinkedList<>();
 	private volatile @Nullable LettuceSubscription subscription;
 	/** flag indicating whether the connection needs to be dropped or not */
 	private boolean convertPipelineAndTxResults = true;
 	private PipeliningFlushPolicy pipeliningFlushPolicy = PipeliningFlushPolicy.flushEachCommand();
+	private @Nullable AutoBatchingFlusher autoBatchingFlusher;
 
 	LettuceResult<?, ?> newLettuceResult(Future<?> resultHolder) {
 		return newLettuceResult(resultHolder, (val) -> val);
@@ -377,11 +392,26 @@ public class LettuceConnection extends AbstractRedisConnection {
 		return isClosed && !isSubscribed();
 	}
 
+	/**
+	 * Return the native Lettuce command API. With {@link AutoBatchingPolicy auto-batching} enabled, the shared connection
+	 * is returned as view that schedules flushing of commands issued through it. Commands dispatched through the
+	 * underlying {@link io.lettuce.core.api.StatefulConnection} are not tracked and remain buffered until the next flush.
+	 *
+	 * @return the native Lettuce command API.
+	 */
 	@Override
 	public RedisClusterAsyncCommands<byte[], byte[]> getNativeConnection() {
 
 		LettuceSubscription subscription = this.subscription;
-		return (subscription != null ? subscription.getNativeConnection().async() : getAsyncConnection());
+
+		if (subscription != null) {
+			return subscription.getNativeConnection().async();
+		}
+
+		RedisClusterAsyncCommands<byte[], byte[]> connection = getAsyncConnection();
+		AutoBatchingFlusher flusher = this.autoBatchingFlusher;
+
+		return flusher != null && isSharedConnection(connection) ? flusher.decorate(connection) : connection;
 	}
 
 	@Override
@@ -399,12 +429,31 @@ public class LettuceConnection extends AbstractRedisConnection {
 
 		if (!isPipelined) {
 			isPipelined = true;
-			ppline = new ArrayList<>();
+			ppline = new ArrayDeque<>();
 			flushState = this.pipeliningFlushPolicy.newPipeline();
 			flushState.onOpen(this.getOrCreateDedicatedConnection());
 		}
 	}
 
+	@Override
+	public boolean supportsStreamingPipeline() {
+		return true;
+	}
+
+	@Override
+	public void openPipeline(Consumer<Object> resultConsumer, int maxInFlightCommands) {
+
+		Assert.notNull(resultConsumer, "Result consumer must not be null!");
+		Assert.isTrue(maxInFlightCommands > 0, "Max in-flight commands must be greater than 0");
+
+		if (!isPipelined) {
+			openPipeline();
+			pipelineResultConsumer = resultConsumer;
+			maxInFlightPipelineCommands = maxInFlightCommands;
+			pipelineProblem = null;
+		}
+	}
+
 	@Override
 	public List<Object> closePipeline() {
 
@@ -415,6 +464,11 @@ public class LettuceConnection extends AbstractRedisConnection {
 		flushState.onClose(this.getOrCreateDedicatedConnection());
 		flushState = null;
 		isPipelined = false;
+
+		if (pipelineResultConsumer != null) {
+			return closeStreamingPipeline();
+		}
+
 		List<io.lettuce.core.protocol.RedisCommand<?, ?, ?>> futures = new ArrayList<>(ppline.size());
 		for (LettuceResult<?, ?> result : ppline) {
 			futures.add(result.getResultHolder());
@@ -431,24 +485,10 @@ public class LettuceConnection extends AbstractRedisConnection {
 			if (done) {
 				for (LettuceResult<?, ?> result : ppline) {
 
-					if (result.getResultHolder().getOutput().hasError()) {
-
-						Exception err = new InvalidDataAccessApiUsageException(result.getResultHolder().getOutput().getError());
-						// remember only the first error
-						if (problem == null) {
-							problem = err;
-						}
-						results.add(err);
-					} else if (!result.isStatus()) {
-
-						try {
-							results.add(result.conversionRequired() ? result.convert(result.get()) : result.get());
-						} catch (DataAccessException e) {
-							if (problem == null) {
-								problem = e;
-							}
-							results.add(e);
-						}
+					Exception err = collectPipelineResult(result, results::add);
+					// remember only the first error
+					if (problem == null) {
+						problem = err;
 					}
 				}
 			}
@@ -463,11 +503,194 @@ public class LettuceConnection extends AbstractRedisConnection {
 			}
 
 			throw new RedisPipelineException(new QueryTimeoutException("Redis command timed out"));
+		} catch (RedisPipelineException e) {
+			throw e;
 		} catch (Exception e) {
 			throw new RedisPipelineException(e);
 		}
 	}
 
+	private List<Object> closeStreamingPipeline() {
+
+		try {
+			drainPipeline(0);
+		} finally {
+			ppline.clear();
+			pipelineResultConsumer = null;
+		}
+
+		Exception problem = pipelineProblem;
+		pipelineProblem = null;
+
+		if (problem != null) {
+			throw new RedisPipelineException(problem, Collections.emptyList());
+		}
+
+		return Collections.emptyList();
+	}
+
+	/**
+	 * Await pipelined commands in the order they were issued and emit their results to the
+	 * {@link #pipelineResultConsumer} until no more than {@code maxRemaining} commands are awaiting a response. Commands
+	 * that are already completed are emitted as well.
+	 *
+	 * @param maxRemaining number of commands that may remain in-flight.
+	 */
+	private void drainPipeline(int maxRemaining) {
+
+		// commands might be buffered by the PipeliningFlushPolicy
+		getOrCreateDedicatedConnection().flushCommands();
+
+		while (!ppline.isEmpty()) {
+
+			LettuceResult<?, ?> result = ppline.peek();
+
+			if (ppline.size() <= maxRemaining && !result.getResultHolder().isDone()) {
+				return;
+			}
+
+			if (!LettuceFutures.awaitAll(timeout, TimeUnit.MILLISECONDS, (Future<?>) result.getResultHolder())) {
+				throw new RedisPipelineException(new QueryTimeoutException("Redis command timed out"));
+			}
+
+			ppline.poll();
+
+			Exception problem = collectPipelineResult(result, pipelineResultConsumer);
+
+			if (pipelineProblem == null) {
+				pipelineProblem = problem;
+			}
+		}
+	}
+
+	/**
+	 * Emit the result of a completed pipelined command to {@code target}. Errors are emitted as exception object. Status
+	 * results are not emitted.
+	 *
+	 * @param result the completed result.
+	 * @param target the consumer of the result.
+	 * @return the exception if the command failed or the result could not be converted, otherwise {@literal null}.
+	 */
+	@Nullable
+	private static Exception collectPipelineResult(LettuceResult<?, ?> result, Consumer<Object> target) {
+
+		if (result.getResultHolder().getOutput().hasError()) {
+
+			Exception err = new InvalidDataAccessApiUsageException(result.getResultHolder().getOutput().getError());
+			target.accept(err);
+			return err;
+		}
+
+		if (result.isStatus()) {
+			return null;
+		}
+
+		Object value;
+		try {
+			value = result.conversionRequired() ? result.convert(result.get()) : result.get();
+		} catch (DataAccessException e) {
+			target.accept(e);
+			return e;
+		}
+
+		target.accept(value);
+		return null;
+	}
+
+	/**
+	 * Issue the Redis command invoked by {@code command} without awaiting its response. The command is expected to
+	 * invoke a single method of this connection, for example {@code connection -> connection.stringCommands().get(key)}.
+	 * The return value of the invoked method is discarded and the returned {@link CompletableFuture} completes with the
+	 * result the method would have returned, once the response is received. Failures are translated into
+	 * {@link DataAccessException}.
+	 * <p>
+	 * {@code command} is applied twice: once to verify without contacting Redis that it issues a single Redis command
+	 * and once to issue that command. Methods composed of several Redis commands, for example multi-key commands whose
+	 * keys map to different slots in cluster mode, are rejected before any of their commands is sent.
+	 * <p>
+	 * Commands are issued on the shared native connection if available. This connection can be
+	 * {@link #close() closed} directly after issuing the command if it does not use a dedicated connection.
+	 *
+	 * @param command callback invoking a single command on this connection. Must not be {@literal null}.
+	 * @return the {@link CompletableFuture} completing with the command result.
+	 * @throws InvalidDataAccessApiUsageException if the connection is pipelined or queueing or if the command does not
+	 *           support asynchronous execution, for example because it is composed of multiple Redis commands.
+	 * @since 3.0
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> CompletableFuture<T> executeAsync(Function<? super RedisConnection, T> command) {
+
+		Assert.notNull(command, "Command must not be null!");
+
+		if (isPipelined() || isQueueing()) {
+			throw new InvalidDataAccessApiUsageException("Cannot execute asynchronous commands in pipeline or transaction");
+		}
+
+		probeAsyncCommand(command);
+
+		captureAsyncResult = true;
+		try {
+			command.apply(this);
+		} finally {
+			captureAsyncResult = false;
+		}
+
+		CompletableFuture<Object> result = asyncResult;
+		asyncResult = null;
+
+		if (result == null) {
+			throw new InvalidDataAccessApiUsageException("Command did not issue an asynchronous Redis command");
+		}
+
+		return (CompletableFuture<T>) result;
+	}
+
+	/**
+	 * Apply {@code command} without sending anything to Redis to verify that it issues exactly one Redis command. Commands
+	 * composed of several Redis commands (such as cross-slot operations in cluster mode) would otherwise execute
+	 * synchronously and only fail after they took effect.
+	 *
+	 * @param command the callback to verify.
+	 * @throws InvalidDataAccessApiUsageException if the command issues more than one Redis command.
+	 */
+	private void probeAsyncCommand(Function<? super RedisConnection, ?> command) {
+
+		probeAsyncCommand = true;
+		probedAsyncCommands = 0;
+		try {
+			command.apply(this);
+		} catch (InvalidDataAccessApiUsageException ex) {
+			throw ex;
+		} catch (RuntimeException ex) {
+
+			// composite commands cannot deal with the absent result of a probed command
+			if (probedAsyncCommands > 0) {
+				throw new InvalidDataAccessApiUsageException(ASYNC_COMPOSITE_COMMAND_MESSAGE, ex);
+			}
+			throw ex;
+		} finally {
+			probeAsyncCommand = false;
+		}
+
+		if (probedAsyncCommands > 1) {
+			throw new InvalidDataAccessApiUsageException(ASYNC_COMPOSITE_COMMAND_MESSAGE);
+		}
+	}
+
+	/**
+	 * Reject execution of a command that is composed of several Redis commands while probing an
+	 * {@link #executeAsync(Function) asynchronous command}.
+	 *
+	 * @throws InvalidDataAccessApiUsageException if an asynchronous command is being probed.
+	 */
+	void assertNotProbingAsyncCommand() {
+
+		if (probeAsyncCommand) {
+			throw new InvalidDataAccessApiUsageException(ASYNC_COMPOSITE_COMMAND_MESSAGE);
+		}
+	}
+
 	@Override
 	public byte[] echo(byte[] message) {
 		return invoke().just(RedisClusterAsyncCommands::echo, message);
@@ -685,6 +908,17 @@ public class LettuceConnection extends AbstractRedisConnection {
 		this.pipeliningFlushPolicy = pipeliningFlushPolicy;
 	}
 
+	/**
+	 * Configures the {@link AutoBatchingFlusher} associated with the shared connection. Commands issued through the
+	 * shared connection notify the flusher instead of relying on Lettuce flushing each command.
+	 *
+	 * @param autoBatchingFlusher the flusher associated with the shared connection, can be {@literal null}.
+	 * @since 3.0
+	 */
+	void setAutoBatchingFlusher(@Nullable AutoBatchingFlusher autoBatchingFlusher) {
+		this.autoBatchingFlusher = autoBatchingFlusher;
+	}
+
 	/**
 	 * {@link #close()} the current connection and open a new pub/sub connection to the Redis server.
 	 *
@@ -714,13 +948,17 @@ public class LettuceConnection extends AbstractRedisConnection {
 	void pipeline(LettuceResult<?, ?> result) {
 
 		if (flushState != null) {
-			flushState.onCommand(getOrCreateDedicatedConnection());
+			flushState.onCommand(getOrCreateDedicatedConnection(), result.getResultHolder());
 		}
 
 		if (isQueueing()) {
 			transaction(result);
 		} else {
 			ppline.add(result);
+
+			if (pipelineResultConsumer != null && ppline.size() > maxInFlightPipelineCommands) {
+				drainPipeline(maxInFlightPipelineCommands / 2);
+			}
 		}
 	}
 
@@ -793,11 +1031,67 @@ public class LettuceConnection extends AbstractRedisConnection {
 			});
 		}
 
+		AutoBatchingFlusher flusher = autoBatchingFlusher != null && isSharedConnection(connection) ? autoBatchingFlusher
+				: null;
+
+		if (probeAsyncCommand) {
+
+			return new LettuceInvoker(connection, (future, converter, nullDefault) -> {
+
+				if (++probedAsyncCommands > 1) {
+					throw new InvalidDataAccessApiUsageException(ASYNC_COMPOSITE_COMMAND_MESSAGE);
+				}
+				return null;
+			});
+		}
+
+		if (captureAsyncResult) {
+
+			return new LettuceInvoker(connection, (future, converter, nullDefault) -> {
+
+				RedisFuture<Object> command;
+				try {
+					command = future.get();
+				} catch (Exception ex) {
+					throw convertLettuceAccessException(ex);
+				}
+
+				if (flusher != null) {
+					flusher.onCommand();
+				}
+
+				CompletableFuture<Object> result = new CompletableFuture<>();
+				command.whenComplete((value, error) -> {
+
+					if (error != null) {
+						result.completeExceptionally(
+								error instanceof Exception ? convertLettuceAccessException((Exception) error) : error);
+						return;
+					}
+
+					try {
+						result.complete(value == null ? nullDefault.get() : converter.convert(value));
+					} catch (RuntimeException ex) {
+						result.completeExceptionally(ex);
+					}
+				});
+
+				asyncResult = result;
+				return null;
+			});
+		}
+
 		return new LettuceInvoker(connection, (future, converter, nullDefault) -> {
 
 			try {
 
-				Object result = await(future.get());
+				RedisFuture<Object> command = future.get();
+
+				if (flusher != null) {
+					flusher.onCommand();
+				}
+
+				Object result = await(command);
 
 				if (result == null) {
 					return nullDefault.get();
@@ -814,6 +1108,11 @@ public class LettuceConnection extends AbstractRedisConnection {
 		txResults.add(result);
 	}
 
+	private boolean isSharedConnection(RedisClusterAsyncCommands<byte[], byte[]> connection) {
+		return asyncSharedConn instanceof StatefulRedisConnection
+				&& ((StatefulRedisConnection<byte[], byte[]>) asyncSharedConn).async() == connection;
+	}
+
 	RedisClusterAsyncCommands<byte[], byte[]> getAsyncConnection() {
 
 		if (isQueueing() || isPipelined()) {
@@ -1269,6 +1568,19 @@ public class LettuceConnection extends AbstractRedisConnection {
 			return () -> new BufferedFlushing(bufferSize);
 		}
 
+		/**
+		 * Return a policy that adapts the number of buffered commands to the observed round-trip time and flushes once
+		 * reaching the current batch size, a buffered byte size or a flush deadline. The returned policy uses default
+		 * settings and can be customized through its {@code with…} methods.
+		 *
+		 * @return a policy to flush commands adaptively.
+		 * @since 3.0
+		 * @see AdaptivePipeliningFlushPolicy
+		 */
+		static AdaptivePipeliningFlushPolicy adaptive() {
+			return AdaptivePipeliningFlushPolicy.DEFAULT;
+		}
+
 		PipeliningFlushState newPipeline();
 	}
 
@@ -1296,6 +1608,19 @@ public class LettuceConnection extends AbstractRedisConnection {
 		 */
 		void onCommand(StatefulConnection<?, ?> connection);
 
+		/**
+		 * Callback for each issued Redis command providing access to the issued command. Defaults to
+		 * {@link #onCommand(StatefulConnection)}.
+		 *
+		 * @param connection
+		 * @param command the issued command.
+		 * @since 3.0
+		 */
+		default void onCommand(StatefulConnection<?, ?> connection,
+				io.lettuce.core.protocol.RedisCommand<?, ?, ?> command) {
+			onCommand(connection);
+		}
+
 		/**
 		 * Callback if the pipeline gets closed.
 		 *
@@ -19,9 +19,11 @@ import static org.springframework.data.redis.connection.lettuce.LettuceConnectio
 
 import io.lettuce.core.AbstractRedisClient;
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.LettuceFutures;
 import io.lettuce.core.ReadFrom;
 import io.lettuce.core.RedisClient;
 import io.lettuce.core.RedisConnectionException;
+import io.lettuce.core.RedisFuture;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
@@ -39,6 +41,9 @@ import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
@@ -57,6 +62,7 @@ import org.springframework.data.redis.connection.RedisConfiguration.ClusterConfi
 import org.springframework.data.redis.connection.RedisConfiguration.DomainSocketConfiguration;
 import org.springframework.data.redis.connection.RedisConfiguration.WithDatabaseIndex;
 import org.springframework.data.redis.connection.RedisConfiguration.WithPassword;
+import org.springframework.data.redis.connection.metrics.CommandInstrumentation;
 import org.springframework.data.util.Optionals;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -68,7 +74,9 @@ import org.springframework.util.StringUtils;
  * Connection factory creating <a href="https://github.com/mp911de/lettuce">Lettuce</a>-based connections.
  * <p>
  * This factory creates a new {@link LettuceConnection} on each call to {@link #getConnection()}. Multiple
- * {@link LettuceConnection}s share a single thread-safe native connection by default.
+ * {@link LettuceConnection}s share a single thread-safe native connection by default. The number of shared native
+ * connections can be increased through {@link #setSharedConnectionCount(int)} to spread load across multiple
+ * connections.
  * <p>
  * The shared native connection is never closed by {@link LettuceConnection}, therefore it is not validated by default
  * on {@link #getConnection()}. Use {@link #setValidateConnection(boolean)} to change this behavior if necessary. If
@@ -116,14 +124,20 @@ public class LettuceConnectionFactory
 	private boolean validateConnection = false;
 	private boolean shareNativeConnection = true;
 	private boolean eagerInitialization = false;
-	private @Nullable SharedConnection<byte[]> connection;
-	private @Nullable SharedConnection<ByteBuffer> reactiveConnection;
-	/** Synchronization monitor for the shared Connection */
-	private final Object connectionMonitor = new Object();
+	private volatile @Nullable SharedConnections<byte[]> connection;
+	private volatile @Nullable SharedConnections<ByteBuffer> reactiveConnection;
+	private int sharedConnectionCount = 1;
+	private SharedConnectionSelection sharedConnectionSelection = SharedConnectionSelection.THREAD_AFFINE;
+	/** Synchronization lock for the shared Connection */
+	private final Lock connectionLock = new ReentrantLock();
 	private boolean convertPipelineAndTxResults = true;
 
 	private RedisStandaloneConfiguration standaloneConfig = new RedisStandaloneConfiguration("localhost", 6379);
 	private PipeliningFlushPolicy pipeliningFlushPolicy = PipeliningFlushPolicy.flushEachCommand();
+	private AutoBatchingPolicy autoBatchingPolicy = AutoBatchingPolicy.disabled();
+	private PoolWarmUp poolWarmUp = PoolWarmUp.disabled();
+	private PoolReadiness poolReadiness = PoolReadiness.none();
+	private @Nullable CommandInstrumentation commandInstrumentation;
 
 	private @Nullable RedisConfiguration configuration;
 
@@ -322,7 +336,9 @@ public class LettuceConnectionFactory
 
 		this.client = createClient();
 
-		this.connectionProvider = new ExceptionTranslatingConnectionProvider(createConnectionProvider(client, CODEC));
+		LettuceConnectionProvider connectionProvider = createConnectionProvider(client, CODEC);
+
+		this.connectionProvider = new ExceptionTranslatingConnectionProvider(connectionProvider);
 		this.reactiveConnectionProvider = new ExceptionTranslatingConnectionProvider(
 				createConnectionProvider(client, LettuceReactiveRedisConnection.CODEC));
 
@@ -336,11 +352,48 @@ public class LettuceConnectionFactory
 
 		this.initialized = true;
 
+		if (poolWarmUp.isEnabled() && connectionProvider instanceof LettucePoolingConnectionProvider) {
+			warmUpPool((LettucePoolingConnectionProvider) connectionProvider);
+		}
+
 		if (getEagerInitialization() && getShareNativeConnection()) {
 			initConnection();
 		}
 	}
 
+	private void warmUpPool(LettucePoolingConnectionProvider connectionProvider) {
+
+		String name = isClusterAware() ? "cluster"
+				: isRedisSentinelAware() ? getSentinelConfiguration().getMaster().getName()
+						: getHostName() + ":" + getPort();
+
+		try {
+			this.poolReadiness = connectionProvider.warmUp(poolWarmUp, StatefulConnection.class, name);
+		} catch (RuntimeException e) {
+
+			destroy();
+			throw e;
+		}
+
+		if (poolReadiness.isReady()) {
+
+			if (log.isDebugEnabled()) {
+				log.debug("Connection pool warm-up completed: " + poolReadiness);
+			}
+			return;
+		}
+
+		if (poolWarmUp.isFailIfNotReady()) {
+
+			destroy();
+			throw new PoolException("Connection pool warm-up did not complete: " + poolReadiness);
+		}
+
+		if (log.isWarnEnabled()) {
+			log.warn("Connection pool warm-up did not complete: " + poolReadiness);
+		}
+	}
+
 	public void destroy() {
 
 		resetConnection();
@@ -394,10 +447,16 @@ public class LettuceConnectionFactory
 			return getClusterConnection();
 		}
 
-		LettuceConnection connection = doCreateLettuceConnection(getSharedConnection(), connectionProvider, getTimeout(),
+		StatefulRedisConnection<byte[], byte[]> sharedConnection = getSharedConnection();
+		LettuceConnection connection = doCreateLettuceConnection(sharedConnection, connectionProvider, getTimeout(),
 				getDatabase());
 		connection.setConvertPipelineAndTxResults(convertPipelineAndTxResults);
-		return connection;
+
+		if (sharedConnection != null) {
+			connection.setAutoBatchingFlusher(getAutoBatchingFlusher(sharedConnection));
+		}
+
+		return instrument(connection);
 	}
 
 	@Override
@@ -414,8 +473,25 @@ public class LettuceConnectionFactory
 		StatefulRedisClusterConnection<byte[], byte[]> sharedConnection = getSharedClusterConnection();
 
 		LettuceClusterTopologyProvider topologyProvider = new LettuceClusterTopologyProvider(clusterClient);
-		return doCreateLettuceClusterConnection(sharedConnection, connectionProvider, topologyProvider,
-				clusterCommandExecutor, clientConfiguration.getCommandTimeout());
+		RedisClusterConnection connection = doCreateLettuceClusterConnection(sharedConnection, connectionProvider,
+				topologyProvider, clusterCommandExecutor, clientConfiguration.getCommandTimeout());
+
+		return commandInstrumentation != null ? commandInstrumentation.instrument(connection, getInstrumentationNodeName())
+				: connection;
+	}
+
+	private RedisConnection instrument(RedisConnection connection) {
+		return commandInstrumentation != null ? commandInstrumentation.instrument(connection, getInstrumentationNodeName())
+				: connection;
+	}
+
+	private String getInstrumentationNodeName() {
+
+		if (isClusterAware()) {
+			return "cluster";
+		}
+
+		return isRedisSentinelAware() ? getSentinelConfiguration().getMaster().getName() : getHostName() + ":" + getPort();
 	}
 
 	/**
@@ -474,9 +550,12 @@ public class LettuceConnectionFactory
 			return getReactiveClusterConnection();
 		}
 
-		return getShareNativeConnection()
+		LettuceReactiveRedisConnection connection = getShareNativeConnection()
 				? new LettuceReactiveRedisConnection(getSharedReactiveConnection(), reactiveConnectionProvider)
 				: new LettuceReactiveRedisConnection(reactiveConnectionProvider);
+
+		connection.setCommandInstrumentation(commandInstrumentation, getInstrumentationNodeName());
+		return connection;
 	}
 
 	@Override
@@ -490,9 +569,12 @@ public class LettuceConnectionFactory
 
 		RedisClusterClient client = (RedisClusterClient) this.client;
 
-		return getShareNativeConnection()
+		LettuceReactiveRedisClusterConnection connection = getShareNativeConnection()
 				? new LettuceReactiveRedisClusterConnection(getSharedReactiveConnection(), reactiveConnectionProvider, client)
 				: new LettuceReactiveRedisClusterConnection(reactiveConnectionProvider, client);
+
+		connection.setCommandInstrumentation(commandInstrumentation, getInstrumentationNodeName());
+		return connection;
 	}
 
 	/**
@@ -503,13 +585,10 @@ public class LettuceConnectionFactory
 
 		resetConnection();
 
-		if (isClusterAware()) {
-			getSharedClusterConnection();
-		} else {
-			getSharedConnection();
+		if (shareNativeConnection) {
+			getOrCreateSharedConnection().initialize();
+			getOrCreateSharedReactiveConnection().initialize();
 		}
-
-		getSharedReactiveConnection();
 	}
 
 	/**
@@ -520,12 +599,15 @@ public class LettuceConnectionFactory
 		assertInitialized();
 
 		Optionals.toStream(Optional.ofNullable(connection), Optional.ofNullable(reactiveConnection))
-				.forEach(SharedConnection::resetConnection);
+				.forEach(SharedConnections::resetConnection);
 
-		synchronized (this.connectionMonitor) {
+		connectionLock.lock();
+		try {
 
 			this.connection = null;
 			this.reactiveConnection = null;
+		} finally {
+			connectionLock.unlock();
 		}
 	}
 
@@ -540,27 +622,52 @@ public class LettuceConnectionFactory
 		getOrCreateSharedReactiveConnection().validateConnection();
 	}
 
-	private SharedConnection<byte[]> getOrCreateSharedConnection() {
+	private SharedConnections<byte[]> getOrCreateSharedConnection() {
+
+		SharedConnections<byte[]> connection = this.connection;
+
+		if (connection != null) {
+			return connection;
+		}
 
-		synchronized (this.connectionMonitor) {
+		connectionLock.lock();
+		try {
 
 			if (this.connection == null) {
-				this.connection = new SharedConnection<>(connectionProvider);
+				this.connection = new SharedConnections<>(connectionProvider, autoBatchingPolicy.isEnabled());
 			}
 
 			return this.connection;
+		} finally {
+			connectionLock.unlock();
 		}
 	}
 
-	private SharedConnection<ByteBuffer> getOrCreateSharedReactiveConnection() {
+	@Nullable
+	private AutoBatchingFlusher getAutoBatchingFlusher(StatefulConnection<?, ?> sharedConnection) {
+
+		SharedConnections<byte[]> connection = this.connection;
+		return connection != null ? connection.getAutoBatchingFlusher(sharedConnection) : null;
+	}
+
+	private SharedConnections<ByteBuffer> getOrCreateSharedReactiveConnection() {
 
-		synchronized (this.connectionMonitor) {
+		SharedConnections<ByteBuffer> connection = this.reactiveConnection;
+
+		if (connection != null) {
+			return connection;
+		}
+
+		connectionLock.lock();
+		try {
 
 			if (this.reactiveConnection == null) {
-				this.reactiveConnection = new SharedConnection<>(reactiveConnectionProvider);
+				this.reactiveConnection = new SharedConnections<>(reactiveConnectionProvider, false);
 			}
 
 			return this.reactiveConnection;
+		} finally {
+			connectionLock.unlock();
 		}
 	}
 
@@ -624,6 +731,92 @@ public class LettuceConnectionFactory
 		this.pipeliningFlushPolicy = pipeliningFlushPolicy;
 	}
 
+	/**
+	 * Configures auto-batching of commands issued through the shared native connection. With auto-batching enabled,
+	 * commands issued concurrently by multiple threads are buffered and flushed together once the policy's batch size is
+	 * reached or its flush interval has elapsed. If not set, defaults to {@link AutoBatchingPolicy#disabled() flushing
+	 * each command}.
+	 * <p>
+	 * Auto-batching requires {@link #setShareNativeConnection(boolean) native connection sharing} and is not applied
+	 * when connected to Redis Cluster. The policy applies to shared connections created after setting the policy.
+	 *
+	 * @param autoBatchingPolicy the auto-batching policy. Must not be {@literal null}.
+	 * @see AutoBatchingPolicy#enabled(Duration, int)
+	 * @since 3.0
+	 */
+	public void setAutoBatchingPolicy(AutoBatchingPolicy autoBatchingPolicy) {
+
+		Assert.notNull(autoBatchingPolicy, "AutoBatchingPolicy must not be null!");
+
+		this.autoBatchingPolicy = autoBatchingPolicy;
+	}
+
+	/**
+	 * @return the {@link AutoBatchingPolicy} for the shared native connection.
+	 * @since 3.0
+	 */
+	public AutoBatchingPolicy getAutoBatchingPolicy() {
+		return autoBatchingPolicy;
+	}
+
+	/**
+	 * Configure command-level instrumentation. Imperative and reactive connections obtained from this factory report each
+	 * executed command to the {@link org.springframework.data.redis.connection.metrics.CommandRecorder} of the given
+	 * {@link CommandInstrumentation}. Instrumentation is disabled by default.
+	 *
+	 * @param commandInstrumentation the instrumentation to apply, can be {@literal null} to disable instrumentation.
+	 * @since 3.0
+	 */
+	public void setCommandInstrumentation(@Nullable CommandInstrumentation commandInstrumentation) {
+		this.commandInstrumentation = commandInstrumentation;
+	}
+
+	/**
+	 * @return the {@link CommandInstrumentation} or {@literal null} if instrumentation is disabled.
+	 * @since 3.0
+	 */
+	@Nullable
+	public CommandInstrumentation getCommandInstrumentation() {
+		return commandInstrumentation;
+	}
+
+	/**
+	 * Configures warm-up of the connection pool. With warm-up enabled, {@link #afterPropertiesSet()} creates the
+	 * configured {@link org.apache.commons.pool2.impl.GenericObjectPoolConfig#getMinIdle() minIdle} number of pooled
+	 * connections in parallel. When connected to Redis Cluster, pooled connections additionally connect to each cluster
+	 * node. Warm-up requires {@link LettucePoolingClientConfiguration} and applies to dedicated connections used for
+	 * blocking commands, transactions and when {@link #setShareNativeConnection(boolean) connection sharing} is disabled.
+	 * Defaults to {@link PoolWarmUp#disabled()}.
+	 *
+	 * @param poolWarmUp the warm-up configuration. Must not be {@literal null}.
+	 * @since 3.0
+	 * @see #getPoolReadiness()
+	 */
+	public void setPoolWarmUp(PoolWarmUp poolWarmUp) {
+
+		Assert.notNull(poolWarmUp, "PoolWarmUp must not be null!");
+
+		this.poolWarmUp = poolWarmUp;
+	}
+
+	/**
+	 * @return the {@link PoolWarmUp} configuration.
+	 * @since 3.0
+	 */
+	public PoolWarmUp getPoolWarmUp() {
+		return poolWarmUp;
+	}
+
+	/**
+	 * Return the outcome of the {@link #setPoolWarmUp(PoolWarmUp) connection pool warm-up}.
+	 *
+	 * @return the {@link PoolReadiness}. {@link PoolReadiness#none()} if the pool was not warmed up.
+	 * @since 3.0
+	 */
+	public PoolReadiness getPoolReadiness() {
+		return poolReadiness;
+	}
+
 	/**
 	 * Returns the connection timeout (in milliseconds).
 	 *
@@ -753,6 +946,58 @@ public class LettuceConnectionFactory
 		this.shareNativeConnection = shareNativeConnection;
 	}
 
+	/**
+	 * Returns the number of shared native connections used for imperative respective reactive API usage.
+	 *
+	 * @return the number of shared native connections.
+	 * @since 3.0
+	 */
+	public int getSharedConnectionCount() {
+		return sharedConnectionCount;
+	}
+
+	/**
+	 * Configures the number of shared native connections if {@link #setShareNativeConnection(boolean) native connection
+	 * sharing} is enabled. Using multiple shared connections spreads load across multiple TCP connections and event loop
+	 * threads so that large responses or slow commands on one connection do not delay commands issued on other
+	 * connections. Callers are assigned to a shared connection according to the configured
+	 * {@link #setSharedConnectionSelection(SharedConnectionSelection) selection strategy}. Imperative and reactive API
+	 * usage each use their own set of shared connections. Defaults to {@literal 1}.
+	 *
+	 * @param sharedConnectionCount the number of shared native connections. Must be greater than zero.
+	 * @since 3.0
+	 */
+	public void setSharedConnectionCount(int sharedConnectionCount) {
+
+		Assert.isTrue(sharedConnectionCount > 0, "Shared connection count must be greater than 0");
+
+		this.sharedConnectionCount = sharedConnectionCount;
+	}
+
+	/**
+	 * Returns the strategy to assign callers to a shared native connection.
+	 *
+	 * @return the {@link SharedConnectionSelection}.
+	 * @since 3.0
+	 */
+	public SharedConnectionSelection getSharedConnectionSelection() {
+		return sharedConnectionSelection;
+	}
+
+	/**
+	 * Configures the strategy to assign callers to one of the {@link #setSharedConnectionCount(int) shared native
+	 * connections}. Defaults to {@link SharedConnectionSelection#THREAD_AFFINE}.
+	 *
+	 * @param sharedConnectionSelection the selection strategy. Must not be {@literal null}.
+	 * @since 3.0
+	 */
+	public void setSharedConnectionSelection(SharedConnectionSelection sharedConnectionSelection) {
+
+		Assert.notNull(sharedConnectionSelection, "SharedConnectionSelection must not be null!");
+
+		this.sharedConnectionSelection = sharedConnectionSelection;
+	}
+
 	/**
 	 * Indicates {@link #setShareNativeConnection(boolean) shared connections} should be eagerly initialized. Eager
 	 * initialization requires a running Redis instance during application startup to allow early validation of connection
@@ -1290,6 +1535,103 @@ public class LettuceConnectionFactory
 		return clientConfiguration.getCommandTimeout().toMillis();
 	}
 
+	/**
+	 * Set of {@link SharedConnection shared connections} according to the configured
+	 * {@link #setSharedConnectionCount(int) shared connection count}. Selects a shared connection for each caller using
+	 * the configured {@link SharedConnectionSelection}.
+	 *
+	 * @param <E> connection encoding.
+	 * @author agent
+	 * @since 3.0
+	 */
+	class SharedConnections<E> {
+
+		private final List<SharedConnection<E>> connections;
+
+		private final SharedConnectionSelection selection;
+
+		private final AtomicInteger counter = new AtomicInteger();
+
+		SharedConnections(LettuceConnectionProvider connectionProvider, boolean autoBatching) {
+
+			List<SharedConnection<E>> connections = new ArrayList<>(sharedConnectionCount);
+
+			for (int i = 0; i < sharedConnectionCount; i++) {
+				connections.add(new SharedConnection<>(connectionProvider, autoBatching));
+			}
+
+			this.connections = connections;
+			this.selection = sharedConnectionSelection;
+		}
+
+		/**
+		 * Returns a valid Lettuce connection selected for the calling thread.
+		 *
+		 * @return the connection.
+		 */
+		@Nullable
+		StatefulConnection<E, E> getConnection() {
+			return select().getConnection();
+		}
+
+		/**
+		 * Initialize all shared connections.
+		 */
+		void initialize() {
+			connections.forEach(SharedConnection::getConnection);
+		}
+
+		/**
+		 * Validate all shared connections.
+		 */
+		void validateConnection() {
+			connections.forEach(SharedConnection::validateConnection);
+		}
+
+		/**
+		 * Reset all shared connections.
+		 */
+		void resetConnection() {
+			connections.forEach(SharedConnection::resetConnection);
+		}
+
+		/**
+		 * Returns the {@link AutoBatchingFlusher} associated with the given shared {@code connection}.
+		 *
+		 * @param connection the shared connection.
+		 * @return the flusher or {@literal null} if auto-batching is disabled.
+		 */
+		@Nullable
+		AutoBatchingFlusher getAutoBatchingFlusher(StatefulConnection<?, ?> connection) {
+
+			for (SharedConnection<E> sharedConnection : connections) {
+
+				AutoBatchingFlusher flusher = sharedConnection.getAutoBatchingFlusher(connection);
+
+				if (flusher != null) {
+					return flusher;
+				}
+			}
+
+			return null;
+		}
+
+		private SharedConnection<E> select() {
+
+			int size = connections.size();
+
+			if (size == 1) {
+				return connections.get(0);
+			}
+
+			int index = selection == SharedConnectionSelection.THREAD_AFFINE
+					? Math.floorMod(Long.hashCode(Thread.currentThread().getId()), size)
+					: Math.floorMod(counter.getAndIncrement(), size);
+
+			return connections.get(index);
+		}
+	}
+
 	/**
 	 * Wrapper for shared connections. Keeps track of the connection lifecycleThe wrapper is thread-safe as it
 	 * synchronizes concurrent calls by blocking.
@@ -1303,13 +1645,18 @@ public class LettuceConnectionFactory
 
 		private final LettuceConnectionProvider connectionProvider;
 
-		/** Synchronization monitor for the shared Connection */
-		private final Object connectionMonitor = new Object();
+		private final boolean autoBatching;
+
+		/** Synchronization lock for the shared Connection */
+		private final Lock connectionLock = new ReentrantLock();
+
+		private volatile @Nullable StatefulConnection<E, E> connection;
 
-		private @Nullable StatefulConnection<E, E> connection;
+		private volatile @Nullable AutoBatchingFlusher flusher;
 
-		SharedConnection(LettuceConnectionProvider connectionProvider) {
+		SharedConnection(LettuceConnectionProvider connectionProvider, boolean autoBatching) {
 			this.connectionProvider = connectionProvider;
+			this.autoBatching = autoBatching;
 		}
 
 		/**
@@ -1321,7 +1668,14 @@ public class LettuceConnectionFactory
 		@Nullable
 		StatefulConnection<E, E> getConnection() {
 
-			synchronized (this.connectionMonitor) {
+			StatefulConnection<E, E> connection = this.connection;
+
+			if (connection != null && !getValidateConnection()) {
+				return connection;
+			}
+
+			connectionLock.lock();
+			try {
 
 				if (this.connection == null) {
 					this.connection = getNativeConnection();
@@ -1332,6 +1686,8 @@ public class LettuceConnectionFactory
 				}
 
 				return this.connection;
+			} finally {
+				connectionLock.unlock();
 			}
 		}
 
@@ -1341,7 +1697,30 @@ public class LettuceConnectionFactory
 		 * @return the connection.
 		 */
 		private StatefulConnection<E, E> getNativeConnection() {
-			return connectionProvider.getConnection(StatefulConnection.class);
+
+			StatefulConnection<E, E> connection = connectionProvider.getConnection(StatefulConnection.class);
+
+			if (autoBatching && connection instanceof StatefulRedisConnection) {
+				this.flusher = new AutoBatchingFlusher(connection, client.getResources().eventExecutorGroup(),
+						autoBatchingPolicy);
+			}
+
+			return connection;
+		}
+
+		/**
+		 * Returns the {@link AutoBatchingFlusher} if auto-batching is enabled and {@code connection} is the current shared
+		 * connection.
+		 *
+		 * @param connection the connection obtained through {@link #getConnection()}.
+		 * @return the flusher or {@literal null} if auto-batching is disabled.
+		 */
+		@Nullable
+		AutoBatchingFlusher getAutoBatchingFlusher(StatefulConnection<?, ?> connection) {
+
+			// read the flusher first as it is published before the connection it belongs to
+			AutoBatchingFlusher flusher = this.flusher;
+			return this.connection == connection ? flusher : null;
 		}
 
 		/**
@@ -1349,7 +1728,8 @@ public class LettuceConnectionFactory
 		 */
 		void validateConnection() {
 
-			synchronized (this.connectionMonitor) {
+			connectionLock.lock();
+			try {
 
 				boolean valid = false;
 
@@ -1357,7 +1737,15 @@ public class LettuceConnectionFactory
 					try {
 
 						if (connection instanceof StatefulRedisConnection) {
-							((StatefulRedisConnection) connection).sync().ping();
+
+							if (flusher != null) {
+
+								RedisFuture<String> ping = ((StatefulRedisConnection) connection).async().ping();
+								flusher.flush();
+								LettuceFutures.awaitOrCancel(ping, getTimeout(), TimeUnit.MILLISECONDS);
+							} else {
+								((StatefulRedisConnection) connection).sync().ping();
+							}
 						}
 
 						if (connection instanceof StatefulRedisClusterConnection) {
@@ -1375,6 +1763,8 @@ public class LettuceConnectionFactory
 					resetConnection();
 					this.connection = getNativeConnection();
 				}
+			} finally {
+				connectionLock.unlock();
 			}
 		}
 
@@ -1383,13 +1773,23 @@ public class LettuceConnectionFactory
 		 */
 		void resetConnection() {
 
-			synchronized (this.connectionMonitor) {
+			connectionLock.lock();
+			try {
+
+				AutoBatchingFlusher flusher = this.flusher;
+				if (flusher != null) {
+					flusher.dispose();
+					this.flusher = null;
+				}
 
-				if (this.connection != null) {
-					this.connectionProvider.release(this.connection);
+				StatefulConnection<E, E> connection = this.connection;
+				if (connection != null) {
+					this.connectionProvider.release(connection);
 				}
 
 				this.connection = null;
+			} finally {
+				connectionLock.unlock();
 			}
 		}
 	}
@@ -18,18 +18,25 @@ package org.springframework.data.redis.connection.lettuce;
 import io.lettuce.core.AbstractRedisClient;
 import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.support.AsyncConnectionPoolSupport;
 import io.lettuce.core.support.AsyncPool;
 import io.lettuce.core.support.BoundedPoolConfig;
 import io.lettuce.core.support.CommonsPool2ConfigConverter;
 import io.lettuce.core.support.ConnectionPoolSupport;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -37,6 +44,8 @@ import org.apache.commons.pool2.impl.GenericObjectPool;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.data.redis.connection.PoolException;
+import org.springframework.data.redis.connection.PoolReadiness;
+import org.springframework.data.redis.connection.PoolWarmUp;
 import org.springframework.util.Assert;
 
 /**
@@ -89,10 +98,7 @@ class LettucePoolingConnectionProvider implements LettuceConnectionProvider, Red
 	@Override
 	public <T extends StatefulConnection<?, ?>> T getConnection(Class<T> connectionType) {
 
-		GenericObjectPool<StatefulConnection<?, ?>> pool = pools.computeIfAbsent(connectionType, poolType -> {
-			return ConnectionPoolSupport.createGenericObjectPool(() -> connectionProvider.getConnection(connectionType),
-					poolConfig, false);
-		});
+		GenericObjectPool<StatefulConnection<?, ?>> pool = getPool(connectionType);
 
 		try {
 
@@ -106,6 +112,85 @@ class LettucePoolingConnectionProvider implements LettuceConnectionProvider, Red
 		}
 	}
 
+	private <T extends StatefulConnection<?, ?>> GenericObjectPool<StatefulConnection<?, ?>> getPool(
+			Class<T> connectionType) {
+
+		return pools.computeIfAbsent(connectionType, poolType -> {
+			return ConnectionPoolSupport.createGenericObjectPool(() -> connectionProvider.getConnection(connectionType),
+					poolConfig, false);
+		});
+	}
+
+	/**
+	 * Warm up the synchronous pool for {@code connectionType} by creating {@code minIdle} connections in parallel. When
+	 * using Redis Cluster, pooled cluster connections additionally connect to each cluster node within the remaining
+	 * warm-up timeout.
+	 *
+	 * @param warmUp the warm-up configuration.
+	 * @param connectionType the connection type to warm up.
+	 * @param name the pool name used for reporting.
+	 * @return the {@link PoolReadiness}.
+	 * @since 3.0
+	 */
+	<T extends StatefulConnection<?, ?>> PoolReadiness warmUp(PoolWarmUp warmUp, Class<T> connectionType, String name) {
+
+		GenericObjectPool<StatefulConnection<?, ?>> pool = getPool(connectionType);
+
+		PoolReadiness readiness = warmUp.warmUp(Collections.singletonList(
+				PoolWarmUp.Target.of(name, poolConfig.getMinIdle() - pool.getNumIdle(), () -> {
+					pool.addObject();
+					return null;
+				})));
+
+		if (!(connectionProvider instanceof RedisClientProvider)
+				|| !(((RedisClientProvider) connectionProvider).getRedisClient() instanceof RedisClusterClient)) {
+			return readiness;
+		}
+
+		Duration remaining = warmUp.getTimeout().minus(readiness.getElapsed());
+		return readiness.and(warmUpClusterNodes(warmUp, pool, remaining));
+	}
+
+	private PoolReadiness warmUpClusterNodes(PoolWarmUp warmUp, GenericObjectPool<StatefulConnection<?, ?>> pool,
+			Duration timeout) {
+
+		RedisClusterClient client = (RedisClusterClient) ((RedisClientProvider) connectionProvider).getRedisClient();
+		List<StatefulConnection<?, ?>> connections = new ArrayList<>();
+
+		try {
+
+			for (int i = pool.getNumIdle(); i > 0; i--) {
+				connections.add(pool.borrowObject());
+			}
+
+			List<PoolWarmUp.Target> targets = new ArrayList<>();
+
+			for (RedisClusterNode node : client.getPartitions()) {
+
+				String host = node.getUri().getHost();
+				int port = node.getUri().getPort();
+				Queue<StatefulConnection<?, ?>> pending = new ConcurrentLinkedQueue<>(connections);
+
+				targets.add(PoolWarmUp.Target.of(host + ":" + port, pending.size(), () -> {
+
+					StatefulConnection<?, ?> connection = pending.poll();
+
+					if (connection instanceof StatefulRedisClusterConnection) {
+						((StatefulRedisClusterConnection<?, ?>) connection).getConnection(host, port);
+					}
+
+					return null;
+				}));
+			}
+
+			return warmUp.warmUp(targets, timeout);
+		} catch (Exception e) {
+			throw new PoolException("Could not warm up cluster node connections", e);
+		} finally {
+			connections.forEach(pool::returnObject);
+		}
+	}
+
 	@Override
 	public <T extends StatefulConnection<?, ?>> CompletionStage<T> getConnectionAsync(Class<T> connectionType) {
 
@@ -342,7 +342,8 @@ class LettuceReactiveRedisClusterConnection extends LettuceReactiveRedisConnecti
 		Assert.notNull(node, "RedisClusterNode must not be null!");
 		Assert.notNull(callback, "ReactiveCallback must not be null!");
 
-		return getCommands(node).flatMapMany(callback::doWithCommands).onErrorMap(translateException());
+		return getCommands(node).map(it -> instrument(it, node.asString())).flatMapMany(callback::doWithCommands)
+				.onErrorMap(translateException());
 	}
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
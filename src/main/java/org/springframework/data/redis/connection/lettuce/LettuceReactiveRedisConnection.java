@@ -23,7 +23,9 @@ import io.lettuce.core.api.reactive.BaseRedisReactiveCommands;
 import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
 import io.lettuce.core.cluster.api.reactive.RedisClusterReactiveCommands;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.ToByteBufEncoder;
 import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.netty.buffer.ByteBuf;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -36,6 +38,7 @@ import org.reactivestreams.Publisher;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessResourceUsageException;
 import org.springframework.data.redis.connection.*;
+import org.springframework.data.redis.connection.metrics.CommandInstrumentation;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -53,6 +56,9 @@ class LettuceReactiveRedisConnection implements ReactiveRedisConnection {
 
 	private @Nullable Mono<StatefulConnection<ByteBuffer, ByteBuffer>> sharedConnection;
 
+	private @Nullable CommandInstrumentation commandInstrumentation;
+	private String instrumentationNodeName = "";
+
 	/**
 	 * Creates new {@link LettuceReactiveRedisConnection}.
 	 *
@@ -165,7 +171,7 @@ class LettuceReactiveRedisConnection implements ReactiveRedisConnection {
 	 * @return
 	 */
 	public <T> Flux<T> execute(LettuceReactiveCallback<T> callback) {
-		return getCommands().flatMapMany(callback::doWithCommands).onErrorMap(translateException());
+		return getCommands().map(this::instrument).flatMapMany(callback::doWithCommands).onErrorMap(translateException());
 	}
 
 	/**
@@ -174,7 +180,44 @@ class LettuceReactiveRedisConnection implements ReactiveRedisConnection {
 	 * @since 2.0.1
 	 */
 	public <T> Flux<T> executeDedicated(LettuceReactiveCallback<T> callback) {
-		return getDedicatedCommands().flatMapMany(callback::doWithCommands).onErrorMap(translateException());
+		return getDedicatedCommands().map(this::instrument).flatMapMany(callback::doWithCommands)
+				.onErrorMap(translateException());
+	}
+
+	/**
+	 * Configure command-level instrumentation of commands issued through {@link #execute(LettuceReactiveCallback)} and
+	 * {@link #executeDedicated(LettuceReactiveCallback)}.
+	 *
+	 * @param commandInstrumentation can be {@literal null} to disable instrumentation.
+	 * @param nodeName the node name to report.
+	 * @since 3.0
+	 */
+	void setCommandInstrumentation(@Nullable CommandInstrumentation commandInstrumentation, String nodeName) {
+		this.commandInstrumentation = commandInstrumentation;
+		this.instrumentationNodeName = nodeName;
+	}
+
+	/**
+	 * Apply {@link CommandInstrumentation} to the given {@code commands}, if configured.
+	 *
+	 * @param commands the Lettuce command API.
+	 * @return the instrumented command API.
+	 * @since 3.0
+	 */
+	<T extends RedisClusterReactiveCommands<ByteBuffer, ByteBuffer>> T instrument(T commands) {
+		return instrument(commands, instrumentationNodeName);
+	}
+
+	/**
+	 * Apply {@link CommandInstrumentation} to the given {@code commands} reporting {@code nodeName}, if configured.
+	 *
+	 * @param commands the Lettuce command API.
+	 * @param nodeName the node name to report.
+	 * @return the instrumented command API.
+	 * @since 3.0
+	 */
+	<T extends RedisClusterReactiveCommands<ByteBuffer, ByteBuffer>> T instrument(T commands, String nodeName) {
+		return commandInstrumentation != null ? commandInstrumentation.instrument(commands, nodeName) : commands;
 	}
 
 	public Mono<Void> closeLater() {
@@ -242,7 +285,11 @@ class LettuceReactiveRedisConnection implements ReactiveRedisConnection {
 		Publisher<T> doWithCommands(RedisClusterReactiveCommands<ByteBuffer, ByteBuffer> cmd);
 	}
 
-	enum ByteBufferCodec implements RedisCodec<ByteBuffer, ByteBuffer> {
+	/**
+	 * {@link RedisCodec} for {@link ByteBuffer}. Implements {@link ToByteBufEncoder} to write keys and values directly
+	 * into the command output buffer instead of creating an intermediate {@link ByteBuffer} duplicate per argument.
+	 */
+	enum ByteBufferCodec implements RedisCodec<ByteBuffer, ByteBuffer>, ToByteBufEncoder<ByteBuffer, ByteBuffer> {
 
 		INSTANCE;
 
@@ -269,6 +316,34 @@ class LettuceReactiveRedisConnection implements ReactiveRedisConnection {
 		public ByteBuffer encodeValue(ByteBuffer value) {
 			return value.duplicate();
 		}
+
+		@Override
+		public void encodeKey(ByteBuffer key, ByteBuf target) {
+			encode(key, target);
+		}
+
+		@Override
+		public void encodeValue(ByteBuffer value, ByteBuf target) {
+			encode(value, target);
+		}
+
+		@Override
+		public int estimateSize(Object keyOrValue) {
+			return keyOrValue instanceof ByteBuffer ? ((ByteBuffer) keyOrValue).remaining() : 0;
+		}
+
+		private static void encode(@Nullable ByteBuffer source, ByteBuf target) {
+
+			if (source == null) {
+				return;
+			}
+
+			if (source.hasArray()) {
+				target.writeBytes(source.array(), source.arrayOffset() + source.position(), source.remaining());
+			} else {
+				target.writeBytes(source.duplicate());
+			}
+		}
 	}
 
 	/**
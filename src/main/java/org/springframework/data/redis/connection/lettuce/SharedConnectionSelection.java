@@ -0,0 +1,38 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+/**
+ * Strategies to assign callers to one of multiple shared native connections of {@link LettuceConnectionFactory}.
+ *
+ * @author agent
+ * @since 3.0
+ * @see LettuceConnectionFactory#setSharedConnectionCount(int)
+ * @see LettuceConnectionFactory#setSharedConnectionSelection(SharedConnectionSelection)
+ */
+public enum SharedConnectionSelection {
+
+	/**
+	 * Assign callers based on the calling thread. Connections obtained from the same thread use the same shared
+	 * connection, which retains the order of commands issued by one thread.
+	 */
+	THREAD_AFFINE,
+
+	/**
+	 * Assign callers in a round-robin fashion for each obtained connection.
+	 */
+	ROUND_ROBIN
+}
@@ -0,0 +1,664 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.data.redis.connection.AsyncRedisConnection;
+import org.springframework.data.redis.connection.DecoratedRedisConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisNode;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Command-level instrumentation for Redis connections. {@link #instrument(Object, String) Instrumented} connections
+ * report each executed command with its name, target node, key pattern, sent and received bytes, duration and outcome
+ * to a {@link CommandRecorder}.
+ * <p>
+ * Instrumentation decorates {@link RedisConnection} and the command interfaces obtained from it using a JDK proxy.
+ * Command names are derived from the method name ({@code hMGet} is recorded as {@code HMGET}) and from the command
+ * argument of {@code execute(…)}. Reactive Lettuce connections instrument the Lettuce reactive command API so that
+ * command names correspond to the issued Redis command. Sent and received bytes account for keys, values and binary
+ * results ({@code byte[]}, {@link ByteBuffer} and collections thereof). Commands issued through
+ * {@link AsyncRedisConnection#executeAsync(Function)} are recorded once their response is received.
+ * <p>
+ * Commands issued while the connection is pipelined or queueing a transaction are recorded once the pipeline is closed
+ * or the transaction is executed or discarded, as their responses are not read before. Their duration spans from
+ * issuing the command until the pipeline or transaction completed and their outcome is the outcome of the pipeline or
+ * transaction. Received bytes are not attributed to individual pipelined or queued commands. To bound memory for
+ * long-running pipelines, such commands are aggregated by command name, node and key pattern and recorded with the
+ * average number of sent bytes and the average duration of their group.
+ * <p>
+ * Targets are invoked through a {@link MethodHandle} cached per {@link Method}.
+ * <p>
+ * Instrumentation is configured on the connection factory, e.g.
+ * {@code LettuceConnectionFactory.setCommandInstrumentation(…)}.
+ *
+ * @author agent
+ * @since 3.0
+ * @see CommandRecorder
+ * @see HistogramCommandRecorder
+ */
+public final class CommandInstrumentation {
+
+	private static final boolean REACTOR_PRESENT = ClassUtils.isPresent("reactor.core.publisher.Flux",
+			CommandInstrumentation.class.getClassLoader());
+
+	private static final Set<String> NON_COMMANDS = Set.of("close", "isClosed", "getNativeConnection", "isQueueing",
+			"isPipelined", "openPipeline", "closePipeline", "getSentinelConnection", "isSubscribed", "getSubscription",
+			"getDelegate", "getStatefulConnection", "setTimeout", "isOpen", "reset", "setAutoFlushCommands",
+			"flushCommands");
+
+	private static final String NONE = "";
+
+	private static final String DYNAMIC = "?";
+
+	private static final Map<Method, String> COMMAND_NAMES = new ConcurrentHashMap<>();
+
+	private static final Map<Method, MethodHandle> METHOD_HANDLES = new ConcurrentHashMap<>();
+
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+	private final CommandRecorder recorder;
+
+	private final @Nullable KeyPatternResolver keyPatternResolver;
+
+	private CommandInstrumentation(CommandRecorder recorder, @Nullable KeyPatternResolver keyPatternResolver) {
+		this.recorder = recorder;
+		this.keyPatternResolver = keyPatternResolver;
+	}
+
+	/**
+	 * Create a new {@link CommandInstrumentation} reporting commands to the given {@link CommandRecorder}.
+	 *
+	 * @param recorder must not be {@literal null}.
+	 * @return the {@link CommandInstrumentation}.
+	 */
+	public static CommandInstrumentation of(CommandRecorder recorder) {
+
+		Assert.notNull(recorder, "CommandRecorder must not be null!");
+
+		return new CommandInstrumentation(recorder, null);
+	}
+
+	/**
+	 * Create a new {@link CommandInstrumentation} that resolves key patterns for the first key of each command. Resolving
+	 * key patterns is disabled by default.
+	 *
+	 * @param keyPatternResolver must not be {@literal null}.
+	 * @return a new {@link CommandInstrumentation} using the given {@link KeyPatternResolver}.
+	 */
+	public CommandInstrumentation keyPatterns(KeyPatternResolver keyPatternResolver) {
+
+		Assert.notNull(keyPatternResolver, "KeyPatternResolver must not be null!");
+
+		return new CommandInstrumentation(recorder, keyPatternResolver);
+	}
+
+	/**
+	 * @return the {@link CommandRecorder}.
+	 */
+	public CommandRecorder getRecorder() {
+		return recorder;
+	}
+
+	/**
+	 * Instrument the given {@code target}. The returned proxy implements all public interfaces of {@code target} and
+	 * {@link DecoratedRedisConnection} if {@code target} is a {@link RedisConnection}. Callers must therefore refer to
+	 * {@code target} through an interface type.
+	 *
+	 * @param target the connection or command API to instrument, must not be {@literal null}.
+	 * @param node the Redis node or connection target to report for commands that do not address a specific
+	 *          {@link RedisNode}, must not be {@literal null}.
+	 * @return the instrumented {@code target}.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T instrument(T target, String node) {
+
+		Assert.notNull(target, "Target must not be null!");
+		Assert.notNull(node, "Node must not be null!");
+
+		return (T) createProxy(target, node, null);
+	}
+
+	private Object createProxy(Object target, String node, @Nullable AsyncInvocation asyncInvocation) {
+
+		Set<Class<?>> interfaces = new LinkedHashSet<>();
+
+		for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(target.getClass())) {
+			if (Modifier.isPublic(candidate.getModifiers())) {
+				interfaces.add(candidate);
+			}
+		}
+
+		RedisConnection connection = null;
+		if (target instanceof RedisConnection) {
+
+			connection = (RedisConnection) target;
+			interfaces.add(DecoratedRedisConnection.class);
+		}
+
+		return Proxy.newProxyInstance(target.getClass().getClassLoader(), interfaces.toArray(new Class<?>[0]),
+				new RecordingInvocationHandler(target, connection, node, asyncInvocation, new PendingCommands()));
+	}
+
+	/**
+	 * Obtain the {@link MethodHandle} for {@code method} accepting the target and an argument array that may be
+	 * {@literal null} for methods without parameters.
+	 */
+	private static MethodHandle getMethodHandle(Method method) {
+
+		return METHOD_HANDLES.computeIfAbsent(method, it -> {
+
+			try {
+				return MethodHandles.publicLookup().unreflect(it).asFixedArity()
+						.asSpreader(Object[].class, it.getParameterCount()).asType(INVOKER_TYPE);
+			} catch (IllegalAccessException e) {
+				throw new IllegalStateException(String.format("Cannot access %s", it), e);
+			}
+		});
+	}
+
+	private static boolean isTransactionEnd(String command) {
+		return command.equals("EXEC") || command.equals("DISCARD");
+	}
+
+	private static String getCommandName(Method method) {
+
+		String name = method.getName();
+
+		if (method.getDeclaringClass() == Object.class || NON_COMMANDS.contains(name) || isCommandInterfaceAccessor(method)) {
+			return NONE;
+		}
+
+		if (name.equals("execute") || name.equals("dispatch")) {
+			return DYNAMIC;
+		}
+
+		return name.toUpperCase(Locale.ROOT);
+	}
+
+	private static boolean isCommandInterfaceAccessor(Method method) {
+		return method.getParameterCount() == 0 && method.getName().endsWith("Commands")
+				&& method.getReturnType().isInterface();
+	}
+
+	private static long sizeOf(@Nullable Object value) {
+
+		if (value instanceof byte[]) {
+			return ((byte[]) value).length;
+		}
+
+		if (value instanceof ByteBuffer) {
+			return ((ByteBuffer) value).remaining();
+		}
+
+		if (value instanceof Object[]) {
+
+			long size = 0;
+			for (Object element : (Object[]) value) {
+				size += sizeOf(element);
+			}
+			return size;
+		}
+
+		if (value instanceof Collection) {
+
+			long size = 0;
+			for (Object element : (Collection<?>) value) {
+				size += sizeOf(element);
+			}
+			return size;
+		}
+
+		if (value instanceof Map) {
+
+			long size = 0;
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				size += sizeOf(entry.getKey()) + sizeOf(entry.getValue());
+			}
+			return size;
+		}
+
+		return 0;
+	}
+
+	/**
+	 * {@link InvocationHandler} recording command invocations.
+	 */
+	private class RecordingInvocationHandler implements InvocationHandler {
+
+		private final Object target;
+
+		private final @Nullable RedisConnection connection;
+
+		private final String node;
+
+		private final @Nullable AsyncInvocation asyncInvocation;
+
+		private final PendingCommands pendingCommands;
+
+		private final Map<Method, Object> commandInterfaces = new ConcurrentHashMap<>(4);
+
+		/**
+		 * @param asyncInvocation the asynchronous invocation to capture issued commands for instead of recording them.
+		 *          {@literal null} to record commands once they return.
+		 * @param pendingCommands pipelined and queued commands of {@code connection}, shared with the handlers of its
+		 *          command interfaces.
+		 */
+		RecordingInvocationHandler(Object target, @Nullable RedisConnection connection, String node,
+				@Nullable AsyncInvocation asyncInvocation, PendingCommands pendingCommands) {
+			this.target = target;
+			this.connection = connection;
+			this.node = node;
+			this.asyncInvocation = asyncInvocation;
+			this.pendingCommands = pendingCommands;
+		}
+
+		@Override
+		@Nullable
+		public Object invoke(Object proxy, Method method, @Nullable Object[] args) throws Throwable {
+
+			if (method.getDeclaringClass() == Object.class) {
+
+				if (method.getName().equals("equals")) {
+					return args != null && proxy == args[0];
+				}
+
+				if (method.getName().equals("hashCode")) {
+					return System.identityHashCode(proxy);
+				}
+
+				return invokeTarget(method, args);
+			}
+
+			if (method.getDeclaringClass() == DecoratedRedisConnection.class) {
+				return target;
+			}
+
+			if (method.getDeclaringClass() == AsyncRedisConnection.class && asyncInvocation == null) {
+				return executeAsync((Function<? super RedisConnection, ?>) args[0]);
+			}
+
+			String command = COMMAND_NAMES.computeIfAbsent(method, CommandInstrumentation::getCommandName);
+
+			if (NONE.equals(command)) {
+
+				if (isCommandInterfaceAccessor(method)) {
+					return getCommandInterface(method);
+				}
+
+				return method.getName().equals("closePipeline") ? closePipeline(method, args) : invokeTarget(method, args);
+			}
+
+			if (DYNAMIC.equals(command)) {
+				command = args != null && args.length > 0 && args[0] != null ? args[0].toString().toUpperCase(Locale.ROOT)
+						: method.getName().toUpperCase(Locale.ROOT);
+			}
+
+			String node = this.node;
+			String keyPattern = null;
+			long bytesSent = 0;
+
+			if (args != null) {
+
+				for (Object arg : args) {
+
+					if (arg instanceof RedisNode) {
+						node = ((RedisNode) arg).asString();
+					} else if (keyPattern == null && keyPatternResolver != null) {
+						keyPattern = resolveKeyPattern(arg);
+					}
+
+					bytesSent += sizeOf(arg);
+				}
+			}
+
+			if (asyncInvocation != null) {
+
+				asyncInvocation.issued(command, node, keyPattern, bytesSent);
+				return invokeTarget(method, args);
+			}
+
+			boolean pending = connection != null
+					&& (connection.isPipelined() || (connection.isQueueing() && !isTransactionEnd(command)));
+
+			long start = System.nanoTime();
+			Object result;
+
+			try {
+				result = (Object) getMethodHandle(method).invokeExact(target, args);
+			} catch (Throwable e) {
+
+				recorder.record(command, node, keyPattern, bytesSent, 0, System.nanoTime() - start, false);
+
+				if (!pending && isTransactionEnd(command)) {
+					pendingCommands.record(false);
+				}
+				throw e;
+			}
+
+			if (pending) {
+
+				pendingCommands.add(command, node, keyPattern, bytesSent, start);
+				return result;
+			}
+
+			if (REACTOR_PRESENT && ReactiveInstrumentation.isReactive(result)) {
+				return ReactiveInstrumentation.instrument(result, recorder, command, node, keyPattern, bytesSent);
+			}
+
+			recorder.record(command, node, keyPattern, bytesSent, sizeOf(result), System.nanoTime() - start, true);
+
+			if (isTransactionEnd(command)) {
+				pendingCommands.record(true);
+			}
+
+			return result;
+		}
+
+		/**
+		 * Close the pipeline and record the commands issued while the connection was pipelined.
+		 */
+		@Nullable
+		private Object closePipeline(Method method, @Nullable Object[] args) {
+
+			Object result;
+			try {
+				result = invokeTarget(method, args);
+			} catch (RuntimeException | Error e) {
+
+				pendingCommands.record(false);
+				throw e;
+			}
+
+			pendingCommands.record(true);
+			return result;
+		}
+
+		/**
+		 * Issue the command through a proxy capturing the issued command and record it once the response is received.
+		 */
+		private CompletableFuture<?> executeAsync(Function<? super RedisConnection, ?> command) {
+
+			AsyncInvocation invocation = new AsyncInvocation();
+			long start = System.nanoTime();
+			CompletableFuture<?> result;
+
+			try {
+				result = ((AsyncRedisConnection) target).executeAsync(
+						connection -> command.apply((RedisConnection) createProxy(connection, node, invocation)));
+			} catch (RuntimeException e) {
+
+				invocation.record(false, 0, System.nanoTime() - start);
+				throw e;
+			}
+
+			return result.whenComplete((value, error) -> invocation.record(error == null,
+					error == null ? sizeOf(value) : 0, System.nanoTime() - start));
+		}
+
+		@Nullable
+		private String resolveKeyPattern(@Nullable Object arg) {
+
+			if (arg instanceof byte[]) {
+
+				byte[] key = (byte[]) arg;
+				return keyPatternResolver.resolve(key, 0, key.length);
+			}
+
+			if (arg instanceof byte[][]) {
+
+				byte[][] keys = (byte[][]) arg;
+				return keys.length > 0 && keys[0] != null ? keyPatternResolver.resolve(keys[0], 0, keys[0].length) : null;
+			}
+
+			if (arg instanceof ByteBuffer) {
+
+				ByteBuffer key = (ByteBuffer) arg;
+
+				if (key.hasArray()) {
+					return keyPatternResolver.resolve(key.array(), key.arrayOffset() + key.position(), key.remaining());
+				}
+
+				byte[] bytes = new byte[key.remaining()];
+				key.duplicate().get(bytes);
+				return keyPatternResolver.resolve(bytes, 0, bytes.length);
+			}
+
+			return null;
+		}
+
+		private Object getCommandInterface(Method method) {
+
+			return commandInterfaces.computeIfAbsent(method, it -> {
+
+				Object commands = invokeTarget(it, null);
+				return Proxy.newProxyInstance(commands.getClass().getClassLoader(), new Class<?>[] { it.getReturnType() },
+						new RecordingInvocationHandler(commands, connection, node, asyncInvocation, pendingCommands));
+			});
+		}
+
+		@Nullable
+		private Object invokeTarget(Method method, @Nullable Object[] args) {
+
+			try {
+				return (Object) getMethodHandle(method).invokeExact(target, args);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		}
+	}
+
+	/**
+	 * Commands issued while a connection is pipelined or queueing a transaction, awaiting the pipeline to be closed or
+	 * the transaction to complete. Commands are aggregated per command name, node and key pattern. Not thread-safe,
+	 * pipelines and transactions are confined to the thread using the connection.
+	 */
+	private class PendingCommands {
+
+		private final Map<PendingCommandKey, PendingCommandGroup> groups = new LinkedHashMap<>();
+
+		void add(String command, String node, @Nullable String keyPattern, long bytesSent, long issuedNanos) {
+			groups.computeIfAbsent(new PendingCommandKey(command, node, keyPattern),
+					it -> new PendingCommandGroup(issuedNanos)).add(bytesSent, issuedNanos);
+		}
+
+		/**
+		 * Record all pending commands with the given outcome.
+		 */
+		void record(boolean success) {
+
+			if (groups.isEmpty()) {
+				return;
+			}
+
+			long now = System.nanoTime();
+
+			for (Map.Entry<PendingCommandKey, PendingCommandGroup> entry : groups.entrySet()) {
+
+				PendingCommandKey key = entry.getKey();
+				PendingCommandGroup group = entry.getValue();
+				long bytesSent = group.bytesSent / group.count;
+				long duration = now - group.getAverageIssuedNanos();
+
+				for (long i = 0; i < group.count; i++) {
+					recorder.record(key.command, key.node, key.keyPattern, bytesSent, 0, duration, success);
+				}
+			}
+
+			groups.clear();
+		}
+	}
+
+	private static class PendingCommandKey {
+
+		private final String command;
+
+		private final String node;
+
+		private final @Nullable String keyPattern;
+
+		PendingCommandKey(String command, String node, @Nullable String keyPattern) {
+			this.command = command;
+			this.node = node;
+			this.keyPattern = keyPattern;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof PendingCommandKey)) {
+				return false;
+			}
+
+			PendingCommandKey that = (PendingCommandKey) o;
+			return command.equals(that.command) && node.equals(that.node) && Objects.equals(keyPattern, that.keyPattern);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(command, node, keyPattern);
+		}
+	}
+
+	private static class PendingCommandGroup {
+
+		private final long firstIssuedNanos;
+
+		private long count;
+
+		private long bytesSent;
+
+		private double averageIssuedOffsetNanos;
+
+		PendingCommandGroup(long firstIssuedNanos) {
+			this.firstIssuedNanos = firstIssuedNanos;
+		}
+
+		void add(long bytesSent, long issuedNanos) {
+
+			this.count++;
+			this.bytesSent += bytesSent;
+			this.averageIssuedOffsetNanos += ((issuedNanos - firstIssuedNanos) - averageIssuedOffsetNanos) / count;
+		}
+
+		long getAverageIssuedNanos() {
+			return firstIssuedNanos + (long) averageIssuedOffsetNanos;
+		}
+	}
+
+	/**
+	 * Command issued through {@link AsyncRedisConnection#executeAsync(Function)}. The command is captured on the calling
+	 * thread and recorded on the thread completing its response.
+	 */
+	private class AsyncInvocation {
+
+		private @Nullable String node;
+
+		private @Nullable String keyPattern;
+
+		private long bytesSent;
+
+		private volatile @Nullable String command;
+
+		void issued(String command, String node, @Nullable String keyPattern, long bytesSent) {
+
+			this.node = node;
+			this.keyPattern = keyPattern;
+			this.bytesSent = bytesSent;
+			this.command = command;
+		}
+
+		void record(boolean success, long bytesReceived, long durationNanos) {
+
+			String command = this.command;
+
+			if (command != null) {
+				recorder.record(command, node, keyPattern, bytesSent, bytesReceived, durationNanos, success);
+			}
+		}
+	}
+
+	/**
+	 * Instrumentation of reactive command results. Isolated to avoid a hard dependency on Project Reactor.
+	 */
+	static class ReactiveInstrumentation {
+
+		static boolean isReactive(@Nullable Object result) {
+			return result instanceof Mono || result instanceof Flux;
+		}
+
+		static Object instrument(Object result, CommandRecorder recorder, String command, String node,
+				@Nullable String keyPattern, long bytesSent) {
+
+			if (result instanceof Mono) {
+
+				Mono<?> mono = (Mono<?>) result;
+				return Mono.defer(() -> {
+
+					long start = System.nanoTime();
+					return mono
+							.doOnSuccess(value -> recorder.record(command, node, keyPattern, bytesSent, sizeOf(value),
+									System.nanoTime() - start, true))
+							.doOnError(e -> recorder.record(command, node, keyPattern, bytesSent, 0, System.nanoTime() - start,
+									false));
+				});
+			}
+
+			Flux<?> flux = (Flux<?>) result;
+			return Flux.defer(() -> {
+
+				long start = System.nanoTime();
+				long[] bytesReceived = new long[1];
+
+				return flux.doOnNext(value -> bytesReceived[0] += sizeOf(value))
+						.doOnComplete(() -> recorder.record(command, node, keyPattern, bytesSent, bytesReceived[0],
+								System.nanoTime() - start, true))
+						.doOnError(e -> recorder.record(command, node, keyPattern, bytesSent, bytesReceived[0],
+								System.nanoTime() - start, false));
+			});
+		}
+	}
+}
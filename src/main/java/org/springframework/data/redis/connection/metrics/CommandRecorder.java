@@ -0,0 +1,69 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * SPI to record the execution of Redis commands issued through an {@link CommandInstrumentation instrumented}
+ * connection. Implementations are called on the thread that completes a command, typically the calling thread for
+ * imperative connections and a driver I/O thread for reactive connections, and therefore must be thread-safe and should
+ * not block. Implementations are encouraged to not allocate per recorded command.
+ * <p>
+ * Commands issued in a pipeline or transaction are not recorded individually. {@code EXEC} is recorded as command of its
+ * own.
+ *
+ * @author agent
+ * @since 3.0
+ * @see CommandInstrumentation
+ * @see HistogramCommandRecorder
+ */
+@FunctionalInterface
+public interface CommandRecorder {
+
+	/**
+	 * Record the execution of a Redis command.
+	 *
+	 * @param command the command name, e.g. {@code GET} or {@code HMSET}. Names of imperative commands are derived from
+	 *          the {@link org.springframework.data.redis.connection.RedisConnection} method name.
+	 * @param node the Redis node or connection target the command was sent to, e.g. {@code localhost:6379}.
+	 * @param keyPattern the key pattern as resolved by {@link KeyPatternResolver} for the first key of the command. Can be
+	 *          {@literal null} if the command has no key or no {@link KeyPatternResolver} is configured.
+	 * @param bytesSent number of key and value bytes sent with the command.
+	 * @param bytesReceived number of bytes received as command result for binary results.
+	 * @param durationNanos command duration in nanoseconds.
+	 * @param success {@literal true} if the command completed successfully; {@literal false} if it failed.
+	 */
+	void record(String command, String node, @Nullable String keyPattern, long bytesSent, long bytesReceived,
+			long durationNanos, boolean success);
+
+	/**
+	 * Return a composed {@link CommandRecorder} that records commands with this and the {@code other} recorder.
+	 *
+	 * @param other must not be {@literal null}.
+	 * @return the composed {@link CommandRecorder}.
+	 */
+	default CommandRecorder andThen(CommandRecorder other) {
+
+		Assert.notNull(other, "CommandRecorder must not be null!");
+
+		return (command, node, keyPattern, bytesSent, bytesReceived, durationNanos, success) -> {
+			record(command, node, keyPattern, bytesSent, bytesReceived, durationNanos, success);
+			other.record(command, node, keyPattern, bytesSent, bytesReceived, durationNanos, success);
+		};
+	}
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.Assert;
+
+/**
+ * Statistics of recorded commands sharing the same name, node or key pattern. Statistics consist of counters for
+ * executions, errors and transferred bytes and a latency histogram. Recording does not allocate. The histogram uses
+ * logarithmic buckets with four sub-buckets per power of two so that {@link #getPercentile(double) percentiles} are
+ * accurate within 25%.
+ *
+ * @author agent
+ * @since 3.0
+ * @see HistogramCommandRecorder
+ */
+public final class CommandStatistics {
+
+	private static final int SUB_BUCKET_BITS = 2;
+
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+	private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+	private final String name;
+
+	private final LongAdder count = new LongAdder();
+
+	private final LongAdder errors = new LongAdder();
+
+	private final LongAdder bytesSent = new LongAdder();
+
+	private final LongAdder bytesReceived = new LongAdder();
+
+	private final LongAdder totalTime = new LongAdder();
+
+	private final LongAccumulator maxTime = new LongAccumulator(Math::max, 0);
+
+	private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+	CommandStatistics(String name) {
+		this.name = name;
+	}
+
+	void record(long bytesSent, long bytesReceived, long durationNanos, boolean success) {
+
+		long duration = Math.max(0, durationNanos);
+
+		this.count.increment();
+		if (!success) {
+			this.errors.increment();
+		}
+		this.bytesSent.add(bytesSent);
+		this.bytesReceived.add(bytesReceived);
+		this.totalTime.add(duration);
+		this.maxTime.accumulate(duration);
+		this.histogram.incrementAndGet(bucketOf(duration));
+	}
+
+	void reset() {
+
+		count.reset();
+		errors.reset();
+		bytesSent.reset();
+		bytesReceived.reset();
+		totalTime.reset();
+		maxTime.reset();
+
+		for (int i = 0; i < BUCKETS; i++) {
+			histogram.set(i, 0);
+		}
+	}
+
+	/**
+	 * @return the command name, node or key pattern.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return number of recorded commands.
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * @return number of failed commands.
+	 */
+	public long getErrorCount() {
+		return errors.sum();
+	}
+
+	/**
+	 * @return ratio of failed commands between {@literal 0} and {@literal 1}.
+	 */
+	public double getErrorRate() {
+
+		long count = getCount();
+		return count == 0 ? 0 : (double) getErrorCount() / count;
+	}
+
+	/**
+	 * @return total number of bytes sent.
+	 */
+	public long getBytesSent() {
+		return bytesSent.sum();
+	}
+
+	/**
+	 * @return total number of bytes received.
+	 */
+	public long getBytesReceived() {
+		return bytesReceived.sum();
+	}
+
+	/**
+	 * @return total time spent in recorded commands.
+	 */
+	public Duration getTotalTime() {
+		return Duration.ofNanos(totalTime.sum());
+	}
+
+	/**
+	 * @return mean command duration.
+	 */
+	public Duration getMean() {
+
+		long count = getCount();
+		return count == 0 ? Duration.ZERO : Duration.ofNanos(totalTime.sum() / count);
+	}
+
+	/**
+	 * @return maximum command duration.
+	 */
+	public Duration getMax() {
+		return Duration.ofNanos(maxTime.get());
+	}
+
+	/**
+	 * Return the command duration at the given {@code percentile}, e.g. {@literal 0.99} for the 99th percentile. The
+	 * returned duration is the upper bound of the histogram bucket containing the percentile, limited to the
+	 * {@link #getMax() maximum duration}.
+	 *
+	 * @param percentile the percentile between {@literal 0} and {@literal 1}.
+	 * @return the command duration at the given {@code percentile}. {@link Duration#ZERO} if no commands were recorded.
+	 */
+	public Duration getPercentile(double percentile) {
+
+		Assert.isTrue(percentile >= 0 && percentile <= 1, "Percentile must be between 0 and 1");
+
+		long[] buckets = new long[BUCKETS];
+		long total = 0;
+
+		for (int i = 0; i < BUCKETS; i++) {
+			buckets[i] = histogram.get(i);
+			total += buckets[i];
+		}
+
+		if (total == 0) {
+			return Duration.ZERO;
+		}
+
+		long rank = Math.max(1, (long) Math.ceil(percentile * total));
+		long seen = 0;
+
+		for (int i = 0; i < BUCKETS; i++) {
+
+			seen += buckets[i];
+
+			if (seen >= rank) {
+				return Duration.ofNanos(Math.min(upperBoundOf(i), maxTime.get()));
+			}
+		}
+
+		return getMax();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s[count=%d, errors=%d, mean=%s, p99=%s, max=%s]", name, getCount(), getErrorCount(),
+				getMean(), getPercentile(0.99), getMax());
+	}
+
+	static int bucketOf(long value) {
+
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+
+	static long upperBoundOf(int bucket) {
+
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+
+		int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		long width = 1L << (exponent - SUB_BUCKET_BITS);
+		long lowerBound = (SUB_BUCKETS + bucket % SUB_BUCKETS) * width;
+
+		return lowerBound + width - 1;
+	}
+}
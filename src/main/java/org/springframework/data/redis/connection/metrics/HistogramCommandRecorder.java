@@ -0,0 +1,99 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link CommandRecorder} maintaining {@link CommandStatistics} with latency histograms per command name, per node and
+ * per key pattern. Recording a command does not allocate once statistics for its command name, node and key pattern
+ * have been created.
+ * <p>
+ * Statistics can be obtained at any time and reflect the commands recorded since creation or the last
+ * {@link #reset()}.
+ *
+ * <pre class="code">
+ * HistogramCommandRecorder recorder = new HistogramCommandRecorder();
+ * connectionFactory.setCommandInstrumentation(CommandInstrumentation.of(recorder));
+ *
+ * CommandStatistics get = recorder.getCommandStatistics().get("GET");
+ * Duration p99 = get.getPercentile(0.99);
+ * </pre>
+ *
+ * @author agent
+ * @since 3.0
+ */
+public class HistogramCommandRecorder implements CommandRecorder {
+
+	private final Map<String, CommandStatistics> commands = new ConcurrentHashMap<>();
+
+	private final Map<String, CommandStatistics> nodes = new ConcurrentHashMap<>();
+
+	private final Map<String, CommandStatistics> keyPatterns = new ConcurrentHashMap<>();
+
+	@Override
+	public void record(String command, String node, @Nullable String keyPattern, long bytesSent, long bytesReceived,
+			long durationNanos, boolean success) {
+
+		getStatistics(commands, command).record(bytesSent, bytesReceived, durationNanos, success);
+		getStatistics(nodes, node).record(bytesSent, bytesReceived, durationNanos, success);
+
+		if (keyPattern != null) {
+			getStatistics(keyPatterns, keyPattern).record(bytesSent, bytesReceived, durationNanos, success);
+		}
+	}
+
+	/**
+	 * @return statistics per command name. Never {@literal null}.
+	 */
+	public Map<String, CommandStatistics> getCommandStatistics() {
+		return Collections.unmodifiableMap(commands);
+	}
+
+	/**
+	 * @return statistics per node. Never {@literal null}.
+	 */
+	public Map<String, CommandStatistics> getNodeStatistics() {
+		return Collections.unmodifiableMap(nodes);
+	}
+
+	/**
+	 * @return statistics per key pattern. Empty if no {@link KeyPatternResolver} is configured. Never {@literal null}.
+	 */
+	public Map<String, CommandStatistics> getKeyPatternStatistics() {
+		return Collections.unmodifiableMap(keyPatterns);
+	}
+
+	/**
+	 * Reset all statistics.
+	 */
+	public void reset() {
+
+		commands.values().forEach(CommandStatistics::reset);
+		nodes.values().forEach(CommandStatistics::reset);
+		keyPatterns.values().forEach(CommandStatistics::reset);
+	}
+
+	private static CommandStatistics getStatistics(Map<String, CommandStatistics> statistics, String name) {
+
+		CommandStatistics result = statistics.get(name);
+		return result != null ? result : statistics.computeIfAbsent(name, CommandStatistics::new);
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Strategy to resolve a key pattern from a binary Redis key to break down command statistics by key pattern. Key
+ * patterns should have a low cardinality, e.g. the key prefix identifying the type of data stored under the key.
+ *
+ * @author agent
+ * @since 3.0
+ * @see CommandInstrumentation#keyPatterns(KeyPatternResolver)
+ */
+@FunctionalInterface
+public interface KeyPatternResolver {
+
+	/**
+	 * Resolve the key pattern for the given key.
+	 *
+	 * @param key the array holding the key.
+	 * @param offset offset of the key within {@code key}.
+	 * @param length length of the key.
+	 * @return the key pattern or {@literal null} if the key pattern cannot be resolved.
+	 */
+	@Nullable
+	String resolve(byte[] key, int offset, int length);
+
+	/**
+	 * Return a {@link KeyPatternResolver} using the key prefix up to the first occurrence of {@code delimiter} followed by
+	 * a {@code *} wildcard, e.g. {@code user:*} for the key {@code user:1234}. Keys that do not contain the delimiter
+	 * resolve to {@code *}.
+	 *
+	 * @param delimiter the delimiter separating the key prefix.
+	 * @return the {@link KeyPatternResolver}.
+	 */
+	static KeyPatternResolver prefix(char delimiter) {
+
+		return (key, offset, length) -> {
+
+			for (int i = offset; i < offset + length; i++) {
+				if (key[i] == delimiter) {
+					return new String(key, offset, i - offset + 1, StandardCharsets.UTF_8) + "*";
+				}
+			}
+
+			return "*";
+		};
+	}
+}
@@ -0,0 +1,6 @@
+/**
+ * Command-level instrumentation for Redis connections and built-in histogram-based recorders.
+ */
+@org.springframework.lang.NonNullApi
+@org.springframework.lang.NonNullFields
+package org.springframework.data.redis.connection.metrics;
@@ -18,6 +18,8 @@ package org.springframework.data.redis.connection.util;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.springframework.data.redis.connection.MessageListener;
 import org.springframework.data.redis.connection.RedisInvalidSubscriptionException;
@@ -37,6 +39,8 @@ public abstract class AbstractSubscription implements Subscription {
 
 	private final Collection<ByteArrayWrapper> channels = new ArrayList<>(2);
 	private final Collection<ByteArrayWrapper> patterns = new ArrayList<>(2);
+	private final Lock channelLock = new ReentrantLock();
+	private final Lock patternLock = new ReentrantLock();
 	private final AtomicBoolean alive = new AtomicBoolean(true);
 	private final MessageListener listener;
 
@@ -59,12 +63,8 @@ public abstract class AbstractSubscription implements Subscription {
 
 		this.listener = listener;
 
-		synchronized (this.channels) {
-			add(this.channels, channels);
-		}
-		synchronized (this.patterns) {
-			add(this.patterns, patterns);
-		}
+		add(this.channels, channels);
+		add(this.patterns, patterns);
 	}
 
 	/**
@@ -114,15 +114,21 @@ public abstract class AbstractSubscription implements Subscription {
 
 	@Override
 	public Collection<byte[]> getChannels() {
-		synchronized (channels) {
+		channelLock.lock();
+		try {
 			return clone(channels);
+		} finally {
+			channelLock.unlock();
 		}
 	}
 
 	@Override
 	public Collection<byte[]> getPatterns() {
-		synchronized (patterns) {
+		patternLock.lock();
+		try {
 			return clone(patterns);
+		} finally {
+			patternLock.unlock();
 		}
 	}
 
@@ -132,8 +138,11 @@ public abstract class AbstractSubscription implements Subscription {
 
 		Assert.notEmpty(patterns, "at least one pattern required");
 
-		synchronized (this.patterns) {
+		patternLock.lock();
+		try {
 			add(this.patterns, patterns);
+		} finally {
+			patternLock.unlock();
 		}
 
 		doPsubscribe(patterns);
@@ -150,8 +159,11 @@ public abstract class AbstractSubscription implements Subscription {
 
 		Assert.notEmpty(channels, "at least one channel required");
 
-		synchronized (this.channels) {
+		channelLock.lock();
+		try {
 			add(this.channels, channels);
+		} finally {
+			channelLock.unlock();
 		}
 
 		doSubscribe(channels);
@@ -171,10 +183,13 @@ public abstract class AbstractSubscription implements Subscription {
 		// shortcut for unsubscribing all patterns
 		if (ObjectUtils.isEmpty(patts)) {
 			if (!this.patterns.isEmpty()) {
-				synchronized (this.patterns) {
+				patternLock.lock();
+				try {
 					patts = getPatterns().toArray(new byte[this.patterns.size()][]);
 					doPUnsubscribe(true, patts);
 					this.patterns.clear();
+				} finally {
+					patternLock.unlock();
 				}
 			} else {
 				// nothing to unsubscribe from
@@ -182,8 +197,11 @@ public abstract class AbstractSubscription implements Subscription {
 			}
 		} else {
 			doPUnsubscribe(false, patts);
-			synchronized (this.patterns) {
+			patternLock.lock();
+			try {
 				remove(this.patterns, patts);
+			} finally {
+				patternLock.unlock();
 			}
 		}
 
@@ -199,10 +217,13 @@ public abstract class AbstractSubscription implements Subscription {
 		// shortcut for unsubscribing all channels
 		if (ObjectUtils.isEmpty(chans)) {
 			if (!this.channels.isEmpty()) {
-				synchronized (this.channels) {
+				channelLock.lock();
+				try {
 					chans = getChannels().toArray(new byte[this.channels.size()][]);
 					doUnsubscribe(true, chans);
 					this.channels.clear();
+				} finally {
+					channelLock.unlock();
 				}
 			} else {
 				// nothing to unsubscribe from
@@ -210,8 +231,11 @@ public abstract class AbstractSubscription implements Subscription {
 			}
 		} else {
 			doUnsubscribe(false, chans);
-			synchronized (this.channels) {
+			channelLock.lock();
+			try {
 				remove(this.channels, chans);
+			} finally {
+				channelLock.unlock();
 			}
 		}
 
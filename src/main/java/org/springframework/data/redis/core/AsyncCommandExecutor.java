@@ -0,0 +1,51 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.data.redis.connection.RedisConnection;
+
+/**
+ * Strategy to issue a single Redis command without awaiting its response. Used by the asynchronous operations
+ * implementations to run commands either on a pipelined connection or through the asynchronous API of the driver.
+ *
+ * @author agent
+ * @since 3.0
+ * @see DefaultPipelineSession
+ * @see AsyncRedisTemplate
+ */
+interface AsyncCommandExecutor {
+
+	/**
+	 * Issue a command returning a value.
+	 *
+	 * @param command the command to issue. Must invoke exactly one command method on the given {@link RedisConnection}.
+	 * @param converter function to convert the command result.
+	 * @return future completing with the converted result. {@literal null} command results are not converted.
+	 */
+	<R, T> CompletableFuture<T> execute(Function<RedisConnection, R> command, Function<R, T> converter);
+
+	/**
+	 * Issue a command that does not return a value.
+	 *
+	 * @param command the command to issue. Must invoke exactly one command method on the given {@link RedisConnection}.
+	 * @return future completing with {@literal null} once the command has been executed.
+	 */
+	CompletableFuture<Void> executeWithoutResult(Consumer<RedisConnection> command);
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Redis map specific operations working on a hash returning a {@link CompletableFuture} for each command. Futures
+ * complete with the deserialized command result.
+ *
+ * @author agent
+ * @since 3.0
+ * @see HashOperations
+ */
+public interface AsyncHashOperations<H, HK, HV> {
+
+	/**
+	 * Get value for given {@code hashKey} from hash at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param hashKey must not be {@literal null}.
+	 * @return future completing with the value or {@literal null} if the hash key does not exist.
+	 * @see <a href="https://redis.io/commands/hget">Redis Documentation: HGET</a>
+	 */
+	CompletableFuture<HV> get(H key, Object hashKey);
+
+	/**
+	 * Get values for given {@code hashKeys} from hash at {@code key}. Values are in the order of the requested keys.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param hashKeys must not be {@literal null}.
+	 * @return future completing with the values.
+	 * @see <a href="https://redis.io/commands/hmget">Redis Documentation: HMGET</a>
+	 */
+	CompletableFuture<List<HV>> multiGet(H key, Collection<HK> hashKeys);
+
+	/**
+	 * Set the {@code value} of a hash {@code hashKey}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param hashKey must not be {@literal null}.
+	 * @param value
+	 * @return future completing once the value was set.
+	 * @see <a href="https://redis.io/commands/hset">Redis Documentation: HSET</a>
+	 */
+	CompletableFuture<Void> put(H key, HK hashKey, HV value);
+
+	/**
+	 * Set the {@code value} of a hash {@code hashKey} only if {@code hashKey} does not exist.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param hashKey must not be {@literal null}.
+	 * @param value
+	 * @return future completing with {@literal true} if the value was set.
+	 * @see <a href="https://redis.io/commands/hsetnx">Redis Documentation: HSETNX</a>
+	 */
+	CompletableFuture<Boolean> putIfAbsent(H key, HK hashKey, HV value);
+
+	/**
+	 * Set multiple hash fields to multiple values using data provided in {@code m}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param m must not be {@literal null}.
+	 * @return future completing once the values were set.
+	 * @see <a href="https://redis.io/commands/hmset">Redis Documentation: HMSET</a>
+	 */
+	CompletableFuture<Void> putAll(H key, Map<? extends HK, ? extends HV> m);
+
+	/**
+	 * Delete given hash {@code hashKeys}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param hashKeys must not be {@literal null}.
+	 * @return future completing with the number of removed fields.
+	 * @see <a href="https://redis.io/commands/hdel">Redis Documentation: HDEL</a>
+	 */
+	CompletableFuture<Long> delete(H key, Object... hashKeys);
+
+	/**
+	 * Determine if given hash {@code hashKey} exists.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param hashKey must not be {@literal null}.
+	 * @return future completing with {@literal true} if the hash key exists.
+	 * @see <a href="https://redis.io/commands/hexists">Redis Documentation: HEXISTS</a>
+	 */
+	CompletableFuture<Boolean> hasKey(H key, Object hashKey);
+
+	/**
+	 * Increment {@code value} of a hash {@code hashKey} by the given {@code delta}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param hashKey must not be {@literal null}.
+	 * @param delta
+	 * @return future completing with the value after the increment.
+	 * @see <a href="https://redis.io/commands/hincrby">Redis Documentation: HINCRBY</a>
+	 */
+	CompletableFuture<Long> increment(H key, HK hashKey, long delta);
+
+	/**
+	 * Get key set (fields) of hash at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return future completing with the hash keys.
+	 * @see <a href="https://redis.io/commands/hkeys">Redis Documentation: HKEYS</a>
+	 */
+	CompletableFuture<Set<HK>> keys(H key);
+
+	/**
+	 * Get entry set (values) of hash at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return future completing with the hash values.
+	 * @see <a href="https://redis.io/commands/hvals">Redis Documentation: HVALS</a>
+	 */
+	CompletableFuture<List<HV>> values(H key);
+
+	/**
+	 * Get entire hash stored at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return future completing with the hash entries.
+	 * @see <a href="https://redis.io/commands/hgetall">Redis Documentation: HGETALL</a>
+	 */
+	CompletableFuture<Map<HK, HV>> entries(H key);
+
+	/**
+	 * Get size of hash at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return future completing with the number of fields.
+	 * @see <a href="https://redis.io/commands/hlen">Redis Documentation: HLEN</a>
+	 */
+	CompletableFuture<Long> size(H key);
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Redis list specific operations returning a {@link CompletableFuture} for each command. Futures complete with the
+ * deserialized command result.
+ *
+ * @author agent
+ * @since 3.0
+ * @see ListOperations
+ */
+public interface AsyncListOperations<K, V> {
+
+	/**
+	 * Prepend {@code value} to {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value
+	 * @return future completing with the length of the list after the push operation.
+	 * @see <a href="https://redis.io/commands/lpush">Redis Documentation: LPUSH</a>
+	 */
+	CompletableFuture<Long> leftPush(K key, V value);
+
+	/**
+	 * Prepend {@code values} to {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param values
+	 * @return future completing with the length of the list after the push operation.
+	 * @see <a href="https://redis.io/commands/lpush">Redis Documentation: LPUSH</a>
+	 */
+	CompletableFuture<Long> leftPushAll(K key, V... values);
+
+	/**
+	 * Append {@code value} to {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value
+	 * @return future completing with the length of the list after the push operation.
+	 * @see <a href="https://redis.io/commands/rpush">Redis Documentation: RPUSH</a>
+	 */
+	CompletableFuture<Long> rightPush(K key, V value);
+
+	/**
+	 * Append {@code values} to {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param values
+	 * @return future completing with the length of the list after the push operation.
+	 * @see <a href="https://redis.io/commands/rpush">Redis Documentation: RPUSH</a>
+	 */
+	CompletableFuture<Long> rightPushAll(K key, V... values);
+
+	/**
+	 * Removes and returns first element in list stored at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return future completing with the element or {@literal null} if the list is empty.
+	 * @see <a href="https://redis.io/commands/lpop">Redis Documentation: LPOP</a>
+	 */
+	CompletableFuture<V> leftPop(K key);
+
+	/**
+	 * Removes and returns last element in list stored at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return future completing with the element or {@literal null} if the list is empty.
+	 * @see <a href="https://redis.io/commands/rpop">Redis Documentation: RPOP</a>
+	 */
+	CompletableFuture<V> rightPop(K key);
+
+	/**
+	 * Get elements between {@code start} and {@code end} from list at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param start
+	 * @param end
+	 * @return future completing with the elements.
+	 * @see <a href="https://redis.io/commands/lrange">Redis Documentation: LRANGE</a>
+	 */
+	CompletableFuture<List<V>> range(K key, long start, long end);
+
+	/**
+	 * Get element at {@code index} form list at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param index
+	 * @return future completing with the element or {@literal null} if the index is out of range.
+	 * @see <a href="https://redis.io/commands/lindex">Redis Documentation: LINDEX</a>
+	 */
+	CompletableFuture<V> index(K key, long index);
+
+	/**
+	 * Get the size of list stored at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return future completing with the size of the list.
+	 * @see <a href="https://redis.io/commands/llen">Redis Documentation: LLEN</a>
+	 */
+	CompletableFuture<Long> size(K key);
+
+	/**
+	 * Trim list at {@code key} to elements between {@code start} and {@code end}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param start
+	 * @param end
+	 * @return future completing once the list was trimmed.
+	 * @see <a href="https://redis.io/commands/ltrim">Redis Documentation: LTRIM</a>
+	 */
+	CompletableFuture<Void> trim(K key, long start, long end);
+
+	/**
+	 * Removes the first {@code count} occurrences of {@code value} from the list stored at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param count
+	 * @param value
+	 * @return future completing with the number of removed elements.
+	 * @see <a href="https://redis.io/commands/lrem">Redis Documentation: LREM</a>
+	 */
+	CompletableFuture<Long> remove(K key, long count, Object value);
+}
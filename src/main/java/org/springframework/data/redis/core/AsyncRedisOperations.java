@@ -0,0 +1,116 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interface that specifies a basic set of Redis operations returning a {@link CompletableFuture} for each command
+ * instead of blocking until the command response is received. Keys and values are serialized using the serializers of
+ * the underlying {@link RedisTemplate}.
+ *
+ * @author agent
+ * @since 3.0
+ * @see AsyncRedisTemplate
+ * @see RedisOperations
+ */
+public interface AsyncRedisOperations<K, V> {
+
+	/**
+	 * Returns the operations performed on simple values (or Strings in Redis terminology).
+	 *
+	 * @return value operations.
+	 */
+	AsyncValueOperations<K, V> opsForValue();
+
+	/**
+	 * Returns the operations performed on hash values.
+	 *
+	 * @param <HK> hash key (or field) type
+	 * @param <HV> hash value type
+	 * @return hash operations.
+	 */
+	<HK, HV> AsyncHashOperations<K, HK, HV> opsForHash();
+
+	/**
+	 * Returns the operations performed on list values.
+	 *
+	 * @return list operations.
+	 */
+	AsyncListOperations<K, V> opsForList();
+
+	/**
+	 * Returns the operations performed on set values.
+	 *
+	 * @return set operations.
+	 */
+	AsyncSetOperations<K, V> opsForSet();
+
+	/**
+	 * Returns the operations performed on zset values (also known as sorted sets).
+	 *
+	 * @return zset operations.
+	 */
+	AsyncZSetOperations<K, V> opsForZSet();
+
+	/**
+	 * Returns the operations performed on streams.
+	 *
+	 * @param <HK> hash key (or field) type
+	 * @param <HV> hash value type
+	 * @return stream operations.
+	 */
+	<HK, HV> AsyncStreamOperations<K, HK, HV> opsForStream();
+
+	/**
+	 * Delete given {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return future completing with {@literal true} if the key was removed.
+	 * @see <a href="https://redis.io/commands/del">Redis Documentation: DEL</a>
+	 */
+	CompletableFuture<Boolean> delete(K key);
+
+	/**
+	 * Delete given {@code keys}.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @return future completing with the number of keys that were removed.
+	 * @see <a href="https://redis.io/commands/del">Redis Documentation: DEL</a>
+	 */
+	CompletableFuture<Long> delete(Collection<K> keys);
+
+	/**
+	 * Determine if given {@code key} exists.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return future completing with {@literal true} if the key exists.
+	 * @see <a href="https://redis.io/commands/exists">Redis Documentation: EXISTS</a>
+	 */
+	CompletableFuture<Boolean> hasKey(K key);
+
+	/**
+	 * Set time to live for given {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param timeout must not be {@literal null}.
+	 * @return future completing with {@literal true} if the timeout was set.
+	 * @see <a href="https://redis.io/commands/pexpire">Redis Documentation: PEXPIRE</a>
+	 */
+	CompletableFuture<Boolean> expire(K key, Duration timeout);
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.AsyncRedisConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AsyncRedisOperations} implementation issuing commands through the asynchronous API of Lettuce. Commands are
+ * sent on the shared native connection of a {@link LettuceConnectionFactory} without awaiting their response so that
+ * many commands can be in flight concurrently. Returned futures complete with the deserialized result once the
+ * response is received, on the I/O thread of the driver. Callers should therefore not block within dependent stages
+ * but rather use {@code …Async} methods with an own {@link java.util.concurrent.Executor}.
+ * <p>
+ * Keys and values are serialized with the serializers of the {@link RedisTemplate} this template is created from.
+ * Failures are translated into {@link org.springframework.dao.DataAccessException}.
+ * <p>
+ * {@link AsyncRedisTemplate} is thread-safe once constructed. It requires a {@link LettuceConnectionFactory} with
+ * {@link LettuceConnectionFactory#setShareNativeConnection(boolean) native connection sharing} enabled. Enable
+ * {@link LettuceConnectionFactory#setAutoBatchingPolicy auto-batching} to coalesce writes of concurrently issued commands.
+ * Commands are issued through the connection obtained from the connection factory so that connection decorators such
+ * as {@link org.springframework.data.redis.connection.metrics.CommandInstrumentation} observe them.
+ *
+ * @author agent
+ * @since 3.0
+ * @see AsyncRedisConnection#executeAsync(Function)
+ */
+public class AsyncRedisTemplate<K, V> implements AsyncRedisOperations<K, V>, AsyncCommandExecutor {
+
+	private final LettuceConnectionFactory connectionFactory;
+
+	private final DefaultAsyncValueOperations<K, V> valueOps;
+
+	private final AsyncHashOperations<K, ?, ?> hashOps;
+
+	private final AsyncListOperations<K, V> listOps;
+
+	private final AsyncSetOperations<K, V> setOps;
+
+	private final AsyncZSetOperations<K, V> zSetOps;
+
+	private final AsyncStreamOperations<K, ?, ?> streamOps;
+
+	/**
+	 * Creates a new {@link AsyncRedisTemplate} using the connection factory and serializers of the given
+	 * {@link RedisTemplate}. The template must be {@link RedisTemplate#afterPropertiesSet() initialized}.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @throws IllegalArgumentException if the connection factory of {@code template} is not a
+	 *           {@link LettuceConnectionFactory} sharing its native connection.
+	 */
+	public AsyncRedisTemplate(RedisTemplate<K, V> template) {
+
+		Assert.notNull(template, "RedisTemplate must not be null!");
+
+		RedisConnectionFactory connectionFactory = template.getRequiredConnectionFactory();
+
+		Assert.isInstanceOf(LettuceConnectionFactory.class, connectionFactory,
+				"AsyncRedisTemplate requires a LettuceConnectionFactory");
+
+		this.connectionFactory = (LettuceConnectionFactory) connectionFactory;
+
+		Assert.isTrue(this.connectionFactory.getShareNativeConnection(),
+				"AsyncRedisTemplate requires LettuceConnectionFactory to share its native connection");
+
+		this.valueOps = new DefaultAsyncValueOperations<>(template, this);
+		this.hashOps = new DefaultAsyncHashOperations<>(template, this);
+		this.listOps = new DefaultAsyncListOperations<>(template, this);
+		this.setOps = new DefaultAsyncSetOperations<>(template, this);
+		this.zSetOps = new DefaultAsyncZSetOperations<>(template, this);
+		this.streamOps = new DefaultAsyncStreamOperations<>(template, this);
+	}
+
+	@Override
+	public AsyncValueOperations<K, V> opsForValue() {
+		return valueOps;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <HK, HV> AsyncHashOperations<K, HK, HV> opsForHash() {
+		return (AsyncHashOperations<K, HK, HV>) hashOps;
+	}
+
+	@Override
+	public AsyncListOperations<K, V> opsForList() {
+		return listOps;
+	}
+
+	@Override
+	public AsyncSetOperations<K, V> opsForSet() {
+		return setOps;
+	}
+
+	@Override
+	public AsyncZSetOperations<K, V> opsForZSet() {
+		return zSetOps;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <HK, HV> AsyncStreamOperations<K, HK, HV> opsForStream() {
+		return (AsyncStreamOperations<K, HK, HV>) streamOps;
+	}
+
+	@Override
+	public CompletableFuture<Boolean> delete(K key) {
+
+		byte[] rawKey = valueOps.rawKey(key);
+		return execute(connection -> connection.keyCommands().del(rawKey), deleted -> deleted > 0);
+	}
+
+	@Override
+	public CompletableFuture<Long> delete(Collection<K> keys) {
+
+		Assert.notNull(keys, "Keys must not be null!");
+
+		byte[][] rawKeys = keys.stream().map(valueOps::rawKey).toArray(byte[][]::new);
+		return execute(connection -> connection.keyCommands().del(rawKeys), Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Boolean> hasKey(K key) {
+
+		byte[] rawKey = valueOps.rawKey(key);
+		return execute(connection -> connection.keyCommands().exists(new byte[][] { rawKey }), count -> count > 0);
+	}
+
+	@Override
+	public CompletableFuture<Boolean> expire(K key, Duration timeout) {
+
+		Assert.notNull(timeout, "Timeout must not be null!");
+
+		byte[] rawKey = valueOps.rawKey(key);
+		return execute(connection -> connection.keyCommands().pExpire(rawKey, timeout.toMillis()), Function.identity());
+	}
+
+	@Override
+	public <R, T> CompletableFuture<T> execute(Function<RedisConnection, R> command, Function<R, T> converter) {
+		return doExecute(command).thenApply(result -> result == null ? null : converter.apply(result));
+	}
+
+	@Override
+	public CompletableFuture<Void> executeWithoutResult(Consumer<RedisConnection> command) {
+
+		return doExecute(connection -> {
+			command.accept(connection);
+			return null;
+		}).thenApply(result -> null);
+	}
+
+	private <R> CompletableFuture<R> doExecute(Function<RedisConnection, R> command) {
+
+		RedisConnection connection = connectionFactory.getConnection();
+
+		try {
+			return getAsyncConnection(connection).executeAsync(command);
+		} finally {
+			connection.close();
+		}
+	}
+
+	private static AsyncRedisConnection getAsyncConnection(RedisConnection connection) {
+
+		if (connection instanceof AsyncRedisConnection) {
+			return (AsyncRedisConnection) connection;
+		}
+
+		throw new InvalidDataAccessApiUsageException("Connection does not support asynchronous command execution");
+	}
+}
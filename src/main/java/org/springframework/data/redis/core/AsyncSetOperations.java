@@ -0,0 +1,87 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Redis set specific operations returning a {@link CompletableFuture} for each command. Futures complete with the
+ * deserialized command result.
+ *
+ * @author agent
+ * @since 3.0
+ * @see SetOperations
+ */
+public interface AsyncSetOperations<K, V> {
+
+	/**
+	 * Add given {@code values} to set at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param values
+	 * @return future completing with the number of added elements.
+	 * @see <a href="https://redis.io/commands/sadd">Redis Documentation: SADD</a>
+	 */
+	CompletableFuture<Long> add(K key, V... values);
+
+	/**
+	 * Remove given {@code values} from set at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param values
+	 * @return future completing with the number of removed elements.
+	 * @see <a href="https://redis.io/commands/srem">Redis Documentation: SREM</a>
+	 */
+	CompletableFuture<Long> remove(K key, Object... values);
+
+	/**
+	 * Remove and return a random member from set at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return future completing with the removed member or {@literal null} if the set is empty.
+	 * @see <a href="https://redis.io/commands/spop">Redis Documentation: SPOP</a>
+	 */
+	CompletableFuture<V> pop(K key);
+
+	/**
+	 * Get all elements of set at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return future completing with the members.
+	 * @see <a href="https://redis.io/commands/smembers">Redis Documentation: SMEMBERS</a>
+	 */
+	CompletableFuture<Set<V>> members(K key);
+
+	/**
+	 * Check if set at {@code key} contains {@code value}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param o
+	 * @return future completing with {@literal true} if the value is a member.
+	 * @see <a href="https://redis.io/commands/sismember">Redis Documentation: SISMEMBER</a>
+	 */
+	CompletableFuture<Boolean> isMember(K key, Object o);
+
+	/**
+	 * Get size of set at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return future completing with the number of members.
+	 * @see <a href="https://redis.io/commands/scard">Redis Documentation: SCARD</a>
+	 */
+	CompletableFuture<Long> size(K key);
+}
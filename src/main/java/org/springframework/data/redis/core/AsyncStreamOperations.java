@@ -0,0 +1,158 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+
+/**
+ * Redis stream specific operations returning a {@link CompletableFuture} for each command. Blocking reads are not
+ * supported as commands do not use a dedicated connection.
+ *
+ * @author agent
+ * @since 3.0
+ * @see StreamOperations
+ */
+public interface AsyncStreamOperations<K, HK, HV> {
+
+	/**
+	 * Append a record to the stream {@code key}.
+	 *
+	 * @param key the stream key.
+	 * @param content record content as Map.
+	 * @return future completing with the {@link RecordId id}.
+	 * @see <a href="https://redis.io/commands/xadd">Redis Documentation: XADD</a>
+	 */
+	default CompletableFuture<RecordId> add(K key, Map<? extends HK, ? extends HV> content) {
+		return add(StreamRecords.newRecord().in(key).ofMap(content));
+	}
+
+	/**
+	 * Append a record to the stream {@code key}.
+	 *
+	 * @param record the record to append.
+	 * @return future completing with the {@link RecordId id}.
+	 * @see <a href="https://redis.io/commands/xadd">Redis Documentation: XADD</a>
+	 */
+	CompletableFuture<RecordId> add(MapRecord<K, ? extends HK, ? extends HV> record);
+
+	/**
+	 * Acknowledge one or more records as processed.
+	 *
+	 * @param key the stream key.
+	 * @param group name of the consumer group.
+	 * @param recordIds record id's to acknowledge.
+	 * @return future completing with the number of acknowledged records.
+	 * @see <a href="https://redis.io/commands/xack">Redis Documentation: XACK</a>
+	 */
+	CompletableFuture<Long> acknowledge(K key, String group, String... recordIds);
+
+	/**
+	 * Removes the specified records from the stream.
+	 *
+	 * @param key the stream key.
+	 * @param recordIds stream record Id's.
+	 * @return future completing with the number of removed entries.
+	 * @see <a href="https://redis.io/commands/xdel">Redis Documentation: XDEL</a>
+	 */
+	CompletableFuture<Long> delete(K key, String... recordIds);
+
+	/**
+	 * Create a consumer group. Creates the stream if it does not exist.
+	 *
+	 * @param key the stream key.
+	 * @param readOffset the {@link ReadOffset} to apply.
+	 * @param group name of the consumer group.
+	 * @return future completing with {@literal OK} if successful.
+	 * @see <a href="https://redis.io/commands/xgroup">Redis Documentation: XGROUP</a>
+	 */
+	CompletableFuture<String> createGroup(K key, ReadOffset readOffset, String group);
+
+	/**
+	 * Get the length of a stream.
+	 *
+	 * @param key the stream key.
+	 * @return future completing with the length of the stream.
+	 * @see <a href="https://redis.io/commands/xlen">Redis Documentation: XLEN</a>
+	 */
+	CompletableFuture<Long> size(K key);
+
+	/**
+	 * Read records from a stream within a specific {@link Range}.
+	 *
+	 * @param key the stream key.
+	 * @param range must not be {@literal null}.
+	 * @return future completing with list of records.
+	 * @see <a href="https://redis.io/commands/xrange">Redis Documentation: XRANGE</a>
+	 */
+	default CompletableFuture<List<MapRecord<K, HK, HV>>> range(K key, Range<String> range) {
+		return range(key, range, Limit.unlimited());
+	}
+
+	/**
+	 * Read records from a stream within a specific {@link Range} applying a {@link Limit}.
+	 *
+	 * @param key the stream key.
+	 * @param range must not be {@literal null}.
+	 * @param limit must not be {@literal null}.
+	 * @return future completing with list of records.
+	 * @see <a href="https://redis.io/commands/xrange">Redis Documentation: XRANGE</a>
+	 */
+	CompletableFuture<List<MapRecord<K, HK, HV>>> range(K key, Range<String> range, Limit limit);
+
+	/**
+	 * Read records from one or more {@link StreamOffset}s.
+	 *
+	 * @param readOptions read arguments. Must not be {@literal null} and must not be blocking.
+	 * @param streams the streams to read from.
+	 * @return future completing with list of records.
+	 * @see <a href="https://redis.io/commands/xread">Redis Documentation: XREAD</a>
+	 */
+	CompletableFuture<List<MapRecord<K, HK, HV>>> read(StreamReadOptions readOptions, StreamOffset<K>... streams);
+
+	/**
+	 * Read records from one or more {@link StreamOffset}s using a consumer group.
+	 *
+	 * @param consumer consumer/group.
+	 * @param readOptions read arguments. Must not be {@literal null} and must not be blocking.
+	 * @param streams the streams to read from.
+	 * @return future completing with list of records.
+	 * @see <a href="https://redis.io/commands/xreadgroup">Redis Documentation: XREADGROUP</a>
+	 */
+	CompletableFuture<List<MapRecord<K, HK, HV>>> read(Consumer consumer, StreamReadOptions readOptions,
+			StreamOffset<K>... streams);
+
+	/**
+	 * Trims the stream to {@code count} elements.
+	 *
+	 * @param key the stream key.
+	 * @param count length of the stream.
+	 * @return future completing with the number of removed entries.
+	 * @see <a href="https://redis.io/commands/xtrim">Redis Documentation: XTRIM</a>
+	 */
+	CompletableFuture<Long> trim(K key, long count);
+}
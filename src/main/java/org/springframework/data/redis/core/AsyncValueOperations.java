@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Redis operations for simple (or in Redis terminology 'string') values returning a {@link CompletableFuture} for each
+ * command. Futures complete with the deserialized command result.
+ *
+ * @author agent
+ * @since 3.0
+ * @see ValueOperations
+ */
+public interface AsyncValueOperations<K, V> {
+
+	/**
+	 * Set {@code value} for {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @return future completing once the value was set.
+	 * @see <a href="https://redis.io/commands/set">Redis Documentation: SET</a>
+	 */
+	CompletableFuture<Void> set(K key, V value);
+
+	/**
+	 * Set the {@code value} and expiration {@code timeout} for {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @param timeout must not be {@literal null}.
+	 * @return future completing once the value was set.
+	 * @see <a href="https://redis.io/commands/set">Redis Documentation: SET</a>
+	 */
+	CompletableFuture<Void> set(K key, V value, Duration timeout);
+
+	/**
+	 * Set {@code key} to hold the string {@code value} if {@code key} is absent.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @return future completing with {@literal true} if the value was set.
+	 * @see <a href="https://redis.io/commands/setnx">Redis Documentation: SETNX</a>
+	 */
+	CompletableFuture<Boolean> setIfAbsent(K key, V value);
+
+	/**
+	 * Set {@code key} to hold the string {@code value} and expiration {@code timeout} if {@code key} is absent.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @param timeout must not be {@literal null}.
+	 * @return future completing with {@literal true} if the value was set.
+	 * @see <a href="https://redis.io/commands/set">Redis Documentation: SET</a>
+	 */
+	CompletableFuture<Boolean> setIfAbsent(K key, V value, Duration timeout);
+
+	/**
+	 * Get the value of {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return future completing with the value or {@literal null} when key does not exist.
+	 * @see <a href="https://redis.io/commands/get">Redis Documentation: GET</a>
+	 */
+	CompletableFuture<V> get(Object key);
+
+	/**
+	 * Set {@code value} of {@code key} and return its old value.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value must not be {@literal null}.
+	 * @return future completing with the old value or {@literal null} when key did not exist.
+	 * @see <a href="https://redis.io/commands/getset">Redis Documentation: GETSET</a>
+	 */
+	CompletableFuture<V> getAndSet(K key, V value);
+
+	/**
+	 * Get multiple {@code keys}. Values are in the order of the requested keys. Absent field values are represented
+	 * using {@literal null} in the resulting {@link List}.
+	 *
+	 * @param keys must not be {@literal null}.
+	 * @return future completing with the values.
+	 * @see <a href="https://redis.io/commands/mget">Redis Documentation: MGET</a>
+	 */
+	CompletableFuture<List<V>> multiGet(Collection<K> keys);
+
+	/**
+	 * Increment an integer value stored as string value under {@code key} by one.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return future completing with the value after the increment.
+	 * @see <a href="https://redis.io/commands/incr">Redis Documentation: INCR</a>
+	 */
+	CompletableFuture<Long> increment(K key);
+
+	/**
+	 * Increment an integer value stored as string value under {@code key} by {@code delta}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param delta
+	 * @return future completing with the value after the increment.
+	 * @see <a href="https://redis.io/commands/incrby">Redis Documentation: INCRBY</a>
+	 */
+	CompletableFuture<Long> increment(K key, long delta);
+
+	/**
+	 * Decrement an integer value stored as string value under {@code key} by one.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return future completing with the value after the decrement.
+	 * @see <a href="https://redis.io/commands/decr">Redis Documentation: DECR</a>
+	 */
+	CompletableFuture<Long> decrement(K key);
+
+	/**
+	 * Decrement an integer value stored as string value under {@code key} by {@code delta}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param delta
+	 * @return future completing with the value after the decrement.
+	 * @see <a href="https://redis.io/commands/decrby">Redis Documentation: DECRBY</a>
+	 */
+	CompletableFuture<Long> decrement(K key, long delta);
+
+	/**
+	 * Get the length of the value stored at {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return future completing with the length of the value.
+	 * @see <a href="https://redis.io/commands/strlen">Redis Documentation: STRLEN</a>
+	 */
+	CompletableFuture<Long> size(K key);
+}
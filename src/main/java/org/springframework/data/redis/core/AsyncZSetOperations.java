@@ -0,0 +1,158 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+/**
+ * Redis ZSet/sorted set specific operations returning a {@link CompletableFuture} for each command. Futures complete
+ * with the deserialized command result.
+ *
+ * @author agent
+ * @since 3.0
+ * @see ZSetOperations
+ */
+public interface AsyncZSetOperations<K, V> {
+
+	/**
+	 * Add {@code value} to a sorted set at {@code key}, or update its {@code score} if it already exists.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value the value.
+	 * @param score the score.
+	 * @return future completing with {@literal true} if the value was added.
+	 * @see <a href="https://redis.io/commands/zadd">Redis Documentation: ZADD</a>
+	 */
+	CompletableFuture<Boolean> add(K key, V value, double score);
+
+	/**
+	 * Increment the score of element with {@code value} in sorted set by {@code increment}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param value the value.
+	 * @param delta the increment.
+	 * @return future completing with the score after the increment.
+	 * @see <a href="https://redis.io/commands/zincrby">Redis Documentation: ZINCRBY</a>
+	 */
+	CompletableFuture<Double> incrementScore(K key, V value, double delta);
+
+	/**
+	 * Remove {@code values} from sorted set.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param values must not be {@literal null}.
+	 * @return future completing with the number of removed elements.
+	 * @see <a href="https://redis.io/commands/zrem">Redis Documentation: ZREM</a>
+	 */
+	CompletableFuture<Long> remove(K key, Object... values);
+
+	/**
+	 * Get the score of element with {@code value} from sorted set with key {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param o the value.
+	 * @return future completing with the score or {@literal null} if the value is not a member.
+	 * @see <a href="https://redis.io/commands/zscore">Redis Documentation: ZSCORE</a>
+	 */
+	CompletableFuture<Double> score(K key, Object o);
+
+	/**
+	 * Determine the index of element with {@code value} in a sorted set.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param o the value.
+	 * @return future completing with the rank or {@literal null} if the value is not a member.
+	 * @see <a href="https://redis.io/commands/zrank">Redis Documentation: ZRANK</a>
+	 */
+	CompletableFuture<Long> rank(K key, Object o);
+
+	/**
+	 * Determine the index of element with {@code value} in a sorted set when scored high to low.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param o the value.
+	 * @return future completing with the rank or {@literal null} if the value is not a member.
+	 * @see <a href="https://redis.io/commands/zrevrank">Redis Documentation: ZREVRANK</a>
+	 */
+	CompletableFuture<Long> reverseRank(K key, Object o);
+
+	/**
+	 * Get elements between {@code start} and {@code end} from sorted set.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param start
+	 * @param end
+	 * @return future completing with the elements.
+	 * @see <a href="https://redis.io/commands/zrange">Redis Documentation: ZRANGE</a>
+	 */
+	CompletableFuture<Set<V>> range(K key, long start, long end);
+
+	/**
+	 * Get set of {@link TypedTuple}s between {@code start} and {@code end} from sorted set.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param start
+	 * @param end
+	 * @return future completing with the elements and their scores.
+	 * @see <a href="https://redis.io/commands/zrange">Redis Documentation: ZRANGE</a>
+	 */
+	CompletableFuture<Set<TypedTuple<V>>> rangeWithScores(K key, long start, long end);
+
+	/**
+	 * Get elements where score is between {@code min} and {@code max} from sorted set.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param min
+	 * @param max
+	 * @return future completing with the elements.
+	 * @see <a href="https://redis.io/commands/zrangebyscore">Redis Documentation: ZRANGEBYSCORE</a>
+	 */
+	CompletableFuture<Set<V>> rangeByScore(K key, double min, double max);
+
+	/**
+	 * Get elements in range from {@code start} to {@code end} from sorted set ordered from high to low.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param start
+	 * @param end
+	 * @return future completing with the elements.
+	 * @see <a href="https://redis.io/commands/zrevrange">Redis Documentation: ZREVRANGE</a>
+	 */
+	CompletableFuture<Set<V>> reverseRange(K key, long start, long end);
+
+	/**
+	 * Count number of elements within sorted set with scores between {@code min} and {@code max}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @param min
+	 * @param max
+	 * @return future completing with the number of elements.
+	 * @see <a href="https://redis.io/commands/zcount">Redis Documentation: ZCOUNT</a>
+	 */
+	CompletableFuture<Long> count(K key, double min, double max);
+
+	/**
+	 * Get the size of sorted set with {@code key}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return future completing with the number of elements.
+	 * @see <a href="https://redis.io/commands/zcard">Redis Documentation: ZCARD</a>
+	 */
+	CompletableFuture<Long> size(K key);
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * {@link AsyncHashOperations} implementation issuing commands through an {@link AsyncCommandExecutor}.
+ *
+ * @author agent
+ * @since 3.0
+ */
+class DefaultAsyncHashOperations<K, HK, HV> extends AbstractOperations<K, Object>
+		implements AsyncHashOperations<K, HK, HV> {
+
+	private final AsyncCommandExecutor executor;
+
+	@SuppressWarnings("unchecked")
+	DefaultAsyncHashOperations(RedisTemplate<K, ?> template, AsyncCommandExecutor executor) {
+
+		super((RedisTemplate<K, Object>) template);
+		this.executor = executor;
+	}
+
+	@Override
+	public CompletableFuture<HV> get(K key, Object hashKey) {
+
+		byte[] rawKey = rawKey(key);
+		byte[] rawHashKey = rawHashKey(hashKey);
+		return executor.execute(connection -> connection.hashCommands().hGet(rawKey, rawHashKey),
+				this::deserializeHashValue);
+	}
+
+	@Override
+	public CompletableFuture<List<HV>> multiGet(K key, Collection<HK> hashKeys) {
+
+		byte[] rawKey = rawKey(key);
+		byte[][] rawHashKeys = hashKeys.stream().map(this::rawHashKey).toArray(byte[][]::new);
+		return executor.execute(connection -> connection.hashCommands().hMGet(rawKey, rawHashKeys),
+				this::deserializeHashValues);
+	}
+
+	@Override
+	public CompletableFuture<Void> put(K key, HK hashKey, HV value) {
+
+		byte[] rawKey = rawKey(key);
+		byte[] rawHashKey = rawHashKey(hashKey);
+		byte[] rawHashValue = rawHashValue(value);
+		return executor.execute(connection -> connection.hashCommands().hSet(rawKey, rawHashKey, rawHashValue),
+				result -> null);
+	}
+
+	@Override
+	public CompletableFuture<Boolean> putIfAbsent(K key, HK hashKey, HV value) {
+
+		byte[] rawKey = rawKey(key);
+		byte[] rawHashKey = rawHashKey(hashKey);
+		byte[] rawHashValue = rawHashValue(value);
+		return executor.execute(connection -> connection.hashCommands().hSetNX(rawKey, rawHashKey, rawHashValue),
+				Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Void> putAll(K key, Map<? extends HK, ? extends HV> m) {
+
+		byte[] rawKey = rawKey(key);
+		Map<byte[], byte[]> hashes = new java.util.LinkedHashMap<>(m.size());
+
+		for (Map.Entry<? extends HK, ? extends HV> entry : m.entrySet()) {
+			hashes.put(rawHashKey(entry.getKey()), rawHashValue(entry.getValue()));
+		}
+
+		return executor.executeWithoutResult(connection -> connection.hashCommands().hMSet(rawKey, hashes));
+	}
+
+	@Override
+	public CompletableFuture<Long> delete(K key, Object... hashKeys) {
+
+		byte[] rawKey = rawKey(key);
+		byte[][] rawHashKeys = rawHashKeys(hashKeys);
+		return executor.execute(connection -> connection.hashCommands().hDel(rawKey, rawHashKeys), Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Boolean> hasKey(K key, Object hashKey) {
+
+		byte[] rawKey = rawKey(key);
+		byte[] rawHashKey = rawHashKey(hashKey);
+		return executor.execute(connection -> connection.hashCommands().hExists(rawKey, rawHashKey),
+				Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Long> increment(K key, HK hashKey, long delta) {
+
+		byte[] rawKey = rawKey(key);
+		byte[] rawHashKey = rawHashKey(hashKey);
+		return executor.execute(connection -> connection.hashCommands().hIncrBy(rawKey, rawHashKey, delta),
+				Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Set<HK>> keys(K key) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.hashCommands().hKeys(rawKey), this::deserializeHashKeys);
+	}
+
+	@Override
+	public CompletableFuture<List<HV>> values(K key) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.hashCommands().hVals(rawKey), this::deserializeHashValues);
+	}
+
+	@Override
+	public CompletableFuture<Map<HK, HV>> entries(K key) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.hashCommands().hGetAll(rawKey), this::deserializeHashMap);
+	}
+
+	@Override
+	public CompletableFuture<Long> size(K key) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.hashCommands().hLen(rawKey), Function.identity());
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * {@link AsyncListOperations} implementation issuing commands through an {@link AsyncCommandExecutor}.
+ *
+ * @author agent
+ * @since 3.0
+ */
+class DefaultAsyncListOperations<K, V> extends AbstractOperations<K, V> implements AsyncListOperations<K, V> {
+
+	private final AsyncCommandExecutor executor;
+
+	DefaultAsyncListOperations(RedisTemplate<K, V> template, AsyncCommandExecutor executor) {
+
+		super(template);
+		this.executor = executor;
+	}
+
+	@Override
+	public CompletableFuture<Long> leftPush(K key, V value) {
+
+		byte[] rawKey = rawKey(key);
+		byte[] rawValue = rawValue(value);
+		return executor.execute(connection -> connection.listCommands().lPush(rawKey, rawValue), Function.identity());
+	}
+
+	@Override
+	@SafeVarargs
+	public final CompletableFuture<Long> leftPushAll(K key, V... values) {
+
+		byte[] rawKey = rawKey(key);
+		byte[][] rawValues = rawValues(values);
+		return executor.execute(connection -> connection.listCommands().lPush(rawKey, rawValues), Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Long> rightPush(K key, V value) {
+
+		byte[] rawKey = rawKey(key);
+		byte[] rawValue = rawValue(value);
+		return executor.execute(connection -> connection.listCommands().rPush(rawKey, rawValue), Function.identity());
+	}
+
+	@Override
+	@SafeVarargs
+	public final CompletableFuture<Long> rightPushAll(K key, V... values) {
+
+		byte[] rawKey = rawKey(key);
+		byte[][] rawValues = rawValues(values);
+		return executor.execute(connection -> connection.listCommands().rPush(rawKey, rawValues), Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<V> leftPop(K key) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.listCommands().lPop(rawKey), this::deserializeValue);
+	}
+
+	@Override
+	public CompletableFuture<V> rightPop(K key) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.listCommands().rPop(rawKey), this::deserializeValue);
+	}
+
+	@Override
+	public CompletableFuture<List<V>> range(K key, long start, long end) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.listCommands().lRange(rawKey, start, end),
+				this::deserializeValues);
+	}
+
+	@Override
+	public CompletableFuture<V> index(K key, long index) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.listCommands().lIndex(rawKey, index), this::deserializeValue);
+	}
+
+	@Override
+	public CompletableFuture<Long> size(K key) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.listCommands().lLen(rawKey), Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Void> trim(K key, long start, long end) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.executeWithoutResult(connection -> connection.listCommands().lTrim(rawKey, start, end));
+	}
+
+	@Override
+	public CompletableFuture<Long> remove(K key, long count, Object value) {
+
+		byte[] rawKey = rawKey(key);
+		byte[] rawValue = rawValue(value);
+		return executor.execute(connection -> connection.listCommands().lRem(rawKey, count, rawValue),
+				Function.identity());
+	}
+}
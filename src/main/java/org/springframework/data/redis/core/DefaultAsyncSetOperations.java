@@ -0,0 +1,84 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * {@link AsyncSetOperations} implementation issuing commands through an {@link AsyncCommandExecutor}.
+ *
+ * @author agent
+ * @since 3.0
+ */
+class DefaultAsyncSetOperations<K, V> extends AbstractOperations<K, V> implements AsyncSetOperations<K, V> {
+
+	private final AsyncCommandExecutor executor;
+
+	DefaultAsyncSetOperations(RedisTemplate<K, V> template, AsyncCommandExecutor executor) {
+
+		super(template);
+		this.executor = executor;
+	}
+
+	@Override
+	@SafeVarargs
+	public final CompletableFuture<Long> add(K key, V... values) {
+
+		byte[] rawKey = rawKey(key);
+		byte[][] rawValues = rawValues(values);
+		return executor.execute(connection -> connection.setCommands().sAdd(rawKey, rawValues), Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Long> remove(K key, Object... values) {
+
+		byte[] rawKey = rawKey(key);
+		byte[][] rawValues = rawValues(values);
+		return executor.execute(connection -> connection.setCommands().sRem(rawKey, rawValues), Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<V> pop(K key) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.setCommands().sPop(rawKey), this::deserializeValue);
+	}
+
+	@Override
+	public CompletableFuture<Set<V>> members(K key) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.setCommands().sMembers(rawKey), this::deserializeValues);
+	}
+
+	@Override
+	public CompletableFuture<Boolean> isMember(K key, Object o) {
+
+		byte[] rawKey = rawKey(key);
+		byte[] rawValue = rawValue(o);
+		return executor.execute(connection -> connection.setCommands().sIsMember(rawKey, rawValue),
+				Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Long> size(K key) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.setCommands().sCard(rawKey), Function.identity());
+	}
+}
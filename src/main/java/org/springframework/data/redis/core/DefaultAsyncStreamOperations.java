@@ -0,0 +1,153 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AsyncStreamOperations} implementation issuing commands through an {@link AsyncCommandExecutor}.
+ *
+ * @author agent
+ * @since 3.0
+ */
+class DefaultAsyncStreamOperations<K, HK, HV> extends AbstractOperations<K, Object>
+		implements AsyncStreamOperations<K, HK, HV> {
+
+	private final AsyncCommandExecutor executor;
+
+	@SuppressWarnings("unchecked")
+	DefaultAsyncStreamOperations(RedisTemplate<K, ?> template, AsyncCommandExecutor executor) {
+
+		super((RedisTemplate<K, Object>) template);
+		this.executor = executor;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public CompletableFuture<RecordId> add(MapRecord<K, ? extends HK, ? extends HV> record) {
+
+		Assert.notNull(record, "Record must not be null!");
+
+		ByteRecord binaryRecord = record.serialize(keySerializer(), hashKeySerializer(), hashValueSerializer());
+		return executor.execute(connection -> connection.streamCommands().xAdd(binaryRecord), Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Long> acknowledge(K key, String group, String... recordIds) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.streamCommands().xAck(rawKey, group, recordIds),
+				Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Long> delete(K key, String... recordIds) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.streamCommands().xDel(rawKey, recordIds), Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<String> createGroup(K key, ReadOffset readOffset, String group) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.streamCommands().xGroupCreate(rawKey, group, readOffset, true),
+				Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Long> size(K key) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.streamCommands().xLen(rawKey), Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<List<MapRecord<K, HK, HV>>> range(K key, Range<String> range, Limit limit) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.streamCommands().xRange(rawKey, range, limit),
+				this::deserializeRecords);
+	}
+
+	@Override
+	public CompletableFuture<List<MapRecord<K, HK, HV>>> read(StreamReadOptions readOptions, StreamOffset<K>... streams) {
+
+		assertNonBlocking(readOptions);
+
+		StreamOffset<byte[]>[] rawStreams = rawStreamOffsets(streams);
+		return executor.execute(connection -> connection.streamCommands().xRead(readOptions, rawStreams),
+				this::deserializeRecords);
+	}
+
+	@Override
+	public CompletableFuture<List<MapRecord<K, HK, HV>>> read(Consumer consumer, StreamReadOptions readOptions,
+			StreamOffset<K>... streams) {
+
+		assertNonBlocking(readOptions);
+
+		StreamOffset<byte[]>[] rawStreams = rawStreamOffsets(streams);
+		return executor.execute(connection -> connection.streamCommands().xReadGroup(consumer, readOptions, rawStreams),
+				this::deserializeRecords);
+	}
+
+	@Override
+	public CompletableFuture<Long> trim(K key, long count) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.streamCommands().xTrim(rawKey, count), Function.identity());
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<MapRecord<K, HK, HV>> deserializeRecords(List<ByteRecord> records) {
+
+		List<MapRecord<K, HK, HV>> result = new ArrayList<>(records.size());
+		for (ByteRecord record : records) {
+			result.add(record.deserialize(keySerializer(), hashKeySerializer(), hashValueSerializer()));
+		}
+
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private StreamOffset<byte[]>[] rawStreamOffsets(StreamOffset<K>[] streams) {
+
+		return Arrays.stream(streams) //
+				.map(it -> StreamOffset.create(rawKey(it.getKey()), it.getOffset())) //
+				.toArray(it -> new StreamOffset[it]);
+	}
+
+	private static void assertNonBlocking(StreamReadOptions readOptions) {
+
+		Assert.notNull(readOptions, "StreamReadOptions must not be null!");
+		Assert.isTrue(!readOptions.isBlocking(), "Blocking reads are not supported by asynchronous operations");
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.util.Assert;
+
+/**
+ * {@link AsyncValueOperations} implementation issuing commands through an {@link AsyncCommandExecutor}.
+ *
+ * @author agent
+ * @since 3.0
+ */
+class DefaultAsyncValueOperations<K, V> extends AbstractOperations<K, V> implements AsyncValueOperations<K, V> {
+
+	private final AsyncCommandExecutor executor;
+
+	DefaultAsyncValueOperations(RedisTemplate<K, V> template, AsyncCommandExecutor executor) {
+
+		super(template);
+		this.executor = executor;
+	}
+
+	@Override
+	public CompletableFuture<Void> set(K key, V value) {
+
+		byte[] rawKey = rawKey(key);
+		byte[] rawValue = rawValue(value);
+		return executor.execute(connection -> connection.stringCommands().set(rawKey, rawValue), result -> null);
+	}
+
+	@Override
+	public CompletableFuture<Void> set(K key, V value, Duration timeout) {
+
+		Assert.notNull(timeout, "Timeout must not be null!");
+
+		byte[] rawKey = rawKey(key);
+		byte[] rawValue = rawValue(value);
+		Expiration expiration = Expiration.from(timeout);
+		return executor.execute(
+				connection -> connection.stringCommands().set(rawKey, rawValue, expiration, SetOption.upsert()), result -> null);
+	}
+
+	@Override
+	public CompletableFuture<Boolean> setIfAbsent(K key, V value) {
+
+		byte[] rawKey = rawKey(key);
+		byte[] rawValue = rawValue(value);
+		return executor.execute(connection -> connection.stringCommands().setNX(rawKey, rawValue), Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Boolean> setIfAbsent(K key, V value, Duration timeout) {
+
+		Assert.notNull(timeout, "Timeout must not be null!");
+
+		byte[] rawKey = rawKey(key);
+		byte[] rawValue = rawValue(value);
+		Expiration expiration = Expiration.from(timeout);
+		return executor.execute(
+				connection -> connection.stringCommands().set(rawKey, rawValue, expiration, SetOption.ifAbsent()), Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<V> get(Object key) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.stringCommands().get(rawKey), this::deserializeValue);
+	}
+
+	@Override
+	public CompletableFuture<V> getAndSet(K key, V value) {
+
+		byte[] rawKey = rawKey(key);
+		byte[] rawValue = rawValue(value);
+		return executor.execute(connection -> connection.stringCommands().getSet(rawKey, rawValue),
+				this::deserializeValue);
+	}
+
+	@Override
+	public CompletableFuture<List<V>> multiGet(Collection<K> keys) {
+
+		byte[][] rawKeys = rawKeys(keys);
+		return executor.execute(connection -> connection.stringCommands().mGet(rawKeys), this::deserializeValues);
+	}
+
+	@Override
+	public CompletableFuture<Long> increment(K key) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.stringCommands().incr(rawKey), Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Long> increment(K key, long delta) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.stringCommands().incrBy(rawKey, delta), Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Long> decrement(K key) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.stringCommands().decr(rawKey), Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Long> decrement(K key, long delta) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.stringCommands().decrBy(rawKey, delta), Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Long> size(K key) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.stringCommands().strLen(rawKey), Function.identity());
+	}
+}
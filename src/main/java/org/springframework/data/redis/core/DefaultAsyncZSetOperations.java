@@ -0,0 +1,137 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.springframework.data.redis.connection.zset.Tuple;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+
+/**
+ * {@link AsyncZSetOperations} implementation issuing commands through an {@link AsyncCommandExecutor}.
+ *
+ * @author agent
+ * @since 3.0
+ */
+class DefaultAsyncZSetOperations<K, V> extends AbstractOperations<K, V> implements AsyncZSetOperations<K, V> {
+
+	private final AsyncCommandExecutor executor;
+
+	DefaultAsyncZSetOperations(RedisTemplate<K, V> template, AsyncCommandExecutor executor) {
+
+		super(template);
+		this.executor = executor;
+	}
+
+	@Override
+	public CompletableFuture<Boolean> add(K key, V value, double score) {
+
+		byte[] rawKey = rawKey(key);
+		byte[] rawValue = rawValue(value);
+		return executor.execute(connection -> connection.zSetCommands().zAdd(rawKey, score, rawValue),
+				Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Double> incrementScore(K key, V value, double delta) {
+
+		byte[] rawKey = rawKey(key);
+		byte[] rawValue = rawValue(value);
+		return executor.execute(connection -> connection.zSetCommands().zIncrBy(rawKey, delta, rawValue),
+				Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Long> remove(K key, Object... values) {
+
+		byte[] rawKey = rawKey(key);
+		byte[][] rawValues = rawValues(values);
+		return executor.execute(connection -> connection.zSetCommands().zRem(rawKey, rawValues), Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Double> score(K key, Object o) {
+
+		byte[] rawKey = rawKey(key);
+		byte[] rawValue = rawValue(o);
+		return executor.execute(connection -> connection.zSetCommands().zScore(rawKey, rawValue), Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Long> rank(K key, Object o) {
+
+		byte[] rawKey = rawKey(key);
+		byte[] rawValue = rawValue(o);
+		return executor.execute(connection -> connection.zSetCommands().zRank(rawKey, rawValue), Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Long> reverseRank(K key, Object o) {
+
+		byte[] rawKey = rawKey(key);
+		byte[] rawValue = rawValue(o);
+		return executor.execute(connection -> connection.zSetCommands().zRevRank(rawKey, rawValue),
+				Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Set<V>> range(K key, long start, long end) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.zSetCommands().zRange(rawKey, start, end),
+				this::deserializeValues);
+	}
+
+	@Override
+	public CompletableFuture<Set<TypedTuple<V>>> rangeWithScores(K key, long start, long end) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.zSetCommands().zRangeWithScores(rawKey, start, end),
+				(Set<Tuple> tuples) -> deserializeTupleValues(tuples));
+	}
+
+	@Override
+	public CompletableFuture<Set<V>> rangeByScore(K key, double min, double max) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.zSetCommands().zRangeByScore(rawKey, min, max),
+				this::deserializeValues);
+	}
+
+	@Override
+	public CompletableFuture<Set<V>> reverseRange(K key, long start, long end) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.zSetCommands().zRevRange(rawKey, start, end),
+				this::deserializeValues);
+	}
+
+	@Override
+	public CompletableFuture<Long> count(K key, double min, double max) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.zSetCommands().zCount(rawKey, min, max), Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Long> size(K key) {
+
+		byte[] rawKey = rawKey(key);
+		return executor.execute(connection -> connection.zSetCommands().zCard(rawKey), Function.identity());
+	}
+}
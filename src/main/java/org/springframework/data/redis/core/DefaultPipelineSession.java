@@ -0,0 +1,277 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Default {@link PipelineSession} implementation issuing commands on a pipelined {@link RedisConnection}. Pipelined
+ * results are associated with issued commands by their position. Commands that do not return a value (e.g.
+ * {@code LTRIM}, {@code HMSET}) do not contribute to pipeline results and complete their future with {@literal null}.
+ *
+ * @author agent
+ * @since 3.0
+ */
+class DefaultPipelineSession<K, V> implements PipelineSession<K, V>, AsyncCommandExecutor {
+
+	private final RedisConnection connection;
+
+	private final DefaultAsyncValueOperations<K, V> valueOps;
+
+	private final AsyncHashOperations<K, ?, ?> hashOps;
+
+	private final AsyncListOperations<K, V> listOps;
+
+	private final AsyncSetOperations<K, V> setOps;
+
+	private final AsyncZSetOperations<K, V> zSetOps;
+
+	private final AsyncStreamOperations<K, ?, ?> streamOps;
+
+	private List<PendingCommand> pending = new ArrayList<>();
+
+	DefaultPipelineSession(RedisTemplate<K, V> template, RedisConnection connection) {
+
+		this.connection = connection;
+		this.valueOps = new DefaultAsyncValueOperations<>(template, this);
+		this.hashOps = new DefaultAsyncHashOperations<>(template, this);
+		this.listOps = new DefaultAsyncListOperations<>(template, this);
+		this.setOps = new DefaultAsyncSetOperations<>(template, this);
+		this.zSetOps = new DefaultAsyncZSetOperations<>(template, this);
+		this.streamOps = new DefaultAsyncStreamOperations<>(template, this);
+	}
+
+	@Override
+	public AsyncValueOperations<K, V> opsForValue() {
+		return valueOps;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <HK, HV> AsyncHashOperations<K, HK, HV> opsForHash() {
+		return (AsyncHashOperations<K, HK, HV>) hashOps;
+	}
+
+	@Override
+	public AsyncListOperations<K, V> opsForList() {
+		return listOps;
+	}
+
+	@Override
+	public AsyncSetOperations<K, V> opsForSet() {
+		return setOps;
+	}
+
+	@Override
+	public AsyncZSetOperations<K, V> opsForZSet() {
+		return zSetOps;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <HK, HV> AsyncStreamOperations<K, HK, HV> opsForStream() {
+		return (AsyncStreamOperations<K, HK, HV>) streamOps;
+	}
+
+	@Override
+	public CompletableFuture<Boolean> delete(K key) {
+
+		byte[] rawKey = rawKey(key);
+		return execute(connection -> connection.keyCommands().del(rawKey), deleted -> deleted > 0);
+	}
+
+	@Override
+	public CompletableFuture<Long> delete(Collection<K> keys) {
+
+		Assert.notNull(keys, "Keys must not be null!");
+
+		byte[][] rawKeys = keys.stream().map(this::rawKey).toArray(byte[][]::new);
+		return execute(connection -> connection.keyCommands().del(rawKeys), Function.identity());
+	}
+
+	@Override
+	public CompletableFuture<Boolean> hasKey(K key) {
+
+		byte[] rawKey = rawKey(key);
+		return execute(connection -> connection.keyCommands().exists(new byte[][] { rawKey }), count -> count > 0);
+	}
+
+	@Override
+	public CompletableFuture<Boolean> expire(K key, Duration timeout) {
+
+		Assert.notNull(timeout, "Timeout must not be null!");
+
+		byte[] rawKey = rawKey(key);
+		return execute(connection -> connection.keyCommands().pExpire(rawKey, timeout.toMillis()), Function.identity());
+	}
+
+	@Override
+	public void sync() {
+		flush(true);
+	}
+
+	/**
+	 * Synchronize the pipeline and close it.
+	 */
+	void close() {
+		flush(false);
+	}
+
+	/**
+	 * Complete futures of pending commands exceptionally, e.g. because the pipeline callback failed.
+	 *
+	 * @param cause the failure.
+	 */
+	void discard(Throwable cause) {
+
+		List<PendingCommand> commands = this.pending;
+		this.pending = new ArrayList<>();
+
+		for (PendingCommand command : commands) {
+			command.future.completeExceptionally(cause);
+		}
+	}
+
+	private void flush(boolean reopen) {
+
+		List<Object> results;
+		RedisPipelineException exception = null;
+
+		try {
+			results = connection.closePipeline();
+		} catch (RedisPipelineException e) {
+			results = e.getPipelineResult();
+			exception = e;
+		}
+
+		if (reopen) {
+			connection.openPipeline();
+		}
+
+		complete(results, exception);
+	}
+
+	private void complete(List<Object> results, @Nullable RedisPipelineException exception) {
+
+		List<PendingCommand> commands = this.pending;
+		this.pending = new ArrayList<>();
+
+		long expectedResults = commands.stream().filter(it -> !it.isStatus()).count();
+
+		if (results.size() != expectedResults) {
+
+			RuntimeException cause = exception != null ? exception
+					: new InvalidDataAccessApiUsageException(String.format(
+							"Pipeline returned %d results for %d commands; Commands must be issued through the PipelineSession",
+							results.size(), expectedResults));
+
+			for (PendingCommand command : commands) {
+				command.future.completeExceptionally(cause);
+			}
+
+			throw cause;
+		}
+
+		int index = 0;
+		for (PendingCommand command : commands) {
+
+			if (command.isStatus()) {
+				command.future.complete(null);
+				continue;
+			}
+
+			command.complete(results.get(index++));
+		}
+	}
+
+	/**
+	 * Issue a command returning a value on the pipelined connection. The command result is expected to be
+	 * {@literal null} as the connection is pipelined.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public <R, T> CompletableFuture<T> execute(Function<RedisConnection, R> command, Function<R, T> converter) {
+
+		command.apply(connection);
+
+		CompletableFuture<T> future = new CompletableFuture<>();
+		pending.add(new PendingCommand((CompletableFuture<Object>) future, (Function<Object, Object>) converter));
+		return future;
+	}
+
+	/**
+	 * Issue a command that does not return a value on the pipelined connection.
+	 */
+	@Override
+	@SuppressWarnings("unchecked")
+	public CompletableFuture<Void> executeWithoutResult(Consumer<RedisConnection> command) {
+
+		command.accept(connection);
+
+		CompletableFuture<Void> future = new CompletableFuture<>();
+		pending.add(new PendingCommand((CompletableFuture<Object>) (CompletableFuture<?>) future, null));
+		return future;
+	}
+
+	private byte[] rawKey(Object key) {
+		return valueOps.rawKey(key);
+	}
+
+	/**
+	 * A command issued on the pipeline awaiting its result.
+	 */
+	private static class PendingCommand {
+
+		final CompletableFuture<Object> future;
+
+		final @Nullable Function<Object, Object> converter;
+
+		PendingCommand(CompletableFuture<Object> future, @Nullable Function<Object, Object> converter) {
+			this.future = future;
+			this.converter = converter;
+		}
+
+		boolean isStatus() {
+			return converter == null;
+		}
+
+		void complete(@Nullable Object result) {
+
+			if (result instanceof Throwable) {
+				future.completeExceptionally((Throwable) result);
+				return;
+			}
+
+			try {
+				future.complete(result == null ? null : converter.apply(result));
+			} catch (RuntimeException e) {
+				future.completeExceptionally(e);
+			}
+		}
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Callback issuing typed commands through a {@link PipelineSession}.
+ *
+ * @author agent
+ * @since 3.0
+ * @see RedisOperations#executeInPipeline(PipelineCallback)
+ */
+@FunctionalInterface
+public interface PipelineCallback<K, V, T> {
+
+	/**
+	 * Issue commands through the given {@link PipelineSession}. Futures returned by the session complete once the
+	 * pipeline is synchronized and may therefore be returned from the callback.
+	 *
+	 * @param session the pipeline session.
+	 * @return a result object or {@literal null}.
+	 */
+	@Nullable
+	T doInPipeline(PipelineSession<K, V> session);
+}
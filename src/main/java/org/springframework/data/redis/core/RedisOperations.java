@@ -23,6 +23,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 import org.springframework.data.redis.connection.DataType;
 import org.springframework.data.redis.connection.RedisConnection;
@@ -98,6 +99,48 @@ public interface RedisOperations<K, V> {
 	 */
 	List<Object> executePipelined(RedisCallback<?> action, RedisSerializer<?> resultSerializer);
 
+	/**
+	 * Executes the given action object on a pipelined connection emitting results to {@code resultConsumer} in the order
+	 * commands were issued instead of collecting them into a {@link List}. At most {@code maxInFlightCommands} commands
+	 * await their response at any time, so pipelines issuing a large number of commands do not need to hold all results
+	 * in memory. This method will use the default serializers to deserialize results. Note that the callback
+	 * <b>cannot</b> return a non-null value as it gets overwritten by the pipeline.
+	 *
+	 * @param action callback object to execute. Must not be {@literal null}.
+	 * @param maxInFlightCommands maximum number of commands awaiting their response. Must be greater than zero.
+	 * @param resultConsumer consumer of pipelined results. Results of failed commands are emitted as {@link Exception}.
+	 *          Must not be {@literal null}.
+	 * @throws org.springframework.data.redis.connection.RedisPipelineException if any command failed after all results
+	 *           were emitted.
+	 * @throws org.springframework.dao.InvalidDataAccessApiUsageException if the connection does not
+	 *           {@link RedisConnection#supportsStreamingPipeline() support streaming pipeline results}.
+	 * @since 3.0
+	 * @see RedisConnection#openPipeline(Consumer, int)
+	 */
+	void executePipelined(RedisCallback<?> action, int maxInFlightCommands, Consumer<Object> resultConsumer);
+
+	/**
+	 * Executes the given action object on a pipelined connection emitting results deserialized with a dedicated
+	 * serializer to {@code resultConsumer} in the order commands were issued. At most {@code maxInFlightCommands}
+	 * commands await their response at any time. Note that the callback <b>cannot</b> return a non-null value as it gets
+	 * overwritten by the pipeline.
+	 *
+	 * @param action callback object to execute. Must not be {@literal null}.
+	 * @param maxInFlightCommands maximum number of commands awaiting their response. Must be greater than zero.
+	 * @param resultSerializer The Serializer to use for individual values or Collections of values. If any returned
+	 *          values are hashes, this serializer will be used to deserialize both the key and value
+	 * @param resultConsumer consumer of pipelined results. Results of failed commands are emitted as {@link Exception}.
+	 *          Must not be {@literal null}.
+	 * @throws org.springframework.data.redis.connection.RedisPipelineException if any command failed after all results
+	 *           were emitted.
+	 * @throws org.springframework.dao.InvalidDataAccessApiUsageException if the connection does not
+	 *           {@link RedisConnection#supportsStreamingPipeline() support streaming pipeline results}.
+	 * @since 3.0
+	 * @see RedisConnection#openPipeline(Consumer, int)
+	 */
+	void executePipelined(RedisCallback<?> action, int maxInFlightCommands, @Nullable RedisSerializer<?> resultSerializer,
+			Consumer<Object> resultConsumer);
+
 	/**
 	 * Executes the given Redis session on a pipelined connection. Allows transactions to be pipelined. Note that the
 	 * callback <b>cannot</b> return a non-null value as it gets overwritten by the pipeline.
@@ -118,6 +161,22 @@ public interface RedisOperations<K, V> {
 	 */
 	List<Object> executePipelined(SessionCallback<?> session, RedisSerializer<?> resultSerializer);
 
+	/**
+	 * Executes the given callback on a pipelined connection issuing typed commands through a {@link PipelineSession}.
+	 * Each command returns a {@link java.util.concurrent.CompletableFuture} completing with the command result
+	 * deserialized using the serializers of this template once the pipeline is synchronized. The pipeline is
+	 * synchronized when the callback returns or by calling {@link PipelineSession#sync()}. Futures of failed commands
+	 * complete exceptionally.
+	 *
+	 * @param callback callback issuing commands. Must not be {@literal null}.
+	 * @return the object returned by the callback. Can be {@literal null}.
+	 * @throws org.springframework.data.redis.connection.RedisPipelineException if pipeline results cannot be associated
+	 *           with the issued commands, e.g. because the pipeline timed out.
+	 * @since 3.0
+	 */
+	@Nullable
+	<T> T executeInPipeline(PipelineCallback<K, V, T> callback);
+
 	/**
 	 * Executes the given {@link RedisScript}
 	 *
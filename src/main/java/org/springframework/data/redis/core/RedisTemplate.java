@@ -498,6 +498,75 @@ public class RedisTemplate<K, V> extends RedisAccessor implements RedisOperation
 		});
 	}
 
+	@Override
+	public <T> T executeInPipeline(PipelineCallback<K, V, T> callback) {
+
+		Assert.notNull(callback, "Callback object must not be null");
+
+		return execute((RedisCallback<T>) connection -> {
+
+			DefaultPipelineSession<K, V> session = new DefaultPipelineSession<>(this, connection);
+
+			connection.openPipeline();
+			boolean pipelinedClosed = false;
+			try {
+				T result = callback.doInPipeline(session);
+				pipelinedClosed = true;
+				session.close();
+				return result;
+			} catch (RuntimeException e) {
+				session.discard(e);
+				throw e;
+			} finally {
+				if (!pipelinedClosed) {
+					connection.closePipeline();
+				}
+			}
+		});
+	}
+
+	@Override
+	public void executePipelined(RedisCallback<?> action, int maxInFlightCommands, Consumer<Object> resultConsumer) {
+		executePipelined(action, maxInFlightCommands, valueSerializer, resultConsumer);
+	}
+
+	@Override
+	public void executePipelined(RedisCallback<?> action, int maxInFlightCommands,
+			@Nullable RedisSerializer<?> resultSerializer, Consumer<Object> resultConsumer) {
+
+		Assert.notNull(resultConsumer, "Result consumer must not be null!");
+		Assert.isTrue(maxInFlightCommands > 0, "Max in-flight commands must be greater than 0");
+
+		Consumer<Object> consumer = rawValue -> resultConsumer
+				.accept(deserializeMixedResult(rawValue, resultSerializer, hashKeySerializer, hashValueSerializer));
+
+		execute((RedisCallback<Object>) connection -> {
+
+			if (!connection.supportsStreamingPipeline()) {
+				throw new InvalidDataAccessApiUsageException(String.format(
+						"%s does not support streaming pipeline results; use executePipelined(RedisCallback) instead",
+						ClassUtils.getShortName(connection.getClass())));
+			}
+
+			connection.openPipeline(consumer, maxInFlightCommands);
+			boolean pipelinedClosed = false;
+			try {
+				Object result = action.doInRedis(connection);
+				if (result != null) {
+					throw new InvalidDataAccessApiUsageException(
+							"Callback cannot return a non-null value as it gets overwritten by the pipeline");
+				}
+				connection.closePipeline();
+				pipelinedClosed = true;
+				return null;
+			} finally {
+				if (!pipelinedClosed) {
+					connection.closePipeline();
+				}
+			}
+		});
+	}
+
 	@Override
 	public <T> T execute(RedisScript<T> script, List<K> keys, Object... args) {
 		return scriptExecutor.execute(script, keys, args);
@@ -1102,25 +1171,32 @@ public class RedisTemplate<K, V> extends RedisAccessor implements RedisOperation
 
 		List<Object> values = new ArrayList<>();
 		for (Object rawValue : rawValues) {
-
-			if (rawValue instanceof byte[] && valueSerializer != null) {
-				values.add(valueSerializer.deserialize((byte[]) rawValue));
-			} else if (rawValue instanceof List) {
-				// Lists are the only potential Collections of mixed values....
-				values.add(deserializeMixedResults((List) rawValue, valueSerializer, hashKeySerializer, hashValueSerializer));
-			} else if (rawValue instanceof Set && !(((Set) rawValue).isEmpty())) {
-				values.add(deserializeSet((Set) rawValue, valueSerializer));
-			} else if (rawValue instanceof Map && !(((Map) rawValue).isEmpty())
-					&& ((Map) rawValue).values().iterator().next() instanceof byte[]) {
-				values.add(SerializationUtils.deserialize((Map) rawValue, hashKeySerializer, hashValueSerializer));
-			} else {
-				values.add(rawValue);
-			}
+			values.add(deserializeMixedResult(rawValue, valueSerializer, hashKeySerializer, hashValueSerializer));
 		}
 
 		return values;
 	}
 
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	@Nullable
+	private Object deserializeMixedResult(@Nullable Object rawValue, @Nullable RedisSerializer valueSerializer,
+			@Nullable RedisSerializer hashKeySerializer, @Nullable RedisSerializer hashValueSerializer) {
+
+		if (rawValue instanceof byte[] && valueSerializer != null) {
+			return valueSerializer.deserialize((byte[]) rawValue);
+		} else if (rawValue instanceof List) {
+			// Lists are the only potential Collections of mixed values....
+			return deserializeMixedResults((List) rawValue, valueSerializer, hashKeySerializer, hashValueSerializer);
+		} else if (rawValue instanceof Set && !(((Set) rawValue).isEmpty())) {
+			return deserializeSet((Set) rawValue, valueSerializer);
+		} else if (rawValue instanceof Map && !(((Map) rawValue).isEmpty())
+				&& ((Map) rawValue).values().iterator().next() instanceof byte[]) {
+			return SerializationUtils.deserialize((Map) rawValue, hashKeySerializer, hashValueSerializer);
+		}
+
+		return rawValue;
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private Set<?> deserializeSet(Set rawSet, @Nullable RedisSerializer valueSerializer) {
 
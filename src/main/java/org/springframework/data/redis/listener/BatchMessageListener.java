@@ -0,0 +1,52 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.listener;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link MessageListener} receiving messages in batches. {@link RedisMessageListenerContainer} delivers micro-batches of
+ * messages drained from the dispatch queue when using a serial
+ * {@link RedisMessageListenerContainer.DispatchMode dispatch mode}. Messages within a batch are ordered as they were
+ * received. Batches may contain messages of all channels the listener is subscribed to.
+ * <p>
+ * Messages dispatched {@link RedisMessageListenerContainer.DispatchMode#PER_MESSAGE per message} are delivered as
+ * batches containing a single message.
+ *
+ * @author agent
+ * @since 3.0
+ * @see RedisMessageListenerContainer#setDispatchMode(RedisMessageListenerContainer.DispatchMode)
+ */
+@FunctionalInterface
+public interface BatchMessageListener extends MessageListener {
+
+	/**
+	 * Callback for processing a batch of received messages.
+	 *
+	 * @param messages the received messages, never empty.
+	 */
+	void onMessages(List<Message> messages);
+
+	@Override
+	default void onMessage(Message message, @Nullable byte[] pattern) {
+		onMessages(Collections.singletonList(message));
+	}
+}
@@ -15,21 +15,24 @@
  */
 package org.springframework.data.redis.listener;
 
+import reactor.core.publisher.BufferOverflowStrategy;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
 
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -61,6 +64,11 @@ import org.springframework.util.ObjectUtils;
  * {@link #destroy()}. Connections are allocated eagerly to not interfere with non-blocking use during application
  * operations. Using reactive infrastructure allows usage of a single connection due to channel multiplexing.
  * <p>
+ * Message streams obtained through {@link #receiveShared(Iterable, SerializationPair, SerializationPair)} share a
+ * single Redis subscription per set of topics and serializers across all of their subscribers. Messages are decoded
+ * once and multicast to all subscribers. Each subscriber buffers messages individually so that a slow subscriber does
+ * not hold back other subscribers.
+ * <p>
  * This class is thread-safe and allows subscription by multiple concurrent threads.
  *
  * @author Mark Paluch
@@ -71,9 +79,17 @@ import org.springframework.util.ObjectUtils;
  */
 public class ReactiveRedisMessageListenerContainer implements DisposableBean {
 
+	/**
+	 * The default number of messages buffered per subscriber of a shared message stream.
+	 *
+	 * @since 3.0
+	 */
+	public static final int DEFAULT_SHARED_BUFFER_SIZE = Queues.SMALL_BUFFER_SIZE;
+
 	private final SerializationPair<String> stringSerializationPair = SerializationPair
 			.fromSerializer(RedisSerializer.string());
 	private final Map<ReactiveSubscription, Subscribers> subscriptions = new ConcurrentHashMap<>();
+	private final Map<SharedSubscriptionKey, Flux<? extends Message<?, ?>>> sharedSubscriptions = new ConcurrentHashMap<>();
 
 	private volatile @Nullable ReactiveRedisConnection connection;
 
@@ -389,6 +405,103 @@ public class ReactiveRedisMessageListenerContainer implements DisposableBean {
 		});
 	}
 
+	/**
+	 * Subscribe to one or more {@link ChannelTopic}s and receive a shared stream of {@link ChannelMessage}. Messages and
+	 * channel names are treated as {@link String}. All shared message streams for the same topics use a single Redis
+	 * subscription that is registered with the first subscriber and unregistered once the last subscriber cancels its
+	 * {@link org.reactivestreams.Subscription}.
+	 *
+	 * @param channelTopics the channels to subscribe.
+	 * @return the shared message stream.
+	 * @throws InvalidDataAccessApiUsageException if {@code channelTopics} is empty.
+	 * @since 3.0
+	 * @see #receiveShared(Iterable, SerializationPair, SerializationPair, int, BufferOverflowStrategy)
+	 */
+	public Flux<Message<String, String>> receiveShared(ChannelTopic... channelTopics) {
+
+		Assert.notNull(channelTopics, "ChannelTopics must not be null!");
+		Assert.noNullElements(channelTopics, "ChannelTopics must not contain null elements!");
+
+		return receiveShared(Arrays.asList(channelTopics), stringSerializationPair, stringSerializationPair);
+	}
+
+	/**
+	 * Subscribe to one or more {@link Topic}s and receive a shared stream of {@link ChannelMessage}. The stream may
+	 * contain {@link PatternMessage} if subscribed to patterns. Each subscriber buffers up to
+	 * {@link #DEFAULT_SHARED_BUFFER_SIZE} messages and fails with an overflow error if it cannot keep up.
+	 *
+	 * @param topics the channels/patterns to subscribe.
+	 * @param channelSerializer serialization pair to decode the channel/pattern name.
+	 * @param messageSerializer serialization pair to decode the message body.
+	 * @return the shared message stream.
+	 * @throws InvalidDataAccessApiUsageException if {@code topics} is empty.
+	 * @since 3.0
+	 * @see #receiveShared(Iterable, SerializationPair, SerializationPair, int, BufferOverflowStrategy)
+	 */
+	public <C, B> Flux<Message<C, B>> receiveShared(Iterable<? extends Topic> topics,
+			SerializationPair<C> channelSerializer, SerializationPair<B> messageSerializer) {
+		return receiveShared(topics, channelSerializer, messageSerializer, DEFAULT_SHARED_BUFFER_SIZE,
+				BufferOverflowStrategy.ERROR);
+	}
+
+	/**
+	 * Subscribe to one or more {@link Topic}s and receive a shared stream of {@link ChannelMessage}. The stream may
+	 * contain {@link PatternMessage} if subscribed to patterns.
+	 * <p>
+	 * Shared message streams subscribing to the same topics using the same {@link SerializationPair} instances share a
+	 * single Redis subscription. The subscription is registered with the first subscriber and unregistered once the last
+	 * subscriber cancels its {@link org.reactivestreams.Subscription}. Messages are deserialized once and emitted to all
+	 * subscribers. Each subscriber buffers up to {@code bufferSize} messages if it does not signal enough demand and
+	 * applies {@code overflowStrategy} once its buffer is exhausted, without affecting other subscribers.
+	 *
+	 * @param topics the channels/patterns to subscribe.
+	 * @param channelSerializer serialization pair to decode the channel/pattern name.
+	 * @param messageSerializer serialization pair to decode the message body.
+	 * @param bufferSize number of messages to buffer per subscriber. Must be greater than zero.
+	 * @param overflowStrategy strategy to apply when the buffer of a subscriber is exhausted.
+	 * @return the shared message stream.
+	 * @throws InvalidDataAccessApiUsageException if {@code topics} is empty.
+	 * @since 3.0
+	 */
+	public <C, B> Flux<Message<C, B>> receiveShared(Iterable<? extends Topic> topics,
+			SerializationPair<C> channelSerializer, SerializationPair<B> messageSerializer, int bufferSize,
+			BufferOverflowStrategy overflowStrategy) {
+
+		Assert.notNull(topics, "Topics must not be null!");
+		Assert.notNull(channelSerializer, "Channel serializer must not be null!");
+		Assert.notNull(messageSerializer, "Message serializer must not be null!");
+		Assert.isTrue(bufferSize > 0, "Buffer size must be greater than zero!");
+		Assert.notNull(overflowStrategy, "BufferOverflowStrategy must not be null!");
+
+		verifyConnection();
+
+		SharedSubscriptionKey key = new SharedSubscriptionKey(topics, channelSerializer, messageSerializer);
+
+		if (key.isEmpty()) {
+			throw new InvalidDataAccessApiUsageException("No channels or patterns to subscribe to.");
+		}
+
+		return Flux.defer(() -> getSharedMessageStream(key, channelSerializer, messageSerializer))
+				.onBackpressureBuffer(bufferSize, overflowStrategy);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <C, B> Flux<Message<C, B>> getSharedMessageStream(SharedSubscriptionKey key,
+			SerializationPair<C> channelSerializer, SerializationPair<B> messageSerializer) {
+
+		return (Flux<Message<C, B>>) sharedSubscriptions.computeIfAbsent(key, it -> {
+
+			AtomicReference<Flux<Message<C, B>>> self = new AtomicReference<>();
+			Flux<Message<C, B>> messageStream = receive(it.getTopics(), channelSerializer, messageSerializer) //
+					.doFinally(signal -> sharedSubscriptions.remove(it, self.get())) //
+					.publish() //
+					.refCount();
+
+			self.set(messageStream);
+			return messageStream;
+		});
+	}
+
 	private static Mono<Void> subscribe(ByteBuffer[] patterns, ByteBuffer[] channels, ReactiveSubscription it) {
 
 		Assert.isTrue(!ObjectUtils.isEmpty(channels) || !ObjectUtils.isEmpty(patterns),
@@ -527,6 +640,60 @@ public class ReactiveRedisMessageListenerContainer implements DisposableBean {
 		}
 	}
 
+	/**
+	 * Key identifying a shared message stream by its topics and serializers.
+	 *
+	 * @author agent
+	 * @since 3.0
+	 */
+	static class SharedSubscriptionKey {
+
+		private final Set<Topic> topics = new LinkedHashSet<>();
+		private final SerializationPair<?> channelSerializer;
+		private final SerializationPair<?> messageSerializer;
+
+		SharedSubscriptionKey(Iterable<? extends Topic> topics, SerializationPair<?> channelSerializer,
+				SerializationPair<?> messageSerializer) {
+
+			topics.forEach(this.topics::add);
+			this.channelSerializer = channelSerializer;
+			this.messageSerializer = messageSerializer;
+		}
+
+		Set<Topic> getTopics() {
+			return topics;
+		}
+
+		boolean isEmpty() {
+			return topics.isEmpty();
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof SharedSubscriptionKey)) {
+				return false;
+			}
+
+			SharedSubscriptionKey that = (SharedSubscriptionKey) o;
+			return topics.equals(that.topics) && channelSerializer == that.channelSerializer
+					&& messageSerializer == that.messageSerializer;
+		}
+
+		@Override
+		public int hashCode() {
+
+			int result = topics.hashCode();
+			result = 31 * result + System.identityHashCode(channelSerializer);
+			result = 31 * result + System.identityHashCode(messageSerializer);
+			return result;
+		}
+	}
+
 	static class SubscriptionReadyListener extends AtomicBoolean implements SubscriptionListener {
 
 		private final Set<ByteArrayWrapper> toSubscribe;
@@ -539,7 +706,7 @@ public class ReactiveRedisMessageListenerContainer implements DisposableBean {
 		public static SubscriptionReadyListener create(Iterable<? extends Topic> topics,
 				SerializationPair<String> serializationPair) {
 
-			Set<ByteArrayWrapper> wrappers = new HashSet<>();
+			Set<ByteArrayWrapper> wrappers = ConcurrentHashMap.newKeySet();
 
 			for (Topic topic : topics) {
 				wrappers.add(new ByteArrayWrapper(ByteUtils.getBytes(serializationPair.getWriter().write(topic.getTopic()))));
@@ -560,14 +727,9 @@ public class ReactiveRedisMessageListenerContainer implements DisposableBean {
 
 		private void removeRemaining(byte[] channel) {
 
-			boolean done;
-
-			synchronized (toSubscribe) {
-				toSubscribe.remove(new ByteArrayWrapper(channel));
-				done = toSubscribe.isEmpty();
-			}
+			toSubscribe.remove(new ByteArrayWrapper(channel));
 
-			if (done && compareAndSet(false, true)) {
+			if (toSubscribe.isEmpty() && compareAndSet(false, true)) {
 				sink.emitEmpty(Sinks.EmitFailureHandler.FAIL_FAST);
 			}
 		}
@@ -32,6 +32,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 
@@ -90,6 +92,11 @@ import org.springframework.util.backoff.FixedBackOff;
  * <p>
  * {@link MessageListener Listeners} that wish to receive subscription/unsubscription callbacks in response to
  * subscribe/unsubscribe commands can implement {@link SubscriptionListener}.
+ * <p>
+ * Messages are dispatched to the task executor {@link DispatchMode#PER_MESSAGE per message and listener} by default.
+ * {@link #setDispatchMode(DispatchMode) Serial dispatch modes} enqueue messages in bounded queues per listener or per
+ * channel that are drained in micro-batches, retaining the message order and reducing the number of executor tasks.
+ * {@link BatchMessageListener Batch listeners} receive the messages of a micro-batch with a single invocation.
  *
  * @author Costin Leau
  * @author Jennifer Hickey
@@ -120,6 +127,20 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 	 */
 	public static final long DEFAULT_SUBSCRIPTION_REGISTRATION_WAIT_TIME = 2000L;
 
+	/**
+	 * The default number of messages delivered by a single task when using a serial {@link DispatchMode}: 64.
+	 *
+	 * @since 3.0
+	 */
+	public static final int DEFAULT_DISPATCH_BATCH_SIZE = 64;
+
+	/**
+	 * The default maximum number of pending messages per dispatch queue when using a serial {@link DispatchMode}: 10000.
+	 *
+	 * @since 3.0
+	 */
+	public static final int DEFAULT_MAX_PENDING_MESSAGES = 10_000;
+
 	private @Nullable Executor subscriptionExecutor;
 
 	private @Nullable Executor taskExecutor;
@@ -132,6 +153,14 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 
 	private @Nullable Subscriber subscriber;
 
+	private DispatchMode dispatchMode = DispatchMode.PER_MESSAGE;
+
+	private int dispatchBatchSize = DEFAULT_DISPATCH_BATCH_SIZE;
+
+	private int maxPendingMessages = DEFAULT_MAX_PENDING_MESSAGES;
+
+	private @Nullable SerialMessageDispatcher serialDispatcher;
+
 	private final AtomicBoolean started = new AtomicBoolean();
 
 	// whether the container is running (or not)
@@ -181,6 +210,10 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 			subscriptionExecutor = taskExecutor;
 		}
 
+		if (dispatchMode != DispatchMode.PER_MESSAGE) {
+			serialDispatcher = new SerialMessageDispatcher(taskExecutor, dispatchBatchSize, maxPendingMessages,
+					new ContainerDeliveryCallback());
+		}
 
 		this.subscriber = createSubscriber(connectionFactory, this.subscriptionExecutor);
 
@@ -475,6 +508,70 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 		this.taskExecutor = taskExecutor;
 	}
 
+	/**
+	 * Sets the {@link DispatchMode} to dispatch received messages to the {@link #setTaskExecutor(Executor) task executor}.
+	 * Defaults to {@link DispatchMode#PER_MESSAGE}.
+	 *
+	 * @param dispatchMode must not be {@literal null}.
+	 * @since 3.0
+	 */
+	public void setDispatchMode(DispatchMode dispatchMode) {
+
+		Assert.notNull(dispatchMode, "DispatchMode must not be null!");
+		Assert.state(!afterPropertiesSet, "DispatchMode must be set before initializing the container");
+
+		this.dispatchMode = dispatchMode;
+	}
+
+	/**
+	 * Sets the maximum number of messages delivered by a single executor task when using a serial {@link DispatchMode}.
+	 * A task drains its queue up to the batch size and resubmits itself if messages remain to share the executor with
+	 * other queues. Defaults to {@link #DEFAULT_DISPATCH_BATCH_SIZE}.
+	 *
+	 * @param dispatchBatchSize must be greater zero.
+	 * @since 3.0
+	 */
+	public void setDispatchBatchSize(int dispatchBatchSize) {
+
+		Assert.isTrue(dispatchBatchSize > 0, "Dispatch batch size must be greater zero!");
+		this.dispatchBatchSize = dispatchBatchSize;
+	}
+
+	/**
+	 * Sets the maximum number of pending messages per dispatch queue when using a serial {@link DispatchMode}. Messages
+	 * exceeding the limit are dropped and counted as {@link #getDroppedMessageCount() dropped messages} instead of
+	 * blocking the connection that receives messages. Defaults to {@link #DEFAULT_MAX_PENDING_MESSAGES}.
+	 *
+	 * @param maxPendingMessages must be greater zero.
+	 * @since 3.0
+	 */
+	public void setMaxPendingMessages(int maxPendingMessages) {
+
+		Assert.isTrue(maxPendingMessages > 0, "Max pending messages must be greater zero!");
+		this.maxPendingMessages = maxPendingMessages;
+	}
+
+	/**
+	 * Return the number of received messages that are queued for delivery when using a serial {@link DispatchMode}.
+	 *
+	 * @return number of queued messages. {@literal 0} when dispatching {@link DispatchMode#PER_MESSAGE per message}.
+	 * @since 3.0
+	 */
+	public int getPendingMessageCount() {
+		return serialDispatcher != null ? serialDispatcher.getPendingMessages() : 0;
+	}
+
+	/**
+	 * Return the number of messages dropped because their dispatch queue was full.
+	 *
+	 * @return number of dropped messages.
+	 * @since 3.0
+	 * @see #setMaxPendingMessages(int)
+	 */
+	public long getDroppedMessageCount() {
+		return serialDispatcher != null ? serialDispatcher.getDroppedMessages() : 0;
+	}
+
 	/**
 	 * Sets the task execution used for subscribing to Redis channels. By default, if no executor is set, the
 	 * {@link #setTaskExecutor(Executor)} will be used. In some cases, this might be undersired as the listening to the
@@ -762,12 +859,14 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 				}
 				if (CollectionUtils.isEmpty(topics)) {
 					listenerTopics.remove(messageListener);
+					removeDispatchQueue(messageListener);
 				}
 			}
 			// if we removed everything, remove the empty holder collection
 			if (listeners.isEmpty()) {
 				mapping.remove(holder);
 				topicToRemove.add(holder.getArray());
+				removeDispatchQueue(holder);
 			}
 		}
 	}
@@ -833,6 +932,22 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 		}
 	}
 
+	/**
+	 * Process a batch of messages received from the provider.
+	 *
+	 * @param listener the batch message listener to notify.
+	 * @param messages the received messages.
+	 * @see #handleListenerException
+	 * @since 3.0
+	 */
+	protected void processMessages(BatchMessageListener listener, List<Message> messages) {
+		try {
+			listener.onMessages(messages);
+		} catch (Throwable ex) {
+			handleListenerException(ex);
+		}
+	}
+
 	/**
 	 * Handle the given exception that arose during listener execution.
 	 * <p>
@@ -973,12 +1088,39 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 
 		byte[] source = (pattern != null ? pattern.clone() : message.getChannel());
 
+		if (serialDispatcher != null) {
+			dispatchSerially(serialDispatcher, listeners, message, source);
+			return;
+		}
+
 		Executor executor = getRequiredTaskExecutor();
 		for (MessageListener messageListener : listeners) {
 			executor.execute(() -> processMessage(messageListener, message, source));
 		}
 	}
 
+	private void dispatchSerially(SerialMessageDispatcher dispatcher, Collection<MessageListener> listeners,
+			Message message, byte[] source) {
+
+		ByteArrayWrapper channel = dispatchMode == DispatchMode.PER_CHANNEL ? new ByteArrayWrapper(source) : null;
+
+		for (MessageListener messageListener : listeners) {
+
+			if (!dispatcher.dispatch(channel != null ? channel : messageListener, messageListener, message, source)
+					&& logger.isDebugEnabled()) {
+				logger.debug(String.format("Dropping message on channel '%s', dispatch queue is full",
+						serializer.deserialize(message.getChannel())));
+			}
+		}
+	}
+
+	private void removeDispatchQueue(Object key) {
+
+		if (serialDispatcher != null) {
+			serialDispatcher.remove(key);
+		}
+	}
+
 	private boolean hasTopics() {
 		return !channelMapping.isEmpty() || !patternMapping.isEmpty();
 	}
@@ -1007,6 +1149,49 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 		return serializer.serialize(topic.getTopic());
 	}
 
+	/**
+	 * Strategy to dispatch received messages to the {@link #setTaskExecutor(Executor) task executor}.
+	 *
+	 * @author agent
+	 * @since 3.0
+	 */
+	public enum DispatchMode {
+
+		/**
+		 * Submit a task for each message and listener. Messages are processed concurrently without ordering guarantees.
+		 */
+		PER_MESSAGE,
+
+		/**
+		 * Enqueue messages in a queue per listener. Each listener receives messages in the order they were received, one
+		 * message at a time. Different listeners process messages concurrently.
+		 */
+		PER_LISTENER,
+
+		/**
+		 * Enqueue messages in a queue per channel, respectively per pattern for pattern subscriptions. Messages of a channel
+		 * are delivered to its listeners in the order they were received, one message at a time. Different channels are
+		 * processed concurrently.
+		 */
+		PER_CHANNEL
+	}
+
+	/**
+	 * {@link SerialMessageDispatcher.DeliveryCallback} delivering messages through the container's processing methods.
+	 */
+	private class ContainerDeliveryCallback implements SerialMessageDispatcher.DeliveryCallback {
+
+		@Override
+		public void onMessage(MessageListener listener, Message message, byte[] source) {
+			processMessage(listener, message, source);
+		}
+
+		@Override
+		public void onMessages(BatchMessageListener listener, List<Message> messages) {
+			processMessages(listener, messages);
+		}
+	}
+
 	/**
 	 * Represents an operation that accepts three input arguments {@link SubscriptionListener},
 	 * {@code channel or pattern}, and {@code count} and returns no result.
@@ -1143,7 +1328,7 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 		private volatile @Nullable RedisConnection connection;
 
 		private final RedisConnectionFactory connectionFactory;
-		private final Object localMonitor = new Object();
+		private final Lock lock = new ReentrantLock();
 		private final DispatchMessageListener delegateListener = new DispatchMessageListener();
 		private final SynchronizingMessageListener synchronizingMessageListener = new SynchronizingMessageListener(
 				delegateListener, delegateListener);
@@ -1164,7 +1349,8 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 		public CompletableFuture<Void> initialize(BackOffExecution backOffExecution, Collection<byte[]> patterns,
 				Collection<byte[]> channels) {
 
-			synchronized (localMonitor) {
+			lock.lock();
+			try {
 
 				RedisConnection connection = connectionFactory.getConnection();
 				this.connection = connection;
@@ -1186,6 +1372,8 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 				}
 
 				return initFuture;
+			} finally {
+				lock.unlock();
 			}
 		}
 
@@ -1229,7 +1417,8 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 
 		public void unsubscribeAll() {
 
-			synchronized (localMonitor) {
+			lock.lock();
+			try {
 
 				RedisConnection connection = this.connection;
 				if (connection == null) {
@@ -1237,6 +1426,8 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 				}
 
 				doUnsubscribe(connection);
+			} finally {
+				lock.unlock();
 			}
 		}
 
@@ -1252,7 +1443,8 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 		 */
 		public void cancel() {
 
-			synchronized (localMonitor) {
+			lock.lock();
+			try {
 
 				RedisConnection connection = this.connection;
 				if (connection == null) {
@@ -1260,6 +1452,8 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 				}
 
 				doCancel(connection);
+			} finally {
+				lock.unlock();
 			}
 		}
 
@@ -1295,7 +1489,8 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 		 */
 		public void closeConnection() {
 
-			synchronized (localMonitor) {
+			lock.lock();
+			try {
 
 				RedisConnection connection = this.connection;
 				this.connection = null;
@@ -1308,6 +1503,8 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 						logger.warn("Error closing subscription connection", e);
 					}
 				}
+			} finally {
+				lock.unlock();
 			}
 		}
 
@@ -1353,7 +1550,8 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 				return;
 			}
 
-			synchronized (localMonitor) {
+			lock.lock();
+			try {
 				RedisConnection connection = this.connection;
 				if (connection != null) {
 					Subscription sub = connection.getSubscription();
@@ -1361,6 +1559,8 @@ public class RedisMessageListenerContainer implements InitializingBean, Disposab
 						function.accept(sub, data);
 					}
 				}
+			} finally {
+				lock.unlock();
 			}
 		}
 
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.listener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+/**
+ * Dispatcher delivering messages through serial queues. Each queue is identified by a key (e.g. the listener or the
+ * channel) and drained by at most one task at a time so messages sharing the same key are delivered in the order they
+ * were dispatched. A task delivers up to {@code batchSize} messages before resubmitting itself to the {@link Executor}
+ * to not starve other queues. Queues are bounded: messages exceeding the queue capacity are dropped and counted.
+ *
+ * @author agent
+ * @since 3.0
+ */
+class SerialMessageDispatcher {
+
+	private final Executor executor;
+	private final int batchSize;
+	private final int capacity;
+	private final DeliveryCallback callback;
+	private final Map<Object, Lane> lanes = new ConcurrentHashMap<>();
+	private final LongAdder dropped = new LongAdder();
+
+	/**
+	 * @param executor the executor to run queue drain tasks.
+	 * @param batchSize maximum number of messages delivered by a single task.
+	 * @param capacity maximum number of pending messages per queue.
+	 * @param callback callback to deliver messages to listeners.
+	 */
+	SerialMessageDispatcher(Executor executor, int batchSize, int capacity, DeliveryCallback callback) {
+
+		this.executor = executor;
+		this.batchSize = batchSize;
+		this.capacity = capacity;
+		this.callback = callback;
+	}
+
+	/**
+	 * Enqueue a message for delivery to {@code listener}.
+	 *
+	 * @param key the key identifying the serial queue.
+	 * @param listener the listener to notify.
+	 * @param message the message.
+	 * @param source the channel or pattern.
+	 * @return {@literal true} if the message was enqueued, {@literal false} if it was dropped because the queue is full.
+	 */
+	boolean dispatch(Object key, MessageListener listener, Message message, byte[] source) {
+
+		Lane lane = lanes.computeIfAbsent(key, it -> new Lane());
+
+		if (!lane.offer(new Delivery(listener, message, source))) {
+			dropped.increment();
+			return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * Remove the queue identified by {@code key}. Pending messages of the queue are still delivered.
+	 *
+	 * @param key the key identifying the serial queue.
+	 */
+	void remove(Object key) {
+		lanes.remove(key);
+	}
+
+	/**
+	 * @return number of messages enqueued and not yet delivered.
+	 */
+	int getPendingMessages() {
+
+		int pending = 0;
+
+		for (Lane lane : lanes.values()) {
+			pending += lane.size.get();
+		}
+
+		return pending;
+	}
+
+	/**
+	 * @return number of messages dropped because their queue was full.
+	 */
+	long getDroppedMessages() {
+		return dropped.sum();
+	}
+
+	private void execute(Lane lane) {
+
+		try {
+			executor.execute(lane);
+		} catch (RejectedExecutionException e) {
+			lane.run();
+		}
+	}
+
+	/**
+	 * Callback to deliver messages to listeners.
+	 */
+	interface DeliveryCallback {
+
+		/**
+		 * Deliver a single message.
+		 */
+		void onMessage(MessageListener listener, Message message, byte[] source);
+
+		/**
+		 * Deliver a batch of messages to a {@link BatchMessageListener}.
+		 */
+		void onMessages(BatchMessageListener listener, List<Message> messages);
+	}
+
+	private static class Delivery {
+
+		private final MessageListener listener;
+		private final Message message;
+		private final byte[] source;
+
+		Delivery(MessageListener listener, Message message, byte[] source) {
+			this.listener = listener;
+			this.message = message;
+			this.source = source;
+		}
+	}
+
+	/**
+	 * Serial queue. The size counter guards the drain task: the task is submitted by the thread that increments the size
+	 * from zero and resubmits itself as long as messages remain.
+	 */
+	private class Lane implements Runnable {
+
+		private final Queue<Delivery> queue = new ConcurrentLinkedQueue<>();
+		private final AtomicInteger size = new AtomicInteger();
+
+		boolean offer(Delivery delivery) {
+
+			if (size.get() >= capacity) {
+				return false;
+			}
+
+			queue.add(delivery);
+
+			if (size.getAndIncrement() == 0) {
+				execute(this);
+			}
+
+			return true;
+		}
+
+		@Override
+		public void run() {
+
+			List<Delivery> batch = new ArrayList<>(Math.min(batchSize, size.get()));
+			Delivery delivery;
+
+			while (batch.size() < batchSize && (delivery = queue.poll()) != null) {
+				batch.add(delivery);
+			}
+
+			try {
+				deliver(batch);
+			} finally {
+				if (size.addAndGet(-batch.size()) > 0) {
+					execute(this);
+				}
+			}
+		}
+
+		/**
+		 * Deliver messages in order. Messages for {@link BatchMessageListener batch listeners} are collected per listener
+		 * and delivered after all other messages of the batch.
+		 */
+		private void deliver(List<Delivery> batch) {
+
+			Map<BatchMessageListener, List<Message>> batches = null;
+
+			for (Delivery delivery : batch) {
+
+				if (delivery.listener instanceof BatchMessageListener) {
+
+					if (batches == null) {
+						batches = new LinkedHashMap<>();
+					}
+
+					batches.computeIfAbsent((BatchMessageListener) delivery.listener, it -> new ArrayList<>())
+							.add(delivery.message);
+				} else {
+					callback.onMessage(delivery.listener, delivery.message, delivery.source);
+				}
+			}
+
+			if (batches != null) {
+				batches.forEach(callback::onMessages);
+			}
+		}
+	}
+}
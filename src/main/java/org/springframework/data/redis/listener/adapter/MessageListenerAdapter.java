@@ -15,11 +15,14 @@
  */
 package org.springframework.data.redis.listener.adapter;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -40,9 +43,9 @@ import org.springframework.util.ReflectionUtils.MethodFilter;
 import org.springframework.util.StringUtils;
 
 /**
- * Message listener adapter that delegates the handling of messages to target listener methods via reflection, with
- * flexible message type conversion. Allows listener methods to operate on message content types, completely independent
- * from the Redis API.
+ * Message listener adapter that delegates the handling of messages to target listener methods, with flexible message
+ * type conversion. Listener methods are resolved reflectively once and invoked through bound {@link MethodHandle method
+ * handles}. Allows listener methods to operate on message content types, completely independent from the Redis API.
  * <p>
  * Make sure to call {@link #afterPropertiesSet()} after setting all the parameters on the adapter.
  * <p>
@@ -101,7 +104,7 @@ public class MessageListenerAdapter implements InitializingBean, MessageListener
 
 		private final Object delegate;
 		private String methodName;
-		private Set<Method> methods;
+		private List<ListenerMethod> methods;
 		private boolean lenient;
 
 		MethodInvoker(Object delegate, String methodName) {
@@ -109,38 +112,25 @@ public class MessageListenerAdapter implements InitializingBean, MessageListener
 			this.delegate = delegate;
 			this.methodName = methodName;
 			this.lenient = delegate instanceof MessageListener;
-			this.methods = new HashSet<>();
+			this.methods = new ArrayList<>();
 
 			Class<?> c = delegate.getClass();
 
 			ReflectionUtils.doWithMethods(c, method -> {
 				ReflectionUtils.makeAccessible(method);
-				methods.add(method);
+				methods.add(new ListenerMethod(delegate, method));
 			}, new MostSpecificMethodFilter(methodName, c));
 
 			Assert.isTrue(lenient || !methods.isEmpty(), "Cannot find a suitable method named [" + c.getName() + "#"
 					+ methodName + "] - is the method public and has the proper arguments?");
 		}
 
-		void invoke(Object[] arguments) throws InvocationTargetException, IllegalAccessException {
+		void invoke(Object[] arguments) throws InvocationTargetException {
 
-			Object[] message = new Object[] { arguments[0] };
-
-			for (Method m : methods) {
-
-				Class<?>[] types = m.getParameterTypes();
-				Object[] args = //
-						types.length == 2 //
-								&& types[0].isInstance(arguments[0]) //
-								&& types[1].isInstance(arguments[1]) ? arguments : message;
-
-				if (!types[0].isInstance(args[0])) {
-					continue;
+			for (ListenerMethod method : methods) {
+				if (method.invoke(arguments)) {
+					return;
 				}
-
-				m.invoke(delegate, args);
-
-				return;
 			}
 		}
 
@@ -154,6 +144,76 @@ public class MessageListenerAdapter implements InitializingBean, MessageListener
 		}
 	}
 
+	/**
+	 * Listener method bound to its delegate through a {@link MethodHandle}. Parameter types and the method handle are
+	 * resolved once so that invoking the listener method does not require reflection.
+	 *
+	 * @since 3.0
+	 */
+	static final class ListenerMethod {
+
+		private static final MethodType MESSAGE_METHOD = MethodType.methodType(void.class, Object.class);
+		private static final MethodType MESSAGE_AND_CHANNEL_METHOD = MethodType.methodType(void.class, Object.class,
+				Object.class);
+
+		private final Class<?> messageType;
+		private final @Nullable Class<?> channelType;
+		private final MethodHandle methodHandle;
+
+		ListenerMethod(Object delegate, Method method) {
+
+			Class<?>[] parameterTypes = method.getParameterTypes();
+
+			this.messageType = parameterTypes[0];
+			this.channelType = parameterTypes.length == 2 ? parameterTypes[1] : null;
+
+			try {
+
+				MethodHandle methodHandle = MethodHandles.lookup().unreflect(method);
+
+				if (!Modifier.isStatic(method.getModifiers())) {
+					methodHandle = methodHandle.bindTo(delegate);
+				}
+
+				this.methodHandle = methodHandle.asType(channelType != null ? MESSAGE_AND_CHANNEL_METHOD : MESSAGE_METHOD);
+			} catch (IllegalAccessException ex) {
+				throw new IllegalStateException("Cannot access listener method " + method, ex);
+			}
+		}
+
+		/**
+		 * Invoke the listener method if it accepts the message.
+		 *
+		 * @param arguments the message and the channel.
+		 * @return {@literal true} if the method was invoked; {@literal false} if the method does not accept the message.
+		 * @throws InvocationTargetException if the listener method threw an exception.
+		 */
+		boolean invoke(Object[] arguments) throws InvocationTargetException {
+
+			Object message = arguments[0];
+
+			if (!messageType.isInstance(message)) {
+				return false;
+			}
+
+			if (channelType != null && !channelType.isInstance(arguments[1])) {
+				throw new IllegalArgumentException("Listener method requires a channel argument of type " + channelType);
+			}
+
+			try {
+				if (channelType != null) {
+					methodHandle.invokeExact(message, arguments[1]);
+				} else {
+					methodHandle.invokeExact(message);
+				}
+			} catch (Throwable ex) {
+				throw new InvocationTargetException(ex);
+			}
+
+			return true;
+		}
+	}
+
 	/**
 	 * Out-of-the-box value for the default listener method: "handleMessage".
 	 */
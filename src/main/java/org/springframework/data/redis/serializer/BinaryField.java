@@ -0,0 +1,54 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * {@link BinaryField} assigns a stable field number to a property serialized by {@link CompactBinaryRedisSerializer}.
+ * Field numbers identify properties in the binary format instead of their names and must not change once data has
+ * been written. Numbers of removed properties should not be reused.
+ *
+ * <pre>
+ * <code>
+ * record Person(&#64;BinaryField(1) String firstname, &#64;BinaryField(2) String lastname, &#64;BinaryField(4) int age) {}
+ * </code>
+ * </pre>
+ *
+ * All properties of a POJO must be annotated. Record components may omit {@link BinaryField} altogether, in which case
+ * they are numbered in declaration order starting at {@literal 1}. Either all or none of the components of a record must
+ * be annotated.
+ *
+ * @author agent
+ * @since 3.0
+ * @see CompactBinaryRedisSerializer
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Target(value = { ElementType.FIELD, ElementType.RECORD_COMPONENT })
+public @interface BinaryField {
+
+	/**
+	 * The field number. Must be between {@literal 1} and {@literal 536870911} and unique within a type hierarchy.
+	 *
+	 * @return the field number.
+	 */
+	int value();
+}
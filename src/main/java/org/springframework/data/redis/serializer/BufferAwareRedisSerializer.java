@@ -0,0 +1,85 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Extension to {@link RedisSerializer} for serializers that are able to write their binary representation into a
+ * caller-provided target and to read from a {@link ByteBuffer} without copying its contents into an intermediate
+ * {@code byte[]}.
+ * <p>
+ * The {@link OutputStream} variant allows callers to supply growable or pooled buffers (e.g. a reused
+ * {@link java.io.ByteArrayOutputStream} or a Netty {@code ByteBufOutputStream}) so that serialization does not need to
+ * allocate a fresh {@code byte[]} per element. {@link RedisElementWriter} and {@link RedisElementReader} created via
+ * {@link RedisElementWriter#from(RedisSerializer)} respective {@link RedisElementReader#from(RedisSerializer)} detect
+ * this interface and use the buffer-based methods.
+ *
+ * @author agent
+ * @since 3.0
+ */
+public interface BufferAwareRedisSerializer<T> extends RedisSerializer<T> {
+
+	/**
+	 * Serialize the given object and write its binary representation to {@code target}. Implementations must not close
+	 * the given {@link OutputStream}. {@literal null} values are written as empty content.
+	 *
+	 * @param value object to serialize. Can be {@literal null}.
+	 * @param target the {@link OutputStream} to write to. Must not be {@literal null}.
+	 * @throws SerializationException if the value cannot be serialized.
+	 */
+	void serializeTo(@Nullable T value, OutputStream target) throws SerializationException;
+
+	/**
+	 * Deserialize an object from the remaining content of the given {@link ByteBuffer}. Implementations must not change
+	 * the buffer's position or limit and should read the content without copying it into an intermediate array.
+	 *
+	 * @param source the binary representation. Must not be {@literal null}.
+	 * @return the equivalent object instance. Can be {@literal null}.
+	 * @throws SerializationException if the value cannot be deserialized.
+	 */
+	@Nullable
+	T deserializeFrom(ByteBuffer source) throws SerializationException;
+
+	/**
+	 * Serialize the given object into a new {@link ByteBuffer}. The default implementation writes into a growable buffer
+	 * that is sized according to {@link #estimateSize(Object)} and exposes its contents without a trailing copy.
+	 *
+	 * @param value object to serialize. Can be {@literal null}.
+	 * @return the {@link ByteBuffer} holding the binary representation of {@code value}. Never {@literal null}.
+	 * @throws SerializationException if the value cannot be serialized.
+	 */
+	default ByteBuffer serializeToByteBuffer(@Nullable T value) throws SerializationException {
+
+		ByteBufferOutputStream target = new ByteBufferOutputStream(estimateSize(value));
+		serializeTo(value, target);
+		return target.toByteBuffer();
+	}
+
+	/**
+	 * Estimate the size in bytes of the binary representation of {@code value}. The estimate is used to size buffers
+	 * upfront and does not need to be exact.
+	 *
+	 * @param value the object to estimate. Can be {@literal null}.
+	 * @return the estimated number of bytes. Defaults to {@literal 64}.
+	 */
+	default int estimateSize(@Nullable T value) {
+		return 64;
+	}
+}
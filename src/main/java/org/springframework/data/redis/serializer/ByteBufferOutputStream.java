@@ -0,0 +1,43 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Growable {@link ByteArrayOutputStream} that exposes its written content as {@link ByteBuffer} without copying the
+ * internal buffer. Instances can be {@link #reset() reset} for reuse once the exposed {@link ByteBuffer} is no longer
+ * in use.
+ *
+ * @author agent
+ * @since 3.0
+ */
+class ByteBufferOutputStream extends ByteArrayOutputStream {
+
+	ByteBufferOutputStream(int initialCapacity) {
+		super(Math.max(initialCapacity, 16));
+	}
+
+	/**
+	 * Expose the written content as {@link ByteBuffer} backed by the internal buffer.
+	 *
+	 * @return a {@link ByteBuffer} view of the written content.
+	 */
+	ByteBuffer toByteBuffer() {
+		return ByteBuffer.wrap(buf, 0, count);
+	}
+}
@@ -0,0 +1,1213 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.ResolvableType;
+import org.springframework.lang.Nullable;
+
+/**
+ * Codecs for the tagged binary format written by {@link CompactBinaryRedisSerializer}. A message (object) consists of
+ * a sequence of fields, each prefixed with a varint tag of {@code (fieldNumber << 3) | wireType}, and is terminated by
+ * a zero tag. Field names are not written. Codecs are built once per type and access properties through
+ * {@link MethodHandle}s.
+ * <p>
+ * Wire types:
+ * <ul>
+ * <li>{@link #VARINT}: {@code boolean}, {@code byte}, {@code short}, {@code char}, {@code int}, {@code long} as
+ * (zig-zag encoded) varint.</li>
+ * <li>{@link #FIXED32}/{@link #FIXED64}: {@code float}/{@code double} in little-endian byte order.</li>
+ * <li>{@link #LENGTH_DELIMITED}: {@link String} (UTF-8), {@code byte[]} and {@link Enum} (constant name).</li>
+ * <li>{@link #MESSAGE}: nested objects, terminated by a zero tag.</li>
+ * <li>{@link #SEQUENCE}: {@link Collection}s as element count, element wire type and elements.</li>
+ * <li>{@link #MAP}: {@link Map}s as entry count, key and value wire type and key/value pairs.</li>
+ * </ul>
+ * Readers skip fields with unknown field numbers or with a wire type that does not match the property.
+ *
+ * @author agent
+ * @since 3.0
+ */
+final class CompactBinaryCodecs {
+
+	static final int VARINT = 0;
+	static final int FIXED64 = 1;
+	static final int LENGTH_DELIMITED = 2;
+	static final int MESSAGE = 3;
+	static final int SEQUENCE = 4;
+	static final int FIXED32 = 5;
+	static final int MAP = 6;
+
+	static final int MAX_FIELD_NUMBER = (1 << 29) - 1;
+
+	private static final int MAX_INDEXED_FIELD_NUMBER = 256;
+
+	private final Map<Class<?>, MessageCodec> messageCodecs = new HashMap<>();
+
+	private CompactBinaryCodecs() {}
+
+	/**
+	 * Create a {@link MessageCodec} for the given {@code type} and all types reachable through its properties.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @return the {@link MessageCodec} for {@code type}.
+	 * @throws IllegalArgumentException if {@code type} or one of its properties is not supported.
+	 */
+	static MessageCodec forType(Class<?> type) {
+		return new CompactBinaryCodecs().getMessageCodec(type);
+	}
+
+	private MessageCodec getMessageCodec(Class<?> type) {
+
+		MessageCodec codec = messageCodecs.get(type);
+
+		if (codec != null) {
+			return codec;
+		}
+
+		if (type.isInterface() || type.isArray() || type.isPrimitive() || type.isEnum()
+				|| Modifier.isAbstract(type.getModifiers()) || type.getName().startsWith("java.")) {
+			throw new IllegalArgumentException(
+					String.format("Type %s is not supported by the compact binary format", type.getName()));
+		}
+
+		codec = new MessageCodec(type);
+		messageCodecs.put(type, codec);
+
+		try {
+			if (type.isRecord()) {
+				initializeRecord(codec);
+			} else {
+				initializeBean(codec);
+			}
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			messageCodecs.remove(type);
+			if (e instanceof IllegalArgumentException) {
+				throw (IllegalArgumentException) e;
+			}
+			throw new IllegalArgumentException(
+					String.format("Cannot create compact binary codec for %s: %s", type.getName(), e.getMessage()), e);
+		}
+
+		return codec;
+	}
+
+	private void initializeRecord(MessageCodec codec) throws ReflectiveOperationException {
+
+		Class<?> type = codec.type;
+		RecordComponent[] components = type.getRecordComponents();
+		Class<?>[] parameterTypes = new Class<?>[components.length];
+		Object[] defaults = new Object[components.length];
+		List<PropertyDescriptor> descriptors = new ArrayList<>(components.length);
+
+		for (int i = 0; i < components.length; i++) {
+
+			RecordComponent component = components[i];
+			parameterTypes[i] = component.getType();
+			defaults[i] = defaultValue(component.getType());
+
+			BinaryField annotation = component.getAnnotation(BinaryField.class);
+			MethodHandle getter = accessibleLookup(component.getAccessor()).unreflect(component.getAccessor());
+
+			descriptors.add(new PropertyDescriptor(component.getName(), annotation, component.getType(),
+					ResolvableType.forMethodReturnType(component.getAccessor()), getter, null));
+		}
+
+		Constructor<?> constructor = type.getDeclaredConstructor(parameterTypes);
+		MethodHandle instantiator = accessibleLookup(constructor).unreflectConstructor(constructor)
+				.asSpreader(Object[].class, components.length).asType(MethodType.methodType(Object.class, Object[].class));
+
+		codec.initialize(createProperties(type, descriptors, false), instantiator, defaults);
+	}
+
+	private void initializeBean(MessageCodec codec) throws ReflectiveOperationException {
+
+		Class<?> type = codec.type;
+		List<Field> fields = new ArrayList<>();
+
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+
+			List<Field> declared = new ArrayList<>();
+			for (Field field : current.getDeclaredFields()) {
+				if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())
+						&& !field.isSynthetic()) {
+					declared.add(field);
+				}
+			}
+			fields.addAll(0, declared);
+		}
+
+		List<PropertyDescriptor> descriptors = new ArrayList<>(fields.size());
+		for (Field field : fields) {
+
+			MethodHandles.Lookup lookup = accessibleLookup(field);
+			descriptors.add(new PropertyDescriptor(field.getName(), field.getAnnotation(BinaryField.class),
+					field.getType(), ResolvableType.forField(field, type), lookup.unreflectGetter(field),
+					lookup.unreflectSetter(field)));
+		}
+
+		Constructor<?> constructor = type.getDeclaredConstructor();
+		MethodHandle instantiator = accessibleLookup(constructor).unreflectConstructor(constructor)
+				.asType(MethodType.methodType(Object.class));
+
+		// the order of declared fields is unspecified, implicit numbers would not be stable across JVMs or class changes
+		codec.initialize(createProperties(type, descriptors, true), instantiator, null);
+	}
+
+	private Property[] createProperties(Class<?> type, List<PropertyDescriptor> descriptors,
+			boolean requireAnnotations) {
+
+		long annotated = descriptors.stream().filter(it -> it.annotation != null).count();
+
+		if (requireAnnotations && annotated != descriptors.size()) {
+			throw new IllegalArgumentException(
+					String.format("All properties of %s must be annotated with @BinaryField", type.getName()));
+		}
+
+		if (annotated != 0 && annotated != descriptors.size()) {
+			throw new IllegalArgumentException(String.format(
+					"Either all or none of the properties of %s must be annotated with @BinaryField", type.getName()));
+		}
+
+		Property[] properties = new Property[descriptors.size()];
+		Map<Integer, String> numbers = new HashMap<>(descriptors.size());
+
+		for (int i = 0; i < descriptors.size(); i++) {
+
+			PropertyDescriptor descriptor = descriptors.get(i);
+			int number = descriptor.annotation != null ? descriptor.annotation.value() : i + 1;
+
+			if (number < 1 || number > MAX_FIELD_NUMBER) {
+				throw new IllegalArgumentException(String.format("Field number %d of %s.%s is out of range [1, %d]", number,
+						type.getName(), descriptor.name, MAX_FIELD_NUMBER));
+			}
+
+			String existing = numbers.put(number, descriptor.name);
+			if (existing != null) {
+				throw new IllegalArgumentException(String.format("Field number %d is used by both %s.%s and %s.%s", number,
+						type.getName(), existing, type.getName(), descriptor.name));
+			}
+
+			properties[i] = createProperty(descriptor, number, i);
+		}
+
+		return properties;
+	}
+
+	private Property createProperty(PropertyDescriptor descriptor, int number, int index) {
+
+		Class<?> type = descriptor.type;
+		MethodHandle getter = descriptor.getter;
+		MethodHandle setter = descriptor.setter;
+
+		if (type == int.class) {
+			return new IntProperty(number, index, getter.asType(MethodType.methodType(int.class, Object.class)),
+					setter != null ? setter.asType(MethodType.methodType(void.class, Object.class, int.class)) : null);
+		}
+
+		if (type == long.class) {
+			return new LongProperty(number, index, getter.asType(MethodType.methodType(long.class, Object.class)),
+					setter != null ? setter.asType(MethodType.methodType(void.class, Object.class, long.class)) : null);
+		}
+
+		if (type == double.class) {
+			return new DoubleProperty(number, index, getter.asType(MethodType.methodType(double.class, Object.class)),
+					setter != null ? setter.asType(MethodType.methodType(void.class, Object.class, double.class)) : null);
+		}
+
+		if (type == boolean.class) {
+			return new BooleanProperty(number, index, getter.asType(MethodType.methodType(boolean.class, Object.class)),
+					setter != null ? setter.asType(MethodType.methodType(void.class, Object.class, boolean.class)) : null);
+		}
+
+		ValueCodec codec = getValueCodec(descriptor.genericType, descriptor.name);
+
+		return new ObjectProperty(number, index, codec, getter.asType(MethodType.methodType(Object.class, Object.class)),
+				setter != null ? setter.asType(MethodType.methodType(void.class, Object.class, Object.class)) : null);
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private ValueCodec getValueCodec(ResolvableType type, String propertyName) {
+
+		Class<?> rawType = type.resolve();
+
+		if (rawType == null) {
+			throw new IllegalArgumentException(String.format("Cannot resolve type of property %s", propertyName));
+		}
+
+		if (rawType == boolean.class || rawType == Boolean.class) {
+			return SimpleCodec.BOOLEAN;
+		}
+		if (rawType == byte.class || rawType == Byte.class) {
+			return SimpleCodec.BYTE;
+		}
+		if (rawType == short.class || rawType == Short.class) {
+			return SimpleCodec.SHORT;
+		}
+		if (rawType == char.class || rawType == Character.class) {
+			return SimpleCodec.CHAR;
+		}
+		if (rawType == int.class || rawType == Integer.class) {
+			return SimpleCodec.INT;
+		}
+		if (rawType == long.class || rawType == Long.class) {
+			return SimpleCodec.LONG;
+		}
+		if (rawType == float.class || rawType == Float.class) {
+			return SimpleCodec.FLOAT;
+		}
+		if (rawType == double.class || rawType == Double.class) {
+			return SimpleCodec.DOUBLE;
+		}
+		if (rawType == String.class) {
+			return SimpleCodec.STRING;
+		}
+		if (rawType == byte[].class) {
+			return SimpleCodec.BYTES;
+		}
+		if (rawType.isEnum()) {
+			return new EnumCodec((Class) rawType);
+		}
+		if (Collection.class.isAssignableFrom(rawType)) {
+
+			ResolvableType elementType = type.asCollection().getGeneric(0);
+			return new CollectionCodec(rawType, elementType.resolve(Object.class),
+					getValueCodec(elementType, propertyName + "[]"));
+		}
+		if (Map.class.isAssignableFrom(rawType)) {
+
+			ResolvableType mapType = type.asMap();
+			return new MapCodec(rawType, mapType.getGeneric(0).resolve(Object.class),
+					getValueCodec(mapType.getGeneric(0), propertyName + ".key"),
+					getValueCodec(mapType.getGeneric(1), propertyName + ".value"));
+		}
+
+		try {
+			return getMessageCodec(rawType);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException(String.format("Property %s: %s", propertyName, e.getMessage()), e);
+		}
+	}
+
+	private static MethodHandles.Lookup accessibleLookup(AccessibleObject member) {
+
+		member.setAccessible(true);
+		return MethodHandles.lookup();
+	}
+
+	private static Object defaultValue(Class<?> type) {
+		return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+	}
+
+	static RuntimeException rethrow(Throwable throwable, String message) {
+
+		if (throwable instanceof RuntimeException) {
+			return (RuntimeException) throwable;
+		}
+
+		if (throwable instanceof Error) {
+			throw (Error) throwable;
+		}
+
+		return new SerializationException(message, throwable);
+	}
+
+	/**
+	 * Codec for a single value of a specific type.
+	 */
+	interface ValueCodec {
+
+		int wireType();
+
+		void write(Object value, BinaryWriter writer);
+
+		@Nullable
+		Object read(BinaryReader reader);
+	}
+
+	enum SimpleCodec implements ValueCodec {
+
+		BOOLEAN(VARINT) {
+
+			@Override
+			public void write(Object value, BinaryWriter writer) {
+				writer.writeVarInt((Boolean) value ? 1 : 0);
+			}
+
+			@Override
+			public Object read(BinaryReader reader) {
+				return reader.readVarLong() != 0;
+			}
+		},
+
+		BYTE(VARINT) {
+
+			@Override
+			public void write(Object value, BinaryWriter writer) {
+				writer.writeSignedVarInt((Byte) value);
+			}
+
+			@Override
+			public Object read(BinaryReader reader) {
+				return (byte) reader.readSignedVarInt();
+			}
+		},
+
+		SHORT(VARINT) {
+
+			@Override
+			public void write(Object value, BinaryWriter writer) {
+				writer.writeSignedVarInt((Short) value);
+			}
+
+			@Override
+			public Object read(BinaryReader reader) {
+				return (short) reader.readSignedVarInt();
+			}
+		},
+
+		CHAR(VARINT) {
+
+			@Override
+			public void write(Object value, BinaryWriter writer) {
+				writer.writeVarInt((Character) value);
+			}
+
+			@Override
+			public Object read(BinaryReader reader) {
+				return (char) reader.readVarInt();
+			}
+		},
+
+		INT(VARINT) {
+
+			@Override
+			public void write(Object value, BinaryWriter writer) {
+				writer.writeSignedVarInt((Integer) value);
+			}
+
+			@Override
+			public Object read(BinaryReader reader) {
+				return reader.readSignedVarInt();
+			}
+		},
+
+		LONG(VARINT) {
+
+			@Override
+			public void write(Object value, BinaryWriter writer) {
+				writer.writeSignedVarLong((Long) value);
+			}
+
+			@Override
+			public Object read(BinaryReader reader) {
+				return reader.readSignedVarLong();
+			}
+		},
+
+		FLOAT(FIXED32) {
+
+			@Override
+			public void write(Object value, BinaryWriter writer) {
+				writer.writeFixed32(Float.floatToRawIntBits((Float) value));
+			}
+
+			@Override
+			public Object read(BinaryReader reader) {
+				return Float.intBitsToFloat(reader.readFixed32());
+			}
+		},
+
+		DOUBLE(FIXED64) {
+
+			@Override
+			public void write(Object value, BinaryWriter writer) {
+				writer.writeFixed64(Double.doubleToRawLongBits((Double) value));
+			}
+
+			@Override
+			public Object read(BinaryReader reader) {
+				return Double.longBitsToDouble(reader.readFixed64());
+			}
+		},
+
+		STRING(LENGTH_DELIMITED) {
+
+			@Override
+			public void write(Object value, BinaryWriter writer) {
+				writer.writeBytes(((String) value).getBytes(StandardCharsets.UTF_8));
+			}
+
+			@Override
+			public Object read(BinaryReader reader) {
+				return reader.readString();
+			}
+		},
+
+		BYTES(LENGTH_DELIMITED) {
+
+			@Override
+			public void write(Object value, BinaryWriter writer) {
+				writer.writeBytes((byte[]) value);
+			}
+
+			@Override
+			public Object read(BinaryReader reader) {
+				return reader.readBytes();
+			}
+		};
+
+		private final int wireType;
+
+		SimpleCodec(int wireType) {
+			this.wireType = wireType;
+		}
+
+		@Override
+		public int wireType() {
+			return wireType;
+		}
+	}
+
+	/**
+	 * Writes {@link Enum} constants by name. Constants that are unknown to the reader are read as {@literal null}.
+	 */
+	static class EnumCodec<E extends Enum<E>> implements ValueCodec {
+
+		private final Map<String, E> constants = new HashMap<>();
+
+		EnumCodec(Class<E> type) {
+
+			for (E constant : type.getEnumConstants()) {
+				constants.put(constant.name(), constant);
+			}
+		}
+
+		@Override
+		public int wireType() {
+			return LENGTH_DELIMITED;
+		}
+
+		@Override
+		public void write(Object value, BinaryWriter writer) {
+			writer.writeBytes(((Enum<?>) value).name().getBytes(StandardCharsets.UTF_8));
+		}
+
+		@Override
+		@Nullable
+		public Object read(BinaryReader reader) {
+			return constants.get(reader.readString());
+		}
+	}
+
+	static class CollectionCodec implements ValueCodec {
+
+		private final Class<?> collectionType;
+		private final Class<?> elementType;
+		private final ValueCodec elementCodec;
+
+		CollectionCodec(Class<?> collectionType, Class<?> elementType, ValueCodec elementCodec) {
+
+			this.collectionType = collectionType;
+			this.elementType = elementType;
+			this.elementCodec = elementCodec;
+		}
+
+		@Override
+		public int wireType() {
+			return SEQUENCE;
+		}
+
+		@Override
+		public void write(Object value, BinaryWriter writer) {
+
+			Collection<?> collection = (Collection<?>) value;
+
+			writer.writeVarInt(collection.size());
+			writer.writeByte(elementCodec.wireType());
+
+			for (Object element : collection) {
+
+				if (element == null) {
+					throw new SerializationException("Collections must not contain null elements");
+				}
+				elementCodec.write(element, writer);
+			}
+		}
+
+		@Override
+		public Object read(BinaryReader reader) {
+
+			int size = reader.readLength();
+			int wireType = reader.readByte();
+			Collection<Object> collection = CollectionFactory.createCollection(collectionType, elementType, size);
+
+			for (int i = 0; i < size; i++) {
+
+				if (wireType == elementCodec.wireType()) {
+					collection.add(elementCodec.read(reader));
+				} else {
+					reader.skip(wireType);
+				}
+			}
+
+			return collection;
+		}
+	}
+
+	static class MapCodec implements ValueCodec {
+
+		private final Class<?> mapType;
+		private final Class<?> keyType;
+		private final ValueCodec keyCodec;
+		private final ValueCodec valueCodec;
+
+		MapCodec(Class<?> mapType, Class<?> keyType, ValueCodec keyCodec, ValueCodec valueCodec) {
+
+			this.mapType = mapType;
+			this.keyType = keyType;
+			this.keyCodec = keyCodec;
+			this.valueCodec = valueCodec;
+		}
+
+		@Override
+		public int wireType() {
+			return MAP;
+		}
+
+		@Override
+		public void write(Object value, BinaryWriter writer) {
+
+			Map<?, ?> map = (Map<?, ?>) value;
+
+			writer.writeVarInt(map.size());
+			writer.writeByte(keyCodec.wireType());
+			writer.writeByte(valueCodec.wireType());
+
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+
+				if (entry.getKey() == null || entry.getValue() == null) {
+					throw new SerializationException("Maps must not contain null keys or values");
+				}
+				keyCodec.write(entry.getKey(), writer);
+				valueCodec.write(entry.getValue(), writer);
+			}
+		}
+
+		@Override
+		public Object read(BinaryReader reader) {
+
+			int size = reader.readLength();
+			int keyWireType = reader.readByte();
+			int valueWireType = reader.readByte();
+			Map<Object, Object> map = CollectionFactory.createMap(mapType, keyType, size);
+			boolean compatible = keyWireType == keyCodec.wireType() && valueWireType == valueCodec.wireType();
+
+			for (int i = 0; i < size; i++) {
+
+				if (compatible) {
+					map.put(keyCodec.read(reader), valueCodec.read(reader));
+				} else {
+					reader.skip(keyWireType);
+					reader.skip(valueWireType);
+				}
+			}
+
+			return map;
+		}
+	}
+
+	/**
+	 * Codec for objects (records and beans). Records are instantiated through their canonical constructor, beans through
+	 * their no-arg constructor followed by field assignment.
+	 */
+	static class MessageCodec implements ValueCodec {
+
+		private final Class<?> type;
+		private Property[] properties = new Property[0];
+		private Property[] propertiesByNumber = new Property[0];
+		private Map<Integer, Property> propertyMap = new HashMap<>();
+		private @Nullable MethodHandle instantiator;
+		private @Nullable Object[] defaults;
+
+		MessageCodec(Class<?> type) {
+			this.type = type;
+		}
+
+		void initialize(Property[] properties, MethodHandle instantiator, @Nullable Object[] defaults) {
+
+			int maxNumber = Arrays.stream(properties).mapToInt(it -> it.number).max().orElse(0);
+
+			if (maxNumber <= MAX_INDEXED_FIELD_NUMBER) {
+				this.propertiesByNumber = new Property[maxNumber + 1];
+				for (Property property : properties) {
+					this.propertiesByNumber[property.number] = property;
+				}
+			} else {
+				for (Property property : properties) {
+					this.propertyMap.put(property.number, property);
+				}
+			}
+
+			this.properties = properties;
+			this.instantiator = instantiator;
+			this.defaults = defaults;
+		}
+
+		@Override
+		public int wireType() {
+			return MESSAGE;
+		}
+
+		@Override
+		public void write(Object value, BinaryWriter writer) {
+
+			try {
+				for (Property property : properties) {
+					property.write(value, writer);
+				}
+			} catch (Throwable e) {
+				throw rethrow(e, "Cannot write " + type.getName());
+			}
+
+			writer.writeVarInt(0);
+		}
+
+		@Override
+		public Object read(BinaryReader reader) {
+
+			try {
+				return defaults != null ? readRecord(reader) : readBean(reader);
+			} catch (Throwable e) {
+				throw rethrow(e, "Cannot read " + type.getName());
+			}
+		}
+
+		private Object readRecord(BinaryReader reader) throws Throwable {
+
+			Object[] values = defaults.clone();
+
+			for (int tag = reader.readVarInt(); tag != 0; tag = reader.readVarInt()) {
+
+				Property property = getProperty(tag);
+
+				if (property == null) {
+					reader.skip(tag & 0x07);
+				} else {
+					values[property.index] = property.read(reader);
+				}
+			}
+
+			return (Object) instantiator.invokeExact(values);
+		}
+
+		private Object readBean(BinaryReader reader) throws Throwable {
+
+			Object bean = (Object) instantiator.invokeExact();
+
+			for (int tag = reader.readVarInt(); tag != 0; tag = reader.readVarInt()) {
+
+				Property property = getProperty(tag);
+
+				if (property == null) {
+					reader.skip(tag & 0x07);
+				} else {
+					property.readInto(bean, reader);
+				}
+			}
+
+			return bean;
+		}
+
+		@Nullable
+		private Property getProperty(int tag) {
+
+			int number = tag >>> 3;
+			Property property = number < propertiesByNumber.length ? propertiesByNumber[number]
+					: propertyMap.isEmpty() ? null : propertyMap.get(number);
+
+			return property != null && property.wireType == (tag & 0x07) ? property : null;
+		}
+	}
+
+	private static class PropertyDescriptor {
+
+		final String name;
+		final @Nullable BinaryField annotation;
+		final Class<?> type;
+		final ResolvableType genericType;
+		final MethodHandle getter;
+		final @Nullable MethodHandle setter;
+
+		PropertyDescriptor(String name, @Nullable BinaryField annotation, Class<?> type, ResolvableType genericType,
+				MethodHandle getter, @Nullable MethodHandle setter) {
+
+			this.name = name;
+			this.annotation = annotation;
+			this.type = type;
+			this.genericType = genericType;
+			this.getter = getter;
+			this.setter = setter;
+		}
+	}
+
+	/**
+	 * A single property of a {@link MessageCodec}. Primitive {@code int}, {@code long}, {@code double} and
+	 * {@code boolean} properties use dedicated subclasses invoking exactly typed {@link MethodHandle}s to avoid boxing.
+	 * Primitive properties holding their default value are not written.
+	 */
+	abstract static class Property {
+
+		final int number;
+		final int index;
+		final int wireType;
+		final int tag;
+
+		Property(int number, int index, int wireType) {
+
+			this.number = number;
+			this.index = index;
+			this.wireType = wireType;
+			this.tag = (number << 3) | wireType;
+		}
+
+		abstract void write(Object bean, BinaryWriter writer) throws Throwable;
+
+		@Nullable
+		abstract Object read(BinaryReader reader);
+
+		abstract void readInto(Object bean, BinaryReader reader) throws Throwable;
+	}
+
+	static class IntProperty extends Property {
+
+		private final MethodHandle getter;
+		private final @Nullable MethodHandle setter;
+
+		IntProperty(int number, int index, MethodHandle getter, @Nullable MethodHandle setter) {
+
+			super(number, index, VARINT);
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		void write(Object bean, BinaryWriter writer) throws Throwable {
+
+			int value = (int) getter.invokeExact(bean);
+			if (value != 0) {
+				writer.writeVarInt(tag);
+				writer.writeSignedVarInt(value);
+			}
+		}
+
+		@Override
+		Object read(BinaryReader reader) {
+			return reader.readSignedVarInt();
+		}
+
+		@Override
+		void readInto(Object bean, BinaryReader reader) throws Throwable {
+			setter.invokeExact(bean, reader.readSignedVarInt());
+		}
+	}
+
+	static class LongProperty extends Property {
+
+		private final MethodHandle getter;
+		private final @Nullable MethodHandle setter;
+
+		LongProperty(int number, int index, MethodHandle getter, @Nullable MethodHandle setter) {
+
+			super(number, index, VARINT);
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		void write(Object bean, BinaryWriter writer) throws Throwable {
+
+			long value = (long) getter.invokeExact(bean);
+			if (value != 0) {
+				writer.writeVarInt(tag);
+				writer.writeSignedVarLong(value);
+			}
+		}
+
+		@Override
+		Object read(BinaryReader reader) {
+			return reader.readSignedVarLong();
+		}
+
+		@Override
+		void readInto(Object bean, BinaryReader reader) throws Throwable {
+			setter.invokeExact(bean, reader.readSignedVarLong());
+		}
+	}
+
+	static class DoubleProperty extends Property {
+
+		private final MethodHandle getter;
+		private final @Nullable MethodHandle setter;
+
+		DoubleProperty(int number, int index, MethodHandle getter, @Nullable MethodHandle setter) {
+
+			super(number, index, FIXED64);
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		void write(Object bean, BinaryWriter writer) throws Throwable {
+
+			long bits = Double.doubleToRawLongBits((double) getter.invokeExact(bean));
+			if (bits != 0) {
+				writer.writeVarInt(tag);
+				writer.writeFixed64(bits);
+			}
+		}
+
+		@Override
+		Object read(BinaryReader reader) {
+			return Double.longBitsToDouble(reader.readFixed64());
+		}
+
+		@Override
+		void readInto(Object bean, BinaryReader reader) throws Throwable {
+			setter.invokeExact(bean, Double.longBitsToDouble(reader.readFixed64()));
+		}
+	}
+
+	static class BooleanProperty extends Property {
+
+		private final MethodHandle getter;
+		private final @Nullable MethodHandle setter;
+
+		BooleanProperty(int number, int index, MethodHandle getter, @Nullable MethodHandle setter) {
+
+			super(number, index, VARINT);
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		void write(Object bean, BinaryWriter writer) throws Throwable {
+
+			if ((boolean) getter.invokeExact(bean)) {
+				writer.writeVarInt(tag);
+				writer.writeVarInt(1);
+			}
+		}
+
+		@Override
+		Object read(BinaryReader reader) {
+			return reader.readVarLong() != 0;
+		}
+
+		@Override
+		void readInto(Object bean, BinaryReader reader) throws Throwable {
+			setter.invokeExact(bean, reader.readVarLong() != 0);
+		}
+	}
+
+	static class ObjectProperty extends Property {
+
+		private final ValueCodec codec;
+		private final MethodHandle getter;
+		private final @Nullable MethodHandle setter;
+
+		ObjectProperty(int number, int index, ValueCodec codec, MethodHandle getter, @Nullable MethodHandle setter) {
+
+			super(number, index, codec.wireType());
+			this.codec = codec;
+			this.getter = getter;
+			this.setter = setter;
+		}
+
+		@Override
+		void write(Object bean, BinaryWriter writer) throws Throwable {
+
+			Object value = (Object) getter.invokeExact(bean);
+			if (value != null) {
+				writer.writeVarInt(tag);
+				codec.write(value, writer);
+			}
+		}
+
+		@Override
+		@Nullable
+		Object read(BinaryReader reader) {
+			return codec.read(reader);
+		}
+
+		@Override
+		void readInto(Object bean, BinaryReader reader) throws Throwable {
+
+			Object value = codec.read(reader);
+			if (value != null) {
+				setter.invokeExact(bean, value);
+			}
+		}
+	}
+
+	/**
+	 * Growable output buffer for the compact binary format.
+	 */
+	static final class BinaryWriter {
+
+		private byte[] buffer;
+		private int position;
+
+		BinaryWriter(int initialCapacity) {
+			this.buffer = new byte[Math.max(initialCapacity, 16)];
+		}
+
+		int size() {
+			return position;
+		}
+
+		void writeByte(int value) {
+
+			ensureCapacity(1);
+			buffer[position++] = (byte) value;
+		}
+
+		void writeVarInt(int value) {
+
+			ensureCapacity(5);
+			while ((value & ~0x7F) != 0) {
+				buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			buffer[position++] = (byte) value;
+		}
+
+		void writeVarLong(long value) {
+
+			ensureCapacity(10);
+			while ((value & ~0x7FL) != 0) {
+				buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			buffer[position++] = (byte) value;
+		}
+
+		void writeSignedVarInt(int value) {
+			writeVarInt((value << 1) ^ (value >> 31));
+		}
+
+		void writeSignedVarLong(long value) {
+			writeVarLong((value << 1) ^ (value >> 63));
+		}
+
+		void writeFixed32(int value) {
+
+			ensureCapacity(4);
+			buffer[position++] = (byte) value;
+			buffer[position++] = (byte) (value >>> 8);
+			buffer[position++] = (byte) (value >>> 16);
+			buffer[position++] = (byte) (value >>> 24);
+		}
+
+		void writeFixed64(long value) {
+
+			writeFixed32((int) value);
+			writeFixed32((int) (value >>> 32));
+		}
+
+		void writeBytes(byte[] bytes) {
+
+			writeVarInt(bytes.length);
+			ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, buffer, position, bytes.length);
+			position += bytes.length;
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(buffer, position);
+		}
+
+		ByteBuffer toByteBuffer() {
+			return ByteBuffer.wrap(buffer, 0, position);
+		}
+
+		void writeTo(OutputStream target) throws IOException {
+			target.write(buffer, 0, position);
+		}
+
+		private void ensureCapacity(int length) {
+
+			if (position + length > buffer.length) {
+				buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, position + length));
+			}
+		}
+	}
+
+	/**
+	 * Reader for the compact binary format operating on a {@link ByteBuffer} without copying its contents.
+	 */
+	static final class BinaryReader {
+
+		private final ByteBuffer buffer;
+
+		BinaryReader(ByteBuffer source) {
+			this.buffer = source.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+		}
+
+		int readByte() {
+			return buffer.get() & 0xFF;
+		}
+
+		int readVarInt() {
+			return (int) readVarLong();
+		}
+
+		long readVarLong() {
+
+			long result = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+
+				byte b = buffer.get();
+				result |= (long) (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return result;
+				}
+			}
+
+			throw new SerializationException("Malformed varint");
+		}
+
+		int readSignedVarInt() {
+
+			int value = readVarInt();
+			return (value >>> 1) ^ -(value & 1);
+		}
+
+		long readSignedVarLong() {
+
+			long value = readVarLong();
+			return (value >>> 1) ^ -(value & 1);
+		}
+
+		int readFixed32() {
+			return buffer.getInt();
+		}
+
+		long readFixed64() {
+			return buffer.getLong();
+		}
+
+		int readLength() {
+
+			long length = readVarLong();
+			if (length < 0 || length > buffer.remaining()) {
+				throw new SerializationException(String.format("Invalid length %d, remaining %d", length, buffer.remaining()));
+			}
+			return (int) length;
+		}
+
+		byte[] readBytes() {
+
+			byte[] bytes = new byte[readLength()];
+			buffer.get(bytes);
+			return bytes;
+		}
+
+		String readString() {
+
+			int length = readLength();
+
+			if (buffer.hasArray()) {
+
+				String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length,
+						StandardCharsets.UTF_8);
+				buffer.position(buffer.position() + length);
+				return value;
+			}
+
+			byte[] bytes = new byte[length];
+			buffer.get(bytes);
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		void skip(int wireType) {
+
+			switch (wireType) {
+				case VARINT:
+					readVarLong();
+					return;
+				case FIXED64:
+					skipBytes(8);
+					return;
+				case LENGTH_DELIMITED:
+					skipBytes(readLength());
+					return;
+				case MESSAGE:
+					for (int tag = readVarInt(); tag != 0; tag = readVarInt()) {
+						skip(tag & 0x07);
+					}
+					return;
+				case SEQUENCE: {
+					int size = readLength();
+					int elementWireType = readByte();
+					for (int i = 0; i < size; i++) {
+						skip(elementWireType);
+					}
+					return;
+				}
+				case FIXED32:
+					skipBytes(4);
+					return;
+				case MAP: {
+					int size = readLength();
+					int keyWireType = readByte();
+					int valueWireType = readByte();
+					for (int i = 0; i < size; i++) {
+						skip(keyWireType);
+						skip(valueWireType);
+					}
+					return;
+				}
+				default:
+					throw new SerializationException(String.format("Unknown wire type %d", wireType));
+			}
+		}
+
+		private void skipBytes(int length) {
+			buffer.position(buffer.position() + length);
+		}
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.springframework.data.redis.serializer.CompactBinaryCodecs.BinaryReader;
+import org.springframework.data.redis.serializer.CompactBinaryCodecs.BinaryWriter;
+import org.springframework.data.redis.serializer.CompactBinaryCodecs.MessageCodec;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RedisSerializer} writing records and POJOs in a compact, tagged binary format. The codec for a type is built
+ * once upon construction and accesses properties through {@link java.lang.invoke.MethodHandle method handles} so that
+ * serialization does not use reflection. Properties are identified by field numbers instead of names and numeric values
+ * are written as varints.
+ * <p>
+ * Supported property types are primitives and their wrappers, {@link String}, {@code byte[]}, {@link Enum enums}
+ * (written by constant name), nested records and POJOs as well as {@link java.util.Collection collections} and
+ * {@link java.util.Map maps} thereof. Records are created through their canonical constructor, POJOs require a no-arg
+ * constructor. Static and {@code transient} fields are not serialized. {@literal null} property values are omitted,
+ * collections and maps must not contain {@literal null} elements.
+ * <p>
+ * Properties of POJOs must be annotated with {@link BinaryField} as the order of declared fields is not specified by the
+ * JVM. Record components may omit {@link BinaryField} in which case they are numbered in their declaration order
+ * starting at {@literal 1}. The format follows these schema evolution rules:
+ * <ul>
+ * <li>Adding properties with a new {@link BinaryField field number} is compatible, including properties of a
+ * superclass. Old data does not contain the new property which is read with its default value ({@literal null},
+ * {@literal 0}, {@literal false}). Readers skip fields they do not know. Without {@link BinaryField}, record components
+ * can only be appended as inserting a component renumbers all subsequent components.</li>
+ * <li>Removing properties is compatible when using {@link BinaryField}. Field numbers of removed properties must not be
+ * reused. Without {@link BinaryField}, only the last record component can be removed.</li>
+ * <li>Changing a property type is compatible as long as the type is written with the same wire type (e.g.
+ * {@code int} to {@code long}, {@link String} to an {@link Enum}). Fields with an incompatible wire type are skipped.
+ * </li>
+ * <li>Enum constants that are unknown to the reader are read as {@literal null}.</li>
+ * </ul>
+ *
+ * @author agent
+ * @since 3.0
+ * @see BinaryField
+ */
+public class CompactBinaryRedisSerializer<T> implements BufferAwareRedisSerializer<T> {
+
+	private final Class<T> type;
+
+	private final MessageCodec codec;
+
+	private volatile int sizeHint = 64;
+
+	/**
+	 * Creates a new {@link CompactBinaryRedisSerializer} for the given {@code type}.
+	 *
+	 * @param type must not be {@literal null}.
+	 * @throws IllegalArgumentException if the type or one of its properties is not supported.
+	 */
+	public CompactBinaryRedisSerializer(Class<T> type) {
+
+		Assert.notNull(type, "Type must not be null!");
+
+		this.type = type;
+		this.codec = CompactBinaryCodecs.forType(type);
+	}
+
+	@Override
+	public byte[] serialize(@Nullable T value) throws SerializationException {
+
+		if (value == null) {
+			return SerializationUtils.EMPTY_ARRAY;
+		}
+
+		return write(value).toByteArray();
+	}
+
+	@Nullable
+	@Override
+	public T deserialize(@Nullable byte[] bytes) throws SerializationException {
+
+		if (SerializationUtils.isEmpty(bytes)) {
+			return null;
+		}
+
+		return deserializeFrom(ByteBuffer.wrap(bytes));
+	}
+
+	@Override
+	public void serializeTo(@Nullable T value, OutputStream target) throws SerializationException {
+
+		if (value == null) {
+			return;
+		}
+
+		try {
+			write(value).writeTo(target);
+		} catch (IOException e) {
+			throw new SerializationException("Could not write " + type.getName() + ": " + e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public ByteBuffer serializeToByteBuffer(@Nullable T value) throws SerializationException {
+		return value == null ? ByteBuffer.wrap(SerializationUtils.EMPTY_ARRAY) : write(value).toByteBuffer();
+	}
+
+	@Nullable
+	@Override
+	public T deserializeFrom(ByteBuffer source) throws SerializationException {
+
+		if (!source.hasRemaining()) {
+			return null;
+		}
+
+		try {
+			return type.cast(codec.read(new BinaryReader(source)));
+		} catch (SerializationException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw new SerializationException("Could not read " + type.getName() + ": " + e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public int estimateSize(@Nullable T value) {
+		return sizeHint;
+	}
+
+	@Override
+	public Class<?> getTargetType() {
+		return type;
+	}
+
+	private BinaryWriter write(T value) {
+
+		BinaryWriter writer = new BinaryWriter(sizeHint);
+
+		try {
+			codec.write(value, writer);
+		} catch (SerializationException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw new SerializationException("Could not write " + type.getName() + ": " + e.getMessage(), e);
+		}
+
+		sizeHint = writer.size();
+		return writer;
+	}
+}
@@ -43,6 +43,10 @@ class DefaultRedisElementReader<T> implements RedisElementReader<T> {
 			return (T) buffer;
 		}
 
+		if (serializer instanceof BufferAwareRedisSerializer) {
+			return ((BufferAwareRedisSerializer<T>) serializer).deserializeFrom(buffer);
+		}
+
 		return serializer.deserialize(ByteUtils.extractBytes(buffer));
 	}
 
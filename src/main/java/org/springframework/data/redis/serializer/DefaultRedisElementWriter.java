@@ -35,9 +35,15 @@ class DefaultRedisElementWriter<T> implements RedisElementWriter<T> {
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	public ByteBuffer write(T value) {
 
 		if (serializer != null && (value == null || serializer.canSerialize(value.getClass()))) {
+
+			if (value != null && serializer instanceof BufferAwareRedisSerializer) {
+				return ((BufferAwareRedisSerializer<T>) serializer).serializeToByteBuffer(value);
+			}
+
 			return ByteBuffer.wrap(serializer.serialize(value));
 		}
 
@@ -16,37 +16,72 @@
 package org.springframework.data.redis.serializer;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.cache.support.NullValue;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
 import org.springframework.util.StringUtils;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonTypeInfo.As;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DatabindContext;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectMapper.DefaultTypeResolverBuilder;
 import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.cfg.MapperConfig;
+import com.fasterxml.jackson.databind.jsontype.NamedType;
 import com.fasterxml.jackson.databind.jsontype.PolymorphicTypeValidator;
+import com.fasterxml.jackson.databind.jsontype.TypeIdResolver;
 import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.jsontype.impl.ClassNameIdResolver;
+import com.fasterxml.jackson.databind.jsontype.impl.StdTypeResolverBuilder;
+import com.fasterxml.jackson.databind.jsontype.impl.TypeIdResolverBase;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.SerializerFactory;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 /**
  * Generic Jackson 2-based {@link RedisSerializer} that maps {@link Object objects} to JSON using dynamic typing.
+ * <p>
+ * Implements {@link BufferAwareRedisSerializer} to write JSON directly into a caller-provided {@link OutputStream} and
+ * to read JSON from {@link ByteBuffer} content without copying.
+ * <p>
+ * {@link ObjectReader} and {@link ObjectWriter} instances are resolved once per type and cached to avoid repeated root
+ * (de)serializer lookups. Note that configuration changes applied to the {@link ObjectMapper} after the first
+ * (de)serialization of a type are not reflected by cached instances.
+ * <p>
+ * Type information is embedded as fully qualified class name by default. A registry of compact numeric type ids can be
+ * provided through {@link #GenericJackson2JsonRedisSerializer(String, Map)} to shrink payloads for frequently used types.
+ * Types without a registered id continue to use their class name.
  *
  * @author Christoph Strobl
  * @author Mark Paluch
  * @author Mao Shuai
  * @since 1.6
  */
-public class GenericJackson2JsonRedisSerializer implements RedisSerializer<Object> {
+public class GenericJackson2JsonRedisSerializer implements BufferAwareRedisSerializer<Object> {
 
 	private final ObjectMapper mapper;
 
+	private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+	private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
+
 	/**
 	 * Creates {@link GenericJackson2JsonRedisSerializer} and configures {@link ObjectMapper} for default typing.
 	 */
@@ -64,14 +99,40 @@ public class GenericJackson2JsonRedisSerializer implements RedisSerializer<Objec
 	 * @see ObjectMapper#activateDefaultTyping(PolymorphicTypeValidator, DefaultTyping, As)
 	 */
 	public GenericJackson2JsonRedisSerializer(@Nullable String classPropertyTypeName) {
+		this(classPropertyTypeName, Collections.emptyMap());
+	}
+
+	/**
+	 * Creates {@link GenericJackson2JsonRedisSerializer} and configures {@link ObjectMapper} for default typing using the
+	 * given {@literal name} and compact numeric type ids. Types registered in {@code typeIds} are identified by their
+	 * numeric id instead of their fully qualified class name. Class names remain readable, so values written without
+	 * (or before registering) a type id can still be deserialized.
+	 *
+	 * @param classPropertyTypeName Name of the JSON property holding type information. Can be {@literal null}.
+	 * @param typeIds mapping of types to unique, non-negative type ids. Must not be {@literal null}.
+	 * @since 3.0
+	 */
+	public GenericJackson2JsonRedisSerializer(@Nullable String classPropertyTypeName, Map<Class<?>, Integer> typeIds) {
 
 		this(new ObjectMapper());
 
+		Assert.notNull(typeIds, "Type ids must not be null!");
+
 		// simply setting {@code mapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)} does not help here since we need
 		// the type hint embedded for deserialization using the default typing feature.
 		registerNullValueSerializer(mapper, classPropertyTypeName);
 
-		if (StringUtils.hasText(classPropertyTypeName)) {
+		if (!typeIds.isEmpty()) {
+
+			StdTypeResolverBuilder typer = new CompactTypeResolverBuilder(mapper.getPolymorphicTypeValidator(), typeIds)
+					.init(JsonTypeInfo.Id.CLASS, null).inclusion(As.PROPERTY);
+
+			if (StringUtils.hasText(classPropertyTypeName)) {
+				typer = typer.typeProperty(classPropertyTypeName);
+			}
+
+			mapper.setDefaultTyping(typer);
+		} else if (StringUtils.hasText(classPropertyTypeName)) {
 			mapper.activateDefaultTypingAsProperty(mapper.getPolymorphicTypeValidator(), DefaultTyping.EVERYTHING,
 					classPropertyTypeName);
 		} else {
@@ -116,7 +177,7 @@ public class GenericJackson2JsonRedisSerializer implements RedisSerializer<Objec
 		}
 
 		try {
-			return mapper.writeValueAsBytes(source);
+			return getWriter(source.getClass()).writeValueAsBytes(source);
 		} catch (JsonProcessingException e) {
 			throw new SerializationException("Could not write JSON: " + e.getMessage(), e);
 		}
@@ -144,12 +205,68 @@ public class GenericJackson2JsonRedisSerializer implements RedisSerializer<Objec
 		}
 
 		try {
-			return mapper.readValue(source, type);
+			return getReader(type).readValue(source);
+		} catch (Exception ex) {
+			throw new SerializationException("Could not read JSON: " + ex.getMessage(), ex);
+		}
+	}
+
+	@Override
+	public void serializeTo(@Nullable Object source, OutputStream target) throws SerializationException {
+
+		if (source == null) {
+			return;
+		}
+
+		try {
+			getWriter(source.getClass()).writeValue(StreamUtils.nonClosing(target), source);
+		} catch (IOException e) {
+			throw new SerializationException("Could not write JSON: " + e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public Object deserializeFrom(ByteBuffer source) throws SerializationException {
+		return deserializeFrom(source, Object.class);
+	}
+
+	/**
+	 * Deserialize the remaining content of the given {@link ByteBuffer} without copying it.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return {@literal null} for empty source.
+	 * @throws SerializationException
+	 * @since 3.0
+	 */
+	@Nullable
+	public <T> T deserializeFrom(ByteBuffer source, Class<T> type) throws SerializationException {
+
+		Assert.notNull(type,
+				"Deserialization type must not be null! Please provide Object.class to make use of Jackson2 default typing.");
+
+		if (!source.hasRemaining()) {
+			return null;
+		}
+
+		try {
+			if (source.hasArray()) {
+				return getReader(type).readValue(source.array(), source.arrayOffset() + source.position(), source.remaining());
+			}
+			return getReader(type).readValue(new ByteBufferBackedInputStream(source.duplicate()));
 		} catch (Exception ex) {
 			throw new SerializationException("Could not read JSON: " + ex.getMessage(), ex);
 		}
 	}
 
+	private ObjectReader getReader(Class<?> type) {
+		return readers.computeIfAbsent(type, mapper::readerFor);
+	}
+
+	private ObjectWriter getWriter(Class<?> type) {
+		return writers.computeIfAbsent(type, mapper::writerFor);
+	}
+
 	/**
 	 * {@link StdSerializer} adding class information required by default typing. This allows de-/serialization of
 	 * {@link NullValue}.
@@ -186,4 +303,104 @@ public class GenericJackson2JsonRedisSerializer implements RedisSerializer<Objec
 			serialize(value, gen, serializers);
 		}
 	}
+
+	/**
+	 * {@link DefaultTypeResolverBuilder} that resolves type ids through {@link CompactTypeIdResolver}.
+	 *
+	 * @since 3.0
+	 */
+	private static class CompactTypeResolverBuilder extends DefaultTypeResolverBuilder {
+
+		private static final long serialVersionUID = -3306547451563893839L;
+
+		private final Map<Class<?>, String> typeToId;
+		private final Map<String, Class<?>> idToType;
+
+		CompactTypeResolverBuilder(PolymorphicTypeValidator typeValidator, Map<Class<?>, Integer> typeIds) {
+
+			super(DefaultTyping.EVERYTHING, typeValidator);
+
+			Map<Class<?>, String> typeToId = new HashMap<>(typeIds.size());
+			Map<String, Class<?>> idToType = new HashMap<>(typeIds.size());
+
+			typeIds.forEach((type, id) -> {
+
+				Assert.notNull(type, "Type must not be null!");
+				Assert.isTrue(id != null && id >= 0, () -> String.format("Type id for %s must be non-negative", type));
+
+				Class<?> existing = idToType.put(id.toString(), type);
+				Assert.isNull(existing,
+						() -> String.format("Type id %d is registered for both %s and %s", id, existing, type));
+				typeToId.put(type, id.toString());
+			});
+
+			this.typeToId = typeToId;
+			this.idToType = idToType;
+		}
+
+		@Override
+		protected TypeIdResolver idResolver(MapperConfig<?> config, JavaType baseType,
+				PolymorphicTypeValidator subtypeValidator, Collection<NamedType> subtypes, boolean forSer, boolean forDeser) {
+
+			return new CompactTypeIdResolver(baseType, config,
+					ClassNameIdResolver.construct(baseType, config, subtypeValidator), typeToId, idToType);
+		}
+	}
+
+	/**
+	 * {@link TypeIdResolver} using registered numeric type ids and falling back to {@link ClassNameIdResolver} for types
+	 * without a registered id. Numeric ids cannot clash with class names as Java identifiers must not start with a digit.
+	 *
+	 * @since 3.0
+	 */
+	private static class CompactTypeIdResolver extends TypeIdResolverBase {
+
+		private final ClassNameIdResolver delegate;
+		private final Map<Class<?>, String> typeToId;
+		private final Map<String, Class<?>> idToType;
+
+		CompactTypeIdResolver(JavaType baseType, MapperConfig<?> config, ClassNameIdResolver delegate,
+				Map<Class<?>, String> typeToId, Map<String, Class<?>> idToType) {
+
+			super(baseType, config.getTypeFactory());
+
+			this.delegate = delegate;
+			this.typeToId = typeToId;
+			this.idToType = idToType;
+		}
+
+		@Override
+		public String idFromValue(Object value) {
+			return idFromValueAndType(value, value.getClass());
+		}
+
+		@Override
+		public String idFromValueAndType(Object value, Class<?> suggestedType) {
+
+			String id = typeToId.get(suggestedType);
+			return id != null ? id : delegate.idFromValueAndType(value, suggestedType);
+		}
+
+		@Override
+		public String idFromBaseType() {
+			return delegate.idFromBaseType();
+		}
+
+		@Override
+		public JavaType typeFromId(DatabindContext context, String id) throws IOException {
+
+			Class<?> type = idToType.get(id);
+			return type != null ? context.constructSpecializedType(_baseType, type) : delegate.typeFromId(context, id);
+		}
+
+		@Override
+		public String getDescForKnownTypeIds() {
+			return delegate.getDescForKnownTypeIds();
+		}
+
+		@Override
+		public JsonTypeInfo.Id getMechanism() {
+			return JsonTypeInfo.Id.CUSTOM;
+		}
+	}
 }
@@ -15,16 +15,20 @@
  */
 package org.springframework.data.redis.serializer;
 
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.StreamUtils;
 
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ser.SerializerFactory;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 
 /**
  * {@link RedisSerializer} that can read and write JSON using
@@ -33,11 +37,14 @@ import com.fasterxml.jackson.databind.type.TypeFactory;
  * <p>
  * This converter can be used to bind to typed beans, or untyped {@link java.util.HashMap HashMap} instances.
  * <b>Note:</b>Null objects are serialized as empty arrays and vice versa.
+ * <p>
+ * Implements {@link BufferAwareRedisSerializer} to write JSON directly into a caller-provided {@link OutputStream} and
+ * to read JSON from {@link ByteBuffer} content without copying.
  *
  * @author Thomas Darimont
  * @since 1.2
  */
-public class Jackson2JsonRedisSerializer<T> implements RedisSerializer<T> {
+public class Jackson2JsonRedisSerializer<T> implements BufferAwareRedisSerializer<T> {
 
 	public static final Charset DEFAULT_CHARSET = StandardCharsets.UTF_8;
 
@@ -89,6 +96,37 @@ public class Jackson2JsonRedisSerializer<T> implements RedisSerializer<T> {
 		}
 	}
 
+	@Override
+	@SuppressWarnings("unchecked")
+	public T deserializeFrom(ByteBuffer source) throws SerializationException {
+
+		if (!source.hasRemaining()) {
+			return null;
+		}
+		try {
+			if (source.hasArray()) {
+				return (T) this.objectMapper.readValue(source.array(), source.arrayOffset() + source.position(),
+						source.remaining(), javaType);
+			}
+			return (T) this.objectMapper.readValue(new ByteBufferBackedInputStream(source.duplicate()), javaType);
+		} catch (Exception ex) {
+			throw new SerializationException("Could not read JSON: " + ex.getMessage(), ex);
+		}
+	}
+
+	@Override
+	public void serializeTo(@Nullable Object t, OutputStream target) throws SerializationException {
+
+		if (t == null) {
+			return;
+		}
+		try {
+			this.objectMapper.writeValue(StreamUtils.nonClosing(target), t);
+		} catch (Exception ex) {
+			throw new SerializationException("Could not write JSON: " + ex.getMessage(), ex);
+		}
+	}
+
 	/**
 	 * Sets the {@code ObjectMapper} for this view. If not set, a default {@link ObjectMapper#ObjectMapper() ObjectMapper}
 	 * is used.
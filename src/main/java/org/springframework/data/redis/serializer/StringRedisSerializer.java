@@ -15,6 +15,9 @@
  */
 package org.springframework.data.redis.serializer;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
@@ -28,12 +31,14 @@ import org.springframework.util.Assert;
  * Useful when the interaction with the Redis happens mainly through Strings.
  * <p>
  * Does not perform any {@literal null} conversion since empty strings are valid keys/values.
+ * <p>
+ * Implements {@link BufferAwareRedisSerializer} to decode strings directly from {@link ByteBuffer} content.
  *
  * @author Costin Leau
  * @author Christoph Strobl
  * @author Mark Paluch
  */
-public class StringRedisSerializer implements RedisSerializer<String> {
+public class StringRedisSerializer implements BufferAwareRedisSerializer<String> {
 
 	private final Charset charset;
 
@@ -90,6 +95,40 @@ public class StringRedisSerializer implements RedisSerializer<String> {
 		return (string == null ? null : string.getBytes(charset));
 	}
 
+	@Override
+	public void serializeTo(@Nullable String string, OutputStream target) {
+
+		if (string == null) {
+			return;
+		}
+
+		try {
+			target.write(string.getBytes(charset));
+		} catch (IOException e) {
+			throw new SerializationException("Could not write String: " + e.getMessage(), e);
+		}
+	}
+
+	@Override
+	public String deserializeFrom(ByteBuffer source) {
+
+		if (source.hasArray()) {
+			return new String(source.array(), source.arrayOffset() + source.position(), source.remaining(), charset);
+		}
+
+		return charset.decode(source.duplicate()).toString();
+	}
+
+	@Override
+	public ByteBuffer serializeToByteBuffer(@Nullable String string) {
+		return string == null ? ByteBuffer.wrap(SerializationUtils.EMPTY_ARRAY) : ByteBuffer.wrap(string.getBytes(charset));
+	}
+
+	@Override
+	public int estimateSize(@Nullable String string) {
+		return string == null ? 0 : string.length();
+	}
+
 	@Override
 	public Class<?> getTargetType() {
 		return String.class;
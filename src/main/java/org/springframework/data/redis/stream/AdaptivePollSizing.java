@@ -0,0 +1,143 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import java.time.Duration;
+
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+
+/**
+ * Per-subscription state adapting the read count and blocking behavior according to {@link AdaptivePollingOptions}.
+ * Reads of a subscription are expected to happen sequentially, {@link #getReadOptions(StreamReadOptions, long)} must be
+ * followed by {@link #afterRead(int, long)} before requesting the options for the next read.
+ *
+ * @author agent
+ * @since 3.0
+ */
+class AdaptivePollSizing {
+
+	private static final int BACKOFF_STEPS = 4;
+
+	private final AdaptivePollingOptions options;
+
+	private volatile int count;
+	private volatile int requested;
+	private volatile long nanosPerRecord;
+	private volatile int emptyPolls;
+
+	AdaptivePollSizing(AdaptivePollingOptions options) {
+
+		this.options = options;
+		this.count = options.getMinBatchSize();
+	}
+
+	/**
+	 * Create {@link StreamReadOptions} for the next read.
+	 *
+	 * @param options the configured read options.
+	 * @param demand outstanding demand. {@link Long#MAX_VALUE} for unbounded demand.
+	 * @return the read options applying the adapted read count and blocking behavior.
+	 */
+	StreamReadOptions getReadOptions(StreamReadOptions options, long demand) {
+
+		int requested = (int) Math.max(1, Math.min(count, demand));
+		this.requested = requested;
+
+		StreamReadOptions readOptions = StreamReadOptions.empty().count(requested);
+
+		if (options.isNoack()) {
+			readOptions = readOptions.noack();
+		}
+
+		if (options.isBlocking() && !isIdle()) {
+			readOptions = readOptions.block(Duration.ofMillis(options.getBlock()));
+		}
+
+		return readOptions;
+	}
+
+	/**
+	 * Adapt the read count to the outcome of a read.
+	 *
+	 * @param received number of records returned by the read.
+	 * @param processingNanos time spent processing the records. {@literal 0} if unknown.
+	 */
+	void afterRead(int received, long processingNanos) {
+
+		if (received == 0) {
+
+			if (emptyPolls < Integer.MAX_VALUE) {
+				emptyPolls++;
+			}
+			return;
+		}
+
+		emptyPolls = 0;
+
+		if (processingNanos > 0) {
+
+			long current = processingNanos / received;
+			long previous = nanosPerRecord;
+			nanosPerRecord = previous == 0 ? current : (previous * 3 + current) / 4;
+		}
+
+		long next = count;
+
+		if (received >= requested) {
+			next = next * 2;
+		} else if (received < requested / 4) {
+			next = next / 2;
+		}
+
+		long targetNanos = options.getTargetBatchDuration().toNanos();
+		long nanosPerRecord = this.nanosPerRecord;
+
+		if (targetNanos > 0 && nanosPerRecord > 0) {
+			next = Math.min(next, targetNanos / nanosPerRecord);
+		}
+
+		count = (int) Math.max(options.getMinBatchSize(), Math.min(options.getMaxBatchSize(), next));
+	}
+
+	/**
+	 * @return {@literal true} if the stream is considered idle and reads should not block.
+	 */
+	boolean isIdle() {
+		return options.hasIdleBackoff() && emptyPolls >= options.getIdlePolls();
+	}
+
+	/**
+	 * @return the time to wait before the next read. {@literal 0} if the stream is not idle.
+	 */
+	long getBackoffNanos() {
+
+		if (!isIdle()) {
+			return 0;
+		}
+
+		long maxBackoff = options.getMaxBackoff().toNanos();
+		int step = Math.min(emptyPolls - options.getIdlePolls(), BACKOFF_STEPS);
+
+		return Math.min(maxBackoff, Math.max(1, maxBackoff >> BACKOFF_STEPS) << step);
+	}
+
+	/**
+	 * @return the current read count.
+	 */
+	int getCount() {
+		return count;
+	}
+}
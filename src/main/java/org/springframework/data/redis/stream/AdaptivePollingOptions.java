@@ -0,0 +1,150 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import java.time.Duration;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options to adapt the number of records requested per read ({@code COUNT}) to the observed load of a stream
+ * subscription and to back off from blocking reads on idle streams.
+ * <p>
+ * The read count starts at the {@link #getMinBatchSize() minimum batch size}. It doubles after each read that returned
+ * as many records as requested, indicating a backlog, and halves after reads that returned less than a quarter of the
+ * requested records. The read count is limited to the {@link #getMaxBatchSize() maximum batch size} and, if a
+ * {@link #getTargetBatchDuration() target batch duration} is configured, to the number of records that can be processed
+ * within that duration according to the observed processing time. Reactive subscriptions additionally limit the read
+ * count to the outstanding demand.
+ * <p>
+ * With {@link #idleBackoff(int, Duration) idle backoff}, subscriptions switch from blocking to non-blocking reads after a
+ * number of consecutive empty reads and wait in between reads without holding a connection. The wait starts at a
+ * sixteenth of the maximum backoff and doubles with each empty read. Receiving a record switches back to blocking
+ * reads.
+ *
+ * @author agent
+ * @since 3.0
+ */
+public class AdaptivePollingOptions {
+
+	private final int minBatchSize;
+	private final int maxBatchSize;
+	private final Duration targetBatchDuration;
+	private final int idlePolls;
+	private final Duration maxBackoff;
+
+	private AdaptivePollingOptions(int minBatchSize, int maxBatchSize, Duration targetBatchDuration, int idlePolls,
+			Duration maxBackoff) {
+
+		this.minBatchSize = minBatchSize;
+		this.maxBatchSize = maxBatchSize;
+		this.targetBatchDuration = targetBatchDuration;
+		this.idlePolls = idlePolls;
+		this.maxBackoff = maxBackoff;
+	}
+
+	/**
+	 * Create new {@link AdaptivePollingOptions} adapting the read count between {@code minBatchSize} and
+	 * {@code maxBatchSize}.
+	 *
+	 * @param minBatchSize must be greater zero.
+	 * @param maxBatchSize must be greater or equal to {@code minBatchSize}.
+	 * @return new {@link AdaptivePollingOptions}.
+	 */
+	public static AdaptivePollingOptions batchSize(int minBatchSize, int maxBatchSize) {
+
+		Assert.isTrue(minBatchSize > 0, "Min batch size must be greater zero!");
+		Assert.isTrue(maxBatchSize >= minBatchSize, "Max batch size must be greater or equal to min batch size!");
+
+		return new AdaptivePollingOptions(minBatchSize, maxBatchSize, Duration.ZERO, 0, Duration.ZERO);
+	}
+
+	/**
+	 * Limit the read count to the number of records that can be processed within {@code targetBatchDuration}.
+	 *
+	 * @param targetBatchDuration must not be {@literal null} or negative. {@link Duration#ZERO} to not limit the read
+	 *          count by processing time.
+	 * @return new {@link AdaptivePollingOptions}.
+	 */
+	public AdaptivePollingOptions targetBatchDuration(Duration targetBatchDuration) {
+
+		Assert.notNull(targetBatchDuration, "Target batch duration must not be null!");
+		Assert.isTrue(!targetBatchDuration.isNegative(), "Target batch duration must not be negative!");
+
+		return new AdaptivePollingOptions(minBatchSize, maxBatchSize, targetBatchDuration, idlePolls, maxBackoff);
+	}
+
+	/**
+	 * Back off from blocking reads after {@code idlePolls} consecutive empty reads, waiting up to {@code maxBackoff}
+	 * between non-blocking reads.
+	 *
+	 * @param idlePolls number of consecutive empty reads after which a stream is considered idle. Must be greater zero.
+	 * @param maxBackoff must not be {@literal null} and greater zero.
+	 * @return new {@link AdaptivePollingOptions}.
+	 */
+	public AdaptivePollingOptions idleBackoff(int idlePolls, Duration maxBackoff) {
+
+		Assert.isTrue(idlePolls > 0, "Idle polls must be greater zero!");
+		Assert.notNull(maxBackoff, "Max backoff must not be null!");
+		Assert.isTrue(!maxBackoff.isNegative() && !maxBackoff.isZero(), "Max backoff must be greater zero!");
+
+		return new AdaptivePollingOptions(minBatchSize, maxBatchSize, targetBatchDuration, idlePolls, maxBackoff);
+	}
+
+	/**
+	 * @return the minimum number of records requested per read.
+	 */
+	public int getMinBatchSize() {
+		return minBatchSize;
+	}
+
+	/**
+	 * @return the maximum number of records requested per read.
+	 */
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	/**
+	 * @return the target duration to process the records of a single read. {@link Duration#ZERO} if the read count is not
+	 *         limited by processing time.
+	 */
+	public Duration getTargetBatchDuration() {
+		return targetBatchDuration;
+	}
+
+	/**
+	 * @return number of consecutive empty reads after which a stream is considered idle. {@literal 0} if idle backoff is
+	 *         disabled.
+	 */
+	public int getIdlePolls() {
+		return idlePolls;
+	}
+
+	/**
+	 * @return the maximum wait between reads on an idle stream.
+	 */
+	public Duration getMaxBackoff() {
+		return maxBackoff;
+	}
+
+	/**
+	 * @return {@literal true} if idle backoff is enabled.
+	 */
+	public boolean hasIdleBackoff() {
+		return idlePolls > 0;
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Exception thrown by a {@link StreamBatchListener} to report records of a batch that could not be processed. Records
+ * that are not reported as failed are considered processed successfully.
+ *
+ * @author agent
+ * @since 3.0
+ */
+public class BatchListenerFailedException extends RuntimeException {
+
+	private final Set<RecordId> failedIds;
+
+	/**
+	 * Create a new {@link BatchListenerFailedException}.
+	 *
+	 * @param message the detail message.
+	 * @param failedIds ids of the records that could not be processed, must not be {@literal null}.
+	 */
+	public BatchListenerFailedException(String message, Collection<RecordId> failedIds) {
+		this(message, null, failedIds);
+	}
+
+	/**
+	 * Create a new {@link BatchListenerFailedException}.
+	 *
+	 * @param message the detail message.
+	 * @param cause the root cause, can be {@literal null}.
+	 * @param failedIds ids of the records that could not be processed, must not be {@literal null}.
+	 */
+	public BatchListenerFailedException(String message, @Nullable Throwable cause, Collection<RecordId> failedIds) {
+
+		super(message, cause);
+
+		Assert.notNull(failedIds, "Failed ids must not be null!");
+
+		this.failedIds = Collections.unmodifiableSet(new LinkedHashSet<>(failedIds));
+	}
+
+	/**
+	 * @return ids of the records that could not be processed.
+	 */
+	public Set<RecordId> getFailedIds() {
+		return failedIds;
+	}
+}
@@ -19,6 +19,8 @@ import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 import org.apache.commons.logging.Log;
@@ -26,18 +28,23 @@ import org.apache.commons.logging.LogFactory;
 
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisClusterConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.stream.ByteRecord;
 import org.springframework.data.redis.connection.stream.Consumer;
 import org.springframework.data.redis.connection.stream.MapRecord;
 import org.springframework.data.redis.connection.stream.ReadOffset;
 import org.springframework.data.redis.connection.stream.Record;
+import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.connection.stream.StreamReadOptions;
 import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StreamOperations;
 import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.stream.StreamPollMultiplexer.MultiplexedTask;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ErrorHandler;
 import org.springframework.util.ObjectUtils;
@@ -54,7 +61,7 @@ import org.springframework.util.ObjectUtils;
  */
 class DefaultStreamMessageListenerContainer<K, V extends Record<K, ?>> implements StreamMessageListenerContainer<K, V> {
 
-	private final Object lifecycleMonitor = new Object();
+	private final Lock lifecycleLock = new ReentrantLock();
 
 	private final Executor taskExecutor;
 	private final ErrorHandler errorHandler;
@@ -65,6 +72,10 @@ class DefaultStreamMessageListenerContainer<K, V extends Record<K, ?>> implement
 
 	private final List<Subscription> subscriptions = new ArrayList<>();
 
+	private final @Nullable StreamPollMultiplexer<K, V> multiplexer;
+
+	private @Nullable Boolean cluster;
+
 	private boolean running = false;
 
 	/**
@@ -79,7 +90,8 @@ class DefaultStreamMessageListenerContainer<K, V extends Record<K, ?>> implement
 		Assert.notNull(connectionFactory, "RedisConnectionFactory must not be null!");
 		Assert.notNull(containerOptions, "StreamMessageListenerContainerOptions must not be null!");
 
-		this.taskExecutor = containerOptions.getExecutor();
+		this.taskExecutor = containerOptions.getScheduler() != null ? containerOptions.getScheduler()
+				: containerOptions.getExecutor();
 		this.errorHandler = containerOptions.getErrorHandler();
 		this.readOptions = getStreamReadOptions(containerOptions);
 		this.template = createRedisTemplate(connectionFactory, containerOptions);
@@ -90,6 +102,10 @@ class DefaultStreamMessageListenerContainer<K, V extends Record<K, ?>> implement
 		} else {
 			this.streamOperations = this.template.opsForStream();
 		}
+
+		this.multiplexer = containerOptions.isMultiplex()
+				? new StreamPollMultiplexer<>(taskExecutor, this::readMultiple, this::getPartition)
+				: null;
 	}
 
 	private static StreamReadOptions getStreamReadOptions(StreamMessageListenerContainerOptions<?, ?> options) {
@@ -100,7 +116,8 @@ class DefaultStreamMessageListenerContainer<K, V extends Record<K, ?>> implement
 			readOptions = readOptions.count(options.getBatchSize().getAsInt());
 		}
 
-		if (!options.getPollTimeout().isZero()) {
+		// scheduled polls must not block the shared scheduler
+		if (!options.getPollTimeout().isZero() && options.getScheduler() == null) {
 			readOptions = readOptions.block(options.getPollTimeout());
 		}
 
@@ -136,7 +153,8 @@ class DefaultStreamMessageListenerContainer<K, V extends Record<K, ?>> implement
 	@Override
 	public void start() {
 
-		synchronized (lifecycleMonitor) {
+		lifecycleLock.lock();
+		try {
 
 			if (this.running) {
 				return;
@@ -147,16 +165,19 @@ class DefaultStreamMessageListenerContainer<K, V extends Record<K, ?>> implement
 					.filter(it -> it instanceof TaskSubscription) //
 					.map(TaskSubscription.class::cast) //
 					.map(TaskSubscription::getTask) //
-					.forEach(taskExecutor::execute);
+					.forEach(this::schedule);
 
 			running = true;
+		} finally {
+			lifecycleLock.unlock();
 		}
 	}
 
 	@Override
 	public void stop() {
 
-		synchronized (lifecycleMonitor) {
+		lifecycleLock.lock();
+		try {
 
 			if (this.running) {
 
@@ -164,14 +185,19 @@ class DefaultStreamMessageListenerContainer<K, V extends Record<K, ?>> implement
 
 				running = false;
 			}
+		} finally {
+			lifecycleLock.unlock();
 		}
 	}
 
 	@Override
 	public boolean isRunning() {
 
-		synchronized (this.lifecycleMonitor) {
+		lifecycleLock.lock();
+		try {
 			return running;
+		} finally {
+			lifecycleLock.unlock();
 		}
 	}
 
@@ -182,19 +208,138 @@ class DefaultStreamMessageListenerContainer<K, V extends Record<K, ?>> implement
 
 	@Override
 	public Subscription register(StreamReadRequest<K> streamRequest, StreamListener<K, V> listener) {
-		return doRegister(getReadTask(streamRequest, listener));
+
+		if (containerOptions.getConcurrency() > 1) {
+			return doRegister(getOrderedTask(streamRequest, listener));
+		}
+
+		return doRegister(multiplexer != null ? getMultiplexedTask(multiplexer, streamRequest, listener)
+				: getReadTask(streamRequest, listener));
+	}
+
+	private Task getOrderedTask(StreamReadRequest<K> streamRequest, StreamListener<K, V> listener) {
+
+		OrderedRecordDispatcher<K, V> dispatcher = new OrderedRecordDispatcher<>(listener, getDeserializer(),
+				getTargetType(), containerOptions.getOrderingKey(), containerOptions.getProcessingExecutor(),
+				containerOptions.getConcurrency(), containerOptions.getMaxInFlight(), getAcknowledgingGroup(streamRequest),
+				this::acknowledge);
+
+		if (multiplexer != null) {
+
+			MultiplexedTask<K, V> task = multiplexer.createOrderedTask(streamRequest, serializeKey(streamRequest),
+					dispatcher, errorHandler, getTargetType(), getDeserializer());
+			task.setReclaimer(getReclaimer(streamRequest));
+			return task;
+		}
+
+		return createPollTask(streamRequest, readFunction -> new StreamPollTask<>(streamRequest, dispatcher, errorHandler,
+				getTargetType(), readFunction, getDeserializer()));
+	}
+
+	@Override
+	public Subscription registerBatch(StreamReadRequest<K> streamRequest, StreamBatchListener<K, V> listener) {
+
+		StreamBatchDispatcher<K, V> dispatcher = getBatchDispatcher(streamRequest, listener);
+
+		if (multiplexer != null) {
+
+			MultiplexedTask<K, V> task = multiplexer.createBatchTask(streamRequest, serializeKey(streamRequest), dispatcher,
+					errorHandler, getTargetType(), getDeserializer());
+			task.setReclaimer(getReclaimer(streamRequest));
+			return doRegister(task);
+		}
+
+		return doRegister(createPollTask(streamRequest, readFunction -> new StreamPollTask<>(streamRequest, dispatcher,
+				errorHandler, getTargetType(), readFunction, getDeserializer())));
+	}
+
+	private StreamBatchDispatcher<K, V> getBatchDispatcher(StreamReadRequest<K> streamRequest,
+			StreamBatchListener<K, V> listener) {
+
+		return new StreamBatchDispatcher<>(listener, getDeserializer(), getTargetType(),
+				containerOptions.isParallelDeserialization(), getAcknowledgingGroup(streamRequest), this::acknowledge);
+	}
+
+	/**
+	 * @return the consumer group if the container acknowledges records of {@code streamRequest}, {@literal null}
+	 *         otherwise.
+	 */
+	@Nullable
+	private String getAcknowledgingGroup(StreamReadRequest<K> streamRequest) {
+
+		if (streamRequest instanceof ConsumerStreamReadRequest
+				&& !((ConsumerStreamReadRequest<K>) streamRequest).isAutoAcknowledge()) {
+			return ((ConsumerStreamReadRequest<K>) streamRequest).getConsumer().getGroup();
+		}
+
+		return null;
+	}
+
+	private void acknowledge(byte[] stream, String group, List<RecordId> ids) {
+		template.execute((RedisCallback<Long>) connection -> connection.streamCommands().xAck(stream, group,
+				ids.toArray(new RecordId[0])));
+	}
+
+	private Task getMultiplexedTask(StreamPollMultiplexer<K, V> multiplexer, StreamReadRequest<K> streamRequest,
+			StreamListener<K, V> listener) {
+
+		MultiplexedTask<K, V> task = multiplexer.createTask(streamRequest, serializeKey(streamRequest), listener,
+				errorHandler, getTargetType(), getDeserializer());
+		task.setReclaimer(getReclaimer(streamRequest));
+		return task;
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
 	private StreamPollTask<K, V> getReadTask(StreamReadRequest<K> streamRequest, StreamListener<K, V> listener) {
 
-		Function<ReadOffset, List<ByteRecord>> readFunction = getReadFunction(streamRequest);
 		Function<ByteRecord, V> deserializerToUse = getDeserializer();
 
-		TypeDescriptor targetType = TypeDescriptor
-				.valueOf(containerOptions.hasHashMapper() ? containerOptions.getTargetType() : MapRecord.class);
+		return createPollTask(streamRequest, readFunction -> new StreamPollTask<>(streamRequest, listener, errorHandler,
+				getTargetType(), readFunction, deserializerToUse));
+	}
+
+	/**
+	 * Create a {@link StreamPollTask} reading through a read function that applies the polling state shared with the
+	 * task.
+	 */
+	private StreamPollTask<K, V> createPollTask(StreamReadRequest<K> streamRequest,
+			Function<Function<ReadOffset, List<ByteRecord>>, StreamPollTask<K, V>> taskFactory) {
+
+		AdaptivePollingOptions adaptivePollingOptions = containerOptions.getAdaptivePollingOptions();
+		AdaptivePollSizing pollSizing = adaptivePollingOptions != null ? new AdaptivePollSizing(adaptivePollingOptions)
+				: null;
+
+		StreamPollTask<K, V> task = taskFactory.apply(getReadFunction(streamRequest, pollSizing));
+		task.setReclaimer(getReclaimer(streamRequest));
+		task.setPollSizing(pollSizing);
+		task.setScheduler(containerOptions.getScheduler(), containerOptions.getPollTimeout());
+		return task;
+	}
+
+	/**
+	 * @return the {@link PendingMessageReclaimer} for consumer group subscriptions acknowledging messages explicitly if
+	 *         reclaiming pending messages is enabled, {@literal null} otherwise.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private PendingMessageReclaimer getReclaimer(StreamReadRequest<K> streamRequest) {
 
-		return new StreamPollTask<>(streamRequest, listener, errorHandler, targetType, readFunction, deserializerToUse);
+		PendingReclaimOptions<K> options = containerOptions.getPendingReclaimOptions();
+
+		if (options == null || !(streamRequest instanceof ConsumerStreamReadRequest)
+				|| ((ConsumerStreamReadRequest<K>) streamRequest).isAutoAcknowledge()) {
+			return null;
+		}
+
+		Consumer consumer = ((ConsumerStreamReadRequest<K>) streamRequest).getConsumer();
+		byte[] rawDeadLetterKey = options.hasDeadLetterStream()
+				? ((RedisSerializer<K>) template.getKeySerializer()).serialize(options.getDeadLetterStream())
+				: null;
+
+		return new PendingMessageReclaimer(template, serializeKey(streamRequest), consumer, options, rawDeadLetterKey);
+	}
+
+	private TypeDescriptor getTargetType() {
+		return TypeDescriptor.valueOf(containerOptions.hasHashMapper() ? containerOptions.getTargetType() : MapRecord.class);
 	}
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
@@ -214,10 +359,10 @@ class DefaultStreamMessageListenerContainer<K, V extends Record<K, ?>> implement
 	}
 
 	@SuppressWarnings("unchecked")
-	private Function<ReadOffset, List<ByteRecord>> getReadFunction(StreamReadRequest<K> streamRequest) {
+	private Function<ReadOffset, List<ByteRecord>> getReadFunction(StreamReadRequest<K> streamRequest,
+			@Nullable AdaptivePollSizing pollSizing) {
 
-		byte[] rawKey = ((RedisSerializer<K>) template.getKeySerializer())
-				.serialize(streamRequest.getStreamOffset().getKey());
+		byte[] rawKey = serializeKey(streamRequest);
 
 		if (streamRequest instanceof StreamMessageListenerContainer.ConsumerStreamReadRequest) {
 
@@ -228,33 +373,96 @@ class DefaultStreamMessageListenerContainer<K, V extends Record<K, ?>> implement
 			Consumer consumer = consumerStreamRequest.getConsumer();
 
 			return (offset) -> template.execute((RedisCallback<List<ByteRecord>>) connection -> connection.streamCommands()
-					.xReadGroup(consumer, readOptions, StreamOffset.create(rawKey, offset)));
+					.xReadGroup(consumer, getReadOptions(readOptions, pollSizing), StreamOffset.create(rawKey, offset)));
 		}
 
 		return (offset) -> template.execute((RedisCallback<List<ByteRecord>>) connection -> connection.streamCommands()
-				.xRead(readOptions, StreamOffset.create(rawKey, offset)));
+				.xRead(getReadOptions(readOptions, pollSizing), StreamOffset.create(rawKey, offset)));
+	}
+
+	private static StreamReadOptions getReadOptions(StreamReadOptions readOptions,
+			@Nullable AdaptivePollSizing pollSizing) {
+		return pollSizing != null ? pollSizing.getReadOptions(readOptions, Long.MAX_VALUE) : readOptions;
+	}
+
+	@SuppressWarnings("unchecked")
+	private byte[] serializeKey(StreamReadRequest<K> streamRequest) {
+		return ((RedisSerializer<K>) template.getKeySerializer()).serialize(streamRequest.getStreamOffset().getKey());
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<ByteRecord> readMultiple(@Nullable Consumer consumer, boolean autoAck,
+			List<StreamOffset<byte[]>> offsets, boolean block) {
+
+		StreamOffset<byte[]>[] streams = offsets.toArray(new StreamOffset[0]);
+		StreamReadOptions baseOptions = block ? this.readOptions : withoutBlocking(this.readOptions);
+
+		if (consumer != null) {
+
+			StreamReadOptions readOptions = autoAck ? baseOptions.autoAcknowledge() : baseOptions;
+			return template.execute((RedisCallback<List<ByteRecord>>) connection -> connection.streamCommands()
+					.xReadGroup(consumer, readOptions, streams));
+		}
+
+		return template.execute(
+				(RedisCallback<List<ByteRecord>>) connection -> connection.streamCommands().xRead(baseOptions, streams));
+	}
+
+	private static StreamReadOptions withoutBlocking(StreamReadOptions readOptions) {
+
+		StreamReadOptions nonBlocking = StreamReadOptions.empty();
+		return readOptions.getCount() != null ? nonBlocking.count(readOptions.getCount()) : nonBlocking;
+	}
+
+	/**
+	 * Streams read with a single command must map to the same slot when using Redis Cluster.
+	 */
+	private int getPartition(byte[] rawKey) {
+
+		Boolean cluster = this.cluster;
+
+		if (cluster == null) {
+			cluster = this.cluster = template
+					.execute((RedisCallback<Boolean>) connection -> connection instanceof RedisClusterConnection);
+		}
+
+		return Boolean.TRUE.equals(cluster) ? ClusterSlotHashUtil.calculateSlot(rawKey) : 0;
 	}
 
 	private Subscription doRegister(Task task) {
 
 		Subscription subscription = new TaskSubscription(task);
 
-		synchronized (lifecycleMonitor) {
+		lifecycleLock.lock();
+		try {
 
 			this.subscriptions.add(subscription);
 
 			if (this.running) {
-				taskExecutor.execute(task);
+				schedule(task);
 			}
+		} finally {
+			lifecycleLock.unlock();
 		}
 
 		return subscription;
 	}
 
+	private void schedule(Task task) {
+
+		// multiplexed tasks attach to their poll group without occupying a thread
+		if (task.isLongLived()) {
+			taskExecutor.execute(task);
+		} else {
+			task.run();
+		}
+	}
+
 	@Override
 	public void remove(Subscription subscription) {
 
-		synchronized (lifecycleMonitor) {
+		lifecycleLock.lock();
+		try {
 
 			if (subscriptions.contains(subscription)) {
 
@@ -264,6 +472,8 @@ class DefaultStreamMessageListenerContainer<K, V extends Record<K, ?>> implement
 
 				subscriptions.remove(subscription);
 			}
+		} finally {
+			lifecycleLock.unlock();
 		}
 	}
 
@@ -0,0 +1,483 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Default implementation of {@link StreamProducer}. Records are buffered in partitions, one per cluster slot when using
+ * Redis Cluster. Sealed batches of a partition are written sequentially by a single writer at a time to retain the
+ * order of records per stream. Batches of different partitions are written concurrently only if the
+ * {@link StreamProducerOptions#getScheduler() scheduler} provides multiple threads; the default scheduler writes all
+ * batches on a single thread. Futures are completed on the {@link StreamProducerOptions#getCompletionExecutor()
+ * completion executor} in the order records were written so that callbacks do not delay writing further batches.
+ *
+ * @author agent
+ * @since 3.0
+ */
+class DefaultStreamProducer<K, HK, HV> implements StreamProducer<K, HK, HV> {
+
+	private final RedisOperations<K, ?> template;
+	private final StreamProducerOptions options;
+	private final ScheduledExecutorService scheduler;
+	private final boolean ownsScheduler;
+	private final Executor completionExecutor;
+	private final Semaphore capacity;
+	private final Lock lock = new ReentrantLock();
+	private final Condition idle = lock.newCondition();
+	private final Map<Integer, Partition> partitions = new HashMap<>();
+
+	private @Nullable Boolean cluster;
+	private volatile boolean closed;
+
+	DefaultStreamProducer(RedisOperations<K, ?> template, StreamProducerOptions options) {
+
+		this.template = template;
+		this.options = options;
+		this.capacity = new Semaphore(options.getMaxPendingRecords());
+
+		ScheduledExecutorService scheduler = options.getScheduler();
+
+		if (scheduler != null) {
+			this.scheduler = scheduler;
+			this.ownsScheduler = false;
+		} else {
+			this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+
+				Thread thread = new Thread(runnable, "stream-producer");
+				thread.setDaemon(true);
+				return thread;
+			});
+			this.ownsScheduler = true;
+		}
+
+		Executor completionExecutor = options.getCompletionExecutor();
+		this.completionExecutor = completionExecutor != null ? completionExecutor : ForkJoinPool.commonPool();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public CompletableFuture<RecordId> send(MapRecord<K, ? extends HK, ? extends HV> record) {
+
+		Assert.notNull(record, "Record must not be null!");
+		Assert.state(!closed, "StreamProducer is closed!");
+
+		ByteRecord rawRecord = record.serialize((RedisSerializer<? super K>) template.getKeySerializer(),
+				(RedisSerializer<? super HK>) template.getHashKeySerializer(),
+				(RedisSerializer<? super HV>) template.getHashValueSerializer());
+		int partitionKey = getPartition(rawRecord.getStream());
+
+		CompletableFuture<RecordId> future = new CompletableFuture<>();
+
+		try {
+			capacity.acquire();
+		} catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			future.completeExceptionally(e);
+			return future;
+		}
+
+		Partition writer = null;
+
+		lock.lock();
+		try {
+
+			if (closed) {
+				capacity.release();
+				throw new IllegalStateException("StreamProducer is closed!");
+			}
+
+			Partition partition = partitions.computeIfAbsent(partitionKey, it -> new Partition());
+			partition.buffer.add(new PendingRecord(rawRecord, future));
+
+			if (partition.buffer.size() == 1 && partition.buffer.size() < options.getBatchSize()) {
+				partition.linger = schedule(partition);
+			}
+
+			if (partition.buffer.size() >= options.getBatchSize() || partition.linger == null) {
+				partition.seal();
+				writer = partition.activate();
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		if (writer != null) {
+			execute(writer);
+		}
+
+		return future;
+	}
+
+	@Override
+	public void flush() {
+
+		List<Partition> writers = new ArrayList<>();
+
+		lock.lock();
+		try {
+
+			for (Partition partition : partitions.values()) {
+
+				partition.seal();
+
+				Partition writer = partition.activate();
+				if (writer != null) {
+					writers.add(writer);
+				}
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		writers.forEach(this::execute);
+
+		lock.lock();
+		try {
+			while (partitions.values().stream().anyMatch(Partition::isBusy)) {
+				idle.awaitUninterruptibly();
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Override
+	public void close() {
+
+		closed = true;
+
+		try {
+			flush();
+		} finally {
+			if (ownsScheduler) {
+				scheduler.shutdown();
+			}
+		}
+	}
+
+	/**
+	 * Schedule writing the buffer of {@link Partition} after the linger time.
+	 *
+	 * @return the {@link ScheduledFuture} or {@literal null} if the buffer should be written immediately.
+	 */
+	@Nullable
+	private ScheduledFuture<?> schedule(Partition partition) {
+
+		if (options.getLinger().isZero()) {
+			return null;
+		}
+
+		try {
+			return scheduler.schedule(() -> linger(partition), options.getLinger().toNanos(), TimeUnit.NANOSECONDS);
+		} catch (RejectedExecutionException e) {
+			return null;
+		}
+	}
+
+	private void linger(Partition partition) {
+
+		Partition writer;
+
+		lock.lock();
+		try {
+			partition.seal();
+			writer = partition.activate();
+		} finally {
+			lock.unlock();
+		}
+
+		if (writer != null) {
+			writer.run();
+		}
+	}
+
+	private void execute(Partition writer) {
+
+		try {
+			scheduler.execute(writer);
+		} catch (RejectedExecutionException e) {
+			writer.run();
+		}
+	}
+
+	/**
+	 * Write a batch using a single pipeline. Connections that do not support pipelining (e.g. Jedis Cluster) write
+	 * records sequentially.
+	 */
+	private void write(Partition partition, List<PendingRecord> batch) {
+
+		XAddOptions xAddOptions = options.getXAddOptions();
+		List<Object> results = null;
+		RuntimeException failure = null;
+
+		try {
+
+			results = template.execute((RedisCallback<List<Object>>) connection -> {
+
+				try {
+					connection.openPipeline();
+				} catch (UnsupportedOperationException e) {
+					return writeSequentially(connection, batch, xAddOptions);
+				}
+
+				RedisStreamCommands commands = connection.streamCommands();
+				for (PendingRecord record : batch) {
+					commands.xAdd(record.record, xAddOptions);
+				}
+
+				return connection.closePipeline();
+			});
+		} catch (RedisPipelineException e) {
+			results = e.getPipelineResult();
+		} catch (RuntimeException e) {
+			failure = e;
+		} finally {
+
+			// release before completing futures so that callbacks sending further records do not block on capacity
+			capacity.release(batch.size());
+		}
+
+		List<Object> batchResults = results;
+		RuntimeException batchFailure = failure;
+
+		partition.complete(() -> {
+
+			if (batchFailure != null) {
+				batch.forEach(record -> record.future.completeExceptionally(batchFailure));
+			} else {
+				complete(batch, batchResults);
+			}
+		});
+	}
+
+	private static List<Object> writeSequentially(RedisConnection connection, List<PendingRecord> batch,
+			XAddOptions xAddOptions) {
+
+		List<Object> results = new ArrayList<>(batch.size());
+
+		for (PendingRecord record : batch) {
+			try {
+				results.add(connection.streamCommands().xAdd(record.record, xAddOptions));
+			} catch (RuntimeException e) {
+				results.add(e);
+			}
+		}
+
+		return results;
+	}
+
+	private static void complete(List<PendingRecord> batch, @Nullable List<Object> results) {
+
+		for (int i = 0; i < batch.size(); i++) {
+
+			CompletableFuture<RecordId> future = batch.get(i).future;
+			Object result = results != null && i < results.size() ? results.get(i) : null;
+
+			if (result instanceof RecordId) {
+				future.complete((RecordId) result);
+			} else if (result instanceof Throwable) {
+				future.completeExceptionally((Throwable) result);
+			} else {
+				future.completeExceptionally(
+						new InvalidDataAccessApiUsageException(String.format("Unexpected XADD result: %s", result)));
+			}
+		}
+	}
+
+	/**
+	 * Batches must map to the same slot when using Redis Cluster to be written using a single pipeline.
+	 */
+	private int getPartition(byte[] rawKey) {
+
+		Boolean cluster = this.cluster;
+
+		if (cluster == null) {
+			cluster = this.cluster = template
+					.execute((RedisCallback<Boolean>) connection -> connection instanceof RedisClusterConnection);
+		}
+
+		return Boolean.TRUE.equals(cluster) ? ClusterSlotHashUtil.calculateSlot(rawKey) : 0;
+	}
+
+	static class PendingRecord {
+
+		private final ByteRecord record;
+		private final CompletableFuture<RecordId> future;
+
+		PendingRecord(ByteRecord record, CompletableFuture<RecordId> future) {
+			this.record = record;
+			this.future = future;
+		}
+	}
+
+	/**
+	 * Buffer and sealed batches of a partition. State is guarded by {@link #lock}. At most one writer and one completer
+	 * per partition are active at a time.
+	 */
+	class Partition implements Runnable {
+
+		private List<PendingRecord> buffer = new ArrayList<>();
+		private final Queue<List<PendingRecord>> batches = new ArrayDeque<>();
+		private final Queue<Runnable> completions = new ArrayDeque<>();
+		private @Nullable ScheduledFuture<?> linger;
+		private boolean writing;
+		private boolean completing;
+
+		/**
+		 * Seal the current buffer into a batch ready to be written.
+		 */
+		void seal() {
+
+			if (linger != null) {
+				linger.cancel(false);
+				linger = null;
+			}
+
+			if (!buffer.isEmpty()) {
+				batches.add(buffer);
+				buffer = new ArrayList<>();
+			}
+		}
+
+		/**
+		 * @return {@code this} partition if a writer needs to be started, {@literal null} if a writer is already active or
+		 *         there is nothing to write.
+		 */
+		@Nullable
+		Partition activate() {
+
+			if (writing || batches.isEmpty()) {
+				return null;
+			}
+
+			writing = true;
+			return this;
+		}
+
+		boolean isBusy() {
+			return writing || !batches.isEmpty() || completing;
+		}
+
+		/**
+		 * Run {@code completion} on the completion executor after completions of previously written batches.
+		 */
+		void complete(Runnable completion) {
+
+			boolean start;
+
+			lock.lock();
+			try {
+				completions.add(completion);
+				start = !completing;
+				completing = true;
+			} finally {
+				lock.unlock();
+			}
+
+			if (start) {
+				try {
+					completionExecutor.execute(this::runCompletions);
+				} catch (RejectedExecutionException e) {
+					runCompletions();
+				}
+			}
+		}
+
+		private void runCompletions() {
+
+			while (true) {
+
+				Runnable completion;
+
+				lock.lock();
+				try {
+
+					completion = completions.poll();
+
+					if (completion == null) {
+						completing = false;
+						idle.signalAll();
+						return;
+					}
+				} finally {
+					lock.unlock();
+				}
+
+				completion.run();
+			}
+		}
+
+		@Override
+		public void run() {
+
+			while (true) {
+
+				List<PendingRecord> batch;
+
+				lock.lock();
+				try {
+
+					batch = batches.poll();
+
+					if (batch == null) {
+						writing = false;
+						idle.signalAll();
+						return;
+					}
+				} finally {
+					lock.unlock();
+				}
+
+				write(this, batch);
+			}
+		}
+	}
+}
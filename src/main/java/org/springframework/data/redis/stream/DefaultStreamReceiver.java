@@ -18,14 +18,19 @@ package org.springframework.data.redis.stream;
 import reactor.core.CoreSubscriber;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
 import reactor.core.publisher.Operators;
 import reactor.util.concurrent.Queues;
 import reactor.util.context.Context;
 
 import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
@@ -38,16 +43,24 @@ import org.reactivestreams.Subscription;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.ReactiveStreamCommands;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
 import org.springframework.data.redis.connection.stream.ByteBufferRecord;
 import org.springframework.data.redis.connection.stream.Consumer;
 import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
 import org.springframework.data.redis.connection.stream.ReadOffset;
 import org.springframework.data.redis.connection.stream.Record;
+import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.data.redis.connection.stream.StreamOffset;
 import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.ReactiveStreamOperations;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.stream.PendingMessageSelector.Inspection;
+import org.springframework.lang.Nullable;
 
 /**
  * Default implementation of {@link StreamReceiver}.
@@ -112,15 +125,17 @@ class DefaultStreamReceiver<K, V extends Record<K, ?>> implements StreamReceiver
 				.getKeySerializationPair();
 		ByteBuffer rawKey = keySerializer.write(streamOffset.getKey());
 
-		Function<ReadOffset, Flux<ByteBufferRecord>> readFunction = readOffset -> template.execute(connection -> connection
-				.streamCommands().xRead(readOptions, StreamOffset.create(rawKey.asReadOnlyBuffer(), readOffset)));
-
 		return Flux.defer(() -> {
 
 			PollState pollState = PollState.standalone(streamOffset.getOffset());
+			AdaptivePollSizing pollSizing = createPollSizing();
+			Function<ReadOffset, Flux<ByteBufferRecord>> readFunction = readOffset -> template
+					.execute(connection -> connection.streamCommands().xRead(getReadOptions(readOptions, pollState, pollSizing),
+							StreamOffset.create(rawKey.asReadOnlyBuffer(), readOffset)));
+
 			return Flux.create(
 					sink -> new StreamSubscription(sink, streamOffset.getKey(), pollState, readFunction,
-							receiverOptions.getResumeFunction()).arm());
+							receiverOptions.getResumeFunction(), pollSizing).arm());
 		});
 	}
 
@@ -132,16 +147,16 @@ class DefaultStreamReceiver<K, V extends Record<K, ?>> implements StreamReceiver
 			logger.debug(String.format("receiveAutoAck(%s, %s)", consumer, streamOffset));
 		}
 
-		Function<ReadOffset, Flux<ByteBufferRecord>> readFunction = getConsumeReadFunction(streamOffset.getKey(), consumer,
-				this.readOptions.autoAcknowledge());
-
-
 		return Flux.defer(() -> {
 
 			PollState pollState = PollState.consumer(consumer, streamOffset.getOffset());
+			AdaptivePollSizing pollSizing = createPollSizing();
+			Function<ReadOffset, Flux<ByteBufferRecord>> readFunction = getConsumeReadFunction(streamOffset.getKey(),
+					consumer, this.readOptions.autoAcknowledge(), pollState, pollSizing);
+
 			return Flux.create(
 					sink -> new StreamSubscription(sink, streamOffset.getKey(), pollState, readFunction,
-							receiverOptions.getResumeFunction()).arm());
+							receiverOptions.getResumeFunction(), pollSizing).arm());
 		});
 	}
 
@@ -153,27 +168,67 @@ class DefaultStreamReceiver<K, V extends Record<K, ?>> implements StreamReceiver
 			logger.debug(String.format("receive(%s, %s)", consumer, streamOffset));
 		}
 
-		Function<ReadOffset, Flux<ByteBufferRecord>> readFunction = getConsumeReadFunction(streamOffset.getKey(), consumer,
-				this.readOptions);
-
 		return Flux.defer(() -> {
+
 			PollState pollState = PollState.consumer(consumer, streamOffset.getOffset());
+			AdaptivePollSizing pollSizing = createPollSizing();
+			Function<ReadOffset, Flux<ByteBufferRecord>> readFunction = withReclaim(getConsumeReadFunction(
+					streamOffset.getKey(), consumer, this.readOptions, pollState, pollSizing), consumer, streamOffset);
+
 			return Flux.create(
 					sink -> new StreamSubscription(sink, streamOffset.getKey(), pollState, readFunction,
-							receiverOptions.getResumeFunction()).arm());
+							receiverOptions.getResumeFunction(), pollSizing).arm());
 		});
 	}
 
+	@Nullable
+	private AdaptivePollSizing createPollSizing() {
+
+		AdaptivePollingOptions options = receiverOptions.getAdaptivePollingOptions();
+		return options != null ? new AdaptivePollSizing(options) : null;
+	}
+
+	/**
+	 * Apply the adapted read count limited to the outstanding demand and the blocking behavior if adaptive polling is
+	 * enabled.
+	 */
+	private static StreamReadOptions getReadOptions(StreamReadOptions readOptions, PollState pollState,
+			@Nullable AdaptivePollSizing pollSizing) {
+		return pollSizing != null ? pollSizing.getReadOptions(readOptions, pollState.getRequested()) : readOptions;
+	}
+
+	/**
+	 * Prepend claimed pending messages to each read if reclaiming is enabled. Reclaiming requires
+	 * {@link ReadOffset#lastConsumed()} as emitting claimed messages must not move the read offset.
+	 */
+	private Function<ReadOffset, Flux<ByteBufferRecord>> withReclaim(
+			Function<ReadOffset, Flux<ByteBufferRecord>> readFunction, Consumer consumer, StreamOffset<K> streamOffset) {
+
+		PendingReclaimOptions<K> options = receiverOptions.getPendingReclaimOptions();
+
+		if (options == null || !ReadOffset.lastConsumed().equals(streamOffset.getOffset())) {
+			return readFunction;
+		}
+
+		SerializationPair<K> keySerializer = template.getSerializationContext().getKeySerializationPair();
+		ByteBuffer rawDeadLetterKey = options.hasDeadLetterStream() ? keySerializer.write(options.getDeadLetterStream())
+				: null;
+		PendingReclaim reclaim = new PendingReclaim(keySerializer.write(streamOffset.getKey()), consumer, options,
+				rawDeadLetterKey);
+
+		return readOffset -> reclaim.reclaim().concatWith(readFunction.apply(readOffset));
+	}
+
 	@SuppressWarnings("unchecked")
 	private Function<ReadOffset, Flux<ByteBufferRecord>> getConsumeReadFunction(K key, Consumer consumer,
-			StreamReadOptions readOptions) {
+			StreamReadOptions readOptions, PollState pollState, @Nullable AdaptivePollSizing pollSizing) {
 
 		RedisSerializationContext.SerializationPair<K> keySerializer = template.getSerializationContext()
 				.getKeySerializationPair();
 		ByteBuffer rawKey = keySerializer.write(key);
 
-		return readOffset -> template.execute(connection -> connection.streamCommands().xReadGroup(consumer, readOptions,
-				StreamOffset.create(rawKey.asReadOnlyBuffer(), readOffset)));
+		return readOffset -> template.execute(connection -> connection.streamCommands().xReadGroup(consumer,
+				getReadOptions(readOptions, pollState, pollSizing), StreamOffset.create(rawKey.asReadOnlyBuffer(), readOffset)));
 	}
 
 	@SuppressWarnings({ "unchecked", "rawtypes" })
@@ -192,6 +247,79 @@ class DefaultStreamReceiver<K, V extends Record<K, ?>> implements StreamReceiver
 		};
 	}
 
+	/**
+	 * Reactive counterpart of {@link PendingMessageReclaimer} claiming idle pending messages of a consumer group for a
+	 * single subscription. Dead-lettering is not atomic and may add a message more than once to the dead-letter stream
+	 * if acknowledging fails.
+	 */
+	class PendingReclaim {
+
+		private final ByteBuffer rawKey;
+		private final Consumer consumer;
+		private final PendingReclaimOptions<K> options;
+		private final @Nullable ByteBuffer rawDeadLetterKey;
+		private final PendingMessageSelector selector;
+
+		PendingReclaim(ByteBuffer rawKey, Consumer consumer, PendingReclaimOptions<K> options,
+				@Nullable ByteBuffer rawDeadLetterKey) {
+
+			this.rawKey = rawKey;
+			this.consumer = consumer;
+			this.options = options;
+			this.rawDeadLetterKey = rawDeadLetterKey;
+			this.selector = new PendingMessageSelector(options, rawDeadLetterKey != null);
+		}
+
+		/**
+		 * Claim idle pending messages if the reclaim interval has elapsed since the previous run.
+		 */
+		Flux<ByteBufferRecord> reclaim() {
+
+			Inspection inspection = selector.next();
+
+			if (inspection == null) {
+				return Flux.empty();
+			}
+
+			return template.execute(connection -> {
+
+				ReactiveStreamCommands commands = connection.streamCommands();
+
+				return commands
+						.xPending(rawKey.asReadOnlyBuffer(), consumer.getGroup(), inspection.getRange(), inspection.getCount())
+						.map(inspection::select).flatMapMany(selection -> deadLetter(commands, selection.getToDeadLetter())
+								.thenMany(claim(commands, selection.getToClaim())));
+			});
+		}
+
+		private Flux<ByteBufferRecord> claim(ReactiveStreamCommands commands, List<RecordId> ids) {
+
+			if (ids.isEmpty()) {
+				return Flux.empty();
+			}
+
+			return commands.xClaim(rawKey.asReadOnlyBuffer(), consumer.getGroup(), consumer.getName(),
+					XClaimOptions.minIdle(options.getMinIdleTime()).ids(ids));
+		}
+
+		private Mono<Void> deadLetter(ReactiveStreamCommands commands, Map<RecordId, PendingMessage> messages) {
+
+			return claim(commands, List.copyOf(messages.keySet())).collectList().flatMap(claimed -> {
+
+				if (claimed.isEmpty()) {
+					return Mono.empty();
+				}
+
+				return Flux.fromIterable(claimed)
+						.concatMap(record -> commands.xAdd(StreamRecords.newRecord().in(rawDeadLetterKey.asReadOnlyBuffer())
+								.ofBuffer(PendingMessageSelector.deadLetterValue(record.getValue(), rawKey.asReadOnlyBuffer(),
+										messages.get(record.getId()), ByteBuffer::wrap))))
+						.then(commands.xAck(rawKey.asReadOnlyBuffer(), consumer.getGroup(),
+								claimed.stream().map(ByteBufferRecord::getId).toArray(RecordId[]::new)));
+			}).then();
+		}
+	}
+
 	/**
 	 * A stateful Redis Stream subscription.
 	 */
@@ -206,16 +334,19 @@ class DefaultStreamReceiver<K, V extends Record<K, ?>> implements StreamReceiver
 		private final Function<? super Throwable, ? extends Publisher<Void>> resumeFunction;
 		private final Function<ByteBufferRecord, V> deserializer;
 		private final TypeDescriptor targetType;
+		private final @Nullable AdaptivePollSizing pollSizing;
 
 		protected StreamSubscription(FluxSink<V> sink, K key, PollState pollState,
 				Function<ReadOffset, Flux<ByteBufferRecord>> readFunction,
-				Function<? super Throwable, ? extends Publisher<Void>> resumeFunction) {
+				Function<? super Throwable, ? extends Publisher<Void>> resumeFunction,
+				@Nullable AdaptivePollSizing pollSizing) {
 
 			this.sink = sink;
 			this.key = key;
 			this.pollState = pollState;
 			this.readFunction = readFunction;
 			this.resumeFunction = resumeFunction;
+			this.pollSizing = pollSizing;
 			this.deserializer = getDeserializer();
 			this.targetType = TypeDescriptor
 					.valueOf(receiverOptions.hasHashMapper() ? receiverOptions.getTargetType() : MapRecord.class);
@@ -313,7 +444,7 @@ class DefaultStreamReceiver<K, V extends Record<K, ?>> implements StreamReceiver
 							String.format("[stream: %s] scheduleIfRequired(): Activating subscription, offset %s", key, readOffset));
 				}
 
-				Flux<ByteBufferRecord> poll = readFunction.apply(readOffset)
+				Flux<ByteBufferRecord> poll = adapt(readFunction.apply(readOffset))
 						.onErrorResume(throwable -> Flux.from(resumeFunction.apply(throwable)).then().cast(ByteBufferRecord.class));
 
 				poll.map(it -> {
@@ -334,6 +465,26 @@ class DefaultStreamReceiver<K, V extends Record<K, ?>> implements StreamReceiver
 			}
 		}
 
+		/**
+		 * Notify {@link AdaptivePollSizing} about completed reads and delay reads on idle streams.
+		 */
+		private Flux<ByteBufferRecord> adapt(Flux<ByteBufferRecord> read) {
+
+			AdaptivePollSizing pollSizing = this.pollSizing;
+
+			if (pollSizing == null) {
+				return read;
+			}
+
+			AtomicInteger received = new AtomicInteger();
+			Flux<ByteBufferRecord> tracked = read.doOnNext(it -> received.incrementAndGet())
+					.doOnComplete(() -> pollSizing.afterRead(received.get(), 0));
+
+			long backoff = pollSizing.getBackoffNanos();
+
+			return backoff > 0 ? Mono.delay(Duration.ofNanos(backoff)).thenMany(tracked) : tracked;
+		}
+
 		private CoreSubscriber<V> getSubscriber() {
 
 			return new CoreSubscriber<V>() {
@@ -0,0 +1,329 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Record;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.stream.StreamBatchDispatcher.Acknowledger;
+import org.springframework.lang.Nullable;
+
+/**
+ * Dispatcher processing records of a single subscription concurrently on an {@link Executor} while retaining the order
+ * of records sharing the same ordering key. Records are assigned to a fixed number of lanes by their key and each lane
+ * processes its records sequentially. Records without an ordering key function are distributed across lanes in a
+ * round-robin fashion.
+ * <p>
+ * The number of records in flight is bounded. {@link #dispatch(ByteRecord, DispatchCallback)} blocks the polling
+ * thread once the bound is reached. Completed records are committed in the order they were read: the commit position
+ * and acknowledgements only advance past the contiguous prefix of completed records.
+ *
+ * @author agent
+ * @since 3.0
+ */
+class OrderedRecordDispatcher<K, V extends Record<K, ?>> {
+
+	private final StreamListener<K, V> listener;
+	private final Function<ByteRecord, V> deserializer;
+	private final TypeDescriptor targetType;
+	private final @Nullable Function<Object, Object> orderingKey;
+	private final Executor executor;
+	private final Semaphore permits;
+	private final Lane[] lanes;
+	private final @Nullable String group;
+	private final @Nullable Acknowledger acknowledger;
+
+	private final Lock lock = new ReentrantLock();
+	private final ArrayDeque<InFlight> inFlight = new ArrayDeque<>();
+
+	private int nextLane;
+
+	/**
+	 * Create a new {@link OrderedRecordDispatcher}.
+	 *
+	 * @param listener the listener to notify.
+	 * @param deserializer function to convert raw records.
+	 * @param targetType the target type of the conversion.
+	 * @param orderingKey function to extract the ordering key from a converted record. Can be {@literal null}.
+	 * @param executor the {@link Executor} to process records on.
+	 * @param concurrency number of records to process concurrently.
+	 * @param maxInFlight maximum number of dispatched records that were not completed yet.
+	 * @param group the consumer group to acknowledge records with. {@literal null} to not acknowledge records.
+	 * @param acknowledger the function to acknowledge records. {@literal null} to not acknowledge records.
+	 */
+	OrderedRecordDispatcher(StreamListener<K, V> listener, Function<ByteRecord, V> deserializer,
+			TypeDescriptor targetType, @Nullable Function<Object, Object> orderingKey, Executor executor, int concurrency,
+			int maxInFlight, @Nullable String group, @Nullable Acknowledger acknowledger) {
+
+		this.listener = listener;
+		this.deserializer = deserializer;
+		this.targetType = targetType;
+		this.orderingKey = orderingKey;
+		this.executor = executor;
+		this.permits = new Semaphore(maxInFlight);
+		this.lanes = new Lane[concurrency];
+		this.group = group;
+		this.acknowledger = group != null ? acknowledger : null;
+
+		for (int i = 0; i < concurrency; i++) {
+			this.lanes[i] = new Lane();
+		}
+	}
+
+	/**
+	 * Dispatch a record for processing. Blocks while the maximum number of records is in flight.
+	 *
+	 * @param raw the raw record.
+	 * @param callback callback notified about errors and committed records.
+	 * @throws InterruptedException if interrupted while awaiting capacity.
+	 */
+	void dispatch(ByteRecord raw, DispatchCallback callback) throws InterruptedException {
+
+		V value;
+
+		try {
+			value = deserializer.apply(raw);
+		} catch (RuntimeException e) {
+
+			InFlight failed = enqueue(raw, callback);
+			callback.onError(new ConversionFailedException(TypeDescriptor.forObject(raw), targetType, raw, e));
+			complete(failed, false);
+			return;
+		}
+
+		Lane lane = getLane(value);
+
+		permits.acquire();
+
+		InFlight entry = enqueue(raw, callback);
+
+		lane.submit(() -> process(entry, value));
+	}
+
+	/**
+	 * @return the number of dispatched records that were not committed yet.
+	 */
+	int getInFlight() {
+
+		lock.lock();
+		try {
+			return inFlight.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private Lane getLane(V value) {
+
+		if (orderingKey == null) {
+
+			lock.lock();
+			try {
+				nextLane = (nextLane + 1) % lanes.length;
+				return lanes[nextLane];
+			} finally {
+				lock.unlock();
+			}
+		}
+
+		Object key = orderingKey.apply(value);
+		return lanes[key == null ? 0 : Math.floorMod(key.hashCode(), lanes.length)];
+	}
+
+	private InFlight enqueue(ByteRecord raw, DispatchCallback callback) {
+
+		InFlight entry = new InFlight(raw, callback);
+
+		lock.lock();
+		try {
+			inFlight.add(entry);
+		} finally {
+			lock.unlock();
+		}
+
+		return entry;
+	}
+
+	private void process(InFlight entry, V value) {
+
+		boolean success = false;
+
+		try {
+
+			listener.onMessage(value);
+			success = true;
+		} catch (RuntimeException e) {
+			entry.callback.onError(e);
+		} finally {
+
+			permits.release();
+			complete(entry, success);
+		}
+	}
+
+	private void complete(InFlight entry, boolean success) {
+
+		List<ByteRecord> toAcknowledge = new ArrayList<>();
+		InFlight last = null;
+
+		lock.lock();
+		try {
+
+			entry.done = true;
+			entry.success = success;
+
+			while (!inFlight.isEmpty() && inFlight.peek().done) {
+
+				last = inFlight.poll();
+
+				if (last.success) {
+					toAcknowledge.add(last.record);
+				}
+			}
+
+			// commit while holding the lock to keep the commit position monotonic
+			if (last != null) {
+				last.callback.onCommit(last.record.getId().getValue());
+			}
+		} finally {
+			lock.unlock();
+		}
+
+		if (acknowledger == null || toAcknowledge.isEmpty()) {
+			return;
+		}
+
+		try {
+			acknowledge(toAcknowledge);
+		} catch (RuntimeException e) {
+			entry.callback.onError(e);
+		}
+	}
+
+	private void acknowledge(List<ByteRecord> records) {
+
+		Map<ByteBuffer, List<RecordId>> idsByStream = new LinkedHashMap<>();
+
+		for (ByteRecord record : records) {
+			idsByStream.computeIfAbsent(ByteBuffer.wrap(record.getRequiredStream()), it -> new ArrayList<>())
+					.add(record.getId());
+		}
+
+		idsByStream.forEach((stream, ids) -> acknowledger.acknowledge(stream.array(), group, ids));
+	}
+
+	/**
+	 * Callback for the dispatching {@link Task}.
+	 */
+	interface DispatchCallback {
+
+		/**
+		 * Called on conversion, listener and acknowledgement errors.
+		 *
+		 * @param e the error.
+		 */
+		void onError(RuntimeException e);
+
+		/**
+		 * Called when all records up to and including {@code recordId} have been completed.
+		 *
+		 * @param recordId the id of the last completed record.
+		 */
+		void onCommit(String recordId);
+	}
+
+	private static class InFlight {
+
+		private final ByteRecord record;
+		private final DispatchCallback callback;
+		private boolean done;
+		private boolean success;
+
+		InFlight(ByteRecord record, DispatchCallback callback) {
+
+			this.record = record;
+			this.callback = callback;
+		}
+	}
+
+	/**
+	 * Sequential queue of records processed on the {@link Executor}. At most one task per lane is scheduled at a time.
+	 * Records are processed by the calling thread if the {@link Executor} rejects the task.
+	 */
+	private class Lane implements Runnable {
+
+		private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+
+		void submit(Runnable runnable) {
+
+			queue.add(runnable);
+			schedule();
+		}
+
+		private void schedule() {
+
+			if (!scheduled.compareAndSet(false, true)) {
+				return;
+			}
+
+			try {
+				executor.execute(this);
+			} catch (RejectedExecutionException e) {
+
+				// process within the calling thread to not lose dispatched records
+				run();
+			}
+		}
+
+		@Override
+		public void run() {
+
+			try {
+
+				Runnable runnable;
+				while ((runnable = queue.poll()) != null) {
+					runnable.run();
+				}
+			} finally {
+
+				scheduled.set(false);
+
+				if (!queue.isEmpty()) {
+					schedule();
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.stream.PendingMessageSelector.Inspection;
+import org.springframework.data.redis.stream.PendingMessageSelector.Selection;
+import org.springframework.lang.Nullable;
+
+/**
+ * Reclaims idle pending messages of a consumer group for a {@link Consumer}. Each {@link #reclaim() run} inspects a
+ * batch of the pending entries list using {@code XPENDING}, continuing after the last inspected message with the next
+ * run and starting over once the end of the list is reached. Messages that are idle for longer than the configured
+ * minimum idle time are claimed using {@code XCLAIM}. Claiming applies the minimum idle time again so that only one of
+ * multiple competing consumers claims a message. Messages exceeding the maximum number of deliveries are added to the
+ * dead-letter stream and acknowledged instead of being returned. Dead-lettering is not atomic and may add a message
+ * more than once to the dead-letter stream if acknowledging fails.
+ * <p>
+ * Reclaiming is not thread-safe and is expected to be called from the polling loop of a single subscription.
+ *
+ * @author agent
+ * @since 3.0
+ * @see PendingReclaimOptions
+ * @see PendingMessageSelector
+ */
+class PendingMessageReclaimer {
+
+	private final RedisOperations<?, ?> operations;
+	private final byte[] rawKey;
+	private final Consumer consumer;
+	private final PendingReclaimOptions<?> options;
+	private final @Nullable byte[] rawDeadLetterKey;
+	private final PendingMessageSelector selector;
+
+	/**
+	 * Create a new {@link PendingMessageReclaimer}.
+	 *
+	 * @param operations the operations to run commands with.
+	 * @param rawKey the stream key.
+	 * @param consumer the consumer to claim messages for.
+	 * @param options the reclaim options.
+	 * @param rawDeadLetterKey the serialized dead-letter stream key. {@literal null} to not dead-letter messages.
+	 */
+	PendingMessageReclaimer(RedisOperations<?, ?> operations, byte[] rawKey, Consumer consumer,
+			PendingReclaimOptions<?> options, @Nullable byte[] rawDeadLetterKey) {
+
+		this.operations = operations;
+		this.rawKey = rawKey;
+		this.consumer = consumer;
+		this.options = options;
+		this.rawDeadLetterKey = rawDeadLetterKey;
+		this.selector = new PendingMessageSelector(options, rawDeadLetterKey != null);
+	}
+
+	/**
+	 * Claim idle pending messages if the reclaim interval has elapsed since the previous run.
+	 *
+	 * @return the claimed messages. Never {@literal null}.
+	 */
+	List<ByteRecord> reclaim() {
+
+		Inspection inspection = selector.next();
+
+		if (inspection == null) {
+			return Collections.emptyList();
+		}
+
+		PendingMessages pending = operations.execute((RedisCallback<PendingMessages>) connection -> connection
+				.streamCommands().xPending(rawKey, consumer.getGroup(), inspection.getRange(), inspection.getCount()));
+		Selection selection = inspection.select(pending);
+
+		if (!selection.getToDeadLetter().isEmpty()) {
+			deadLetter(selection.getToDeadLetter());
+		}
+
+		return selection.getToClaim().isEmpty() ? Collections.emptyList() : claim(selection.getToClaim());
+	}
+
+	private List<ByteRecord> claim(List<RecordId> ids) {
+
+		XClaimOptions claimOptions = XClaimOptions.minIdle(options.getMinIdleTime()).ids(ids);
+
+		return operations.execute((RedisCallback<List<ByteRecord>>) connection -> connection.streamCommands()
+				.xClaim(rawKey, consumer.getGroup(), consumer.getName(), claimOptions));
+	}
+
+	private void deadLetter(Map<RecordId, PendingMessage> messages) {
+
+		List<ByteRecord> claimed = claim(List.copyOf(messages.keySet()));
+
+		if (claimed.isEmpty()) {
+			return;
+		}
+
+		operations.execute((RedisCallback<Object>) connection -> {
+
+			for (ByteRecord record : claimed) {
+				connection.streamCommands().xAdd(StreamRecords.newRecord().in(rawDeadLetterKey).ofBytes(PendingMessageSelector
+						.deadLetterValue(record.getValue(), rawKey, messages.get(record.getId()), it -> it)));
+			}
+
+			return connection.streamCommands().xAck(rawKey, consumer.getGroup(),
+					claimed.stream().map(ByteRecord::getId).toArray(RecordId[]::new));
+		});
+	}
+}
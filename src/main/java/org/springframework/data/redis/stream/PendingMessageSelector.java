@@ -0,0 +1,211 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Range.Bound;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.lang.Nullable;
+
+/**
+ * Selects idle pending messages of a consumer group to claim or to dead-letter. Each {@link #next() inspection} covers
+ * a batch of the pending entries list, continuing after the last inspected message with the next inspection and
+ * starting over once the end of the list is reached. Used by {@link PendingMessageReclaimer} and by the reactive
+ * reclaiming of {@link DefaultStreamReceiver} that only differ in how they run commands.
+ * <p>
+ * Inspections are expected to not overlap. State is visible across threads to support inspections that complete on a
+ * different thread than they were started on.
+ *
+ * @author agent
+ * @since 3.0
+ * @see PendingReclaimOptions
+ */
+class PendingMessageSelector {
+
+	private final PendingReclaimOptions<?> options;
+	private final boolean deadLettering;
+
+	private volatile long nextRun;
+	private volatile @Nullable String lastInspected;
+
+	/**
+	 * Create a new {@link PendingMessageSelector}.
+	 *
+	 * @param options the reclaim options.
+	 * @param deadLettering whether poison messages are moved to a dead-letter stream.
+	 */
+	PendingMessageSelector(PendingReclaimOptions<?> options, boolean deadLettering) {
+
+		this.options = options;
+		this.deadLettering = deadLettering;
+		this.nextRun = System.nanoTime();
+	}
+
+	/**
+	 * Start the next inspection if the reclaim interval has elapsed since the previous one.
+	 *
+	 * @return the next {@link Inspection} or {@literal null} if the interval has not elapsed yet.
+	 */
+	@Nullable
+	Inspection next() {
+
+		long now = System.nanoTime();
+
+		if (now - nextRun < 0) {
+			return null;
+		}
+
+		nextRun = now + options.getInterval().toNanos();
+
+		return new Inspection(lastInspected);
+	}
+
+	/**
+	 * Create the value of a dead-letter record by adding the {@link PendingReclaimOptions#DEAD_LETTER_STREAM_FIELD
+	 * source stream}, {@link PendingReclaimOptions#DEAD_LETTER_ID_FIELD original id} and
+	 * {@link PendingReclaimOptions#DEAD_LETTER_DELIVERY_COUNT_FIELD delivery count} to the value of the claimed record.
+	 *
+	 * @param value the value of the claimed record.
+	 * @param rawKey the serialized source stream key.
+	 * @param message the pending message of the claimed record.
+	 * @param encoder encoder for field names and values.
+	 * @return the dead-letter record value.
+	 */
+	static <T> Map<T, T> deadLetterValue(Map<T, T> value, T rawKey, PendingMessage message,
+			Function<byte[], T> encoder) {
+
+		Map<T, T> deadLetter = new LinkedHashMap<>(value);
+
+		deadLetter.put(encode(PendingReclaimOptions.DEAD_LETTER_STREAM_FIELD, encoder), rawKey);
+		deadLetter.put(encode(PendingReclaimOptions.DEAD_LETTER_ID_FIELD, encoder),
+				encode(message.getIdAsString(), encoder));
+		deadLetter.put(encode(PendingReclaimOptions.DEAD_LETTER_DELIVERY_COUNT_FIELD, encoder),
+				encode(Long.toString(message.getTotalDeliveryCount()), encoder));
+
+		return deadLetter;
+	}
+
+	private static <T> T encode(String value, Function<byte[], T> encoder) {
+		return encoder.apply(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private boolean isPoison(PendingMessage message) {
+		return deadLettering && options.getMaxDeliveries() > 0
+				&& message.getTotalDeliveryCount() >= options.getMaxDeliveries();
+	}
+
+	/**
+	 * Inspection of a single batch of the pending entries list.
+	 */
+	class Inspection {
+
+		private final @Nullable String previous;
+
+		private Inspection(@Nullable String previous) {
+			this.previous = previous;
+		}
+
+		/**
+		 * @return the range to read pending messages for. Starts inclusively at the last inspected message to support
+		 *         servers without exclusive ranges.
+		 */
+		Range<String> getRange() {
+			return previous != null ? Range.rightUnbounded(Bound.inclusive(previous)) : Range.unbounded();
+		}
+
+		/**
+		 * @return the number of pending messages to read.
+		 */
+		long getCount() {
+			return previous != null ? options.getBatchSize() + 1L : options.getBatchSize();
+		}
+
+		/**
+		 * Select idle messages of {@code pending} and remember the last inspected message for the next inspection.
+		 *
+		 * @param pending the pending messages read for {@link #getRange()} and {@link #getCount()}.
+		 * @return the {@link Selection}.
+		 */
+		Selection select(PendingMessages pending) {
+
+			List<RecordId> toClaim = new ArrayList<>();
+			Map<RecordId, PendingMessage> toDeadLetter = new LinkedHashMap<>();
+			String last = null;
+
+			for (PendingMessage message : pending) {
+
+				if (message.getIdAsString().equals(previous)) {
+					continue;
+				}
+
+				last = message.getIdAsString();
+
+				if (message.getElapsedTimeSinceLastDelivery().compareTo(options.getMinIdleTime()) < 0) {
+					continue;
+				}
+
+				if (isPoison(message)) {
+					toDeadLetter.put(message.getId(), message);
+				} else {
+					toClaim.add(message.getId());
+				}
+			}
+
+			lastInspected = pending.size() < getCount() ? null : last;
+
+			return new Selection(toClaim, toDeadLetter);
+		}
+	}
+
+	/**
+	 * Messages selected by an {@link Inspection}.
+	 */
+	static class Selection {
+
+		private final List<RecordId> toClaim;
+		private final Map<RecordId, PendingMessage> toDeadLetter;
+
+		private Selection(List<RecordId> toClaim, Map<RecordId, PendingMessage> toDeadLetter) {
+
+			this.toClaim = toClaim;
+			this.toDeadLetter = toDeadLetter;
+		}
+
+		/**
+		 * @return ids of idle messages to claim.
+		 */
+		List<RecordId> getToClaim() {
+			return Collections.unmodifiableList(toClaim);
+		}
+
+		/**
+		 * @return idle messages exceeding the maximum number of deliveries by their id.
+		 */
+		Map<RecordId, PendingMessage> getToDeadLetter() {
+			return Collections.unmodifiableMap(toDeadLetter);
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import java.time.Duration;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Options to reclaim pending messages of a consumer group that were delivered to a consumer but not acknowledged
+ * within a {@link #getMinIdleTime() minimum idle time}, e.g. because the consumer crashed. Reclaiming inspects the
+ * pending entries list in batches using {@code XPENDING} and claims idle messages for the subscribing consumer using
+ * {@code XCLAIM} so that they are delivered again through the regular listener.
+ * <p>
+ * Messages that exceed a {@link #getMaxDeliveries() maximum number of deliveries} can be moved to a
+ * {@link #getDeadLetterStream() dead-letter stream} and acknowledged to stop poison messages from being redelivered
+ * indefinitely. Dead-letter records carry the fields of the original message along with its
+ * {@link #DEAD_LETTER_STREAM_FIELD source stream}, {@link #DEAD_LETTER_ID_FIELD original id} and
+ * {@link #DEAD_LETTER_DELIVERY_COUNT_FIELD delivery count}. Adding the dead-letter record and acknowledging the message
+ * are not atomic: a failure in between leaves the message pending so that it is dead-lettered again. Dead-lettering
+ * therefore provides at-least-once semantics and consumers of the dead-letter stream should tolerate duplicates, e.g.
+ * by their original id.
+ *
+ * @author agent
+ * @since 3.0
+ * @param <K> Stream key type.
+ */
+public class PendingReclaimOptions<K> {
+
+	/**
+	 * Field of dead-letter records holding the key of the stream the message was pending in.
+	 */
+	public static final String DEAD_LETTER_STREAM_FIELD = "x-source-stream";
+
+	/**
+	 * Field of dead-letter records holding the id of the message in its source stream.
+	 */
+	public static final String DEAD_LETTER_ID_FIELD = "x-original-id";
+
+	/**
+	 * Field of dead-letter records holding the number of times the message was delivered before being dead-lettered.
+	 */
+	public static final String DEAD_LETTER_DELIVERY_COUNT_FIELD = "x-delivery-count";
+
+	private final Duration minIdleTime;
+	private final Duration interval;
+	private final int batchSize;
+	private final long maxDeliveries;
+	private final @Nullable K deadLetterStream;
+
+	private PendingReclaimOptions(Duration minIdleTime, Duration interval, int batchSize, long maxDeliveries,
+			@Nullable K deadLetterStream) {
+
+		this.minIdleTime = minIdleTime;
+		this.interval = interval;
+		this.batchSize = batchSize;
+		this.maxDeliveries = maxDeliveries;
+		this.deadLetterStream = deadLetterStream;
+	}
+
+	/**
+	 * Create new {@link PendingReclaimOptions} claiming messages that were not acknowledged within {@code minIdleTime}.
+	 * Pending messages are inspected in batches of {@literal 100} messages once every {@code minIdleTime}.
+	 *
+	 * @param minIdleTime must not be {@literal null} or negative.
+	 * @return new {@link PendingReclaimOptions}.
+	 */
+	public static <K> PendingReclaimOptions<K> idle(Duration minIdleTime) {
+
+		Assert.notNull(minIdleTime, "Min idle time must not be null!");
+		Assert.isTrue(!minIdleTime.isNegative(), "Min idle time must not be negative!");
+
+		return new PendingReclaimOptions<>(minIdleTime, minIdleTime, 100, 0, null);
+	}
+
+	/**
+	 * Configure the interval between inspecting the pending entries list.
+	 *
+	 * @param interval must not be {@literal null} or negative.
+	 * @return new {@link PendingReclaimOptions}.
+	 */
+	public PendingReclaimOptions<K> interval(Duration interval) {
+
+		Assert.notNull(interval, "Interval must not be null!");
+		Assert.isTrue(!interval.isNegative(), "Interval must not be negative!");
+
+		return new PendingReclaimOptions<>(minIdleTime, interval, batchSize, maxDeliveries, deadLetterStream);
+	}
+
+	/**
+	 * Configure the number of pending messages to inspect per run.
+	 *
+	 * @param batchSize must be greater zero.
+	 * @return new {@link PendingReclaimOptions}.
+	 */
+	public PendingReclaimOptions<K> batchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater zero!");
+
+		return new PendingReclaimOptions<>(minIdleTime, interval, batchSize, maxDeliveries, deadLetterStream);
+	}
+
+	/**
+	 * Move messages that have been delivered at least {@code maxDeliveries} times to {@code deadLetterStream} instead of
+	 * claiming them. Dead-lettered messages are acknowledged within the consumer group. Messages may be added more than
+	 * once to {@code deadLetterStream} if acknowledging fails after adding them.
+	 *
+	 * @param maxDeliveries must be greater zero.
+	 * @param deadLetterStream must not be {@literal null}.
+	 * @return new {@link PendingReclaimOptions}.
+	 */
+	public PendingReclaimOptions<K> deadLetter(long maxDeliveries, K deadLetterStream) {
+
+		Assert.isTrue(maxDeliveries > 0, "Max deliveries must be greater zero!");
+		Assert.notNull(deadLetterStream, "Dead-letter stream must not be null!");
+
+		return new PendingReclaimOptions<>(minIdleTime, interval, batchSize, maxDeliveries, deadLetterStream);
+	}
+
+	/**
+	 * @return the minimum time a message must be pending to be claimed.
+	 */
+	public Duration getMinIdleTime() {
+		return minIdleTime;
+	}
+
+	/**
+	 * @return the interval between inspecting the pending entries list.
+	 */
+	public Duration getInterval() {
+		return interval;
+	}
+
+	/**
+	 * @return the number of pending messages to inspect per run.
+	 */
+	public int getBatchSize() {
+		return batchSize;
+	}
+
+	/**
+	 * @return the number of deliveries after which messages are moved to the {@link #getDeadLetterStream() dead-letter
+	 *         stream}. {@literal 0} if messages are claimed regardless of their delivery count.
+	 */
+	public long getMaxDeliveries() {
+		return maxDeliveries;
+	}
+
+	/**
+	 * @return the dead-letter stream. Can be {@literal null}.
+	 */
+	@Nullable
+	public K getDeadLetterStream() {
+		return deadLetterStream;
+	}
+
+	/**
+	 * @return {@literal true} if poison messages are moved to a {@link #getDeadLetterStream() dead-letter stream}.
+	 */
+	public boolean hasDeadLetterStream() {
+		return deadLetterStream != null;
+	}
+}
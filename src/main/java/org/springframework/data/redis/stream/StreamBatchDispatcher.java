@@ -0,0 +1,188 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Record;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.lang.Nullable;
+
+/**
+ * Dispatcher delivering polled records to a {@link StreamBatchListener} and acknowledging successfully processed
+ * records with a single {@code XACK} per stream.
+ *
+ * @author agent
+ * @since 3.0
+ */
+class StreamBatchDispatcher<K, V extends Record<K, ?>> {
+
+	private final StreamBatchListener<K, V> listener;
+	private final Function<ByteRecord, V> deserializer;
+	private final TypeDescriptor targetType;
+	private final boolean parallelDeserialization;
+	private final @Nullable String group;
+	private final @Nullable Acknowledger acknowledger;
+
+	/**
+	 * Create a new {@link StreamBatchDispatcher}.
+	 *
+	 * @param listener the listener to notify.
+	 * @param deserializer function to convert raw records.
+	 * @param targetType the target type of the conversion.
+	 * @param parallelDeserialization whether to convert records of a batch in parallel.
+	 * @param group the consumer group to acknowledge records with. {@literal null} to not acknowledge records.
+	 * @param acknowledger the function to acknowledge records. {@literal null} to not acknowledge records.
+	 */
+	StreamBatchDispatcher(StreamBatchListener<K, V> listener, Function<ByteRecord, V> deserializer,
+			TypeDescriptor targetType, boolean parallelDeserialization, @Nullable String group,
+			@Nullable Acknowledger acknowledger) {
+
+		this.listener = listener;
+		this.deserializer = deserializer;
+		this.targetType = targetType;
+		this.parallelDeserialization = parallelDeserialization;
+		this.group = group;
+		this.acknowledger = group != null ? acknowledger : null;
+	}
+
+	/**
+	 * Convert and dispatch {@code records} to the listener and acknowledge processed records.
+	 *
+	 * @param records the polled records.
+	 * @param errorCallback callback notified on conversion, listener and acknowledgement errors.
+	 * @return {@literal true} if records remained unacknowledged and should be redelivered.
+	 */
+	@SuppressWarnings("unchecked")
+	boolean dispatch(List<ByteRecord> records, Consumer<RuntimeException> errorCallback) {
+
+		if (records.isEmpty()) {
+			return false;
+		}
+
+		List<Object> converted = parallelDeserialization && records.size() > 1
+				? records.parallelStream().map(this::convertRecord).toList()
+				: records.stream().map(this::convertRecord).toList();
+
+		List<V> messages = new ArrayList<>(converted.size());
+		List<ByteRecord> accepted = new ArrayList<>(converted.size());
+		boolean failed = false;
+
+		for (int i = 0; i < converted.size(); i++) {
+
+			Object result = converted.get(i);
+
+			if (result instanceof RuntimeException) {
+
+				failed = true;
+				errorCallback.accept((RuntimeException) result);
+				continue;
+			}
+
+			messages.add((V) result);
+			accepted.add(records.get(i));
+		}
+
+		if (messages.isEmpty()) {
+			return failed && acknowledger != null;
+		}
+
+		try {
+			listener.onMessages(messages);
+		} catch (BatchListenerFailedException e) {
+
+			Set<RecordId> failedIds = e.getFailedIds();
+
+			if (!failedIds.isEmpty()) {
+
+				failed = true;
+				accepted.removeIf(it -> failedIds.contains(it.getId()));
+			}
+
+			errorCallback.accept(e);
+		} catch (RuntimeException e) {
+
+			failed = true;
+			accepted.clear();
+			errorCallback.accept(e);
+		}
+
+		if (acknowledger == null) {
+			return false;
+		}
+
+		try {
+			acknowledge(accepted);
+		} catch (RuntimeException e) {
+
+			failed = true;
+			errorCallback.accept(e);
+		}
+
+		return failed;
+	}
+
+	private void acknowledge(List<ByteRecord> records) {
+
+		if (records.isEmpty()) {
+			return;
+		}
+
+		Map<ByteBuffer, List<RecordId>> idsByStream = new LinkedHashMap<>();
+
+		for (ByteRecord record : records) {
+			idsByStream.computeIfAbsent(ByteBuffer.wrap(record.getRequiredStream()), it -> new ArrayList<>())
+					.add(record.getId());
+		}
+
+		idsByStream.forEach((stream, ids) -> acknowledger.acknowledge(stream.array(), group, ids));
+	}
+
+	private Object convertRecord(ByteRecord record) {
+
+		try {
+			return deserializer.apply(record);
+		} catch (RuntimeException e) {
+			return new ConversionFailedException(TypeDescriptor.forObject(record), targetType, record, e);
+		}
+	}
+
+	/**
+	 * Function to acknowledge records.
+	 */
+	@FunctionalInterface
+	interface Acknowledger {
+
+		/**
+		 * Acknowledge the given record ids with a single command.
+		 *
+		 * @param stream the stream key.
+		 * @param group the consumer group.
+		 * @param ids the record ids to acknowledge.
+		 */
+		void acknowledge(byte[] stream, String group, List<RecordId> ids);
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import java.util.List;
+
+import org.springframework.data.redis.connection.stream.Record;
+
+/**
+ * Listener interface to receive delivery of {@link Record messages} in batches. A batch contains the records returned
+ * by a single poll.
+ * <p>
+ * When consuming with a {@link org.springframework.data.redis.connection.stream.Consumer} without
+ * auto-acknowledgement, the container acknowledges all records of a batch with a single {@code XACK} once the listener
+ * returns normally. Listeners can report that only some records failed by throwing {@link BatchListenerFailedException}
+ * in which case all other records are acknowledged. Any other exception leaves the whole batch unacknowledged. Records
+ * that are not acknowledged remain in the pending entries list and are redelivered by reading the consumer's pending
+ * entries after the failed batch. Redelivery stops after a few failed attempts and is left to pending message
+ * reclaiming if configured.
+ *
+ * @author agent
+ * @param <K> Stream key and Stream field type.
+ * @param <V> Stream value type.
+ * @since 3.0
+ * @see StreamMessageListenerContainer#registerBatch(StreamMessageListenerContainer.StreamReadRequest,
+ *      StreamBatchListener)
+ */
+@FunctionalInterface
+public interface StreamBatchListener<K, V extends Record<K, ?>> {
+
+	/**
+	 * Callback invoked on receiving a batch of {@link Record records}.
+	 *
+	 * @param messages never {@literal null} or empty.
+	 * @throws BatchListenerFailedException to report records that could not be processed.
+	 */
+	void onMessages(List<V> messages);
+}
@@ -15,9 +15,13 @@
  */
 package org.springframework.data.redis.stream;
 
+import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.OptionalInt;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.springframework.context.SmartLifecycle;
@@ -36,6 +40,7 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.data.redis.stream.DefaultStreamMessageListenerContainer.LoggingErrorHandler;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ErrorHandler;
 
 /**
@@ -82,7 +87,8 @@ import org.springframework.util.ErrorHandler;
  * <p>
  * {@link StreamMessageListenerContainer} requires a {@link Executor} to fork long-running polling tasks on a different
  * {@link Thread}. This thread is used as event loop to poll for stream messages and invoke the
- * {@link StreamListener#onMessage(Record) listener callback}.
+ * {@link StreamListener#onMessage(Record) listener callback}. Polling tasks can run on virtual threads or as short,
+ * non-blocking polls on a shared {@link ScheduledExecutorService} to support a large number of subscriptions.
  * <p>
  * {@link StreamMessageListenerContainer} tasks propagate errors during stream reads and
  * {@link StreamListener#onMessage(Record) listener notification} to a configurable {@link ErrorHandler}. Errors stop a
@@ -243,6 +249,49 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 	 */
 	Subscription register(StreamReadRequest<K> streamRequest, StreamListener<K, V> listener);
 
+	/**
+	 * Register a new subscription for a Redis Stream delivering records in batches of up to
+	 * {@link StreamMessageListenerContainerOptions#getBatchSize() batch size} records to a {@link StreamBatchListener}.
+	 * Every message is acknowledged by the container with a single {@code XACK} per batch after the listener returned
+	 * normally. Failed records are not acknowledged and redelivered from the pending entries list.
+	 *
+	 * @param consumer consumer group, must not be {@literal null}.
+	 * @param streamOffset the stream along its offset.
+	 * @param listener must not be {@literal null}.
+	 * @return the subscription handle.
+	 * @since 3.0
+	 * @see StreamBatchListener
+	 * @see ReadOffset#lastConsumed()
+	 */
+	default Subscription receiveBatch(Consumer consumer, StreamOffset<K> streamOffset,
+			StreamBatchListener<K, V> listener) {
+		return registerBatch(StreamReadRequest.builder(streamOffset).consumer(consumer).autoAcknowledge(false).build(),
+				listener);
+	}
+
+	/**
+	 * Register a new subscription for a Redis Stream delivering all records of a poll as a batch to a
+	 * {@link StreamBatchListener}. If the {@link StreamMessageListenerContainer#isRunning() is already running} the
+	 * {@link Subscription} will be added and run immediately, otherwise it'll be scheduled and started once the container
+	 * is actually {@link StreamMessageListenerContainer#start() started}.
+	 * <p>
+	 * Reading with a {@link ConsumerStreamReadRequest consumer} without auto-acknowledgement lets the container
+	 * acknowledge processed records with a single {@code XACK} per stream. Records reported through
+	 * {@link BatchListenerFailedException} or contained in a batch that failed with any other exception remain pending
+	 * and are redelivered by reading the pending entries of the consumer after the failed batch.
+	 * <p>
+	 * {@link BatchListenerFailedException} is reported to the {@link StreamReadRequest#getErrorHandler() error handler}
+	 * without cancelling the subscription. Other errors are tested against the
+	 * {@link StreamReadRequest#getCancelSubscriptionOnError() cancellation predicate}.
+	 *
+	 * @param streamRequest must not be {@literal null}.
+	 * @param listener must not be {@literal null}.
+	 * @return the subscription handle.
+	 * @since 3.0
+	 * @see StreamBatchListener
+	 */
+	Subscription registerBatch(StreamReadRequest<K> streamRequest, StreamBatchListener<K, V> listener);
+
 	/**
 	 * Unregister a given {@link Subscription} from the container. This prevents the {@link Subscription} to be restarted
 	 * in a potential {@link SmartLifecycle#stop() stop}/{@link SmartLifecycle#start() start} scenario.<br />
@@ -486,12 +535,24 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 		private final @Nullable HashMapper<Object, Object, Object> hashMapper;
 		private final ErrorHandler errorHandler;
 		private final Executor executor;
+		private final boolean multiplex;
+		private final boolean parallelDeserialization;
+		private final int concurrency;
+		private final int maxInFlight;
+		private final @Nullable Executor processingExecutor;
+		private final @Nullable Function<Object, Object> orderingKey;
+		private final @Nullable PendingReclaimOptions<K> pendingReclaimOptions;
+		private final @Nullable AdaptivePollingOptions adaptivePollingOptions;
+		private final @Nullable ScheduledExecutorService scheduler;
 
 		@SuppressWarnings("unchecked")
 		private StreamMessageListenerContainerOptions(Duration pollTimeout, @Nullable Integer batchSize,
 				RedisSerializer<K> keySerializer, RedisSerializer<Object> hashKeySerializer,
 				RedisSerializer<Object> hashValueSerializer, @Nullable Class<?> targetType,
-				@Nullable HashMapper<V, ?, ?> hashMapper, ErrorHandler errorHandler, Executor executor) {
+				@Nullable HashMapper<V, ?, ?> hashMapper, ErrorHandler errorHandler, Executor executor, boolean multiplex,
+				boolean parallelDeserialization, int concurrency, int maxInFlight, @Nullable Executor processingExecutor,
+				@Nullable Function<? super V, ?> orderingKey, @Nullable PendingReclaimOptions<K> pendingReclaimOptions,
+				@Nullable AdaptivePollingOptions adaptivePollingOptions, @Nullable ScheduledExecutorService scheduler) {
 			this.pollTimeout = pollTimeout;
 			this.batchSize = batchSize;
 			this.keySerializer = keySerializer;
@@ -501,6 +562,15 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 			this.hashMapper = (HashMapper) hashMapper;
 			this.errorHandler = errorHandler;
 			this.executor = executor;
+			this.multiplex = multiplex;
+			this.parallelDeserialization = parallelDeserialization;
+			this.concurrency = concurrency;
+			this.maxInFlight = maxInFlight;
+			this.processingExecutor = processingExecutor;
+			this.orderingKey = (Function) orderingKey;
+			this.pendingReclaimOptions = pendingReclaimOptions;
+			this.adaptivePollingOptions = adaptivePollingOptions;
+			this.scheduler = scheduler;
 		}
 
 		/**
@@ -581,6 +651,89 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 			return executor;
 		}
 
+		/**
+		 * @return {@literal true} if subscriptions are polled through a shared, multi-stream read.
+		 * @since 3.0
+		 */
+		public boolean isMultiplex() {
+			return multiplex;
+		}
+
+		/**
+		 * @return {@literal true} if records of a batch are deserialized in parallel before notifying a
+		 *         {@link StreamBatchListener}.
+		 * @since 3.0
+		 */
+		public boolean isParallelDeserialization() {
+			return parallelDeserialization;
+		}
+
+		/**
+		 * @return number of records of a subscription processed concurrently. {@literal 1} processes records sequentially
+		 *         on the polling thread.
+		 * @since 3.0
+		 */
+		public int getConcurrency() {
+			return concurrency;
+		}
+
+		/**
+		 * @return maximum number of records of a subscription that are dispatched for concurrent processing but not
+		 *         completed yet.
+		 * @since 3.0
+		 */
+		public int getMaxInFlight() {
+			return maxInFlight;
+		}
+
+		/**
+		 * @return the {@link Executor} to process records concurrently. Defaults to {@link #getExecutor()}.
+		 * @since 3.0
+		 */
+		public Executor getProcessingExecutor() {
+			return processingExecutor != null ? processingExecutor : executor;
+		}
+
+		/**
+		 * @return function to extract the key of records whose relative order is retained during concurrent processing.
+		 *         {@literal null} if records are processed without ordering guarantees.
+		 * @since 3.0
+		 */
+		@Nullable
+		public Function<Object, Object> getOrderingKey() {
+			return orderingKey;
+		}
+
+		/**
+		 * @return options to reclaim idle pending messages for consumer group subscriptions. {@literal null} if pending
+		 *         messages are not reclaimed.
+		 * @since 3.0
+		 */
+		@Nullable
+		public PendingReclaimOptions<K> getPendingReclaimOptions() {
+			return pendingReclaimOptions;
+		}
+
+		/**
+		 * @return options to adapt the read count and blocking behavior to the load of a subscription. {@literal null} if
+		 *         reads use the configured {@link #getBatchSize() batch size} and {@link #getPollTimeout() poll timeout}.
+		 * @since 3.0
+		 */
+		@Nullable
+		public AdaptivePollingOptions getAdaptivePollingOptions() {
+			return adaptivePollingOptions;
+		}
+
+		/**
+		 * @return the {@link ScheduledExecutorService} to run non-blocking polls on. {@literal null} if polling tasks run
+		 *         as long-running loops on the {@link #getExecutor() executor}.
+		 * @since 3.0
+		 */
+		@Nullable
+		public ScheduledExecutorService getScheduler() {
+			return scheduler;
+		}
+
 	}
 
 	/**
@@ -601,6 +754,15 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 		private @Nullable Class<?> targetType;
 		private ErrorHandler errorHandler = LoggingErrorHandler.INSTANCE;
 		private Executor executor = new SimpleAsyncTaskExecutor();
+		private boolean multiplex = false;
+		private boolean parallelDeserialization = false;
+		private int concurrency = 1;
+		private @Nullable Integer maxInFlight;
+		private @Nullable Executor processingExecutor;
+		private @Nullable Function<? super V, ?> orderingKey;
+		private @Nullable PendingReclaimOptions<K> pendingReclaimOptions;
+		private @Nullable AdaptivePollingOptions adaptivePollingOptions;
+		private @Nullable ScheduledExecutorService scheduler;
 
 		private StreamMessageListenerContainerOptionsBuilder() {}
 
@@ -647,6 +809,191 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 			return this;
 		}
 
+		/**
+		 * Configure the container to run each polling task on its own virtual thread. Virtual threads block in
+		 * {@code XREAD} without occupying a platform thread. Requires a Java runtime supporting virtual threads.
+		 *
+		 * @return {@code this} {@link StreamMessageListenerContainerOptionsBuilder}.
+		 * @throws IllegalStateException if the Java runtime does not support virtual threads.
+		 * @since 3.0
+		 */
+		public StreamMessageListenerContainerOptionsBuilder<K, V> virtualThreads() {
+
+			this.executor = new SimpleAsyncTaskExecutor(createVirtualThreadFactory("stream-poll-"));
+			return this;
+		}
+
+		/**
+		 * Configure a shared {@link ScheduledExecutorService} to poll subscriptions. Instead of blocking a thread per
+		 * subscription in {@code XREAD}, each poll runs as a short task using a non-blocking read. Subscriptions that
+		 * received records are polled again immediately, subscriptions without new records are polled again after the
+		 * {@link #pollTimeout(Duration) poll timeout} which must be positive. A small scheduler can serve a large number
+		 * of subscriptions at the cost of polling idle streams. Listeners are invoked on scheduler threads and must not
+		 * block. Scheduled polling cannot be combined with {@link #multiplex(boolean) multiplexing} or with a
+		 * {@link #concurrency(int) concurrency} greater than {@literal 1} as dispatching records for concurrent processing
+		 * blocks the polling thread once {@link #maxInFlight(int) the maximum number of records} is in flight.
+		 *
+		 * @param scheduler must not be null.
+		 * @return {@code this} {@link StreamMessageListenerContainerOptionsBuilder}.
+		 * @since 3.0
+		 */
+		public StreamMessageListenerContainerOptionsBuilder<K, V> scheduler(ScheduledExecutorService scheduler) {
+
+			Assert.notNull(scheduler, "Scheduler must not be null!");
+
+			this.scheduler = scheduler;
+			return this;
+		}
+
+		/**
+		 * Configure whether to multiplex subscriptions. Multiplexing combines subscriptions into a single {@code XREAD}
+		 * respective {@code XREADGROUP} call over all of their streams instead of polling each subscription with its own
+		 * thread and connection. Subscriptions are combined per {@link Consumer}, acknowledgement mode and, when using
+		 * Redis Cluster, per hash slot so thread and connection usage remain constant when adding streams. Subscriptions
+		 * that are registered while a read is blocked are polled with the next read.
+		 * <p>
+		 * Listeners of a group are invoked sequentially on the thread polling the group, so a slow listener stalls all
+		 * subscriptions of its group until it returns. If a read fails, only subscriptions whose stream fails (for example
+		 * due to a missing consumer group) are notified and are read again after a short delay unless they are cancelled.
+		 *
+		 * @param multiplex {@literal true} to poll subscriptions through shared multi-stream reads.
+		 * @return {@code this} {@link StreamMessageListenerContainerOptionsBuilder}.
+		 * @since 3.0
+		 */
+		public StreamMessageListenerContainerOptionsBuilder<K, V> multiplex(boolean multiplex) {
+
+			this.multiplex = multiplex;
+			return this;
+		}
+
+		/**
+		 * Configure whether to deserialize records of a batch in parallel before notifying a {@link StreamBatchListener}.
+		 * Parallel deserialization uses the common {@link java.util.concurrent.ForkJoinPool} and retains the order of
+		 * records. Records delivered to a {@link StreamListener} are deserialized sequentially.
+		 *
+		 * @param parallelDeserialization {@literal true} to deserialize batches in parallel.
+		 * @return {@code this} {@link StreamMessageListenerContainerOptionsBuilder}.
+		 * @since 3.0
+		 */
+		public StreamMessageListenerContainerOptionsBuilder<K, V> parallelDeserialization(
+				boolean parallelDeserialization) {
+
+			this.parallelDeserialization = parallelDeserialization;
+			return this;
+		}
+
+		/**
+		 * Configure the number of records of a subscription that are processed concurrently by a {@link StreamListener}.
+		 * A value greater than {@literal 1} decouples polling from processing: polled records are dispatched to the
+		 * {@link #processingExecutor(Executor) processing executor} and the polling thread continues reading until
+		 * {@link #maxInFlight(int) the maximum number of records} is in flight. Records sharing the same
+		 * {@link #orderingKey(Function) ordering key} are processed in the order they were read.
+		 * <p>
+		 * The read offset used to resume a restarted subscription only advances past contiguous completed records. When
+		 * consuming with a {@link Consumer} without auto-acknowledgement, the container acknowledges successfully processed
+		 * records once all preceding records have completed.
+		 *
+		 * @param concurrency must be greater zero. Defaults to {@literal 1}.
+		 * @return {@code this} {@link StreamMessageListenerContainerOptionsBuilder}.
+		 * @since 3.0
+		 */
+		public StreamMessageListenerContainerOptionsBuilder<K, V> concurrency(int concurrency) {
+
+			Assert.isTrue(concurrency > 0, "Concurrency must be greater zero!");
+
+			this.concurrency = concurrency;
+			return this;
+		}
+
+		/**
+		 * Configure the maximum number of records of a subscription that are dispatched for concurrent processing but not
+		 * completed yet. Polling blocks once the limit is reached.
+		 *
+		 * @param maxInFlight must be greater zero. Defaults to {@code 16 * concurrency}.
+		 * @return {@code this} {@link StreamMessageListenerContainerOptionsBuilder}.
+		 * @since 3.0
+		 * @see #concurrency(int)
+		 */
+		public StreamMessageListenerContainerOptionsBuilder<K, V> maxInFlight(int maxInFlight) {
+
+			Assert.isTrue(maxInFlight > 0, "Max in flight must be greater zero!");
+
+			this.maxInFlight = maxInFlight;
+			return this;
+		}
+
+		/**
+		 * Configure a {@link Executor} to process records concurrently. Defaults to the {@link #executor(Executor)
+		 * polling executor}.
+		 *
+		 * @param processingExecutor must not be null.
+		 * @return {@code this} {@link StreamMessageListenerContainerOptionsBuilder}.
+		 * @since 3.0
+		 * @see #concurrency(int)
+		 */
+		public StreamMessageListenerContainerOptionsBuilder<K, V> processingExecutor(Executor processingExecutor) {
+
+			Assert.notNull(processingExecutor, "Processing executor must not be null!");
+
+			this.processingExecutor = processingExecutor;
+			return this;
+		}
+
+		/**
+		 * Configure a function to extract the key of records whose relative order must be retained during concurrent
+		 * processing. Records with equal keys are processed sequentially in the order they were read. Without an ordering
+		 * key, records are processed in any order.
+		 *
+		 * @param orderingKey must not be null.
+		 * @return {@code this} {@link StreamMessageListenerContainerOptionsBuilder}.
+		 * @since 3.0
+		 * @see #concurrency(int)
+		 */
+		public StreamMessageListenerContainerOptionsBuilder<K, V> orderingKey(Function<? super V, ?> orderingKey) {
+
+			Assert.notNull(orderingKey, "Ordering key function must not be null!");
+
+			this.orderingKey = orderingKey;
+			return this;
+		}
+
+		/**
+		 * Configure adaptive polling. Subscriptions adapt the number of records requested per read to the observed backlog
+		 * and processing time and back off from blocking reads on idle streams. Adaptive polling overrides the configured
+		 * {@link #batchSize(int) batch size}. Multiplexed subscriptions use the configured batch size and poll timeout.
+		 *
+		 * @param adaptivePollingOptions must not be null.
+		 * @return {@code this} {@link StreamMessageListenerContainerOptionsBuilder}.
+		 * @since 3.0
+		 */
+		public StreamMessageListenerContainerOptionsBuilder<K, V> adaptivePolling(
+				AdaptivePollingOptions adaptivePollingOptions) {
+
+			Assert.notNull(adaptivePollingOptions, "AdaptivePollingOptions must not be null!");
+
+			this.adaptivePollingOptions = adaptivePollingOptions;
+			return this;
+		}
+
+		/**
+		 * Configure reclaiming of idle pending messages for consumer group subscriptions. Messages that were delivered to
+		 * any consumer of the group but not acknowledged within the configured idle time are claimed for the subscribing
+		 * consumer and delivered to its listener. Reclaiming runs on the polling thread of the subscription in between
+		 * reads. Subscriptions without a consumer group or using auto-acknowledgement are not affected.
+		 *
+		 * @param pendingReclaimOptions must not be null.
+		 * @return {@code this} {@link StreamMessageListenerContainerOptionsBuilder}.
+		 * @since 3.0
+		 */
+		public StreamMessageListenerContainerOptionsBuilder<K, V> reclaimPending(
+				PendingReclaimOptions<K> pendingReclaimOptions) {
+
+			Assert.notNull(pendingReclaimOptions, "PendingReclaimOptions must not be null!");
+
+			this.pendingReclaimOptions = pendingReclaimOptions;
+			return this;
+		}
+
 		/**
 		 * Configure a {@link ErrorHandler} to be notified on {@link Throwable errors}.
 		 *
@@ -768,8 +1115,40 @@ public interface StreamMessageListenerContainer<K, V extends Record<K, ?>> exten
 		 * @return new {@link StreamMessageListenerContainerOptions}.
 		 */
 		public StreamMessageListenerContainerOptions<K, V> build() {
+
+			Assert.state(scheduler == null || !multiplex, "Scheduled polling cannot be combined with multiplexing!");
+			Assert.state(scheduler == null || !pollTimeout.isZero(), "Scheduled polling requires a positive poll timeout!");
+			Assert.state(scheduler == null || concurrency == 1,
+					"Scheduled polling cannot be combined with concurrent processing!");
+
 			return new StreamMessageListenerContainerOptions<>(pollTimeout, batchSize, keySerializer, hashKeySerializer,
-					hashValueSerializer, targetType, hashMapper, errorHandler, executor);
+					hashValueSerializer, targetType, hashMapper, errorHandler, executor, multiplex, parallelDeserialization,
+					concurrency, maxInFlight != null ? maxInFlight : 16 * concurrency, processingExecutor, orderingKey,
+					pendingReclaimOptions, adaptivePollingOptions, scheduler);
+		}
+
+		/**
+		 * Create a {@link ThreadFactory} for virtual threads through {@code Thread.ofVirtual()} as virtual threads are not
+		 * available on the Java baseline.
+		 */
+		private static ThreadFactory createVirtualThreadFactory(String prefix) {
+
+			Method ofVirtual = ClassUtils.getMethodIfAvailable(Thread.class, "ofVirtual");
+
+			if (ofVirtual == null) {
+				throw new IllegalStateException("Virtual threads are not supported by the current Java runtime!");
+			}
+
+			try {
+
+				Class<?> builderType = ClassUtils.forName("java.lang.Thread$Builder", Thread.class.getClassLoader());
+				Object builder = ofVirtual.invoke(null);
+				builder = builderType.getMethod("name", String.class, long.class).invoke(builder, prefix, 0L);
+
+				return (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+			} catch (ReflectiveOperationException | LinkageError e) {
+				throw new IllegalStateException("Virtual threads are not supported by the current Java runtime!", e);
+			}
 		}
 	}
 }
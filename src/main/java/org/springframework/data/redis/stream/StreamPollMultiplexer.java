@@ -0,0 +1,690 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.Record;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.stream.OrderedRecordDispatcher.DispatchCallback;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.ConsumerStreamReadRequest;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import org.springframework.data.redis.stream.StreamPollTask.PollState;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ErrorHandler;
+
+/**
+ * Multiplexer combining multiple stream subscriptions into a single {@code XREAD} respective {@code XREADGROUP} call.
+ * Subscriptions are grouped by their {@link Consumer}, their acknowledgement mode and their partition (the cluster
+ * slot when using Redis Cluster as keys of a multi-key command must map to the same slot). Each group is polled by a
+ * single long-running loop on the {@link Executor} that reads all streams of the group and dispatches records to the
+ * subscription of the originating stream. Thread and connection usage therefore scales with the number of groups and
+ * not with the number of streams.
+ * <p>
+ * A subscription that is attached while its group is blocked in a read is considered with the next read. If a read
+ * fails, the streams of the group are read one at a time without blocking to identify the failing stream. Only
+ * subscriptions whose stream fails are notified about the error. Failing subscriptions that are not cancelled are left
+ * out of the group reads for {@link #READ_ERROR_RETRY_DELAY} before they are read again.
+ * <p>
+ * Records of a group are dispatched on the thread polling the group. A slow listener therefore delays all other
+ * subscriptions of its group.
+ *
+ * @author agent
+ * @since 3.0
+ */
+class StreamPollMultiplexer<K, V extends Record<K, ?>> {
+
+	/**
+	 * Delay before a subscription whose stream failed to read is read again.
+	 */
+	static final Duration READ_ERROR_RETRY_DELAY = Duration.ofSeconds(1);
+
+	private final Lock lock = new ReentrantLock();
+
+	private final Executor executor;
+	private final MultiStreamReadFunction readFunction;
+	private final Function<byte[], Integer> partitioner;
+
+	private final Map<GroupKey, List<PollGroup>> groups = new HashMap<>();
+
+	/**
+	 * Create a new {@link StreamPollMultiplexer}.
+	 *
+	 * @param executor the {@link Executor} to run polling loops.
+	 * @param readFunction function to read from multiple streams at once.
+	 * @param partitioner function returning the partition of a stream key. Streams of a group must share the same
+	 *          partition.
+	 */
+	StreamPollMultiplexer(Executor executor, MultiStreamReadFunction readFunction, Function<byte[], Integer> partitioner) {
+
+		this.executor = executor;
+		this.readFunction = readFunction;
+		this.partitioner = partitioner;
+	}
+
+	/**
+	 * Create a new {@link MultiplexedTask} for the given {@link StreamReadRequest}. The task attaches itself to this
+	 * multiplexer when being {@link MultiplexedTask#run() run}.
+	 */
+	MultiplexedTask<K, V> createTask(StreamReadRequest<K> streamRequest, byte[] rawKey, StreamListener<K, V> listener,
+			ErrorHandler errorHandler, TypeDescriptor targetType, Function<ByteRecord, V> deserializer) {
+		return new MultiplexedTask<>(this, streamRequest, rawKey, listener, null, null, errorHandler, targetType,
+				deserializer);
+	}
+
+	/**
+	 * Create a new {@link MultiplexedTask} for the given {@link StreamReadRequest} processing records concurrently
+	 * through {@link OrderedRecordDispatcher}.
+	 *
+	 * @since 3.0
+	 */
+	MultiplexedTask<K, V> createOrderedTask(StreamReadRequest<K> streamRequest, byte[] rawKey,
+			OrderedRecordDispatcher<K, V> orderedDispatcher, ErrorHandler errorHandler, TypeDescriptor targetType,
+			Function<ByteRecord, V> deserializer) {
+		return new MultiplexedTask<>(this, streamRequest, rawKey, null, null, orderedDispatcher, errorHandler, targetType,
+				deserializer);
+	}
+
+	/**
+	 * Create a new {@link MultiplexedTask} for the given {@link StreamReadRequest} delivering records in batches through
+	 * {@link StreamBatchDispatcher}.
+	 *
+	 * @since 3.0
+	 */
+	MultiplexedTask<K, V> createBatchTask(StreamReadRequest<K> streamRequest, byte[] rawKey,
+			StreamBatchDispatcher<K, V> batchDispatcher, ErrorHandler errorHandler, TypeDescriptor targetType,
+			Function<ByteRecord, V> deserializer) {
+		return new MultiplexedTask<>(this, streamRequest, rawKey, null, batchDispatcher, null, errorHandler, targetType,
+				deserializer);
+	}
+
+	/**
+	 * @return the number of currently polling groups.
+	 */
+	int getGroupCount() {
+
+		lock.lock();
+		try {
+			return groups.values().stream().mapToInt(List::size).sum();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void attach(MultiplexedTask<K, V> task) {
+
+		GroupKey key = new GroupKey(task.consumer, task.autoAck, partitioner.apply(task.rawKey));
+		PollGroup group = null;
+		boolean start = false;
+
+		lock.lock();
+		try {
+
+			List<PollGroup> candidates = groups.computeIfAbsent(key, it -> new ArrayList<>());
+
+			// a restarted task may still be a member of its previous group
+			for (PollGroup candidate : candidates) {
+				if (candidate.members.contains(task)) {
+					group = candidate;
+					break;
+				}
+			}
+
+			// the same stream must not be read twice within a single command as records cannot be correlated
+			for (int i = 0; group == null && i < candidates.size(); i++) {
+
+				PollGroup candidate = candidates.get(i);
+				if (!candidate.contains(task.rawKey)) {
+					group = candidate;
+				}
+			}
+
+			if (group == null) {
+
+				group = new PollGroup(key);
+				candidates.add(group);
+				start = true;
+			}
+
+			if (!group.members.contains(task)) {
+				group.members.add(task);
+			}
+			task.pollState.running();
+		} finally {
+			lock.unlock();
+		}
+
+		if (start) {
+			executor.execute(group);
+		}
+	}
+
+	/**
+	 * Remove {@code group} if it has no active members.
+	 *
+	 * @return {@literal true} if the group was removed.
+	 */
+	private boolean detachIfEmpty(PollGroup group) {
+
+		lock.lock();
+		try {
+
+			group.members.removeIf(it -> !it.isActive());
+
+			if (!group.members.isEmpty()) {
+				return false;
+			}
+
+			List<PollGroup> candidates = groups.get(group.key);
+
+			if (candidates != null) {
+
+				candidates.remove(group);
+				if (candidates.isEmpty()) {
+					groups.remove(group.key);
+				}
+			}
+
+			return true;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Function to read from multiple streams within a single command.
+	 */
+	@FunctionalInterface
+	interface MultiStreamReadFunction {
+
+		/**
+		 * @param consumer the consumer to read with. {@literal null} to read without a consumer group.
+		 * @param autoAck whether to acknowledge records upon read.
+		 * @param offsets the streams to read along with their offsets.
+		 * @param block whether to block according to the configured poll timeout.
+		 * @return the read records.
+		 */
+		List<ByteRecord> read(@Nullable Consumer consumer, boolean autoAck, List<StreamOffset<byte[]>> offsets,
+				boolean block);
+	}
+
+	/**
+	 * Polling loop for a group of subscriptions.
+	 */
+	class PollGroup implements Runnable {
+
+		private final GroupKey key;
+		private final List<MultiplexedTask<K, V>> members = new CopyOnWriteArrayList<>();
+
+		PollGroup(GroupKey key) {
+			this.key = key;
+		}
+
+		boolean contains(byte[] rawKey) {
+
+			ByteBuffer wrapped = ByteBuffer.wrap(rawKey);
+
+			for (MultiplexedTask<K, V> member : members) {
+				if (member.isActive() && ByteBuffer.wrap(member.rawKey).equals(wrapped)) {
+					return true;
+				}
+			}
+
+			return false;
+		}
+
+		@Override
+		public void run() {
+
+			while (!detachIfEmpty(this)) {
+
+				List<StreamOffset<byte[]>> offsets = new ArrayList<>(members.size());
+				Map<ByteBuffer, MultiplexedTask<K, V>> byStream = new HashMap<>(members.size() * 2);
+				long now = System.nanoTime();
+				long retryDelay = Long.MAX_VALUE;
+
+				for (MultiplexedTask<K, V> member : members) {
+
+					if (!member.isActive()) {
+						continue;
+					}
+
+					if (member.readSuspendedUntil - now > 0) {
+						retryDelay = Math.min(retryDelay, member.readSuspendedUntil - now);
+						continue;
+					}
+
+					if (byStream.putIfAbsent(ByteBuffer.wrap(member.rawKey), member) == null) {
+						offsets.add(StreamOffset.create(member.rawKey, member.pollState.getCurrentReadOffset()));
+					}
+				}
+
+				List<ByteRecord> records;
+
+				try {
+
+					if (offsets.isEmpty()) {
+
+						if (retryDelay != Long.MAX_VALUE) {
+							TimeUnit.NANOSECONDS.sleep(retryDelay);
+						}
+						continue;
+					}
+
+					// allow interruption
+					Thread.sleep(0);
+
+					records = readFunction.read(key.consumer, key.autoAck, offsets, true);
+				} catch (InterruptedException e) {
+
+					members.forEach(MultiplexedTask::cancel);
+					Thread.currentThread().interrupt();
+					continue;
+				} catch (RuntimeException e) {
+					records = readIsolated(offsets, byStream, e);
+				}
+
+				Map<MultiplexedTask<K, V>, List<ByteRecord>> recordsByMember = new IdentityHashMap<>(byStream.size());
+
+				for (ByteRecord record : records) {
+
+					MultiplexedTask<K, V> member = byStream.get(ByteBuffer.wrap(record.getStream()));
+
+					if (member != null) {
+						recordsByMember.computeIfAbsent(member, it -> new ArrayList<>()).add(record);
+					}
+				}
+
+				for (MultiplexedTask<K, V> member : byStream.values()) {
+
+					List<ByteRecord> memberRecords = recordsByMember.getOrDefault(member, Collections.emptyList());
+
+					if (member.isActive()) {
+						member.emit(memberRecords);
+					}
+
+					member.pollState.afterRead(memberRecords.isEmpty());
+					member.reclaim();
+				}
+			}
+		}
+
+		/**
+		 * Read each stream on its own after a failed read of the whole group so that only subscriptions whose stream
+		 * fails are notified. Failed subscriptions are removed from {@code byStream}.
+		 *
+		 * @param offsets the streams of the failed read.
+		 * @param byStream subscriptions by their stream key.
+		 * @param groupError the error of the group read.
+		 * @return records read from the streams that did not fail.
+		 */
+		private List<ByteRecord> readIsolated(List<StreamOffset<byte[]>> offsets,
+				Map<ByteBuffer, MultiplexedTask<K, V>> byStream, RuntimeException groupError) {
+
+			if (offsets.size() == 1) {
+
+				byStream.values().forEach(it -> it.onReadFailed(groupError));
+				byStream.clear();
+				return Collections.emptyList();
+			}
+
+			List<ByteRecord> records = new ArrayList<>();
+
+			for (StreamOffset<byte[]> offset : offsets) {
+
+				try {
+					records.addAll(readFunction.read(key.consumer, key.autoAck, Collections.singletonList(offset), false));
+				} catch (RuntimeException e) {
+					byStream.remove(ByteBuffer.wrap(offset.getKey())).onReadFailed(e);
+				}
+			}
+
+			return records;
+		}
+	}
+
+	/**
+	 * {@link Task} representing a single subscription that is polled through its {@link PollGroup}.
+	 */
+	static class MultiplexedTask<K, V extends Record<K, ?>> implements Task, DispatchCallback {
+
+		private final StreamPollMultiplexer<K, V> multiplexer;
+		private final byte[] rawKey;
+		private final @Nullable Consumer consumer;
+		private final boolean autoAck;
+		private final @Nullable StreamListener<K, V> listener;
+		private final @Nullable StreamBatchDispatcher<K, V> batchDispatcher;
+		private final @Nullable OrderedRecordDispatcher<K, V> orderedDispatcher;
+		private final ErrorHandler errorHandler;
+		private final Predicate<Throwable> cancelSubscriptionOnError;
+		private final TypeDescriptor targetType;
+		private final Function<ByteRecord, V> deserializer;
+		private final PollState pollState;
+		private final DispatchCallback reclaimCallback = new ReclaimDispatchCallback();
+
+		private @Nullable PendingMessageReclaimer reclaimer;
+
+		/**
+		 * {@link System#nanoTime()} until which the stream is not read after a read error. Accessed by the polling thread
+		 * of the group only.
+		 */
+		private long readSuspendedUntil = System.nanoTime();
+
+		MultiplexedTask(StreamPollMultiplexer<K, V> multiplexer, StreamReadRequest<K> streamRequest, byte[] rawKey,
+				@Nullable StreamListener<K, V> listener, @Nullable StreamBatchDispatcher<K, V> batchDispatcher,
+				@Nullable OrderedRecordDispatcher<K, V> orderedDispatcher, ErrorHandler errorHandler,
+				TypeDescriptor targetType, Function<ByteRecord, V> deserializer) {
+
+			this.multiplexer = multiplexer;
+			this.rawKey = rawKey;
+			this.listener = listener;
+			this.batchDispatcher = batchDispatcher;
+			this.orderedDispatcher = orderedDispatcher;
+			this.errorHandler = Optional.ofNullable(streamRequest.getErrorHandler()).orElse(errorHandler);
+			this.cancelSubscriptionOnError = streamRequest.getCancelSubscriptionOnError();
+			this.targetType = targetType;
+			this.deserializer = deserializer;
+
+			if (streamRequest instanceof ConsumerStreamReadRequest) {
+
+				ConsumerStreamReadRequest<K> consumerRequest = (ConsumerStreamReadRequest<K>) streamRequest;
+				this.consumer = consumerRequest.getConsumer();
+				this.autoAck = consumerRequest.isAutoAcknowledge();
+				this.pollState = PollState.consumer(consumer, streamRequest.getStreamOffset().getOffset());
+			} else {
+
+				this.consumer = null;
+				this.autoAck = false;
+				this.pollState = PollState.standalone(streamRequest.getStreamOffset().getOffset());
+			}
+		}
+
+		/**
+		 * Configure a {@link PendingMessageReclaimer} to claim idle pending messages after each read. Must be called before
+		 * running the task.
+		 *
+		 * @param reclaimer the reclaimer to use. {@literal null} to not reclaim pending messages.
+		 * @since 3.0
+		 */
+		void setReclaimer(@Nullable PendingMessageReclaimer reclaimer) {
+			this.reclaimer = reclaimer;
+		}
+
+		/**
+		 * Attach this task to its {@link PollGroup}. Returns immediately as polling happens within the group.
+		 */
+		@Override
+		public void run() {
+
+			pollState.starting();
+			multiplexer.attach(this);
+		}
+
+		@Override
+		public boolean isLongLived() {
+			return false;
+		}
+
+		@Override
+		public void cancel() throws DataAccessResourceFailureException {
+			pollState.cancel();
+		}
+
+		@Override
+		public State getState() {
+			return pollState.getState();
+		}
+
+		@Override
+		public boolean awaitStart(Duration timeout) throws InterruptedException {
+			return pollState.awaitStart(timeout.toNanos(), TimeUnit.NANOSECONDS);
+		}
+
+		private void onReadFailed(RuntimeException e) {
+
+			readSuspendedUntil = System.nanoTime() + READ_ERROR_RETRY_DELAY.toNanos();
+			onReadError(e);
+		}
+
+		private void onReadError(RuntimeException e) {
+
+			if (cancelSubscriptionOnError.test(e)) {
+				cancel();
+			}
+
+			errorHandler.handleError(e);
+		}
+
+		private void emit(List<ByteRecord> records) {
+
+			if (batchDispatcher != null) {
+
+				for (ByteRecord raw : records) {
+					pollState.updateReadOffset(raw.getId().getValue());
+				}
+
+				// failed records are left pending for the reclaimer as re-reading them would reset their idle time
+				if (batchDispatcher.dispatch(records, this::onBatchError) && reclaimer == null) {
+					pollState.requestRedelivery();
+				}
+				return;
+			}
+
+			for (ByteRecord raw : records) {
+
+				if (!isActive()) {
+					return;
+				}
+
+				if (orderedDispatcher != null) {
+					dispatch(orderedDispatcher, raw);
+				} else {
+					emit(raw);
+				}
+			}
+		}
+
+		/**
+		 * Claim and emit idle pending messages without advancing the read offset. Called by the {@link PollGroup} after
+		 * each read, the {@link PendingMessageReclaimer} runs only once its reclaim interval has elapsed. Failed messages
+		 * remain pending and are claimed again once they become idle.
+		 */
+		private void reclaim() {
+
+			if (reclaimer == null || !isActive()) {
+				return;
+			}
+
+			List<ByteRecord> records;
+
+			try {
+				records = reclaimer.reclaim();
+			} catch (RuntimeException e) {
+
+				onReadError(e);
+				return;
+			}
+
+			if (batchDispatcher != null) {
+
+				if (!records.isEmpty()) {
+					batchDispatcher.dispatch(records, this::onBatchError);
+				}
+				return;
+			}
+
+			for (ByteRecord raw : records) {
+
+				if (!isActive()) {
+					return;
+				}
+
+				if (orderedDispatcher != null) {
+					dispatchReclaimed(orderedDispatcher, raw);
+				} else {
+					emitRecord(raw);
+				}
+			}
+		}
+
+		private void dispatchReclaimed(OrderedRecordDispatcher<K, V> orderedDispatcher, ByteRecord raw) {
+
+			try {
+				orderedDispatcher.dispatch(raw, reclaimCallback);
+			} catch (InterruptedException e) {
+
+				cancel();
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private void dispatch(OrderedRecordDispatcher<K, V> orderedDispatcher, ByteRecord raw) {
+
+			try {
+
+				pollState.updateDispatchedOffset(raw.getId().getValue());
+				orderedDispatcher.dispatch(raw, this);
+			} catch (InterruptedException e) {
+
+				cancel();
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@Override
+		public void onError(RuntimeException e) {
+
+			if (cancelSubscriptionOnError.test(e)) {
+				cancel();
+			}
+
+			errorHandler.handleError(e);
+		}
+
+		@Override
+		public void onCommit(String recordId) {
+			pollState.commitReadOffset(recordId);
+		}
+
+		private void emit(ByteRecord raw) {
+
+			pollState.updateReadOffset(raw.getId().getValue());
+			emitRecord(raw);
+		}
+
+		private void emitRecord(ByteRecord raw) {
+
+			try {
+				listener.onMessage(convertRecord(raw));
+			} catch (RuntimeException e) {
+
+				if (cancelSubscriptionOnError.test(e)) {
+					cancel();
+				}
+
+				errorHandler.handleError(e);
+			}
+		}
+
+		private void onBatchError(RuntimeException e) {
+
+			if (!(e instanceof BatchListenerFailedException) && cancelSubscriptionOnError.test(e)) {
+				cancel();
+			}
+
+			errorHandler.handleError(e);
+		}
+
+		private V convertRecord(ByteRecord record) {
+
+			try {
+				return deserializer.apply(record);
+			} catch (RuntimeException e) {
+				throw new ConversionFailedException(TypeDescriptor.forObject(record), targetType, record, e);
+			}
+		}
+
+		/**
+		 * {@link DispatchCallback} for claimed pending messages that must not move the read offset.
+		 */
+		private class ReclaimDispatchCallback implements DispatchCallback {
+
+			@Override
+			public void onError(RuntimeException e) {
+				MultiplexedTask.this.onError(e);
+			}
+
+			@Override
+			public void onCommit(String recordId) {}
+		}
+	}
+
+	/**
+	 * Key identifying subscriptions that can be read within a single command.
+	 */
+	static class GroupKey {
+
+		private final @Nullable Consumer consumer;
+		private final boolean autoAck;
+		private final int partition;
+
+		GroupKey(@Nullable Consumer consumer, boolean autoAck, int partition) {
+
+			this.consumer = consumer;
+			this.autoAck = autoAck;
+			this.partition = partition;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof GroupKey)) {
+				return false;
+			}
+			GroupKey that = (GroupKey) o;
+			return autoAck == that.autoAck && partition == that.partition && Objects.equals(consumer, that.consumer);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(consumer, autoAck, partition);
+		}
+	}
+}
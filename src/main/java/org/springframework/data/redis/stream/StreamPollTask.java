@@ -19,6 +19,8 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -32,8 +34,11 @@ import org.springframework.data.redis.connection.stream.Consumer;
 import org.springframework.data.redis.connection.stream.ReadOffset;
 import org.springframework.data.redis.connection.stream.Record;
 import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.stream.OrderedRecordDispatcher.DispatchCallback;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer.ConsumerStreamReadRequest;
 import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
 import org.springframework.util.ErrorHandler;
 
 
@@ -45,7 +50,11 @@ import org.springframework.util.ErrorHandler;
  */
 class StreamPollTask<K, V extends Record<K, ?>> implements Task {
 
-	private final StreamListener<K, V> listener;
+	private final @Nullable StreamListener<K, V> listener;
+	private final @Nullable StreamBatchDispatcher<K, V> batchDispatcher;
+	private final @Nullable OrderedRecordDispatcher<K, V> orderedDispatcher;
+	private final DispatchCallback dispatchCallback;
+	private final DispatchCallback reclaimCallback;
 	private final ErrorHandler errorHandler;
 	private final Predicate<Throwable> cancelSubscriptionOnError;
 	private final Function<ReadOffset, List<ByteRecord>> readFunction;
@@ -54,13 +63,41 @@ class StreamPollTask<K, V extends Record<K, ?>> implements Task {
 	private final PollState pollState;
 	private final TypeDescriptor targetType;
 
+	private @Nullable PendingMessageReclaimer reclaimer;
+	private @Nullable AdaptivePollSizing pollSizing;
+	private @Nullable ScheduledExecutorService scheduler;
+	private long pollIntervalNanos;
+
 	private volatile boolean isInEventLoop = false;
 
 	StreamPollTask(StreamReadRequest<K> streamRequest, StreamListener<K, V> listener, ErrorHandler errorHandler,
 			TypeDescriptor targetType, Function<ReadOffset, List<ByteRecord>> readFunction,
 			Function<ByteRecord, V> deserializer) {
+		this(streamRequest, listener, null, null, errorHandler, targetType, readFunction, deserializer);
+	}
+
+	StreamPollTask(StreamReadRequest<K> streamRequest, StreamBatchDispatcher<K, V> batchDispatcher,
+			ErrorHandler errorHandler, TypeDescriptor targetType, Function<ReadOffset, List<ByteRecord>> readFunction,
+			Function<ByteRecord, V> deserializer) {
+		this(streamRequest, null, batchDispatcher, null, errorHandler, targetType, readFunction, deserializer);
+	}
+
+	StreamPollTask(StreamReadRequest<K> streamRequest, OrderedRecordDispatcher<K, V> orderedDispatcher,
+			ErrorHandler errorHandler, TypeDescriptor targetType, Function<ReadOffset, List<ByteRecord>> readFunction,
+			Function<ByteRecord, V> deserializer) {
+		this(streamRequest, null, null, orderedDispatcher, errorHandler, targetType, readFunction, deserializer);
+	}
+
+	private StreamPollTask(StreamReadRequest<K> streamRequest, @Nullable StreamListener<K, V> listener,
+			@Nullable StreamBatchDispatcher<K, V> batchDispatcher, @Nullable OrderedRecordDispatcher<K, V> orderedDispatcher,
+			ErrorHandler errorHandler, TypeDescriptor targetType, Function<ReadOffset, List<ByteRecord>> readFunction,
+			Function<ByteRecord, V> deserializer) {
 
 		this.listener = listener;
+		this.batchDispatcher = batchDispatcher;
+		this.orderedDispatcher = orderedDispatcher;
+		this.dispatchCallback = new TaskDispatchCallback();
+		this.reclaimCallback = new ReclaimDispatchCallback();
 		this.errorHandler = Optional.ofNullable(streamRequest.getErrorHandler()).orElse(errorHandler);
 		this.cancelSubscriptionOnError = streamRequest.getCancelSubscriptionOnError();
 		this.readFunction = readFunction;
@@ -80,6 +117,49 @@ class StreamPollTask<K, V extends Record<K, ?>> implements Task {
 		return PollState.standalone(streamOffset.getOffset());
 	}
 
+	/**
+	 * Configure a {@link PendingMessageReclaimer} to claim idle pending messages after each read. Must be called before
+	 * running the task.
+	 *
+	 * @param reclaimer the reclaimer to use. {@literal null} to not reclaim pending messages.
+	 * @since 3.0
+	 */
+	void setReclaimer(@Nullable PendingMessageReclaimer reclaimer) {
+		this.reclaimer = reclaimer;
+	}
+
+	/**
+	 * Configure {@link AdaptivePollSizing} to notify about completed reads and to back off on idle streams. The read
+	 * function is expected to obtain its read options from the same {@link AdaptivePollSizing}. Must be called before
+	 * running the task.
+	 *
+	 * @param pollSizing the poll sizing to use. {@literal null} to poll using fixed read options.
+	 * @since 3.0
+	 */
+	void setPollSizing(@Nullable AdaptivePollSizing pollSizing) {
+		this.pollSizing = pollSizing;
+	}
+
+	/**
+	 * Configure a {@link ScheduledExecutorService} to run each poll as a short task instead of a long-running polling
+	 * loop. The read function is expected to read without blocking. Subscriptions without new records are polled again
+	 * after {@code pollInterval}. Must be called before running the task.
+	 *
+	 * @param scheduler the scheduler to use. {@literal null} to poll in a loop on the thread running the task.
+	 * @param pollInterval interval to poll streams without new records. Must be positive if {@code scheduler} is set.
+	 * @since 3.0
+	 */
+	void setScheduler(@Nullable ScheduledExecutorService scheduler, Duration pollInterval) {
+
+		Assert.isTrue(scheduler == null || (!pollInterval.isZero() && !pollInterval.isNegative()),
+				"Poll interval must be positive for scheduled polling!");
+		Assert.state(scheduler == null || orderedDispatcher == null,
+				"Scheduled polling cannot be combined with concurrent processing!");
+
+		this.scheduler = scheduler;
+		this.pollIntervalNanos = pollInterval.toNanos();
+	}
+
 	@Override
 	public void cancel() throws DataAccessResourceFailureException {
 		this.pollState.cancel();
@@ -105,6 +185,13 @@ class StreamPollTask<K, V extends Record<K, ?>> implements Task {
 
 		pollState.starting();
 
+		if (scheduler != null) {
+
+			pollState.running();
+			pollScheduled();
+			return;
+		}
+
 		try {
 
 			isInEventLoop = true;
@@ -124,35 +211,130 @@ class StreamPollTask<K, V extends Record<K, ?>> implements Task {
 				// allow interruption
 				Thread.sleep(0);
 
-				List<ByteRecord> raw = readRecords();
-				deserializeAndEmitRecords(raw);
+				if (!backOff()) {
+					continue;
+				}
 
+				poll();
 			} catch (InterruptedException e) {
 
 				cancel();
 				Thread.currentThread().interrupt();
 			} catch (RuntimeException e) {
+				onPollError(e);
+			}
+		} while (pollState.isSubscriptionActive());
+	}
 
-				if (cancelSubscriptionOnError.test(e)) {
-					cancel();
-				}
+	/**
+	 * Run a single poll and schedule the next one unless the subscription was cancelled. Polls without new records are
+	 * delayed by the poll interval or the backoff of {@link AdaptivePollSizing}, whichever is greater.
+	 */
+	private void pollScheduled() {
 
-				errorHandler.handleError(e);
+		if (!pollState.isSubscriptionActive()) {
+			return;
+		}
+
+		int received = 0;
+
+		try {
+			received = poll();
+		} catch (InterruptedException e) {
+
+			cancel();
+			Thread.currentThread().interrupt();
+		} catch (RuntimeException e) {
+			onPollError(e);
+		}
+
+		if (!pollState.isSubscriptionActive()) {
+			return;
+		}
+
+		long delay = received > 0 ? 0
+				: Math.max(pollIntervalNanos, pollSizing != null ? pollSizing.getBackoffNanos() : 0);
+
+		try {
+			if (delay > 0) {
+				scheduler.schedule(this::pollScheduled, delay, TimeUnit.NANOSECONDS);
+			} else {
+				scheduler.execute(this::pollScheduled);
 			}
-		} while (pollState.isSubscriptionActive());
+		} catch (RejectedExecutionException e) {
+			cancel();
+		}
+	}
+
+	/**
+	 * Read and emit records.
+	 *
+	 * @return the number of read records.
+	 */
+	private int poll() throws InterruptedException {
+
+		List<ByteRecord> raw = readRecords();
+		long start = System.nanoTime();
+
+		if (batchDispatcher != null) {
+			emitBatch(raw);
+		} else if (orderedDispatcher != null) {
+			dispatchOrdered(raw);
+		} else {
+			deserializeAndEmitRecords(raw, true);
+		}
+
+		if (pollSizing != null) {
+			pollSizing.afterRead(raw.size(), System.nanoTime() - start);
+		}
+
+		pollState.afterRead(raw.isEmpty());
+
+		if (reclaimer != null && pollState.isSubscriptionActive()) {
+			emitReclaimed(reclaimer.reclaim());
+		}
+
+		return raw.size();
+	}
+
+	private void onPollError(RuntimeException e) {
+
+		if (cancelSubscriptionOnError.test(e)) {
+			cancel();
+		}
+
+		errorHandler.handleError(e);
+	}
+
+	/**
+	 * Wait before reading from an idle stream.
+	 *
+	 * @return {@literal true} if the subscription is still active after waiting.
+	 */
+	private boolean backOff() throws InterruptedException {
+
+		long backoff = pollSizing != null ? pollSizing.getBackoffNanos() : 0;
+
+		if (backoff > 0) {
+			TimeUnit.NANOSECONDS.sleep(backoff);
+		}
+
+		return pollState.isSubscriptionActive();
 	}
 
 	private List<ByteRecord> readRecords() {
 		return readFunction.apply(pollState.getCurrentReadOffset());
 	}
 
-	private void deserializeAndEmitRecords(List<ByteRecord> records) {
+	private void deserializeAndEmitRecords(List<ByteRecord> records, boolean updateReadOffset) {
 
 		for (ByteRecord raw : records) {
 
 			try {
 
-				pollState.updateReadOffset(raw.getId().getValue());
+				if (updateReadOffset) {
+					pollState.updateReadOffset(raw.getId().getValue());
+				}
 				V record = convertRecord(raw);
 				listener.onMessage(record);
 			} catch (RuntimeException e) {
@@ -170,6 +352,67 @@ class StreamPollTask<K, V extends Record<K, ?>> implements Task {
 		}
 	}
 
+	private void emitBatch(List<ByteRecord> records) {
+
+		for (ByteRecord raw : records) {
+			pollState.updateReadOffset(raw.getId().getValue());
+		}
+
+		// failed records are left pending for the reclaimer as re-reading them would reset their idle time
+		if (batchDispatcher.dispatch(records, this::onBatchError) && reclaimer == null) {
+			pollState.requestRedelivery();
+		}
+	}
+
+	private void dispatchOrdered(List<ByteRecord> records) throws InterruptedException {
+
+		for (ByteRecord raw : records) {
+
+			if (!pollState.isSubscriptionActive()) {
+				return;
+			}
+
+			pollState.updateDispatchedOffset(raw.getId().getValue());
+			orderedDispatcher.dispatch(raw, dispatchCallback);
+		}
+	}
+
+	/**
+	 * Emit claimed pending messages without advancing the read offset as claimed messages precede the current position.
+	 * Failed messages remain pending and are claimed again once they become idle.
+	 */
+	private void emitReclaimed(List<ByteRecord> records) throws InterruptedException {
+
+		if (records.isEmpty()) {
+			return;
+		}
+
+		if (batchDispatcher != null) {
+			batchDispatcher.dispatch(records, this::onBatchError);
+		} else if (orderedDispatcher != null) {
+
+			for (ByteRecord raw : records) {
+
+				if (!pollState.isSubscriptionActive()) {
+					return;
+				}
+
+				orderedDispatcher.dispatch(raw, reclaimCallback);
+			}
+		} else {
+			deserializeAndEmitRecords(records, false);
+		}
+	}
+
+	private void onBatchError(RuntimeException e) {
+
+		if (!(e instanceof BatchListenerFailedException) && cancelSubscriptionOnError.test(e)) {
+			cancel();
+		}
+
+		errorHandler.handleError(e);
+	}
+
 	private V convertRecord(ByteRecord record) {
 
 		try {
@@ -184,14 +427,60 @@ class StreamPollTask<K, V extends Record<K, ?>> implements Task {
 		return State.RUNNING.equals(getState()) || isInEventLoop;
 	}
 
+	/**
+	 * {@link DispatchCallback} committing the read offset and applying the error handling of this task.
+	 */
+	private class TaskDispatchCallback implements DispatchCallback {
+
+		@Override
+		public void onError(RuntimeException e) {
+
+			if (cancelSubscriptionOnError.test(e)) {
+				cancel();
+			}
+
+			errorHandler.handleError(e);
+		}
+
+		@Override
+		public void onCommit(String recordId) {
+			pollState.commitReadOffset(recordId);
+		}
+	}
+
+	/**
+	 * {@link DispatchCallback} for claimed pending messages that must not move the read offset.
+	 */
+	private class ReclaimDispatchCallback extends TaskDispatchCallback {
+
+		@Override
+		public void onCommit(String recordId) {}
+	}
+
 	/**
 	 * Object representing the current polling state for a particular stream subscription.
 	 */
 	static class PollState {
 
+		/**
+		 * Number of consecutive redeliveries of pending messages that may fail again before leaving the failed messages in
+		 * the pending entries list.
+		 */
+		static final int MAX_REDELIVERY_ATTEMPTS = 3;
+
+		/**
+		 * Initial delay before redelivering pending messages after a failed redelivery. Doubles with each failed attempt.
+		 */
+		static final long REDELIVERY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+
 		private final ReadOffsetStrategy readOffsetStrategy;
 		private final Optional<Consumer> consumer;
 		private volatile ReadOffset currentOffset;
+		private volatile @Nullable ReadOffset pendingOffset;
+		private volatile @Nullable ReadOffset dispatchedOffset;
+		private volatile boolean redeliveryRequested;
+		private int failedRedeliveries;
+		private long redeliverAt;
 		private volatile State state = State.CREATED;
 		private volatile CountDownLatch awaitStart = new CountDownLatch(1);
 
@@ -247,7 +536,9 @@ class StreamPollTask<K, V extends Record<K, ?>> implements Task {
 		 * Set the state to {@link org.springframework.data.redis.stream.Task.State#STARTING}.
 		 */
 		void starting() {
+
 			state = State.STARTING;
+			dispatchedOffset = null;
 		}
 
 		/**
@@ -278,11 +569,106 @@ class StreamPollTask<K, V extends Record<K, ?>> implements Task {
 		 * Advance the {@link ReadOffset}.
 		 */
 		void updateReadOffset(String messageId) {
+
+			if (pendingOffset != null) {
+				pendingOffset = ReadOffset.from(messageId);
+				return;
+			}
+
 			currentOffset = readOffsetStrategy.getNext(getCurrentReadOffset(), consumer, messageId);
 		}
 
+		/**
+		 * Advance the {@link ReadOffset} for polling past a message that was dispatched for concurrent processing without
+		 * committing it. Restarting the subscription resumes from the last {@link #commitReadOffset(String) committed}
+		 * message.
+		 *
+		 * @since 3.0
+		 */
+		void updateDispatchedOffset(String messageId) {
+			dispatchedOffset = readOffsetStrategy.getNext(getCurrentReadOffset(), consumer, messageId);
+		}
+
+		/**
+		 * Commit the {@link ReadOffset} past a message whose processing has completed along with all preceding messages.
+		 *
+		 * @since 3.0
+		 */
+		void commitReadOffset(String messageId) {
+			currentOffset = readOffsetStrategy.getNext(currentOffset, consumer, messageId);
+		}
+
+		/**
+		 * Request redelivery of unacknowledged messages. Subsequent reads consume the pending messages of the
+		 * {@link Consumer} before switching back to the regular {@link ReadOffset}. Pending messages are redelivered up to
+		 * {@link #MAX_REDELIVERY_ATTEMPTS} times in a row, backing off after each redelivery that failed again. Messages
+		 * that keep failing remain in the pending entries list. Has no effect for standalone reads.
+		 *
+		 * @since 3.0
+		 */
+		void requestRedelivery() {
+
+			if (consumer.isPresent()) {
+				redeliveryRequested = true;
+			}
+		}
+
+		/**
+		 * Notify the state about a completed read to switch between reading pending messages and the regular
+		 * {@link ReadOffset}.
+		 *
+		 * @param empty whether the read returned no messages.
+		 * @since 3.0
+		 */
+		void afterRead(boolean empty) {
+
+			if (pendingOffset != null) {
+
+				if (empty) {
+
+					pendingOffset = null;
+					completeRedelivery();
+				}
+				return;
+			}
+
+			if (redeliveryRequested && (failedRedeliveries == 0 || System.nanoTime() - redeliverAt >= 0)) {
+
+				redeliveryRequested = false;
+				pendingOffset = ReadOffset.from("0-0");
+			}
+		}
+
+		private void completeRedelivery() {
+
+			if (!redeliveryRequested) {
+
+				failedRedeliveries = 0;
+				return;
+			}
+
+			failedRedeliveries++;
+
+			if (failedRedeliveries >= MAX_REDELIVERY_ATTEMPTS) {
+
+				redeliveryRequested = false;
+				failedRedeliveries = 0;
+				return;
+			}
+
+			redeliverAt = System.nanoTime() + (REDELIVERY_BACKOFF_NANOS << (failedRedeliveries - 1));
+		}
+
 		ReadOffset getCurrentReadOffset() {
-			return currentOffset;
+
+			ReadOffset pendingOffset = this.pendingOffset;
+
+			if (pendingOffset != null) {
+				return pendingOffset;
+			}
+
+			ReadOffset dispatchedOffset = this.dispatchedOffset;
+			return dispatchedOffset != null ? dispatchedOffset : currentOffset;
 		}
 	}
 }
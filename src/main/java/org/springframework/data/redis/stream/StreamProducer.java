@@ -0,0 +1,399 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A producer to append records to Redis Streams in batches.
+ * <p>
+ * {@link StreamProducer} buffers records per stream partition and writes buffered records using a single pipeline of
+ * {@code XADD} commands once the {@link StreamProducerOptions#getBatchSize() batch size} is reached or the
+ * {@link StreamProducerOptions#getLinger() linger time} has passed since the first buffered record. Each
+ * {@link #send(MapRecord) sent} record is associated with a {@link CompletableFuture} that completes with the
+ * {@link RecordId} assigned by Redis or exceptionally if appending the record failed. Records to the same stream are
+ * appended in the order they were sent.
+ * <p>
+ * Batches are partitioned by cluster slot when using Redis Cluster so that each pipeline is sent to a single node.
+ * {@code XADD} commands can trim streams using approximate {@code MAXLEN} or time-based {@code MINID} trimming.
+ * <p>
+ * See the following example code how to use {@link StreamProducer}:
+ *
+ * <pre class="code">
+ * RedisTemplate&lt;String, String&gt; template = …;
+ *
+ * StreamProducer&lt;String, String, String&gt; producer = StreamProducer.create(template,
+ * 		StreamProducerOptions.builder().batchSize(500).linger(Duration.ofMillis(2)).maxlen(100_000).build());
+ *
+ * CompletableFuture&lt;RecordId&gt; id = producer.send("my-stream", Collections.singletonMap("key", "value"));
+ *
+ * producer.close();
+ * </pre>
+ *
+ * @author agent
+ * @param <K> Stream key and Stream field type.
+ * @param <HK> Stream field type.
+ * @param <HV> Stream value type.
+ * @since 3.0
+ * @see StreamProducerOptions#builder()
+ * @see org.springframework.data.redis.core.StreamOperations
+ */
+public interface StreamProducer<K, HK, HV> extends AutoCloseable {
+
+	/**
+	 * Create a new {@link StreamProducer} using default {@link StreamProducerOptions} given {@link RedisOperations}.
+	 * Records are serialized using the key, hash key and hash value serializers of {@link RedisOperations}.
+	 *
+	 * @param redisOperations must not be {@literal null}.
+	 * @return the new {@link StreamProducer}.
+	 */
+	static <K, HK, HV> StreamProducer<K, HK, HV> create(RedisOperations<K, ?> redisOperations) {
+		return create(redisOperations, StreamProducerOptions.builder().build());
+	}
+
+	/**
+	 * Create a new {@link StreamProducer} given {@link RedisOperations} and {@link StreamProducerOptions}. Records are
+	 * serialized using the key, hash key and hash value serializers of {@link RedisOperations}.
+	 *
+	 * @param redisOperations must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the new {@link StreamProducer}.
+	 */
+	static <K, HK, HV> StreamProducer<K, HK, HV> create(RedisOperations<K, ?> redisOperations,
+			StreamProducerOptions options) {
+
+		Assert.notNull(redisOperations, "RedisOperations must not be null!");
+		Assert.notNull(options, "StreamProducerOptions must not be null!");
+
+		return new DefaultStreamProducer<>(redisOperations, options);
+	}
+
+	/**
+	 * Append a record to the stream {@code key}.
+	 *
+	 * @param key the stream key.
+	 * @param content the record content.
+	 * @return a {@link CompletableFuture} completing with the {@link RecordId} of the appended record.
+	 * @see #send(MapRecord)
+	 */
+	default CompletableFuture<RecordId> send(K key, Map<? extends HK, ? extends HV> content) {
+		return send(StreamRecords.newRecord().in(key).ofMap(content));
+	}
+
+	/**
+	 * Append a record to its stream. The record is buffered until its batch is written. This method blocks if the number
+	 * of buffered and in-flight records reaches {@link StreamProducerOptions#getMaxPendingRecords()}.
+	 *
+	 * @param record must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completing with the {@link RecordId} of the appended record.
+	 * @throws IllegalStateException if the producer is closed.
+	 */
+	CompletableFuture<RecordId> send(MapRecord<K, ? extends HK, ? extends HV> record);
+
+	/**
+	 * Write all buffered records and wait until all records sent before calling this method are appended.
+	 */
+	void flush();
+
+	/**
+	 * {@link #flush() Flush} buffered records and close this producer. Records sent after closing the producer are
+	 * rejected.
+	 */
+	@Override
+	void close();
+
+	/**
+	 * Options for {@link StreamProducer}.
+	 *
+	 * @see StreamProducerOptionsBuilder
+	 */
+	class StreamProducerOptions {
+
+		private final int batchSize;
+		private final Duration linger;
+		private final int maxPendingRecords;
+		private final @Nullable Long maxlen;
+		private final @Nullable Duration retention;
+		private final boolean approximateTrimming;
+		private final @Nullable ScheduledExecutorService scheduler;
+		private final @Nullable Executor completionExecutor;
+
+		private StreamProducerOptions(int batchSize, Duration linger, int maxPendingRecords, @Nullable Long maxlen,
+				@Nullable Duration retention, boolean approximateTrimming, @Nullable ScheduledExecutorService scheduler,
+				@Nullable Executor completionExecutor) {
+
+			this.batchSize = batchSize;
+			this.linger = linger;
+			this.maxPendingRecords = maxPendingRecords;
+			this.maxlen = maxlen;
+			this.retention = retention;
+			this.approximateTrimming = approximateTrimming;
+			this.scheduler = scheduler;
+			this.completionExecutor = completionExecutor;
+		}
+
+		/**
+		 * @return a new builder for {@link StreamProducerOptions}.
+		 */
+		public static StreamProducerOptionsBuilder builder() {
+			return new StreamProducerOptionsBuilder();
+		}
+
+		/**
+		 * @return the maximum number of records written with a single pipeline.
+		 */
+		public int getBatchSize() {
+			return batchSize;
+		}
+
+		/**
+		 * @return the time to wait for further records before writing an incomplete batch.
+		 */
+		public Duration getLinger() {
+			return linger;
+		}
+
+		/**
+		 * @return the maximum number of buffered and in-flight records.
+		 */
+		public int getMaxPendingRecords() {
+			return maxPendingRecords;
+		}
+
+		/**
+		 * @return the maximum stream length to trim streams to. Can be {@literal null}.
+		 */
+		@Nullable
+		public Long getMaxlen() {
+			return maxlen;
+		}
+
+		/**
+		 * @return the retention period to trim streams by record age. Can be {@literal null}.
+		 */
+		@Nullable
+		public Duration getRetention() {
+			return retention;
+		}
+
+		/**
+		 * @return {@literal true} to trim streams approximately ({@code ~}).
+		 */
+		public boolean isApproximateTrimming() {
+			return approximateTrimming;
+		}
+
+		/**
+		 * @return the scheduler to write batches. Can be {@literal null} to use a scheduler owned by the producer.
+		 */
+		@Nullable
+		public ScheduledExecutorService getScheduler() {
+			return scheduler;
+		}
+
+		/**
+		 * @return the executor to complete futures of written records. Can be {@literal null} to use the
+		 *         {@link java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+		 */
+		@Nullable
+		public Executor getCompletionExecutor() {
+			return completionExecutor;
+		}
+
+		/**
+		 * Create {@link XAddOptions} for the next batch. Time-based trimming computes the minimal record Id from the
+		 * current time.
+		 *
+		 * @return the {@link XAddOptions} to apply.
+		 */
+		XAddOptions getXAddOptions() {
+
+			if (maxlen != null) {
+				return XAddOptions.maxlen(maxlen).approximateTrimming(approximateTrimming);
+			}
+
+			if (retention != null) {
+				long minTimestamp = Math.max(0, System.currentTimeMillis() - retention.toMillis());
+				return XAddOptions.none().minId(RecordId.of(minTimestamp + "-0")).approximateTrimming(approximateTrimming);
+			}
+
+			return XAddOptions.none();
+		}
+	}
+
+	/**
+	 * Builder for {@link StreamProducerOptions}.
+	 */
+	class StreamProducerOptionsBuilder {
+
+		private int batchSize = 100;
+		private Duration linger = Duration.ofMillis(5);
+		private int maxPendingRecords = 10_000;
+		private @Nullable Long maxlen;
+		private @Nullable Duration retention;
+		private boolean approximateTrimming = true;
+		private @Nullable ScheduledExecutorService scheduler;
+		private @Nullable Executor completionExecutor;
+
+		private StreamProducerOptionsBuilder() {}
+
+		/**
+		 * Configure the maximum number of records written with a single pipeline. Reaching the batch size writes the batch
+		 * without waiting for the {@link #linger(Duration) linger time}.
+		 *
+		 * @param batchSize must be greater zero.
+		 * @return {@code this} {@link StreamProducerOptionsBuilder}.
+		 */
+		public StreamProducerOptionsBuilder batchSize(int batchSize) {
+
+			Assert.isTrue(batchSize > 0, "Batch size must be greater zero!");
+
+			this.batchSize = batchSize;
+			return this;
+		}
+
+		/**
+		 * Configure the time to wait for further records before writing an incomplete batch.
+		 *
+		 * @param linger must not be {@literal null} or negative.
+		 * @return {@code this} {@link StreamProducerOptionsBuilder}.
+		 */
+		public StreamProducerOptionsBuilder linger(Duration linger) {
+
+			Assert.notNull(linger, "Linger must not be null!");
+			Assert.isTrue(!linger.isNegative(), "Linger must not be negative!");
+
+			this.linger = linger;
+			return this;
+		}
+
+		/**
+		 * Configure the maximum number of buffered and in-flight records. {@link StreamProducer#send(MapRecord) Sending}
+		 * blocks once the limit is reached until pending records are written.
+		 *
+		 * @param maxPendingRecords must be greater zero.
+		 * @return {@code this} {@link StreamProducerOptionsBuilder}.
+		 */
+		public StreamProducerOptionsBuilder maxPendingRecords(int maxPendingRecords) {
+
+			Assert.isTrue(maxPendingRecords > 0, "Max pending records must be greater zero!");
+
+			this.maxPendingRecords = maxPendingRecords;
+			return this;
+		}
+
+		/**
+		 * Trim streams to {@code maxlen} entries when appending records ({@code MAXLEN}). Mutually exclusive with
+		 * {@link #retention(Duration)}.
+		 *
+		 * @param maxlen must be greater zero.
+		 * @return {@code this} {@link StreamProducerOptionsBuilder}.
+		 */
+		public StreamProducerOptionsBuilder maxlen(long maxlen) {
+
+			Assert.isTrue(maxlen > 0, "Maxlen must be greater zero!");
+
+			this.maxlen = maxlen;
+			return this;
+		}
+
+		/**
+		 * Trim records older than {@code retention} when appending records ({@code MINID}). Record age is determined by the
+		 * timestamp part of auto-generated record Ids. Mutually exclusive with {@link #maxlen(long)}. Requires Redis 6.2.
+		 *
+		 * @param retention must not be {@literal null} and greater zero.
+		 * @return {@code this} {@link StreamProducerOptionsBuilder}.
+		 */
+		public StreamProducerOptionsBuilder retention(Duration retention) {
+
+			Assert.notNull(retention, "Retention must not be null!");
+			Assert.isTrue(!retention.isNegative() && !retention.isZero(), "Retention must be greater zero!");
+
+			this.retention = retention;
+			return this;
+		}
+
+		/**
+		 * Configure whether to trim streams approximately ({@code ~}, the default) or exactly ({@code =}). Approximate
+		 * trimming removes only whole macro nodes and is considerably more efficient.
+		 *
+		 * @param approximateTrimming {@literal true} to trim approximately.
+		 * @return {@code this} {@link StreamProducerOptionsBuilder}.
+		 */
+		public StreamProducerOptionsBuilder approximateTrimming(boolean approximateTrimming) {
+
+			this.approximateTrimming = approximateTrimming;
+			return this;
+		}
+
+		/**
+		 * Configure the {@link ScheduledExecutorService} to write batches. The scheduler is not shut down when closing the
+		 * producer. Uses a single-threaded scheduler owned by the producer if not configured. Batches of different cluster
+		 * slots are written concurrently only if the scheduler provides multiple threads.
+		 *
+		 * @param scheduler must not be {@literal null}.
+		 * @return {@code this} {@link StreamProducerOptionsBuilder}.
+		 */
+		public StreamProducerOptionsBuilder scheduler(ScheduledExecutorService scheduler) {
+
+			Assert.notNull(scheduler, "Scheduler must not be null!");
+
+			this.scheduler = scheduler;
+			return this;
+		}
+
+		/**
+		 * Configure the {@link Executor} to complete futures of written records. Futures are completed in the order
+		 * records were written and callbacks attached to them run on this executor unless they use an executor of their
+		 * own. Uses the {@link java.util.concurrent.ForkJoinPool#commonPool() common pool} if not configured.
+		 *
+		 * @param completionExecutor must not be {@literal null}.
+		 * @return {@code this} {@link StreamProducerOptionsBuilder}.
+		 */
+		public StreamProducerOptionsBuilder completionExecutor(Executor completionExecutor) {
+
+			Assert.notNull(completionExecutor, "Completion executor must not be null!");
+
+			this.completionExecutor = completionExecutor;
+			return this;
+		}
+
+		/**
+		 * Build new {@link StreamProducerOptions}.
+		 *
+		 * @return new {@link StreamProducerOptions}.
+		 */
+		public StreamProducerOptions build() {
+
+			Assert.state(maxlen == null || retention == null, "Maxlen and retention are mutually exclusive!");
+
+			return new StreamProducerOptions(batchSize, linger, maxPendingRecords, maxlen, retention, approximateTrimming,
+					scheduler, completionExecutor);
+		}
+	}
+}
@@ -203,12 +203,16 @@ public interface StreamReceiver<K, V extends Record<K, ?>> {
 		private final SerializationPair<Object> hashValueSerializer;
 		private final @Nullable Class<Object> targetType;
 		private final @Nullable HashMapper<Object, Object, Object> hashMapper;
+		private final @Nullable PendingReclaimOptions<K> pendingReclaimOptions;
+		private final @Nullable AdaptivePollingOptions adaptivePollingOptions;
 
 		@SuppressWarnings({ "unchecked", "rawtypes" })
 		private StreamReceiverOptions(Duration pollTimeout, @Nullable Integer batchSize,
 				Function<? super Throwable, ? extends Publisher<Void>> resumeFunction, SerializationPair<K> keySerializer,
 				SerializationPair<Object> hashKeySerializer, SerializationPair<Object> hashValueSerializer,
-				@Nullable Class<?> targetType, @Nullable HashMapper<V, ?, ?> hashMapper) {
+				@Nullable Class<?> targetType, @Nullable HashMapper<V, ?, ?> hashMapper,
+				@Nullable PendingReclaimOptions<K> pendingReclaimOptions,
+				@Nullable AdaptivePollingOptions adaptivePollingOptions) {
 
 			this.pollTimeout = pollTimeout;
 			this.batchSize = batchSize;
@@ -218,6 +222,8 @@ public interface StreamReceiver<K, V extends Record<K, ?>> {
 			this.hashValueSerializer = hashValueSerializer;
 			this.targetType = (Class) targetType;
 			this.hashMapper = (HashMapper) hashMapper;
+			this.pendingReclaimOptions = pendingReclaimOptions;
+			this.adaptivePollingOptions = adaptivePollingOptions;
 		}
 
 		/**
@@ -294,6 +300,27 @@ public interface StreamReceiver<K, V extends Record<K, ?>> {
 			return this.hashMapper != null;
 		}
 
+		/**
+		 * @return options to reclaim idle pending messages when receiving with a consumer group. {@literal null} if pending
+		 *         messages are not reclaimed.
+		 * @since 3.0
+		 */
+		@Nullable
+		public PendingReclaimOptions<K> getPendingReclaimOptions() {
+			return pendingReclaimOptions;
+		}
+
+		/**
+		 * @return options to adapt the read count and blocking behavior to the load and demand of a subscription.
+		 *         {@literal null} if reads use the configured {@link #getBatchSize() batch size} and
+		 *         {@link #getPollTimeout() poll timeout}.
+		 * @since 3.0
+		 */
+		@Nullable
+		public AdaptivePollingOptions getAdaptivePollingOptions() {
+			return adaptivePollingOptions;
+		}
+
 		public Class<Object> getTargetType() {
 
 			if (this.targetType != null) {
@@ -320,6 +347,8 @@ public interface StreamReceiver<K, V extends Record<K, ?>> {
 		private Function<? super Throwable, ? extends Publisher<Void>> resumeFunction = Mono::error;
 		private @Nullable HashMapper<V, ?, ?> hashMapper;
 		private @Nullable Class<?> targetType;
+		private @Nullable PendingReclaimOptions<K> pendingReclaimOptions;
+		private @Nullable AdaptivePollingOptions adaptivePollingOptions;
 
 		private StreamReceiverOptionsBuilder() {}
 
@@ -371,6 +400,41 @@ public interface StreamReceiver<K, V extends Record<K, ?>> {
 			return this;
 		}
 
+		/**
+		 * Configure adaptive polling. Subscriptions adapt the number of records requested per read to the observed backlog
+		 * and the outstanding demand and delay reads on idle streams instead of blocking. Adaptive polling overrides the
+		 * configured {@link #batchSize(int) batch size}.
+		 *
+		 * @param adaptivePollingOptions must not be {@literal null}.
+		 * @return {@code this} {@link StreamReceiverOptionsBuilder}.
+		 * @since 3.0
+		 */
+		public StreamReceiverOptionsBuilder<K, V> adaptivePolling(AdaptivePollingOptions adaptivePollingOptions) {
+
+			Assert.notNull(adaptivePollingOptions, "AdaptivePollingOptions must not be null");
+
+			this.adaptivePollingOptions = adaptivePollingOptions;
+			return this;
+		}
+
+		/**
+		 * Configure reclaiming of idle pending messages when receiving with a consumer group using
+		 * {@link StreamReceiver#receive(Consumer, StreamOffset)} and {@link ReadOffset#lastConsumed()}. Messages that were
+		 * delivered to any consumer of the group but not acknowledged within the configured idle time are claimed for the
+		 * receiving consumer and emitted before reading new messages.
+		 *
+		 * @param pendingReclaimOptions must not be {@literal null}.
+		 * @return {@code this} {@link StreamReceiverOptionsBuilder}.
+		 * @since 3.0
+		 */
+		public StreamReceiverOptionsBuilder<K, V> reclaimPending(PendingReclaimOptions<K> pendingReclaimOptions) {
+
+			Assert.notNull(pendingReclaimOptions, "PendingReclaimOptions must not be null");
+
+			this.pendingReclaimOptions = pendingReclaimOptions;
+			return this;
+		}
+
 		/**
 		 * Configure a key, hash key and hash value serializer.
 		 *
@@ -500,8 +564,7 @@ public interface StreamReceiver<K, V extends Record<K, ?>> {
 		 */
 		public StreamReceiverOptions<K, V> build() {
 			return new StreamReceiverOptions<>(pollTimeout, batchSize, resumeFunction, keySerializer, hashKeySerializer,
-					hashValueSerializer,
-					targetType, hashMapper);
+					hashValueSerializer, targetType, hashMapper, pendingReclaimOptions, adaptivePollingOptions);
 		}
 	}
 }
@@ -16,7 +16,10 @@
 package org.springframework.data.redis.support.collections;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -40,6 +43,11 @@ import org.springframework.lang.Nullable;
  * {@link org.springframework.beans.factory.config.PropertiesFactoryBean}.
  * <p>
  * Note that this implementation only accepts Strings - objects of other type are not supported.
+ * <p>
+ * Unlike {@link Properties}, this class does not synchronize on its monitor. Every operation is delegated to Redis,
+ * which executes each command atomically, so holding a monitor during the network round trip would only serialize
+ * callers and pin virtual threads to their carrier. Bulk operations such as {@link #putAll(Map)} and
+ * {@link #store(Writer, String)} are therefore not atomic.
  *
  * @see Properties
  * @see org.springframework.core.io.support.PropertiesLoaderSupport
@@ -97,18 +105,57 @@ public class RedisProperties extends Properties implements RedisMap<Object, Obje
 	}
 
 	@Override
-	public synchronized Object get(Object key) {
+	public Object get(Object key) {
 		return delegate.get(key);
 	}
 
 	@Override
-	public synchronized Object put(Object key, Object value) {
+	public Object setProperty(String key, String value) {
+		return put(key, value);
+	}
+
+	@Override
+	public void load(Reader reader) throws IOException {
+
+		Properties properties = new Properties();
+		properties.load(reader);
+		putAll(properties);
+	}
+
+	@Override
+	public void load(InputStream inStream) throws IOException {
+
+		Properties properties = new Properties();
+		properties.load(inStream);
+		putAll(properties);
+	}
+
+	@Override
+	public void loadFromXML(InputStream in) throws IOException {
+
+		Properties properties = new Properties();
+		properties.loadFromXML(in);
+		putAll(properties);
+	}
+
+	@Override
+	public void store(Writer writer, @Nullable String comments) throws IOException {
+		snapshot().store(writer, comments);
+	}
+
+	@Override
+	public void store(OutputStream out, @Nullable String comments) throws IOException {
+		snapshot().store(out, comments);
+	}
+
+	@Override
+	public Object put(Object key, Object value) {
 		return delegate.put((String) key, (String) value);
 	}
 
 	@Override
 	@SuppressWarnings("unchecked")
-	public synchronized void putAll(Map<? extends Object, ? extends Object> t) {
+	public void putAll(Map<? extends Object, ? extends Object> t) {
 		delegate.putAll((Map<? extends String, ? extends String>) t);
 	}
 
@@ -122,22 +169,22 @@ public class RedisProperties extends Properties implements RedisMap<Object, Obje
 	}
 
 	@Override
-	public synchronized void clear() {
+	public void clear() {
 		delegate.clear();
 	}
 
 	@Override
-	public synchronized Object clone() {
+	public Object clone() {
 		return new RedisProperties(defaults, hashOps);
 	}
 
 	@Override
-	public synchronized boolean contains(Object value) {
+	public boolean contains(Object value) {
 		return containsValue(value);
 	}
 
 	@Override
-	public synchronized boolean containsKey(Object key) {
+	public boolean containsKey(Object key) {
 		return delegate.containsKey(key);
 	}
 
@@ -148,7 +195,7 @@ public class RedisProperties extends Properties implements RedisMap<Object, Obje
 
 	@Override
 	@SuppressWarnings("unchecked")
-	public synchronized Enumeration<Object> elements() {
+	public Enumeration<Object> elements() {
 		return Collections.enumeration((Collection) delegate.values());
 	}
 
@@ -159,7 +206,7 @@ public class RedisProperties extends Properties implements RedisMap<Object, Obje
 	}
 
 	@Override
-	public synchronized boolean equals(Object o) {
+	public boolean equals(Object o) {
 
 		if (o == this)
 			return true;
@@ -171,19 +218,19 @@ public class RedisProperties extends Properties implements RedisMap<Object, Obje
 	}
 
 	@Override
-	public synchronized int hashCode() {
+	public int hashCode() {
 
 		int hash = RedisProperties.class.hashCode();
 		return hash * 17 + delegate.hashCode();
 	}
 
 	@Override
-	public synchronized boolean isEmpty() {
+	public boolean isEmpty() {
 		return delegate.isEmpty();
 	}
 
 	@Override
-	public synchronized Enumeration<Object> keys() {
+	public Enumeration<Object> keys() {
 		Set<Object> keys = keySet();
 		return Collections.enumeration(keys);
 	}
@@ -195,12 +242,12 @@ public class RedisProperties extends Properties implements RedisMap<Object, Obje
 	}
 
 	@Override
-	public synchronized Object remove(Object key) {
+	public Object remove(Object key) {
 		return delegate.remove(key);
 	}
 
 	@Override
-	public synchronized int size() {
+	public int size() {
 		return delegate.size();
 	}
 
@@ -291,12 +338,12 @@ public class RedisProperties extends Properties implements RedisMap<Object, Obje
 	}
 
 	@Override
-	public synchronized void storeToXML(OutputStream os, String comment, String encoding) throws IOException {
+	public void storeToXML(OutputStream os, String comment, String encoding) throws IOException {
 		throw new UnsupportedOperationException();
 	}
 
 	@Override
-	public synchronized void storeToXML(OutputStream os, String comment) throws IOException {
+	public void storeToXML(OutputStream os, String comment) throws IOException {
 		throw new UnsupportedOperationException();
 	}
 
@@ -304,4 +351,16 @@ public class RedisProperties extends Properties implements RedisMap<Object, Obje
 	public Iterator<java.util.Map.Entry<Object, Object>> scan() {
 		throw new UnsupportedOperationException();
 	}
+
+	/**
+	 * Copy the entries stored in Redis into a detached {@link Properties} instance.
+	 *
+	 * @return the detached {@link Properties}.
+	 */
+	private Properties snapshot() {
+
+		Properties properties = new Properties();
+		properties.putAll(delegate);
+		return properties;
+	}
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.cache;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import jdk.jfr.consumer.RecordedEvent;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.redis.test.util.VirtualThreads;
+
+/**
+ * Unit tests for {@link RedisCache}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisCacheUnitTests {
+
+	@Mock RedisCacheWriter cacheWriter;
+
+	@Test
+	void getWithValueLoaderShouldNotPinVirtualThreads() throws Exception {
+
+		RedisCache cache = new RedisCache("cache", cacheWriter, RedisCacheConfiguration.defaultCacheConfig());
+		AtomicInteger loads = new AtomicInteger();
+
+		List<RecordedEvent> pinned = VirtualThreads.runDetectingPinning(16, () -> cache.get("key", () -> {
+
+			// simulate a slow value loader
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+			return "value-" + loads.incrementAndGet();
+		}));
+
+		assertThat(pinned).isEmpty();
+		assertThat(loads).hasValue(16);
+		verify(cacheWriter, times(16)).put(eq("cache"), any(), any(), any());
+	}
+}
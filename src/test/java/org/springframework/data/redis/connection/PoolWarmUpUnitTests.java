@@ -0,0 +1,101 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.connection.PoolReadiness.PoolState;
+
+/**
+ * Unit tests for {@link PoolWarmUp}.
+ *
+ * @author agent
+ */
+class PoolWarmUpUnitTests {
+
+	@Test
+	void shouldCreateConnectionsInParallel() {
+
+		CountDownLatch latch = new CountDownLatch(4);
+
+		PoolReadiness readiness = PoolWarmUp.enabled().parallelism(4)
+				.warmUp(Arrays.asList(PoolWarmUp.Target.of("node-1", 2, () -> {
+					latch.countDown();
+					return latch.await(5, TimeUnit.SECONDS);
+				}), PoolWarmUp.Target.of("node-2", 2, () -> {
+					latch.countDown();
+					return latch.await(5, TimeUnit.SECONDS);
+				})));
+
+		assertThat(readiness.isReady()).isTrue();
+		assertThat(readiness.getPools()).extracting(PoolState::getName, PoolState::getCreated)
+				.containsExactly(tuple("node-1", 2), tuple("node-2", 2));
+	}
+
+	@Test
+	void shouldStopWarmUpAfterTimeout() {
+
+		CountDownLatch never = new CountDownLatch(1);
+
+		PoolReadiness readiness = PoolWarmUp.enabled(Duration.ofMillis(100)).warmUp(
+				Arrays.asList(PoolWarmUp.Target.of("fast", 1, () -> null), PoolWarmUp.Target.of("slow", 1, () -> {
+					never.await();
+					return null;
+				})));
+
+		assertThat(readiness.isReady()).isFalse();
+		assertThat(readiness.getElapsed()).isLessThan(Duration.ofSeconds(5));
+		assertThat(readiness.getPools()).extracting(PoolState::getName, PoolState::isReady)
+				.containsExactly(tuple("fast", true), tuple("slow", false));
+	}
+
+	@Test
+	void shouldReportConnectFailures() {
+
+		PoolReadiness readiness = PoolWarmUp.enabled().warmUp(Arrays.asList(PoolWarmUp.Target.of("node-1", 1, () -> {
+			throw new IllegalStateException("Connection refused");
+		})));
+
+		assertThat(readiness.isReady()).isFalse();
+		assertThat(readiness.getPools().get(0).getError()).hasMessage("Connection refused");
+		assertThat(readiness).hasToString(
+				String.format("PoolReadiness[ready=false, elapsed=%s, pools=[node-1: 0/1]]", readiness.getElapsed()));
+	}
+
+	@Test
+	void shouldConsiderEmptyWarmUpReady() {
+
+		assertThat(PoolReadiness.none().isReady()).isTrue();
+		assertThat(PoolWarmUp.enabled().warmUp(Arrays.asList(PoolWarmUp.Target.of("node-1", -1, () -> null))).isReady())
+				.isTrue();
+	}
+
+	@Test
+	void shouldRejectConfigurationOfDisabledWarmUp() {
+
+		assertThat(PoolWarmUp.disabled().isEnabled()).isFalse();
+		assertThatIllegalStateException().isThrownBy(() -> PoolWarmUp.disabled().parallelism(2));
+		assertThatIllegalStateException().isThrownBy(() -> PoolWarmUp.disabled().failIfNotReady());
+		assertThatIllegalArgumentException().isThrownBy(() -> PoolWarmUp.enabled(Duration.ZERO));
+	}
+}
@@ -18,16 +18,22 @@ package org.springframework.data.redis.connection.jedis;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisClientConfig;
 import redis.clients.jedis.JedisCluster;
 import redis.clients.jedis.JedisClusterConnectionHandler;
 import redis.clients.jedis.JedisClusterInfoCache;
+import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.util.Pool;
 
 import java.io.IOException;
 import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javax.net.ssl.HostnameVerifier;
 import javax.net.ssl.HttpsURLConnection;
@@ -38,6 +44,10 @@ import javax.net.ssl.SSLSocketFactory;
 import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.junit.jupiter.api.Test;
 
+import org.springframework.data.redis.connection.PoolException;
+import org.springframework.data.redis.connection.PoolReadiness;
+import org.springframework.data.redis.connection.PoolReadiness.PoolState;
+import org.springframework.data.redis.connection.PoolWarmUp;
 import org.springframework.data.redis.connection.RedisClusterConfiguration;
 import org.springframework.data.redis.connection.RedisClusterConnection;
 import org.springframework.data.redis.connection.RedisPassword;
@@ -370,6 +380,89 @@ class JedisConnectionFactoryUnitTests {
 		assertThatIllegalStateException().isThrownBy(connectionFactory::getSentinelConnection);
 	}
 
+	@Test
+	void shouldWarmUpPoolToMinIdle() {
+
+		JedisPoolConfig poolConfig = new JedisPoolConfig();
+		poolConfig.setMinIdle(3);
+
+		Pool<Jedis> poolMock = mock(Pool.class);
+		when(poolMock.getNumIdle()).thenReturn(1);
+
+		connectionFactory = spy(new JedisConnectionFactory(poolConfig));
+		doReturn(poolMock).when(connectionFactory).createRedisPool();
+		connectionFactory.setPoolWarmUp(PoolWarmUp.enabled());
+		connectionFactory.afterPropertiesSet();
+
+		verify(poolMock, times(2)).addObjects(1);
+
+		PoolReadiness readiness = connectionFactory.getPoolReadiness();
+		assertThat(readiness.isReady()).isTrue();
+		assertThat(readiness.getPools()).extracting(PoolState::getName, PoolState::getRequested, PoolState::getCreated)
+				.containsExactly(tuple("localhost:6379", 2, 2));
+	}
+
+	@Test
+	void shouldNotWarmUpPoolByDefault() {
+
+		JedisPoolConfig poolConfig = new JedisPoolConfig();
+		poolConfig.setMinIdle(3);
+
+		Pool<Jedis> poolMock = mock(Pool.class);
+
+		connectionFactory = spy(new JedisConnectionFactory(poolConfig));
+		doReturn(poolMock).when(connectionFactory).createRedisPool();
+		connectionFactory.afterPropertiesSet();
+
+		verifyNoInteractions(poolMock);
+		assertThat(connectionFactory.getPoolReadiness()).isSameAs(PoolReadiness.none());
+	}
+
+	@Test
+	void shouldWarmUpEachClusterNodePool() {
+
+		JedisPoolConfig poolConfig = new JedisPoolConfig();
+		poolConfig.setMinIdle(1);
+
+		JedisPool node1 = mock(JedisPool.class);
+		JedisPool node2 = mock(JedisPool.class);
+		Map<String, JedisPool> nodes = new LinkedHashMap<>();
+		nodes.put("127.0.0.1:6379", node1);
+		nodes.put("127.0.0.1:6380", node2);
+
+		JedisCluster clusterMock = mock(JedisCluster.class);
+		when(clusterMock.getClusterNodes()).thenReturn(nodes);
+
+		connectionFactory = spy(new JedisConnectionFactory(CLUSTER_CONFIG, poolConfig));
+		doReturn(clusterMock).when(connectionFactory).createCluster(any(RedisClusterConfiguration.class),
+				any(GenericObjectPoolConfig.class));
+		connectionFactory.setPoolWarmUp(PoolWarmUp.enabled());
+		connectionFactory.afterPropertiesSet();
+
+		verify(node1).addObjects(1);
+		verify(node2).addObjects(1);
+		assertThat(connectionFactory.getPoolReadiness().getPools()).extracting(PoolState::getName)
+				.containsExactly("127.0.0.1:6379", "127.0.0.1:6380");
+	}
+
+	@Test
+	void shouldFailIfWarmUpDidNotComplete() {
+
+		JedisPoolConfig poolConfig = new JedisPoolConfig();
+		poolConfig.setMinIdle(1);
+
+		Pool<Jedis> poolMock = mock(Pool.class);
+		doThrow(new JedisConnectionException("Connection refused")).when(poolMock).addObjects(1);
+
+		connectionFactory = spy(new JedisConnectionFactory(poolConfig));
+		doReturn(poolMock).when(connectionFactory).createRedisPool();
+		connectionFactory.setPoolWarmUp(PoolWarmUp.enabled().failIfNotReady());
+
+		assertThatExceptionOfType(PoolException.class).isThrownBy(connectionFactory::afterPropertiesSet)
+				.withMessageContaining("localhost:6379: 0/1");
+		verify(poolMock).destroy();
+	}
+
 	private JedisConnectionFactory initSpyedConnectionFactory(RedisSentinelConfiguration sentinelConfig,
 			JedisPoolConfig poolConfig) {
 
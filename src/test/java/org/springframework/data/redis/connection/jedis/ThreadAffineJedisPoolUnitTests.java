@@ -0,0 +1,269 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.jedis;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import redis.clients.jedis.Client;
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisClientConfig;
+import redis.clients.jedis.JedisSentinelPool;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisDataException;
+import redis.clients.jedis.util.Pool;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.DataAccessException;
+
+/**
+ * Unit tests for {@link ThreadAffineJedisPool}.
+ *
+ * @author agent
+ */
+class ThreadAffineJedisPoolUnitTests {
+
+	Pool<Jedis> poolMock = mock(Pool.class);
+	ThreadAffineJedisPool pool;
+
+	@BeforeEach
+	void before() {
+
+		when(poolMock.getResource()).thenAnswer(it -> mock(Jedis.class));
+		pool = new ThreadAffineJedisPool(poolMock, Duration.ofMinutes(1));
+	}
+
+	@AfterEach
+	void after() {
+		pool.destroy();
+	}
+
+	@Test
+	void shouldReuseConnectionOnSameThread() {
+
+		Jedis first = pool.getResource();
+		pool.release(first);
+
+		Jedis second = pool.getResource();
+
+		assertThat(second).isSameAs(first);
+		verify(poolMock, times(1)).getResource();
+		verify(first).resetState();
+		verify(first, never()).close();
+	}
+
+	@Test
+	void shouldObtainSeparateConnectionForNestedUsage() {
+
+		Jedis outer = pool.getResource();
+		Jedis nested = pool.getResource();
+
+		assertThat(nested).isNotSameAs(outer);
+
+		pool.release(nested);
+		pool.release(outer);
+
+		verify(nested).close();
+		verify(outer, never()).close();
+		assertThat(pool.getResource()).isSameAs(outer);
+	}
+
+	@Test
+	void shouldBindConnectionsPerThread() throws InterruptedException {
+
+		Jedis jedis = pool.getResource();
+		AtomicReference<Jedis> other = new AtomicReference<>();
+
+		Thread thread = new Thread(() -> other.set(pool.getResource()));
+		thread.start();
+		thread.join();
+
+		assertThat(other.get()).isNotNull().isNotSameAs(jedis);
+	}
+
+	@Test
+	void shouldReturnBrokenConnectionToPool() {
+
+		Jedis broken = pool.getResource();
+		when(broken.isBroken()).thenReturn(true);
+
+		pool.release(broken);
+
+		verify(broken).close();
+		assertThat(pool.getResource()).isNotSameAs(broken);
+	}
+
+	@Test
+	void shouldUnbindConnectionAfterFailedCommand() {
+
+		Jedis jedis = pool.getResource();
+
+		pool.release(jedis, true);
+
+		verify(jedis).close();
+		assertThat(pool.getResource()).isNotSameAs(jedis);
+	}
+
+	@Test
+	void connectionShouldUnbindJedisAfterCommandError() {
+
+		Jedis jedis = pool.getResource();
+		pool.release(jedis);
+
+		when(jedis.get(any(byte[].class))).thenThrow(new JedisDataException("READONLY You can't write against a replica"));
+
+		JedisClientConfig config = DefaultJedisClientConfig.builder().build();
+		JedisConnection connection = new JedisConnection(pool.getResource(), pool, config, config);
+
+		assertThatExceptionOfType(DataAccessException.class).isThrownBy(() -> connection.get("key".getBytes()));
+		connection.close();
+
+		verify(jedis).close();
+		assertThat(pool.getResource()).isNotSameAs(jedis);
+	}
+
+	@Test
+	void shouldValidateConnectionOnReuseIfTestOnBorrowIsEnabled() {
+
+		pool.destroy();
+		pool = new ThreadAffineJedisPool(poolMock, Duration.ofMinutes(1), true);
+
+		Jedis jedis = pool.getResource();
+		when(jedis.isConnected()).thenReturn(true);
+		when(jedis.ping()).thenReturn("PONG");
+		pool.release(jedis);
+
+		assertThat(pool.getResource()).isSameAs(jedis);
+		verify(jedis).ping();
+
+		pool.release(jedis);
+		when(jedis.ping()).thenThrow(new JedisConnectionException("Connection reset"));
+
+		Jedis next = pool.getResource();
+
+		assertThat(next).isNotSameAs(jedis);
+		verify(jedis).disconnect();
+		verify(jedis).close();
+	}
+
+	@Test
+	void shouldSkipValidationOfRecentlyUsedConnection() {
+
+		Jedis jedis = pool.getResource();
+		pool.release(jedis);
+
+		assertThat(pool.getResource()).isSameAs(jedis);
+		verify(jedis, never()).ping();
+	}
+
+	@Test
+	void shouldValidateConnectionAgainstCurrentSentinelMaster() {
+
+		pool.destroy();
+
+		JedisSentinelPool sentinelPoolMock = mock(JedisSentinelPool.class);
+		when(sentinelPoolMock.getResource()).thenAnswer(it -> {
+
+			Client client = mock(Client.class);
+			when(client.getHost()).thenReturn("master-1");
+			when(client.getPort()).thenReturn(6379);
+
+			Jedis jedis = mock(Jedis.class);
+			when(jedis.getClient()).thenReturn(client);
+			return jedis;
+		});
+		when(sentinelPoolMock.getCurrentHostMaster()).thenReturn(new HostAndPort("master-1", 6379));
+		pool = new ThreadAffineJedisPool(sentinelPoolMock, Duration.ofMinutes(1));
+
+		Jedis jedis = pool.getResource();
+		pool.release(jedis);
+
+		assertThat(pool.getResource()).isSameAs(jedis);
+
+		pool.release(jedis);
+		when(sentinelPoolMock.getCurrentHostMaster()).thenReturn(new HostAndPort("master-2", 6379));
+
+		assertThat(pool.getResource()).isNotSameAs(jedis);
+		verify(jedis).disconnect();
+		verify(jedis).close();
+	}
+
+	@Test
+	void shouldEvictIdleConnections() throws InterruptedException {
+
+		pool.destroy();
+		pool = new ThreadAffineJedisPool(poolMock, Duration.ofMillis(1));
+
+		Jedis jedis = pool.getResource();
+		pool.release(jedis);
+
+		Thread.sleep(5);
+		pool.evictIdle();
+
+		verify(jedis).close();
+		assertThat(pool.getResource()).isNotSameAs(jedis);
+	}
+
+	@Test
+	void shouldNotEvictConnectionsInUse() throws InterruptedException {
+
+		pool.destroy();
+		pool = new ThreadAffineJedisPool(poolMock, Duration.ofMillis(1));
+
+		Jedis jedis = pool.getResource();
+
+		Thread.sleep(5);
+		pool.evictIdle();
+
+		verify(jedis, never()).close();
+	}
+
+	@Test
+	void shouldEvictConnectionsOfTerminatedThreads() throws InterruptedException {
+
+		AtomicReference<Jedis> jedis = new AtomicReference<>();
+
+		Thread thread = new Thread(() -> {
+			jedis.set(pool.getResource());
+			pool.release(jedis.get());
+		});
+		thread.start();
+		thread.join();
+
+		pool.evictIdle();
+
+		verify(jedis.get()).close();
+	}
+
+	@Test
+	void destroyShouldReturnIdleConnections() {
+
+		Jedis jedis = pool.getResource();
+		pool.release(jedis);
+
+		pool.destroy();
+
+		verify(jedis).close();
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.lettuce.AdaptivePipeliningFlushPolicy.AdaptiveFlushing;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection.PipeliningFlushState;
+
+/**
+ * Unit tests for {@link AdaptivePipeliningFlushPolicy}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class AdaptivePipeliningFlushPolicyUnitTests {
+
+	@Mock StatefulRedisConnection<byte[], byte[]> connection;
+
+	@Test
+	void shouldFlushOnBatchSize() {
+
+		PipeliningFlushState state = AdaptivePipeliningFlushPolicy.DEFAULT.withBatchSize(2, 2)
+				.withMaxFlushDelay(Duration.ofHours(1)).newPipeline();
+
+		state.onOpen(connection);
+
+		verify(connection).setAutoFlushCommands(false);
+
+		state.onCommand(connection, set(10));
+
+		verifyNoMoreInteractions(connection);
+
+		state.onCommand(connection, set(10));
+
+		verify(connection).flushCommands();
+
+		state.onClose(connection);
+
+		verify(connection).setAutoFlushCommands(true);
+		verifyNoMoreInteractions(connection);
+	}
+
+	@Test
+	void shouldFlushOnBufferedBytes() {
+
+		PipeliningFlushState state = AdaptivePipeliningFlushPolicy.DEFAULT.withBatchSize(100, 100)
+				.withMaxBufferedBytes(1024).withMaxFlushDelay(Duration.ofHours(1)).newPipeline();
+
+		state.onOpen(connection);
+		state.onCommand(connection, set(100));
+
+		verify(connection, never()).flushCommands();
+
+		state.onCommand(connection, set(2048));
+
+		verify(connection).flushCommands();
+	}
+
+	@Test
+	void shouldNotEstimateSizeByDefault() {
+
+		AdaptiveFlushing state = (AdaptiveFlushing) AdaptivePipeliningFlushPolicy.DEFAULT.newPipeline();
+
+		state.onOpen(connection);
+		state.onCommand(connection, set(100));
+
+		assertThat(AdaptivePipeliningFlushPolicy.DEFAULT.getMaxBufferedBytes()).isZero();
+		assertThat(state.getSizeEstimationBufferCapacity()).isZero();
+	}
+
+	@Test
+	void shouldNotRetainSizeEstimationBufferOfLargeCommand() {
+
+		AdaptiveFlushing state = (AdaptiveFlushing) AdaptivePipeliningFlushPolicy.DEFAULT.withBatchSize(100, 100)
+				.withMaxBufferedBytes(1024 * 1024).withMaxFlushDelay(Duration.ofHours(1)).newPipeline();
+
+		state.onOpen(connection);
+		state.onCommand(connection, set(100));
+
+		assertThat(state.getSizeEstimationBufferCapacity()).isPositive();
+
+		state.onCommand(connection, set(64 * 1024));
+
+		assertThat(state.getSizeEstimationBufferCapacity()).isZero();
+		verify(connection, never()).flushCommands();
+	}
+
+	@Test
+	void shouldFlushOnDeadline() {
+
+		PipeliningFlushState state = AdaptivePipeliningFlushPolicy.DEFAULT.withBatchSize(100, 100)
+				.withMaxFlushDelay(Duration.ZERO).newPipeline();
+
+		state.onOpen(connection);
+		state.onCommand(connection, set(10));
+
+		verify(connection).flushCommands();
+	}
+
+	@Test
+	void shouldAdaptBatchSizeToRoundTripTime() {
+
+		AdaptiveFlushing state = (AdaptiveFlushing) AdaptivePipeliningFlushPolicy.DEFAULT.withBatchSize(4, 100)
+				.newPipeline();
+
+		long now = System.nanoTime();
+
+		state.onBatchCompleted(4, now - Duration.ofMillis(1).toNanos());
+
+		assertThat(state.getBatchSize()).isEqualTo(6);
+
+		state.onBatchCompleted(6, now - Duration.ofMillis(1).toNanos());
+
+		assertThat(state.getBatchSize()).isEqualTo(8);
+
+		state.onBatchCompleted(8, now - Duration.ofSeconds(1).toNanos());
+
+		assertThat(state.getBatchSize()).isEqualTo(4);
+	}
+
+	@Test
+	void shouldTrackInFlightCommands() {
+
+		PipeliningFlushState state = AdaptivePipeliningFlushPolicy.DEFAULT.withBatchSize(2, 2).newPipeline();
+		AsyncCommand<byte[], byte[], String> first = set(10);
+		AsyncCommand<byte[], byte[], String> second = set(10);
+
+		state.onOpen(connection);
+		state.onCommand(connection, first);
+		state.onCommand(connection, second);
+
+		assertThat(((AdaptiveFlushing) state).getInFlightCommands()).isEqualTo(2);
+
+		first.complete("OK");
+		second.complete("OK");
+
+		assertThat(((AdaptiveFlushing) state).getInFlightCommands()).isZero();
+	}
+
+	@Test
+	void shouldRejectInvalidSettings() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> PipeliningFlushPolicy.adaptive().withBatchSize(0, 10));
+		assertThatIllegalArgumentException().isThrownBy(() -> PipeliningFlushPolicy.adaptive().withBatchSize(10, 5));
+		assertThatIllegalArgumentException().isThrownBy(() -> PipeliningFlushPolicy.adaptive().withMaxBufferedBytes(-1));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> PipeliningFlushPolicy.adaptive().withMaxFlushDelay(Duration.ofMillis(-1)));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> PipeliningFlushPolicy.adaptive().withMaxInFlightCommands(1));
+	}
+
+	private static AsyncCommand<byte[], byte[], String> set(int valueSize) {
+
+		CommandArgs<byte[], byte[]> args = new CommandArgs<>(ByteArrayCodec.INSTANCE).addKey("key".getBytes())
+				.addValue(new byte[valueSize]);
+
+		return new AsyncCommand<>(new Command<>(CommandType.SET, new StatusOutput<>(ByteArrayCodec.INSTANCE), args));
+	}
+}
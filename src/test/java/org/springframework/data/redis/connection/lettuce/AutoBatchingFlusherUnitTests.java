@@ -0,0 +1,173 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.lettuce;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+
+import java.time.Duration;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link AutoBatchingFlusher}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class AutoBatchingFlusherUnitTests {
+
+	@Mock StatefulRedisConnection<?, ?> connection;
+	@Mock ScheduledExecutorService scheduler;
+
+	@Test
+	void shouldDisableAutoFlush() {
+
+		new AutoBatchingFlusher(connection, scheduler, AutoBatchingPolicy.enabled(Duration.ofMillis(1), 10));
+
+		verify(connection).setAutoFlushCommands(false);
+	}
+
+	@Test
+	void shouldScheduleFlushForFirstCommandOfBatch() {
+
+		AutoBatchingFlusher flusher = new AutoBatchingFlusher(connection, scheduler,
+				AutoBatchingPolicy.enabled(Duration.ofMillis(2), 10));
+
+		flusher.onCommand();
+		flusher.onCommand();
+
+		ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler).schedule(captor.capture(), eq(2_000_000L), eq(TimeUnit.NANOSECONDS));
+		verify(connection, never()).flushCommands();
+
+		captor.getValue().run();
+
+		verify(connection).flushCommands();
+		assertThat(flusher.getPendingCommands()).isZero();
+
+		flusher.onCommand();
+
+		verify(scheduler, times(2)).schedule(any(Runnable.class), anyLong(), any());
+	}
+
+	@Test
+	void shouldFlushOnceBatchSizeIsReached() {
+
+		AutoBatchingFlusher flusher = new AutoBatchingFlusher(connection, scheduler,
+				AutoBatchingPolicy.enabled(Duration.ofSeconds(1), 3));
+
+		flusher.onCommand();
+		flusher.onCommand();
+
+		verify(connection, never()).flushCommands();
+
+		flusher.onCommand();
+
+		verify(connection).flushCommands();
+		assertThat(flusher.getPendingCommands()).isZero();
+	}
+
+	@Test
+	void scheduledFlushShouldSkipEmptyBatch() {
+
+		AutoBatchingFlusher flusher = new AutoBatchingFlusher(connection, scheduler,
+				AutoBatchingPolicy.enabled(Duration.ofSeconds(1), 2));
+
+		flusher.onCommand();
+
+		ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+		verify(scheduler).schedule(captor.capture(), anyLong(), any());
+
+		flusher.onCommand();
+
+		verify(connection).flushCommands();
+
+		captor.getValue().run();
+
+		verify(connection).flushCommands();
+		assertThat(flusher.getPendingCommands()).isZero();
+	}
+
+	@Test
+	void shouldFlushImmediatelyIfSchedulingIsRejected() {
+
+		when(scheduler.schedule(any(Runnable.class), anyLong(), any())).thenThrow(new RejectedExecutionException());
+
+		AutoBatchingFlusher flusher = new AutoBatchingFlusher(connection, scheduler,
+				AutoBatchingPolicy.enabled(Duration.ofSeconds(1), 10));
+
+		flusher.onCommand();
+
+		verify(connection).flushCommands();
+	}
+
+	@Test
+	void disposeShouldRestoreAutoFlush() {
+
+		AutoBatchingFlusher flusher = new AutoBatchingFlusher(connection, scheduler,
+				AutoBatchingPolicy.enabled(Duration.ofSeconds(1), 10));
+
+		flusher.dispose();
+		flusher.onCommand();
+
+		verify(connection).setAutoFlushCommands(true);
+		verify(connection).flushCommands();
+		verifyNoInteractions(scheduler);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void decoratedCommandsShouldNotifyFlusher() {
+
+		RedisAsyncCommands<String, String> commands = mock(RedisAsyncCommands.class);
+		when(commands.get("foo")).thenReturn(mock(RedisFuture.class));
+
+		AutoBatchingFlusher flusher = new AutoBatchingFlusher(connection, scheduler,
+				AutoBatchingPolicy.enabled(Duration.ofSeconds(1), 10));
+
+		RedisAsyncCommands<String, String> decorated = flusher.decorate(commands);
+
+		decorated.getStatefulConnection();
+
+		assertThat(flusher.getPendingCommands()).isZero();
+
+		decorated.get("foo");
+
+		verify(commands).get("foo");
+		assertThat(flusher.getPendingCommands()).isOne();
+	}
+
+	@Test
+	void policyShouldRejectInvalidSettings() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> AutoBatchingPolicy.enabled(Duration.ZERO, 1));
+		assertThatIllegalArgumentException().isThrownBy(() -> AutoBatchingPolicy.enabled(Duration.ofMillis(1), 0));
+		assertThat(AutoBatchingPolicy.disabled().isEnabled()).isFalse();
+	}
+}
@@ -47,6 +47,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.redis.connection.ClusterCommandExecutor;
 import org.springframework.data.redis.connection.ClusterNodeResourceProvider;
 import org.springframework.data.redis.connection.ClusterTopologyProvider;
@@ -414,4 +415,54 @@ class LettuceClusterConnectionUnitTests {
 		verifyNoMoreInteractions(connectionProviderMock);
 		verifyNoInteractions(sharedConnectionMock);
 	}
+
+	@Test
+	void executeAsyncShouldRejectCrossSlotCommandBeforeExecutingIt() {
+
+		RedisAdvancedClusterAsyncCommands<byte[], byte[]> async = mock(RedisAdvancedClusterAsyncCommands.class);
+		when(sharedConnectionMock.async()).thenReturn(async);
+
+		LettuceClusterConnection connection = new LettuceClusterConnection(sharedConnectionMock, connectionProviderMock,
+				topologyProviderMock, executorMock, Duration.ZERO);
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> connection.executeAsync(it -> it.setCommands().sInter(KEY_1_BYTES, KEY_2_BYTES)));
+
+		verifyNoInteractions(executorMock);
+		verifyNoInteractions(async);
+	}
+
+	@Test
+	void executeAsyncShouldRejectCompositeCommandBeforeExecutingIt() {
+
+		RedisAdvancedClusterAsyncCommands<byte[], byte[]> async = mock(RedisAdvancedClusterAsyncCommands.class);
+		when(sharedConnectionMock.async()).thenReturn(async);
+
+		LettuceClusterConnection connection = new LettuceClusterConnection(sharedConnectionMock, connectionProviderMock,
+				topologyProviderMock, executorMock, Duration.ZERO);
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> connection.executeAsync(it -> it.keyCommands().rename(KEY_1_BYTES, KEY_2_BYTES)));
+
+		verifyNoInteractions(async);
+	}
+
+	@Test
+	void executeAsyncShouldIssueSameSlotCommand() {
+
+		RedisAdvancedClusterAsyncCommands<byte[], byte[]> async = mock(RedisAdvancedClusterAsyncCommands.class);
+		when(sharedConnectionMock.async()).thenReturn(async);
+		when(async.sinter(any())).thenReturn(mock(RedisFuture.class));
+
+		LettuceClusterConnection connection = new LettuceClusterConnection(sharedConnectionMock, connectionProviderMock,
+				topologyProviderMock, executorMock, Duration.ZERO);
+
+		byte[] key1 = SAME_SLOT_KEY_1.getBytes();
+		byte[] key2 = SAME_SLOT_KEY_2.getBytes();
+
+		assertThat(connection.executeAsync(it -> it.setCommands().sInter(key1, key2))).isNotNull();
+
+		verify(async, times(1)).sinter(key1, key2);
+		verifyNoInteractions(executorMock);
+	}
 }
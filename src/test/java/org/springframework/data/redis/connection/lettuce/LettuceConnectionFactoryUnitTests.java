@@ -35,12 +35,16 @@ import io.lettuce.core.cluster.api.sync.RedisAdvancedClusterCommands;
 import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.resource.ClientResources;
+import jdk.jfr.consumer.RecordedEvent;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
 import java.time.Duration;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -62,6 +66,7 @@ import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisSocketConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.test.extension.LettuceTestClientResources;
+import org.springframework.data.redis.test.util.VirtualThreads;
 import org.springframework.test.util.ReflectionTestUtils;
 
 /**
@@ -867,6 +872,133 @@ class LettuceConnectionFactoryUnitTests {
 		verify(connectionProviderMock, times(2)).getConnection(StatefulConnection.class);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldApplyAutoBatchingToSharedConnection() {
+
+		LettuceConnectionProvider connectionProviderMock = mock(LettuceConnectionProvider.class);
+		StatefulRedisConnection connectionMock = mock(StatefulRedisConnection.class);
+
+		when(connectionProviderMock.getConnection(any())).thenReturn(connectionMock);
+
+		LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory() {
+			@Override
+			protected LettuceConnectionProvider doCreateConnectionProvider(AbstractRedisClient client,
+					RedisCodec<?, ?> codec) {
+				return connectionProviderMock;
+			}
+		};
+		connectionFactory.setClientResources(LettuceTestClientResources.getSharedClientResources());
+		connectionFactory.setAutoBatchingPolicy(AutoBatchingPolicy.enabled(Duration.ofMillis(1), 10));
+		connectionFactory.afterPropertiesSet();
+		ConnectionFactoryTracker.add(connectionFactory);
+
+		RedisConnection connection = connectionFactory.getConnection();
+
+		verify(connectionMock).setAutoFlushCommands(false);
+		assertThat(getField(connection, "autoBatchingFlusher")).isNotNull();
+
+		connectionFactory.resetConnection();
+
+		verify(connectionMock).setAutoFlushCommands(true);
+		verify(connectionMock).flushCommands();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldAssignSharedConnectionsRoundRobin() {
+
+		LettuceConnectionProvider connectionProviderMock = mock(LettuceConnectionProvider.class);
+		StatefulRedisConnection connection1 = mock(StatefulRedisConnection.class);
+		StatefulRedisConnection connection2 = mock(StatefulRedisConnection.class);
+
+		when(connectionProviderMock.getConnection(any())).thenReturn(connection1, connection2);
+
+		LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory() {
+			@Override
+			protected LettuceConnectionProvider doCreateConnectionProvider(AbstractRedisClient client,
+					RedisCodec<?, ?> codec) {
+				return connectionProviderMock;
+			}
+		};
+		connectionFactory.setClientResources(LettuceTestClientResources.getSharedClientResources());
+		connectionFactory.setSharedConnectionCount(2);
+		connectionFactory.setSharedConnectionSelection(SharedConnectionSelection.ROUND_ROBIN);
+		connectionFactory.afterPropertiesSet();
+		ConnectionFactoryTracker.add(connectionFactory);
+
+		assertThat(connectionFactory.getSharedConnection()).isSameAs(connection1);
+		assertThat(connectionFactory.getSharedConnection()).isSameAs(connection2);
+		assertThat(connectionFactory.getSharedConnection()).isSameAs(connection1);
+
+		verify(connectionProviderMock, times(2)).getConnection(StatefulConnection.class);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldAssignSharedConnectionsByThread() {
+
+		LettuceConnectionProvider connectionProviderMock = mock(LettuceConnectionProvider.class);
+
+		when(connectionProviderMock.getConnection(any())).thenAnswer(it -> mock(StatefulRedisConnection.class));
+
+		LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory() {
+			@Override
+			protected LettuceConnectionProvider doCreateConnectionProvider(AbstractRedisClient client,
+					RedisCodec<?, ?> codec) {
+				return connectionProviderMock;
+			}
+		};
+		connectionFactory.setClientResources(LettuceTestClientResources.getSharedClientResources());
+		connectionFactory.setSharedConnectionCount(4);
+		connectionFactory.afterPropertiesSet();
+		ConnectionFactoryTracker.add(connectionFactory);
+
+		StatefulRedisConnection<byte[], byte[]> connection = connectionFactory.getSharedConnection();
+
+		assertThat(connectionFactory.getSharedConnection()).isSameAs(connection);
+		assertThat(connectionFactory.getSharedConnection()).isSameAs(connection);
+
+		connectionFactory.initConnection();
+
+		verify(connectionProviderMock, times(1 + 8)).getConnection(StatefulConnection.class);
+	}
+
+	@Test
+	void shouldRejectInvalidSharedConnectionCount() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new LettuceConnectionFactory().setSharedConnectionCount(0));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void sharedConnectionInitializationShouldNotPinVirtualThreads() throws Exception {
+
+		LettuceConnectionProvider connectionProviderMock = mock(LettuceConnectionProvider.class);
+		StatefulRedisConnection connectionMock = mock(StatefulRedisConnection.class);
+
+		when(connectionProviderMock.getConnection(any())).thenAnswer(invocation -> {
+
+			LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(20));
+			return connectionMock;
+		});
+
+		LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory() {
+			@Override
+			protected LettuceConnectionProvider doCreateConnectionProvider(AbstractRedisClient client,
+					RedisCodec<?, ?> codec) {
+				return connectionProviderMock;
+			}
+		};
+		connectionFactory.setClientResources(LettuceTestClientResources.getSharedClientResources());
+		connectionFactory.afterPropertiesSet();
+		ConnectionFactoryTracker.add(connectionFactory);
+
+		List<RecordedEvent> pinned = VirtualThreads.runDetectingPinning(16, connectionFactory::getSharedConnection);
+
+		assertThat(pinned).isEmpty();
+		verify(connectionProviderMock, times(1)).getConnection(StatefulConnection.class);
+	}
+
 	@Test // DATAREDIS-1189
 	void shouldTranslateConnectionException() {
 
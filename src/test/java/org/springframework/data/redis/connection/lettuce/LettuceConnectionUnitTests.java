@@ -19,27 +19,36 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisCommandExecutionException;
 import io.lettuce.core.RedisFuture;
 import io.lettuce.core.XAddArgs;
 import io.lettuce.core.XClaimArgs;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.cluster.api.async.RedisClusterAsyncCommands;
 import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.output.ValueOutput;
 import io.lettuce.core.protocol.AsyncCommand;
 import io.lettuce.core.protocol.Command;
 import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
 
 import java.lang.reflect.InvocationTargetException;
 import java.time.Duration;
 import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.dao.InvalidDataAccessResourceUsageException;
 import org.springframework.data.redis.connection.AbstractConnectionUnitTestBase;
 import org.springframework.data.redis.connection.RedisServerCommands.ShutdownOption;
@@ -254,6 +263,73 @@ public class LettuceConnectionUnitTests {
 			assertThat(args.getValue()).extracting("nomkstream").isEqualTo(true);
 		}
 
+		@Test
+		void executeAsyncShouldCompleteFutureWithCommandResult() {
+
+			AsyncCommand<byte[], byte[], byte[]> command = new AsyncCommand<>(
+					new Command<>(CommandType.GET, new ValueOutput<>(ByteArrayCodec.INSTANCE)));
+			when(asyncCommandsMock.get(any())).thenReturn(command);
+			connection = new LettuceConnection(0, clientMock);
+
+			CompletableFuture<byte[]> result = connection.executeAsync(it -> it.stringCommands().get("foo".getBytes()));
+
+			assertThat(result).isNotDone();
+
+			command.complete("bar".getBytes());
+
+			assertThat(result).isCompleted();
+			assertThat(result.join()).isEqualTo("bar".getBytes());
+		}
+
+		@Test
+		void executeAsyncShouldTranslateExceptions() {
+
+			AsyncCommand<byte[], byte[], byte[]> command = new AsyncCommand<>(
+					new Command<>(CommandType.GET, new ValueOutput<>(ByteArrayCodec.INSTANCE)));
+			when(asyncCommandsMock.get(any())).thenReturn(command);
+			connection = new LettuceConnection(0, clientMock);
+
+			CompletableFuture<byte[]> result = connection.executeAsync(it -> it.stringCommands().get("foo".getBytes()));
+			command.completeExceptionally(new RedisCommandExecutionException("WRONGTYPE"));
+
+			assertThatExceptionOfType(CompletionException.class).isThrownBy(result::join)
+					.withCauseInstanceOf(DataAccessException.class);
+		}
+
+		@Test
+		void nativeConnectionShouldNotifyAutoBatchingFlusher() {
+
+			AsyncCommand<byte[], byte[], byte[]> command = new AsyncCommand<>(
+					new Command<>(CommandType.GET, new ValueOutput<>(ByteArrayCodec.INSTANCE)));
+			when(asyncCommandsMock.get(any())).thenReturn(command);
+
+			ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+			AutoBatchingFlusher flusher = new AutoBatchingFlusher(statefulConnectionMock, scheduler,
+					AutoBatchingPolicy.enabled(Duration.ofSeconds(1), 2));
+
+			LettuceConnection connection = new LettuceConnection(statefulConnectionMock, 0, clientMock);
+			connection.setAutoBatchingFlusher(flusher);
+
+			RedisClusterAsyncCommands<byte[], byte[]> nativeConnection = connection.getNativeConnection();
+
+			assertThat(nativeConnection.get("foo".getBytes())).isSameAs(command);
+			assertThat(flusher.getPendingCommands()).isOne();
+			verify(scheduler).schedule(any(Runnable.class), anyLong(), any());
+
+			nativeConnection.get("bar".getBytes());
+
+			verify(statefulConnectionMock).flushCommands();
+			assertThat(flusher.getPendingCommands()).isZero();
+		}
+
+		@Test
+		void executeAsyncShouldRejectCallbackWithoutCommand() {
+
+			connection = new LettuceConnection(0, clientMock);
+
+			assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+					.isThrownBy(() -> connection.executeAsync(it -> "foo"));
+		}
 	}
 
 	public static class LettucePipelineConnectionUnitTests extends BasicUnitTests {
@@ -265,6 +341,12 @@ public class LettuceConnectionUnitTests {
 			this.connection.openPipeline();
 		}
 
+		@Test
+		void executeAsyncShouldRejectPipelinedConnection() {
+			assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+					.isThrownBy(() -> connection.executeAsync(it -> it.stringCommands().get("foo".getBytes())));
+		}
+
 		@Test // DATAREDIS-528
 		public void shutdownWithSaveOptionIsCalledCorrectly() {
 
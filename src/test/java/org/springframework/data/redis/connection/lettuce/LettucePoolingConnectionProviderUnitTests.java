@@ -15,11 +15,15 @@
  */
 package org.springframework.data.redis.connection.lettuce;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import io.lettuce.core.RedisConnectionException;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.async.RedisAsyncCommands;
 
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,6 +32,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
+import org.springframework.data.redis.connection.PoolReadiness;
+import org.springframework.data.redis.connection.PoolWarmUp;
+
 /**
  * Unit tests for {@link LettucePoolingConnectionProvider}.
  *
@@ -70,4 +77,41 @@ class LettucePoolingConnectionProviderUnitTests {
 
 		verify(commandsMock).discard();
 	}
+
+	@Test
+	void shouldWarmUpPoolToMinIdle() {
+
+		GenericObjectPoolConfig<StatefulRedisConnection<?, ?>> poolConfig = new GenericObjectPoolConfig<>();
+		poolConfig.setMinIdle(3);
+		LettucePoolingConnectionProvider provider = new LettucePoolingConnectionProvider(connectionProviderMock,
+				LettucePoolingClientConfiguration.builder().poolConfig(poolConfig).build());
+		when(connectionProviderMock.getConnection(any())).thenAnswer(it -> mock(StatefulRedisConnection.class));
+
+		PoolReadiness readiness = provider.warmUp(PoolWarmUp.enabled(), StatefulRedisConnection.class, "localhost:6379");
+
+		assertThat(readiness.isReady()).isTrue();
+		assertThat(readiness.getPools()).hasSize(1);
+		assertThat(readiness.getPools().get(0).getCreated()).isEqualTo(3);
+		verify(connectionProviderMock, times(3)).getConnection(StatefulRedisConnection.class);
+
+		provider.getConnection(StatefulRedisConnection.class);
+
+		verify(connectionProviderMock, times(3)).getConnection(StatefulRedisConnection.class);
+	}
+
+	@Test
+	void shouldReportIncompleteWarmUp() {
+
+		GenericObjectPoolConfig<StatefulRedisConnection<?, ?>> poolConfig = new GenericObjectPoolConfig<>();
+		poolConfig.setMinIdle(2);
+		LettucePoolingConnectionProvider provider = new LettucePoolingConnectionProvider(connectionProviderMock,
+				LettucePoolingClientConfiguration.builder().poolConfig(poolConfig).build());
+		when(connectionProviderMock.getConnection(any())).thenThrow(new RedisConnectionException("Connection refused"));
+
+		PoolReadiness readiness = provider.warmUp(PoolWarmUp.enabled(), StatefulRedisConnection.class, "localhost:6379");
+
+		assertThat(readiness.isReady()).isFalse();
+		assertThat(readiness.getPools().get(0).getCreated()).isZero();
+		assertThat(readiness.getPools().get(0).getError()).isInstanceOf(RedisConnectionException.class);
+	}
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.DecoratedRedisConnection;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisClusterNode;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.RedisStringCommands;
+
+/**
+ * Unit tests for {@link CommandInstrumentation}.
+ *
+ * @author agent
+ */
+class CommandInstrumentationUnitTests {
+
+	HistogramCommandRecorder recorder = new HistogramCommandRecorder();
+	CommandInstrumentation instrumentation = CommandInstrumentation.of(recorder).keyPatterns(KeyPatternResolver.prefix(':'));
+	RedisConnection connectionMock = mock(RedisConnection.class);
+
+	@Test
+	void shouldRecordCommand() {
+
+		when(connectionMock.get(any())).thenReturn(bytes("value"));
+		RedisConnection connection = instrumentation.instrument(connectionMock, "localhost:6379");
+
+		assertThat(connection.get(bytes("user:1"))).isEqualTo(bytes("value"));
+
+		CommandStatistics statistics = recorder.getCommandStatistics().get("GET");
+		assertThat(statistics.getCount()).isOne();
+		assertThat(statistics.getErrorCount()).isZero();
+		assertThat(statistics.getBytesSent()).isEqualTo(6);
+		assertThat(statistics.getBytesReceived()).isEqualTo(5);
+		assertThat(recorder.getNodeStatistics()).containsOnlyKeys("localhost:6379");
+		assertThat(recorder.getKeyPatternStatistics()).containsOnlyKeys("user:*");
+	}
+
+	@Test
+	void shouldRecordFailedCommand() {
+
+		when(connectionMock.get(any())).thenThrow(new InvalidDataAccessApiUsageException("WRONGTYPE"));
+		RedisConnection connection = instrumentation.instrument(connectionMock, "localhost:6379");
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> connection.get(bytes("user:1")));
+
+		assertThat(recorder.getCommandStatistics().get("GET").getErrorCount()).isOne();
+	}
+
+	@Test
+	void shouldRecordCommandsOfCommandInterfaces() {
+
+		RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+		when(connectionMock.stringCommands()).thenReturn(stringCommands);
+		RedisConnection connection = instrumentation.instrument(connectionMock, "localhost:6379");
+
+		connection.stringCommands().mSet(Collections.singletonMap(bytes("k"), bytes("v")));
+
+		verify(stringCommands).mSet(any());
+		assertThat(recorder.getCommandStatistics().get("MSET").getBytesSent()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldRecordNameOfGenericCommand() {
+
+		RedisConnection connection = instrumentation.instrument(connectionMock, "localhost:6379");
+
+		connection.execute("hello", bytes("3"));
+
+		assertThat(recorder.getCommandStatistics()).containsOnlyKeys("HELLO");
+	}
+
+	@Test
+	void shouldRecordClusterNodeArgument() {
+
+		RedisClusterConnection clusterConnection = instrumentation.instrument(mock(RedisClusterConnection.class), "cluster");
+
+		clusterConnection.ping(new RedisClusterNode("10.0.0.1", 7379));
+
+		assertThat(recorder.getCommandStatistics()).containsOnlyKeys("PING");
+		assertThat(recorder.getNodeStatistics()).containsOnlyKeys("10.0.0.1:7379");
+	}
+
+	@Test
+	void shouldRecordPipelinedCommandsWhenPipelineIsClosed() {
+
+		when(connectionMock.isPipelined()).thenReturn(true);
+		RedisConnection connection = instrumentation.instrument(connectionMock, "localhost:6379");
+
+		connection.get(bytes("user:1"));
+		connection.get(bytes("user:2"));
+
+		assertThat(recorder.getCommandStatistics()).isEmpty();
+
+		connection.closePipeline();
+
+		CommandStatistics statistics = recorder.getCommandStatistics().get("GET");
+		assertThat(statistics.getCount()).isEqualTo(2);
+		assertThat(statistics.getErrorCount()).isZero();
+		assertThat(statistics.getBytesSent()).isEqualTo(12);
+		assertThat(statistics.getBytesReceived()).isZero();
+	}
+
+	@Test
+	void shouldRecordPipelinedCommandsOfFailedPipelineAsFailed() {
+
+		when(connectionMock.isPipelined()).thenReturn(true);
+		when(connectionMock.closePipeline()).thenThrow(new RedisPipelineException("WRONGTYPE", Collections.emptyList()));
+		RedisConnection connection = instrumentation.instrument(connectionMock, "localhost:6379");
+
+		connection.get(bytes("user:1"));
+
+		assertThatExceptionOfType(RedisPipelineException.class).isThrownBy(connection::closePipeline);
+
+		assertThat(recorder.getCommandStatistics().get("GET").getErrorCount()).isOne();
+	}
+
+	@Test
+	void shouldRecordQueuedCommandsUponExec() {
+
+		when(connectionMock.isQueueing()).thenReturn(true);
+		RedisConnection connection = instrumentation.instrument(connectionMock, "localhost:6379");
+
+		connection.set(bytes("key"), bytes("value"));
+
+		assertThat(recorder.getCommandStatistics()).isEmpty();
+
+		connection.exec();
+
+		assertThat(recorder.getCommandStatistics()).containsOnlyKeys("SET", "EXEC");
+		assertThat(recorder.getCommandStatistics().get("SET").getBytesSent()).isEqualTo(8);
+	}
+
+	@Test
+	void shouldExposeDelegate() {
+
+		RedisConnection connection = instrumentation.instrument(connectionMock, "localhost:6379");
+
+		assertThat(connection).isInstanceOf(DecoratedRedisConnection.class);
+		assertThat(((DecoratedRedisConnection) connection).getDelegate()).isSameAs(connectionMock);
+
+		connection.close();
+
+		verify(connectionMock).close();
+		assertThat(recorder.getCommandStatistics()).isEmpty();
+	}
+
+	@Test
+	void shouldRecordReactiveCommandsUponCompletion() {
+
+		ReactiveCommands commands = instrumentation.instrument(new StubReactiveCommands(), "localhost:6379");
+
+		Mono<ByteBuffer> get = commands.get(ByteBuffer.wrap(bytes("user:1")));
+
+		assertThat(recorder.getCommandStatistics()).isEmpty();
+
+		get.as(StepVerifier::create).expectNextCount(1).verifyComplete();
+		commands.keys(ByteBuffer.wrap(bytes("*"))).as(StepVerifier::create).expectNextCount(2).verifyComplete();
+
+		assertThat(recorder.getCommandStatistics().get("GET").getBytesReceived()).isEqualTo(5);
+		assertThat(recorder.getCommandStatistics().get("KEYS").getBytesReceived()).isEqualTo(4);
+		assertThat(recorder.getKeyPatternStatistics()).containsOnlyKeys("user:*", "*");
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+
+	public interface ReactiveCommands {
+
+		Mono<ByteBuffer> get(ByteBuffer key);
+
+		Flux<ByteBuffer> keys(ByteBuffer pattern);
+	}
+
+	static class StubReactiveCommands implements ReactiveCommands {
+
+		@Override
+		public Mono<ByteBuffer> get(ByteBuffer key) {
+			return Mono.fromSupplier(() -> ByteBuffer.wrap(bytes("value")));
+		}
+
+		@Override
+		public Flux<ByteBuffer> keys(ByteBuffer pattern) {
+			return Flux.just(ByteBuffer.wrap(bytes("k1")), ByteBuffer.wrap(bytes("k2")));
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.connection.metrics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link HistogramCommandRecorder} and {@link CommandStatistics}.
+ *
+ * @author agent
+ */
+class HistogramCommandRecorderUnitTests {
+
+	HistogramCommandRecorder recorder = new HistogramCommandRecorder();
+
+	@Test
+	void shouldAggregateByCommandNodeAndKeyPattern() {
+
+		recorder.record("GET", "localhost:6379", "user:*", 10, 20, 1000, true);
+		recorder.record("GET", "localhost:6380", "user:*", 10, 0, 3000, false);
+		recorder.record("SET", "localhost:6379", null, 5, 2, 2000, true);
+
+		CommandStatistics get = recorder.getCommandStatistics().get("GET");
+
+		assertThat(get.getName()).isEqualTo("GET");
+		assertThat(get.getCount()).isEqualTo(2);
+		assertThat(get.getErrorCount()).isOne();
+		assertThat(get.getErrorRate()).isEqualTo(0.5);
+		assertThat(get.getBytesSent()).isEqualTo(20);
+		assertThat(get.getBytesReceived()).isEqualTo(20);
+		assertThat(get.getTotalTime()).isEqualTo(Duration.ofNanos(4000));
+		assertThat(get.getMean()).isEqualTo(Duration.ofNanos(2000));
+		assertThat(get.getMax()).isEqualTo(Duration.ofNanos(3000));
+
+		assertThat(recorder.getNodeStatistics().get("localhost:6379").getCount()).isEqualTo(2);
+		assertThat(recorder.getKeyPatternStatistics()).containsOnlyKeys("user:*");
+	}
+
+	@Test
+	void shouldReportPercentiles() {
+
+		for (int i = 1; i <= 100; i++) {
+			recorder.record("GET", "localhost:6379", null, 0, 0, i * 1000L, true);
+		}
+
+		CommandStatistics get = recorder.getCommandStatistics().get("GET");
+
+		assertThat(get.getPercentile(0.5).toNanos()).isBetween(50_000L, 50_000L + 50_000L / 4);
+		assertThat(get.getPercentile(0.99).toNanos()).isBetween(99_000L, 100_000L);
+		assertThat(get.getPercentile(1)).isEqualTo(get.getMax());
+	}
+
+	@Test
+	void shouldReset() {
+
+		recorder.record("GET", "localhost:6379", "user:*", 10, 20, 1000, true);
+		recorder.reset();
+
+		CommandStatistics get = recorder.getCommandStatistics().get("GET");
+
+		assertThat(get.getCount()).isZero();
+		assertThat(get.getMax()).isEqualTo(Duration.ZERO);
+		assertThat(get.getPercentile(0.99)).isEqualTo(Duration.ZERO);
+	}
+
+	@Test
+	void bucketBoundsShouldContainValue() {
+
+		long[] values = { 0, 1, 3, 4, 7, 8, 9, 1000, 123_456_789, Long.MAX_VALUE };
+
+		for (long value : values) {
+
+			int bucket = CommandStatistics.bucketOf(value);
+
+			assertThat(CommandStatistics.upperBoundOf(bucket)).isGreaterThanOrEqualTo(value);
+			if (bucket > 0) {
+				assertThat(CommandStatistics.upperBoundOf(bucket - 1)).isLessThan(value);
+			}
+		}
+
+		assertThat(CommandStatistics.upperBoundOf(CommandStatistics.bucketOf(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+	}
+
+	@Test
+	void prefixKeyPatternResolverShouldResolvePrefix() {
+
+		KeyPatternResolver resolver = KeyPatternResolver.prefix(':');
+		byte[] key = "xuser:1234".getBytes(StandardCharsets.UTF_8);
+
+		assertThat(resolver.resolve(key, 1, key.length - 1)).isEqualTo("user:*");
+		assertThat(resolver.resolve(key, 6, 4)).isEqualTo("*");
+	}
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.lettuce.LettuceConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.metrics.CommandInstrumentation;
+import org.springframework.data.redis.connection.metrics.CommandStatistics;
+import org.springframework.data.redis.connection.metrics.HistogramCommandRecorder;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+
+/**
+ * Unit tests for {@link AsyncRedisTemplate}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class AsyncRedisTemplateUnitTests {
+
+	@Mock LettuceConnectionFactory connectionFactory;
+	@Mock LettuceConnection connection;
+	@Mock RedisConnection commands;
+
+	@Test
+	void shouldIssueCommandAndDeserializeResult() {
+
+		RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+		when(commands.stringCommands()).thenReturn(stringCommands);
+		executeAsyncReturns("bar".getBytes());
+
+		CompletableFuture<String> result = createTemplate().opsForValue().get("foo");
+
+		assertThat(result).isCompletedWithValue("bar");
+		verify(stringCommands).get("foo".getBytes());
+		verify(connection).close();
+	}
+
+	@Test
+	void shouldRecordCommandsOfInstrumentedConnection() {
+
+		HistogramCommandRecorder recorder = new HistogramCommandRecorder();
+		RedisStringCommands stringCommands = mock(RedisStringCommands.class);
+		when(commands.stringCommands()).thenReturn(stringCommands);
+		when(connectionFactory.getConnection())
+				.thenReturn(CommandInstrumentation.of(recorder).instrument(connection, "localhost:6379"));
+		stubExecuteAsync("bar".getBytes());
+
+		CompletableFuture<String> result = createTemplate().opsForValue().get("foo");
+
+		assertThat(result).isCompletedWithValue("bar");
+		verify(stringCommands).get("foo".getBytes());
+
+		CommandStatistics statistics = recorder.getCommandStatistics().get("GET");
+		assertThat(recorder.getCommandStatistics()).containsOnlyKeys("GET");
+		assertThat(statistics.getCount()).isOne();
+		assertThat(statistics.getErrorCount()).isZero();
+		assertThat(statistics.getBytesSent()).isEqualTo(3);
+		assertThat(statistics.getBytesReceived()).isEqualTo(3);
+	}
+
+	@Test
+	void shouldDeserializeStreamRecords() {
+
+		RedisStreamCommands streamCommands = mock(RedisStreamCommands.class);
+		when(commands.streamCommands()).thenReturn(streamCommands);
+		ByteRecord record = StreamRecords.newRecord().in("stream".getBytes()).withId("1-0")
+				.ofBytes(Collections.singletonMap("key".getBytes(), "value".getBytes()));
+		executeAsyncReturns(Collections.singletonList(record));
+
+		CompletableFuture<List<MapRecord<String, String, String>>> result = createTemplate()
+				.<String, String> opsForStream().range("stream", Range.unbounded());
+
+		assertThat(result.join()).hasSize(1).first().satisfies(it -> {
+			assertThat(it.getStream()).isEqualTo("stream");
+			assertThat(it.getId().getValue()).isEqualTo("1-0");
+			assertThat(it.getValue()).containsEntry("key", "value");
+		});
+		verify(streamCommands).xRange(eq("stream".getBytes()), eq(Range.unbounded()), eq(Limit.unlimited()));
+	}
+
+	@Test
+	void shouldRejectBlockingStreamReads() {
+
+		AsyncRedisTemplate<String, String> template = createTemplate();
+
+		assertThatIllegalArgumentException().isThrownBy(() -> template.opsForStream()
+				.read(StreamReadOptions.empty().block(Duration.ofSeconds(1)), StreamOffset.latest("stream")));
+	}
+
+	@Test
+	void shouldRejectNonLettuceConnectionFactory() {
+
+		StringRedisTemplate template = new StringRedisTemplate(mock(RedisConnectionFactory.class));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> new AsyncRedisTemplate<>(template));
+	}
+
+	@Test
+	void shouldRejectConnectionFactoryWithoutSharedConnection() {
+
+		StringRedisTemplate template = new StringRedisTemplate(connectionFactory);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> new AsyncRedisTemplate<>(template));
+	}
+
+	private void executeAsyncReturns(Object result) {
+
+		when(connectionFactory.getConnection()).thenReturn(connection);
+		stubExecuteAsync(result);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void stubExecuteAsync(Object result) {
+
+		when(connection.executeAsync(any())).thenAnswer(invocation -> {
+
+			Function<RedisConnection, Object> command = invocation.getArgument(0);
+			command.apply(commands);
+			return CompletableFuture.completedFuture(result);
+		});
+	}
+
+	private AsyncRedisTemplate<String, String> createTemplate() {
+
+		when(connectionFactory.getShareNativeConnection()).thenReturn(true);
+		return new AsyncRedisTemplate<>(new StringRedisTemplate(connectionFactory));
+	}
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisHashCommands;
+import org.springframework.data.redis.connection.RedisListCommands;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.RedisStringCommands;
+
+/**
+ * Unit tests for {@link DefaultPipelineSession}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class DefaultPipelineSessionUnitTests {
+
+	@Mock RedisConnection connection;
+	@Mock RedisStringCommands stringCommands;
+
+	private DefaultPipelineSession<String, String> session;
+
+	@BeforeEach
+	void setUp() {
+
+		when(connection.stringCommands()).thenReturn(stringCommands);
+		session = new DefaultPipelineSession<>(new StringRedisTemplate(), connection);
+	}
+
+	@Test
+	void shouldCompleteFuturesWithDeserializedResults() {
+
+		RedisListCommands listCommands = mock(RedisListCommands.class);
+		RedisHashCommands hashCommands = mock(RedisHashCommands.class);
+		when(connection.listCommands()).thenReturn(listCommands);
+		when(connection.hashCommands()).thenReturn(hashCommands);
+
+		CompletableFuture<String> get = session.opsForValue().get("foo");
+		CompletableFuture<Void> trim = session.opsForList().trim("list", 0, 1);
+		CompletableFuture<Long> increment = session.opsForValue().increment("counter");
+		CompletableFuture<Map<String, String>> entries = session.<String, String> opsForHash().entries("hash");
+
+		verify(stringCommands).get("foo".getBytes());
+		verify(listCommands).lTrim("list".getBytes(), 0, 1);
+
+		assertThat(get).isNotDone();
+
+		when(connection.closePipeline()).thenReturn(
+				Arrays.asList("bar".getBytes(), 2L, Collections.singletonMap("key".getBytes(), "value".getBytes())));
+
+		session.close();
+
+		assertThat(get).isCompletedWithValue("bar");
+		assertThat(trim).isCompletedWithValue(null);
+		assertThat(increment).isCompletedWithValue(2L);
+		assertThat(entries).isCompletedWithValue(Collections.singletonMap("key", "value"));
+	}
+
+	@Test
+	void shouldCompleteNullResultsWithNull() {
+
+		CompletableFuture<String> get = session.opsForValue().get("foo");
+
+		when(connection.closePipeline()).thenReturn(Collections.singletonList(null));
+
+		session.close();
+
+		assertThat(get).isCompletedWithValue(null);
+	}
+
+	@Test
+	void shouldCompleteFailedCommandsExceptionally() {
+
+		InvalidDataAccessApiUsageException error = new InvalidDataAccessApiUsageException("WRONGTYPE");
+
+		CompletableFuture<Long> increment = session.opsForValue().increment("foo");
+		CompletableFuture<String> get = session.opsForValue().get("bar");
+
+		when(connection.closePipeline())
+				.thenThrow(new RedisPipelineException(error, Arrays.asList(error, "baz".getBytes())));
+
+		session.close();
+
+		assertThat(increment).isCompletedExceptionally();
+		assertThatThrownBy(increment::join).hasCause(error);
+		assertThat(get).isCompletedWithValue("baz");
+	}
+
+	@Test
+	void shouldFailAllFuturesIfResultsCannotBeAssociated() {
+
+		CompletableFuture<String> get = session.opsForValue().get("foo");
+
+		when(connection.closePipeline()).thenReturn(Collections.emptyList());
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class).isThrownBy(session::close);
+		assertThat(get).isCompletedExceptionally();
+	}
+
+	@Test
+	void syncShouldCompleteFuturesAndReopenPipeline() {
+
+		CompletableFuture<String> get = session.opsForValue().get("foo");
+
+		when(connection.closePipeline()).thenReturn(Collections.singletonList("bar".getBytes()));
+
+		session.sync();
+
+		assertThat(get).isCompletedWithValue("bar");
+		verify(connection).openPipeline();
+	}
+
+	@Test
+	void discardShouldFailPendingFutures() {
+
+		CompletableFuture<String> get = session.opsForValue().get("foo");
+		IllegalStateException cause = new IllegalStateException();
+
+		session.discard(cause);
+
+		assertThatThrownBy(get::join).hasCause(cause);
+	}
+}
@@ -23,6 +23,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -295,6 +296,55 @@ public class RedisTemplateIntegrationTests<K, V> {
 				Arrays.asList(listValue, listValue2));
 	}
 
+	@SuppressWarnings("rawtypes")
+	@ParameterizedRedisTest
+	void testExecutePipelinedStreamingResults() {
+
+		K key1 = keyFactory.instance();
+		V value1 = valueFactory.instance();
+		K listKey = keyFactory.instance();
+		V listValue = valueFactory.instance();
+		V listValue2 = valueFactory.instance();
+		List<Object> results = new ArrayList<>();
+
+		redisTemplate.executePipelined((RedisCallback) connection -> {
+			byte[] rawKey = serialize(key1, redisTemplate.getKeySerializer());
+			byte[] rawListKey = serialize(listKey, redisTemplate.getKeySerializer());
+			connection.set(rawKey, serialize(value1, redisTemplate.getValueSerializer()));
+			connection.get(rawKey);
+			connection.rPush(rawListKey, serialize(listValue, redisTemplate.getValueSerializer()));
+			connection.rPush(rawListKey, serialize(listValue2, redisTemplate.getValueSerializer()));
+			connection.lRange(rawListKey, 0, -1);
+			return null;
+		}, 2, results::add);
+
+		assertThat(results).usingElementComparator(CollectionAwareComparator.INSTANCE).containsExactly(true, value1, 1L, 2L,
+				Arrays.asList(listValue, listValue2));
+	}
+
+	@ParameterizedRedisTest
+	void executeInPipelineShouldCompleteTypedFutures() {
+
+		K key = keyFactory.instance();
+		V value = valueFactory.instance();
+		K listKey = keyFactory.instance();
+		V listValue = valueFactory.instance();
+
+		List<CompletableFuture<?>> futures = redisTemplate.executeInPipeline(session -> {
+
+			session.opsForValue().set(key, value);
+			session.opsForList().rightPush(listKey, listValue);
+
+			return Arrays.asList(session.opsForValue().get(key), session.opsForList().range(listKey, 0, -1),
+					session.hasKey(key));
+		});
+
+		assertThat(futures.get(0).join()).isEqualTo(value);
+		assertThat((List<?>) futures.get(1).join()).usingElementComparator(CollectionAwareComparator.INSTANCE)
+				.containsExactly(listValue);
+		assertThat(futures.get(2).join()).isEqualTo(true);
+	}
+
 	@SuppressWarnings("rawtypes")
 	@ParameterizedRedisTest
 	void testExecutePipelinedCustomSerializer() {
@@ -18,7 +18,15 @@ package org.springframework.data.redis.core;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import jdk.jfr.consumer.RecordedEvent;
+
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,11 +35,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.instrument.classloading.ShadowingClassLoader;
+import org.springframework.data.redis.test.util.VirtualThreads;
 import org.springframework.lang.Nullable;
+import org.springframework.scripting.ScriptSource;
 import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
@@ -91,6 +104,42 @@ class RedisTemplateUnitTests {
 		assertThat(deserialized.getClass().getClassLoader()).isEqualTo((ClassLoader) scl);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void executePipelinedShouldStreamDeserializedResults() {
+
+		template.setValueSerializer(StringRedisSerializer.UTF_8);
+		List<Object> results = new ArrayList<>();
+
+		when(redisConnectionMock.supportsStreamingPipeline()).thenReturn(true);
+		doAnswer(invocation -> {
+
+			Consumer<Object> consumer = invocation.getArgument(0);
+			consumer.accept("foo".getBytes());
+			consumer.accept(1L);
+			return null;
+		}).when(redisConnectionMock).openPipeline(any(Consumer.class), eq(100));
+
+		template.executePipelined((RedisCallback<Object>) connection -> null, 100, results::add);
+
+		assertThat(results).containsExactly("foo", 1L);
+		verify(redisConnectionMock).closePipeline();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void executePipelinedShouldRejectConnectionWithoutStreamingPipelineSupport() {
+
+		when(redisConnectionMock.supportsStreamingPipeline()).thenReturn(false);
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> template.executePipelined((RedisCallback<Object>) connection -> null, 100, it -> {}));
+
+		verify(redisConnectionMock, never()).openPipeline();
+		verify(redisConnectionMock, never()).openPipeline(any(Consumer.class), anyInt());
+		verify(redisConnectionMock, never()).closePipeline();
+	}
+
 	@Test // DATAREDIS-531
 	void executeWithStickyConnectionShouldNotCloseConnectionWhenDone() {
 
@@ -156,6 +205,38 @@ class RedisTemplateUnitTests {
 		verify(redisConnectionMock, times(3)).close();
 	}
 
+	@Test
+	void executeScriptShouldNotPinVirtualThreads() throws Exception {
+
+		DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+		script.setResultType(Long.class);
+		script.setScriptSource(new ScriptSource() {
+
+			@Override
+			public String getScriptAsString() {
+				return "return 1";
+			}
+
+			@Override
+			public boolean isModified() {
+
+				// simulate a slow modification check, e.g. of a script file
+				LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5));
+				return false;
+			}
+
+			@Override
+			public String suggestedClassName() {
+				return null;
+			}
+		});
+
+		List<RecordedEvent> pinned = VirtualThreads.runDetectingPinning(16,
+				() -> template.execute(script, Collections.singletonList("key")));
+
+		assertThat(pinned).isEmpty();
+	}
+
 	private static class SomeArbitrarySerializableObject implements Serializable {
 		private static final long serialVersionUID = -5973659324040506423L;
 	}
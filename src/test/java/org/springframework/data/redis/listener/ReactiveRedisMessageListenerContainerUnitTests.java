@@ -20,6 +20,9 @@ import static org.mockito.Mockito.*;
 import static org.springframework.data.redis.util.ByteUtils.*;
 
 import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.BufferOverflowStrategy;
 import reactor.core.publisher.DirectProcessor;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -27,7 +30,11 @@ import reactor.core.publisher.MonoProcessor;
 import reactor.test.StepVerifier;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,7 +43,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.reactivestreams.Subscription;
 
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.redis.connection.ReactivePubSubCommands;
 import org.springframework.data.redis.connection.ReactiveRedisConnection;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
@@ -44,6 +53,8 @@ import org.springframework.data.redis.connection.ReactiveSubscription;
 import org.springframework.data.redis.connection.ReactiveSubscription.ChannelMessage;
 import org.springframework.data.redis.connection.ReactiveSubscription.Message;
 import org.springframework.data.redis.connection.ReactiveSubscription.PatternMessage;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 /**
  * Unit tests for {@link ReactiveRedisMessageListenerContainer}.
@@ -262,6 +273,128 @@ class ReactiveRedisMessageListenerContainerUnitTests {
 		assertThat(processor.hasDownstreams()).isFalse();
 	}
 
+	@Test
+	void shouldShareSubscriptionAndDecodedMessages() {
+
+		DirectProcessor<Message<ByteBuffer, ByteBuffer>> processor = DirectProcessor.create();
+
+		when(subscriptionMock.receive()).thenReturn(processor);
+		when(subscriptionMock.cancel()).thenReturn(Mono.empty());
+		container = createContainer();
+
+		List<Message<String, String>> first = new ArrayList<>();
+		List<Message<String, String>> second = new ArrayList<>();
+
+		Disposable firstSubscription = container.receiveShared(ChannelTopic.of("foo")).subscribe(first::add);
+		Disposable secondSubscription = container.receiveShared(ChannelTopic.of("foo")).subscribe(second::add);
+
+		processor.onNext(createChannelMessage("foo", "message"));
+
+		verify(commandsMock).createSubscription(any());
+		verify(subscriptionMock).subscribe(getByteBuffer("foo"));
+		assertThat(first).hasSize(1);
+		assertThat(second).hasSize(1);
+		assertThat(first.get(0)).isSameAs(second.get(0));
+		assertThat(first.get(0).getMessage()).isEqualTo("message");
+
+		firstSubscription.dispose();
+		secondSubscription.dispose();
+	}
+
+	@Test
+	void shouldNotShareSubscriptionAcrossSerializers() {
+
+		when(subscriptionMock.receive()).thenReturn(Flux.never());
+		when(subscriptionMock.cancel()).thenReturn(Mono.empty());
+		container = createContainer();
+
+		SerializationPair<String> serializer = SerializationPair.fromSerializer(RedisSerializer.string());
+
+		Disposable first = container.receiveShared(ChannelTopic.of("foo")).subscribe();
+		Disposable second = container
+				.receiveShared(Collections.singleton(ChannelTopic.of("foo")), serializer, serializer).subscribe();
+
+		verify(commandsMock, times(2)).createSubscription(any());
+
+		first.dispose();
+		second.dispose();
+	}
+
+	@Test
+	void shouldCancelSharedSubscriptionAfterLastSubscriber() {
+
+		when(subscriptionMock.receive()).thenReturn(DirectProcessor.create());
+		when(subscriptionMock.cancel()).thenReturn(Mono.empty());
+		container = createContainer();
+
+		Flux<Message<String, String>> messageStream = container.receiveShared(ChannelTopic.of("foo"));
+
+		Disposable first = messageStream.subscribe();
+		Disposable second = messageStream.subscribe();
+
+		first.dispose();
+
+		verify(subscriptionMock, never()).cancel();
+		assertThat(container.getActiveSubscriptions()).hasSize(1);
+
+		second.dispose();
+
+		verify(subscriptionMock).cancel();
+		assertThat(container.getActiveSubscriptions()).isEmpty();
+
+		messageStream.subscribe().dispose();
+
+		verify(commandsMock, times(2)).createSubscription(any());
+	}
+
+	@Test
+	void shouldApplyOverflowStrategyPerSubscriber() {
+
+		DirectProcessor<Message<ByteBuffer, ByteBuffer>> processor = DirectProcessor.create();
+
+		when(subscriptionMock.receive()).thenReturn(processor);
+		when(subscriptionMock.cancel()).thenReturn(Mono.empty());
+		container = createContainer();
+
+		SerializationPair<String> serializer = SerializationPair.fromSerializer(RedisSerializer.string());
+		List<ChannelTopic> topics = Collections.singletonList(ChannelTopic.of("foo"));
+		List<Message<String, String>> received = new ArrayList<>();
+		AtomicReference<Throwable> error = new AtomicReference<>();
+
+		Disposable fast = container.receiveShared(topics, serializer, serializer).subscribe(received::add);
+		container.receiveShared(topics, serializer, serializer, 1, BufferOverflowStrategy.ERROR)
+				.subscribe(new BaseSubscriber<Message<String, String>>() {
+
+					@Override
+					protected void hookOnSubscribe(Subscription subscription) {
+						// no demand
+					}
+
+					@Override
+					protected void hookOnError(Throwable throwable) {
+						error.set(throwable);
+					}
+				});
+
+		processor.onNext(createChannelMessage("foo", "1"));
+		processor.onNext(createChannelMessage("foo", "2"));
+		processor.onNext(createChannelMessage("foo", "3"));
+
+		assertThat(received).hasSize(3);
+		assertThat(Exceptions.isOverflow(error.get())).isTrue();
+		verify(subscriptionMock, never()).cancel();
+
+		fast.dispose();
+	}
+
+	@Test
+	void receiveSharedShouldRejectEmptyTopics() {
+
+		container = createContainer();
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class).isThrownBy(() -> container.receiveShared());
+	}
+
 	private ReactiveRedisMessageListenerContainer createContainer() {
 		return new ReactiveRedisMessageListenerContainer(connectionFactoryMock);
 	}
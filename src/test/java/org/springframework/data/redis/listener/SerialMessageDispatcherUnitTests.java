@@ -0,0 +1,139 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.listener;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+/**
+ * Unit tests for {@link SerialMessageDispatcher}.
+ *
+ * @author agent
+ */
+class SerialMessageDispatcherUnitTests {
+
+	private static final byte[] CHANNEL = "channel".getBytes(StandardCharsets.UTF_8);
+
+	private final Queue<Runnable> tasks = new ArrayDeque<>();
+	private final List<String> delivered = new ArrayList<>();
+	private final List<List<String>> batches = new ArrayList<>();
+
+	private final SerialMessageDispatcher.DeliveryCallback callback = new SerialMessageDispatcher.DeliveryCallback() {
+
+		@Override
+		public void onMessage(MessageListener listener, Message message, byte[] source) {
+			delivered.add(body(message));
+		}
+
+		@Override
+		public void onMessages(BatchMessageListener listener, List<Message> messages) {
+			batches.add(messages.stream().map(SerialMessageDispatcherUnitTests::body).toList());
+		}
+	};
+
+	@Test
+	void shouldDeliverMessagesInOrderUsingSingleTask() {
+
+		SerialMessageDispatcher dispatcher = new SerialMessageDispatcher(tasks::add, 64, 100, callback);
+		MessageListener listener = (message, pattern) -> {};
+
+		dispatcher.dispatch(listener, listener, message("1"), CHANNEL);
+		dispatcher.dispatch(listener, listener, message("2"), CHANNEL);
+		dispatcher.dispatch(listener, listener, message("3"), CHANNEL);
+
+		assertThat(tasks).hasSize(1);
+		assertThat(dispatcher.getPendingMessages()).isEqualTo(3);
+
+		runTasks();
+
+		assertThat(delivered).containsExactly("1", "2", "3");
+		assertThat(dispatcher.getPendingMessages()).isZero();
+	}
+
+	@Test
+	void shouldDeliverMicroBatchesToBatchListener() {
+
+		SerialMessageDispatcher dispatcher = new SerialMessageDispatcher(tasks::add, 2, 100, callback);
+		BatchMessageListener listener = messages -> {};
+
+		dispatcher.dispatch(listener, listener, message("1"), CHANNEL);
+		dispatcher.dispatch(listener, listener, message("2"), CHANNEL);
+		dispatcher.dispatch(listener, listener, message("3"), CHANNEL);
+
+		runTasks();
+
+		assertThat(batches).containsExactly(List.of("1", "2"), List.of("3"));
+		assertThat(delivered).isEmpty();
+	}
+
+	@Test
+	void shouldDispatchQueuesIndependently() {
+
+		SerialMessageDispatcher dispatcher = new SerialMessageDispatcher(tasks::add, 64, 100, callback);
+		MessageListener first = (message, pattern) -> {};
+		MessageListener second = (message, pattern) -> {};
+
+		dispatcher.dispatch(first, first, message("1"), CHANNEL);
+		dispatcher.dispatch(second, second, message("2"), CHANNEL);
+
+		assertThat(tasks).hasSize(2);
+	}
+
+	@Test
+	void shouldDropMessagesExceedingCapacity() {
+
+		SerialMessageDispatcher dispatcher = new SerialMessageDispatcher(tasks::add, 64, 2, callback);
+		MessageListener listener = (message, pattern) -> {};
+
+		assertThat(dispatcher.dispatch(listener, listener, message("1"), CHANNEL)).isTrue();
+		assertThat(dispatcher.dispatch(listener, listener, message("2"), CHANNEL)).isTrue();
+		assertThat(dispatcher.dispatch(listener, listener, message("3"), CHANNEL)).isFalse();
+
+		assertThat(dispatcher.getPendingMessages()).isEqualTo(2);
+		assertThat(dispatcher.getDroppedMessages()).isOne();
+
+		runTasks();
+
+		assertThat(delivered).containsExactly("1", "2");
+	}
+
+	private void runTasks() {
+
+		Runnable task;
+		while ((task = tasks.poll()) != null) {
+			task.run();
+		}
+	}
+
+	private static Message message(String body) {
+		return new DefaultMessage(CHANNEL, body.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static String body(Message message) {
+		return new String(message.getBody(), StandardCharsets.UTF_8);
+	}
+}
@@ -18,12 +18,16 @@ package org.springframework.data.redis.listener.adapter;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.redis.connection.DefaultMessage;
 import org.springframework.data.redis.connection.Message;
 import org.springframework.data.redis.connection.MessageListener;
@@ -257,6 +261,47 @@ class MessageListenerUnitTests {
 		verify(listener, times(1)).handle(any(Pojo.class), anyString());
 	}
 
+	@Test
+	void shouldWrapExceptionThrownByListenerMethod() {
+
+		IllegalStateException failure = new IllegalStateException("Boom!");
+		doThrow(failure).when(target).handleMessage(PAYLOAD);
+
+		List<Throwable> errors = new ArrayList<>();
+		MessageListenerAdapter adapter = new MessageListenerAdapter(target) {
+			@Override
+			protected void handleListenerException(Throwable ex) {
+				errors.add(ex);
+			}
+		};
+		adapter.afterPropertiesSet();
+
+		adapter.onMessage(STRING_MSG, RAW_CHANNEL);
+
+		assertThat(errors).hasSize(1);
+		assertThat(errors.get(0)).isInstanceOf(RedisListenerExecutionFailedException.class).hasCause(failure);
+	}
+
+	@Test
+	void shouldPropagateDataAccessExceptionThrownByListenerMethod() {
+
+		InvalidDataAccessApiUsageException failure = new InvalidDataAccessApiUsageException("Boom!");
+		doThrow(failure).when(target).handleMessage(PAYLOAD);
+
+		List<Throwable> errors = new ArrayList<>();
+		MessageListenerAdapter adapter = new MessageListenerAdapter(target) {
+			@Override
+			protected void handleListenerException(Throwable ex) {
+				errors.add(ex);
+			}
+		};
+		adapter.afterPropertiesSet();
+
+		adapter.onMessage(STRING_MSG, RAW_CHANNEL);
+
+		assertThat(errors).containsExactly(failure);
+	}
+
 	class SampleListener implements MessageListener {
 
 		int count;
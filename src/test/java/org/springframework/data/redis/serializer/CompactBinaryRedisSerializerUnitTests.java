@@ -0,0 +1,323 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.serializer;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link CompactBinaryRedisSerializer}.
+ *
+ * @author agent
+ */
+class CompactBinaryRedisSerializerUnitTests {
+
+	@Test
+	void shouldRoundtripRecord() {
+
+		CompactBinaryRedisSerializer<AllTypes> serializer = new CompactBinaryRedisSerializer<>(AllTypes.class);
+
+		AllTypes source = new AllTypes(true, (byte) -3, (short) 1000, 'ü', -42, Long.MIN_VALUE, 1.5f, Math.PI, 7, "Walter",
+				new byte[] { 1, 2, 3 }, Color.GREEN, new Address("Albuquerque", 87101));
+
+		AllTypes result = serializer.deserialize(serializer.serialize(source));
+
+		assertThat(result).usingRecursiveComparison().isEqualTo(source);
+	}
+
+	@Test
+	void shouldRoundtripRecordWithDefaults() {
+
+		CompactBinaryRedisSerializer<AllTypes> serializer = new CompactBinaryRedisSerializer<>(AllTypes.class);
+
+		AllTypes source = new AllTypes(false, (byte) 0, (short) 0, '\0', 0, 0, 0, 0, null, null, null, null, null);
+
+		byte[] bytes = serializer.serialize(source);
+
+		assertThat(serializer.deserialize(bytes)).usingRecursiveComparison().isEqualTo(source);
+	}
+
+	@Test
+	void shouldRoundtripBeanWithInheritanceAndCollections() {
+
+		CompactBinaryRedisSerializer<Employee> serializer = new CompactBinaryRedisSerializer<>(Employee.class);
+
+		Employee source = new Employee();
+		source.name = "Jesse";
+		source.age = 25;
+		source.active = true;
+		source.salary = 1234.5;
+		source.department = "Lab";
+		source.nicknames = Arrays.asList("Cap'n Cook", "Jesse");
+		source.tags = new LinkedHashSet<>(Arrays.asList("b", "a"));
+		source.addresses = new LinkedHashMap<>();
+		source.addresses.put("home", new Address("Albuquerque", 87101));
+		source.addresses.put("work", new Address("Albuquerque", 87102));
+		source.manager = new Employee();
+		source.manager.name = "Walter";
+
+		Employee result = serializer.deserialize(serializer.serialize(source));
+
+		assertThat(result).usingRecursiveComparison().isEqualTo(source);
+		assertThat(result.tags).containsExactly("b", "a");
+	}
+
+	@Test
+	void shouldWriteMoreCompactThanJson() {
+
+		CompactBinaryRedisSerializer<Address> serializer = new CompactBinaryRedisSerializer<>(Address.class);
+		Address address = new Address("Albuquerque", 87101);
+
+		assertThat(serializer.serialize(address)).hasSizeLessThan(new Jackson2JsonRedisSerializer<>(Address.class)
+				.serialize(address).length);
+	}
+
+	@Test
+	void shouldHandleNullAndEmpty() {
+
+		CompactBinaryRedisSerializer<Address> serializer = new CompactBinaryRedisSerializer<>(Address.class);
+
+		assertThat(serializer.serialize(null)).isEmpty();
+		assertThat(serializer.deserialize(null)).isNull();
+		assertThat(serializer.deserialize(new byte[0])).isNull();
+	}
+
+	@Test
+	void shouldWriteToOutputStreamAndReadFromByteBufferSlice() {
+
+		CompactBinaryRedisSerializer<Address> serializer = new CompactBinaryRedisSerializer<>(Address.class);
+		Address address = new Address("Albuquerque", 87101);
+
+		ByteArrayOutputStream target = new ByteArrayOutputStream();
+		target.write(42);
+		serializer.serializeTo(address, target);
+
+		ByteBuffer buffer = ByteBuffer.wrap(target.toByteArray());
+		buffer.position(1);
+
+		assertThat(serializer.deserializeFrom(buffer)).isEqualTo(address);
+		assertThat(buffer.position()).isOne();
+	}
+
+	@Test
+	void shouldReadDataWrittenBeforePropertyWasAdded() {
+
+		byte[] bytes = new CompactBinaryRedisSerializer<>(PersonV1.class).serialize(new PersonV1("Walter", 50));
+
+		PersonV2 result = new CompactBinaryRedisSerializer<>(PersonV2.class).deserialize(bytes);
+
+		assertThat(result).isEqualTo(new PersonV2("Walter", 50, null));
+	}
+
+	@Test
+	void shouldSkipPropertiesUnknownToReader() {
+
+		byte[] bytes = new CompactBinaryRedisSerializer<>(PersonV2.class)
+				.serialize(new PersonV2("Walter", 50, new Address("Albuquerque", 87101)));
+
+		PersonV3 result = new CompactBinaryRedisSerializer<>(PersonV3.class).deserialize(bytes);
+
+		assertThat(result).isEqualTo(new PersonV3("Walter", null));
+	}
+
+	@Test
+	void shouldReadWidenedNumericProperty() {
+
+		byte[] bytes = new CompactBinaryRedisSerializer<>(PersonV1.class).serialize(new PersonV1("Walter", -50));
+
+		PersonV4 result = new CompactBinaryRedisSerializer<>(PersonV4.class).deserialize(bytes);
+
+		assertThat(result).isEqualTo(new PersonV4("Walter", -50L));
+	}
+
+	@Test
+	void shouldReadUnknownEnumConstantAsNull() {
+
+		byte[] bytes = new CompactBinaryRedisSerializer<>(Paint.class).serialize(new Paint("blue"));
+
+		assertThat(new CompactBinaryRedisSerializer<>(Car.class).deserialize(bytes)).isEqualTo(new Car(null));
+	}
+
+	@Test
+	void shouldRejectPartiallyAnnotatedType() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new CompactBinaryRedisSerializer<>(PartiallyAnnotated.class));
+	}
+
+	@Test
+	void shouldRejectPojoWithoutFieldNumbers() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new CompactBinaryRedisSerializer<>(Unannotated.class));
+	}
+
+	@Test
+	void shouldReadDataWrittenBeforeSuperclassPropertyWasAdded() {
+
+		ContractorV1 source = new ContractorV1();
+		source.name = "Saul";
+		source.company = "JMM";
+
+		byte[] bytes = new CompactBinaryRedisSerializer<>(ContractorV1.class).serialize(source);
+
+		ContractorV2 result = new CompactBinaryRedisSerializer<>(ContractorV2.class).deserialize(bytes);
+
+		assertThat(result.name).isEqualTo("Saul");
+		assertThat(result.company).isEqualTo("JMM");
+		assertThat(result.email).isNull();
+	}
+
+	@Test
+	void shouldRejectDuplicateFieldNumbers() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new CompactBinaryRedisSerializer<>(DuplicateNumbers.class));
+	}
+
+	@Test
+	void shouldRejectUnsupportedPropertyType() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new CompactBinaryRedisSerializer<>(Unsupported.class));
+	}
+
+	@Test
+	void shouldRejectNullCollectionElements() {
+
+		CompactBinaryRedisSerializer<Employee> serializer = new CompactBinaryRedisSerializer<>(Employee.class);
+
+		Employee source = new Employee();
+		source.nicknames = Collections.singletonList(null);
+
+		assertThatExceptionOfType(SerializationException.class).isThrownBy(() -> serializer.serialize(source));
+	}
+
+	@Test
+	void shouldFailOnMalformedInput() {
+
+		CompactBinaryRedisSerializer<Address> serializer = new CompactBinaryRedisSerializer<>(Address.class);
+		byte[] bytes = serializer.serialize(new Address("Albuquerque", 87101));
+
+		assertThatExceptionOfType(SerializationException.class)
+				.isThrownBy(() -> serializer.deserialize(Arrays.copyOf(bytes, bytes.length - 3)));
+	}
+
+	enum Color {
+		RED, GREEN
+	}
+
+	record Address(String city, int zip) {
+	}
+
+	record AllTypes(boolean bool, byte b, short s, char c, int i, long l, float f, double d, Integer boxed, String string,
+			byte[] bytes, Color color, Address address) {
+	}
+
+	record PersonV1(@BinaryField(1) String name, @BinaryField(2) int age) {
+	}
+
+	record PersonV2(@BinaryField(1) String name, @BinaryField(2) int age, @BinaryField(3) Address address) {
+	}
+
+	record PersonV3(@BinaryField(1) String name, @BinaryField(3) String nickname) {
+	}
+
+	record PersonV4(@BinaryField(1) String name, @BinaryField(2) Long age) {
+	}
+
+	record Paint(String color) {
+	}
+
+	record Car(Color color) {
+	}
+
+	record PartiallyAnnotated(@BinaryField(1) String name, int age) {
+	}
+
+	record DuplicateNumbers(@BinaryField(1) String name, @BinaryField(1) int age) {
+	}
+
+	record Unsupported(Object value) {
+	}
+
+	static class Unannotated {
+
+		String name;
+		int age;
+	}
+
+	static class PartyV1 {
+
+		@BinaryField(1) String name;
+	}
+
+	static class ContractorV1 extends PartyV1 {
+
+		@BinaryField(2) String company;
+	}
+
+	static class PartyV2 {
+
+		@BinaryField(3) String email;
+		@BinaryField(1) String name;
+	}
+
+	static class ContractorV2 extends PartyV2 {
+
+		@BinaryField(2) String company;
+	}
+
+	static class Person {
+
+		@BinaryField(1) String name;
+		@BinaryField(2) int age;
+		@BinaryField(3) boolean active;
+		transient String ignored = "ignored";
+	}
+
+	static class Employee extends Person {
+
+		@BinaryField(4) double salary;
+		@BinaryField(5) String department;
+		@BinaryField(6) List<String> nicknames;
+		@BinaryField(7) Set<String> tags;
+		@BinaryField(8) Map<String, Address> addresses;
+		@BinaryField(9) Employee manager;
+
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof Employee)) {
+				return false;
+			}
+			Employee that = (Employee) o;
+			return Objects.equals(name, that.name) && age == that.age && Objects.equals(department, that.department);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(name, age, department);
+		}
+	}
+}
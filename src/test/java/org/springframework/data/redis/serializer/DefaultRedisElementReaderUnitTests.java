@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
@@ -54,4 +55,17 @@ class DefaultRedisElementReaderUnitTests {
 
 		assertThat(result).isEqualTo(input);
 	}
+
+	@Test
+	void shouldDecodeByteBufferSliceUsingBufferAwareSerializer() {
+
+		ByteBuffer buffer = ByteBuffer.wrap("xx{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8));
+		buffer.position(2);
+
+		DefaultRedisElementReader<Object> reader = new DefaultRedisElementReader<>(
+				new Jackson2JsonRedisSerializer<>(Object.class));
+
+		assertThat(reader.read(buffer)).isEqualTo(Collections.singletonMap("key", "value"));
+		assertThat(buffer.position()).isEqualTo(2);
+	}
 }
@@ -19,9 +19,12 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.data.redis.util.ByteUtils;
+
 /**
  * Unit tests for {@link DefaultRedisElementWriter}.
  *
@@ -72,4 +75,15 @@ class DefaultRedisElementWriterUnitTests {
 
 		assertThatIllegalStateException().isThrownBy(() -> writer.write(new Object()));
 	}
+
+	@Test
+	void shouldSerializeUsingBufferAwareSerializer() {
+
+		Jackson2JsonRedisSerializer<Object> serializer = new Jackson2JsonRedisSerializer<>(Object.class);
+		DefaultRedisElementWriter<Object> writer = new DefaultRedisElementWriter<>(serializer);
+
+		ByteBuffer result = writer.write(Collections.singletonMap("key", "value"));
+
+		assertThat(ByteUtils.getBytes(result)).isEqualTo("{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8));
+	}
 }
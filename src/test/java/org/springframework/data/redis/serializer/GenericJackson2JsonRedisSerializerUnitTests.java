@@ -22,7 +22,13 @@ import static org.springframework.util.ObjectUtils.*;
 
 import lombok.Data;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -36,6 +42,8 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectMapper.DefaultTyping;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.jsontype.TypeResolverBuilder;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 
@@ -113,7 +121,9 @@ class GenericJackson2JsonRedisSerializerUnitTests {
 	void serializeShouldThrowSerializationExceptionProcessingError() throws JsonProcessingException {
 
 		ObjectMapper objectMapperMock = mock(ObjectMapper.class);
-		when(objectMapperMock.writeValueAsBytes(any())).thenThrow(new JsonGenerationException("nightwielder"));
+		ObjectWriter objectWriterMock = mock(ObjectWriter.class);
+		when(objectMapperMock.writerFor(Mockito.any(Class.class))).thenReturn(objectWriterMock);
+		when(objectWriterMock.writeValueAsBytes(any())).thenThrow(new JsonGenerationException("nightwielder"));
 
 		assertThatExceptionOfType(SerializationException.class)
 				.isThrownBy(() -> new GenericJackson2JsonRedisSerializer(objectMapperMock).serialize(SIMPLE_OBJECT));
@@ -123,13 +133,85 @@ class GenericJackson2JsonRedisSerializerUnitTests {
 	void deserializeShouldThrowSerializationExceptionProcessingError() throws IOException {
 
 		ObjectMapper objectMapperMock = mock(ObjectMapper.class);
-		when(objectMapperMock.readValue(Mockito.any(byte[].class), Mockito.any(Class.class)))
-				.thenThrow(new JsonMappingException("conflux"));
+		ObjectReader objectReaderMock = mock(ObjectReader.class);
+		when(objectMapperMock.readerFor(Mockito.any(Class.class))).thenReturn(objectReaderMock);
+		when(objectReaderMock.readValue(Mockito.any(byte[].class))).thenThrow(new JsonMappingException("conflux"));
 
 		assertThatExceptionOfType(SerializationException.class)
 				.isThrownBy(() -> new GenericJackson2JsonRedisSerializer(objectMapperMock).deserialize(new byte[] { 1 }));
 	}
 
+	@Test
+	void shouldRestoreComplexObjectUsingOutputStreamAndByteBuffer() {
+
+		GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+		ByteArrayOutputStream target = new ByteArrayOutputStream();
+
+		serializer.serializeTo(COMPLEX_OBJECT, target);
+
+		assertThat(target.toByteArray()).isEqualTo(serializer.serialize(COMPLEX_OBJECT));
+		assertThat(serializer.deserializeFrom(ByteBuffer.wrap(target.toByteArray()))).isEqualTo(COMPLEX_OBJECT);
+	}
+
+	@Test
+	void shouldDeserializeFromDirectByteBuffer() {
+
+		GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+		byte[] bytes = serializer.serialize(SIMPLE_OBJECT);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+		assertThat(serializer.deserializeFrom(buffer, SimpleObject.class)).isEqualTo(SIMPLE_OBJECT);
+		assertThat(buffer.remaining()).isEqualTo(bytes.length);
+	}
+
+	@Test
+	void deserializeFromShouldReturnNullForEmptyByteBuffer() {
+		assertThat(new GenericJackson2JsonRedisSerializer().deserializeFrom(ByteBuffer.allocate(0))).isNull();
+	}
+
+	@Test
+	void shouldUseCompactTypeIdForRegisteredTypes() {
+
+		Map<Class<?>, Integer> typeIds = new LinkedHashMap<>();
+		typeIds.put(ComplexObject.class, 1);
+		typeIds.put(SimpleObject.class, 2);
+
+		GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(null, typeIds);
+
+		byte[] bytes = serializer.serialize(COMPLEX_OBJECT);
+
+		assertThat(new String(bytes, StandardCharsets.UTF_8)).contains("\"@class\":\"1\"").contains("\"@class\":\"2\"")
+				.doesNotContain(ComplexObject.class.getName());
+		assertThat(serializer.deserialize(bytes)).isEqualTo(COMPLEX_OBJECT);
+	}
+
+	@Test
+	void compactTypeIdsShouldFallBackToClassNames() {
+
+		GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer("_type",
+				Collections.singletonMap(SimpleObject.class, 7));
+
+		byte[] bytes = serializer.serialize(COMPLEX_OBJECT);
+
+		assertThat(new String(bytes, StandardCharsets.UTF_8)).contains("\"_type\":\"7\"")
+				.contains(ComplexObject.class.getName());
+		assertThat(serializer.deserialize(bytes)).isEqualTo(COMPLEX_OBJECT);
+		assertThat(serializer.deserialize(new GenericJackson2JsonRedisSerializer("_type").serialize(COMPLEX_OBJECT)))
+				.isEqualTo(COMPLEX_OBJECT);
+
+		serializeAndDeserializeNullValue(serializer);
+	}
+
+	@Test
+	void shouldRejectDuplicateCompactTypeIds() {
+
+		Map<Class<?>, Integer> typeIds = new LinkedHashMap<>();
+		typeIds.put(ComplexObject.class, 1);
+		typeIds.put(SimpleObject.class, 1);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> new GenericJackson2JsonRedisSerializer(null, typeIds));
+	}
+
 	@Test // DATAREDIS-553, DATAREDIS-865
 	void shouldSerializeNullValueSoThatItCanBeDeserializedWithDefaultTypingEnabled() {
 
@@ -17,6 +17,8 @@ package org.springframework.data.redis.serializer;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 
 import org.junit.jupiter.api.Test;
@@ -66,4 +68,37 @@ class StringRedisSerializerUnitTests {
 	void shouldDeserializeFromUtf8() {
 		assertThat(StringRedisSerializer.UTF_8.deserialize("üßØ".getBytes(StandardCharsets.UTF_8))).isEqualTo("üßØ");
 	}
+
+	@Test
+	void shouldSerializeToOutputStream() {
+
+		ByteArrayOutputStream target = new ByteArrayOutputStream();
+		target.write('>');
+
+		StringRedisSerializer.UTF_8.serializeTo("üßØ", target);
+		StringRedisSerializer.UTF_8.serializeTo(null, target);
+
+		assertThat(target.toByteArray()).isEqualTo(">üßØ".getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void shouldDeserializeFromByteBufferSliceWithoutConsumingIt() {
+
+		ByteBuffer buffer = ByteBuffer.wrap("foo-üßØ-bar".getBytes(StandardCharsets.UTF_8));
+		buffer.position(4).limit(buffer.limit() - 4);
+		ByteBuffer slice = buffer.slice();
+
+		assertThat(StringRedisSerializer.UTF_8.deserializeFrom(slice)).isEqualTo("üßØ");
+		assertThat(slice.remaining()).isEqualTo(6);
+	}
+
+	@Test
+	void shouldDeserializeFromDirectByteBuffer() {
+
+		byte[] bytes = "üßØ".getBytes(StandardCharsets.UTF_8);
+		ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+		assertThat(StringRedisSerializer.UTF_8.deserializeFrom(buffer)).isEqualTo("üßØ");
+		assertThat(buffer.position()).isZero();
+	}
 }
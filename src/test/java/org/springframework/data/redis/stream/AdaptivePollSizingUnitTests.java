@@ -0,0 +1,134 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+
+/**
+ * Unit tests for {@link AdaptivePollSizing}.
+ *
+ * @author agent
+ */
+class AdaptivePollSizingUnitTests {
+
+	StreamReadOptions readOptions = StreamReadOptions.empty().count(10).block(Duration.ofSeconds(2));
+
+	@Test
+	void shouldGrowReadCountOnBacklog() {
+
+		AdaptivePollSizing sizing = new AdaptivePollSizing(AdaptivePollingOptions.batchSize(10, 50));
+
+		assertThat(read(sizing, 10)).isEqualTo(10);
+		assertThat(read(sizing, 20)).isEqualTo(20);
+		assertThat(read(sizing, 40)).isEqualTo(40);
+		assertThat(sizing.getCount()).isEqualTo(50);
+	}
+
+	@Test
+	void shouldShrinkReadCountOnSparseReads() {
+
+		AdaptivePollSizing sizing = new AdaptivePollSizing(AdaptivePollingOptions.batchSize(10, 80));
+
+		read(sizing, 10);
+		read(sizing, 20);
+		read(sizing, 40);
+
+		assertThat(sizing.getCount()).isEqualTo(80);
+
+		read(sizing, 1);
+		assertThat(sizing.getCount()).isEqualTo(40);
+
+		read(sizing, 1);
+		read(sizing, 1);
+		assertThat(sizing.getCount()).isEqualTo(10);
+	}
+
+	@Test
+	void shouldLimitReadCountToDemand() {
+
+		AdaptivePollSizing sizing = new AdaptivePollSizing(AdaptivePollingOptions.batchSize(10, 50));
+
+		assertThat(sizing.getReadOptions(readOptions, 3).getCount()).isEqualTo(3);
+		assertThat(sizing.getReadOptions(readOptions, 0).getCount()).isEqualTo(1);
+		assertThat(sizing.getReadOptions(readOptions, Long.MAX_VALUE).getCount()).isEqualTo(10);
+	}
+
+	@Test
+	void shouldLimitReadCountToTargetBatchDuration() {
+
+		AdaptivePollSizing sizing = new AdaptivePollSizing(
+				AdaptivePollingOptions.batchSize(1, 1000).targetBatchDuration(Duration.ofMillis(100)));
+
+		sizing.getReadOptions(readOptions, Long.MAX_VALUE);
+		sizing.afterRead(1, TimeUnit.MILLISECONDS.toNanos(10));
+
+		for (int i = 0; i < 10; i++) {
+			sizing.afterRead(sizing.getReadOptions(readOptions, Long.MAX_VALUE).getCount().intValue(),
+					TimeUnit.MILLISECONDS.toNanos(10) * sizing.getCount());
+		}
+
+		assertThat(sizing.getCount()).isEqualTo(10);
+	}
+
+	@Test
+	void shouldBackOffOnIdleStream() {
+
+		AdaptivePollSizing sizing = new AdaptivePollSizing(
+				AdaptivePollingOptions.batchSize(10, 50).idleBackoff(2, Duration.ofMillis(1600)));
+
+		read(sizing, 0);
+		assertThat(sizing.getReadOptions(readOptions, Long.MAX_VALUE).isBlocking()).isTrue();
+		assertThat(sizing.getBackoffNanos()).isZero();
+
+		sizing.afterRead(0, 0);
+		assertThat(sizing.isIdle()).isTrue();
+		assertThat(sizing.getReadOptions(readOptions, Long.MAX_VALUE).isBlocking()).isFalse();
+		assertThat(sizing.getBackoffNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+
+		for (int i = 0; i < 10; i++) {
+			read(sizing, 0);
+		}
+		assertThat(sizing.getBackoffNanos()).isEqualTo(TimeUnit.MILLISECONDS.toNanos(1600));
+
+		read(sizing, 1);
+		assertThat(sizing.isIdle()).isFalse();
+		assertThat(sizing.getBackoffNanos()).isZero();
+		assertThat(sizing.getReadOptions(readOptions, Long.MAX_VALUE).isBlocking()).isTrue();
+	}
+
+	@Test
+	void shouldRetainAcknowledgementMode() {
+
+		AdaptivePollSizing sizing = new AdaptivePollSizing(AdaptivePollingOptions.batchSize(10, 50));
+
+		assertThat(sizing.getReadOptions(readOptions.autoAcknowledge(), Long.MAX_VALUE).isNoack()).isTrue();
+		assertThat(sizing.getReadOptions(readOptions, Long.MAX_VALUE).isNoack()).isFalse();
+	}
+
+	private int read(AdaptivePollSizing sizing, int received) {
+
+		int requested = sizing.getReadOptions(readOptions, Long.MAX_VALUE).getCount().intValue();
+		sizing.afterRead(received, 0);
+		return requested;
+	}
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.stream.StreamProducer.StreamProducerOptions;
+
+/**
+ * Unit tests for {@link DefaultStreamProducer}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class DefaultStreamProducerUnitTests {
+
+	@Mock RedisOperations<String, String> operations;
+	@Mock RedisConnection connection;
+	@Mock RedisStreamCommands streamCommands;
+
+	StreamProducer<String, String, String> producer;
+
+	@BeforeEach
+	void before() {
+
+		when(operations.execute(any(RedisCallback.class)))
+				.thenAnswer(invocation -> invocation.<RedisCallback<?>> getArgument(0).doInRedis(connection));
+		doReturn(RedisSerializer.string()).when(operations).getKeySerializer();
+		doReturn(RedisSerializer.string()).when(operations).getHashKeySerializer();
+		doReturn(RedisSerializer.string()).when(operations).getHashValueSerializer();
+	}
+
+	@AfterEach
+	void after() {
+
+		if (producer != null) {
+			producer.close();
+		}
+	}
+
+	@Test
+	void shouldWriteBatchUsingPipelineOnceBatchSizeIsReached() throws Exception {
+
+		producer = StreamProducer.create(operations,
+				StreamProducerOptions.builder().batchSize(2).linger(Duration.ofHours(1)).build());
+
+		when(connection.streamCommands()).thenReturn(streamCommands);
+		when(connection.closePipeline()).thenReturn(Arrays.asList(RecordId.of("1-0"), RecordId.of("1-1")));
+
+		CompletableFuture<RecordId> first = producer.send("stream", Collections.singletonMap("key", "1"));
+		CompletableFuture<RecordId> second = producer.send("stream", Collections.singletonMap("key", "2"));
+
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(RecordId.of("1-0"));
+		assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo(RecordId.of("1-1"));
+
+		verify(connection).openPipeline();
+		verify(streamCommands, times(2)).xAdd(any(ByteRecord.class), eq(XAddOptions.none()));
+	}
+
+	@Test
+	void shouldWriteIncompleteBatchAfterLinger() throws Exception {
+
+		producer = StreamProducer.create(operations,
+				StreamProducerOptions.builder().batchSize(100).linger(Duration.ofMillis(10)).build());
+
+		when(connection.streamCommands()).thenReturn(streamCommands);
+		when(connection.closePipeline()).thenReturn(Collections.singletonList(RecordId.of("1-0")));
+
+		CompletableFuture<RecordId> future = producer.send("stream", Collections.singletonMap("key", "value"));
+
+		assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo(RecordId.of("1-0"));
+	}
+
+	@Test
+	void flushShouldWriteBufferedRecords() {
+
+		producer = StreamProducer.create(operations,
+				StreamProducerOptions.builder().batchSize(100).linger(Duration.ofHours(1)).build());
+
+		when(connection.streamCommands()).thenReturn(streamCommands);
+		when(connection.closePipeline()).thenReturn(Arrays.asList(RecordId.of("1-0"), RecordId.of("1-1")));
+
+		CompletableFuture<RecordId> first = producer.send("stream", Collections.singletonMap("key", "1"));
+		CompletableFuture<RecordId> second = producer.send("stream", Collections.singletonMap("key", "2"));
+
+		assertThat(first).isNotDone();
+
+		producer.flush();
+
+		assertThat(first).isCompletedWithValue(RecordId.of("1-0"));
+		assertThat(second).isCompletedWithValue(RecordId.of("1-1"));
+		verify(connection).openPipeline();
+	}
+
+	@Test
+	void shouldCompleteFuturesOnCompletionExecutorAfterReleasingCapacity() throws Exception {
+
+		ExecutorService completionExecutor = Executors.newSingleThreadExecutor(it -> new Thread(it, "completion"));
+
+		try {
+
+			producer = StreamProducer.create(operations, StreamProducerOptions.builder().batchSize(100)
+					.linger(Duration.ofHours(1)).maxPendingRecords(1).completionExecutor(completionExecutor).build());
+
+			when(connection.streamCommands()).thenReturn(streamCommands);
+			when(connection.closePipeline()).thenReturn(Collections.singletonList(RecordId.of("1-0")));
+
+			AtomicReference<String> completionThread = new AtomicReference<>();
+			CompletableFuture<CompletableFuture<RecordId>> chained = new CompletableFuture<>();
+
+			producer.send("stream", Collections.singletonMap("key", "1")).thenAccept(it -> {
+				completionThread.set(Thread.currentThread().getName());
+				chained.complete(producer.send("stream", Collections.singletonMap("key", "2")));
+			});
+
+			producer.flush();
+			producer.flush();
+
+			assertThat(completionThread).hasValue("completion");
+			assertThat(chained.get(5, TimeUnit.SECONDS)).isCompletedWithValue(RecordId.of("1-0"));
+		} finally {
+			completionExecutor.shutdownNow();
+		}
+	}
+
+	@Test
+	void shouldApplyApproximateMaxlenTrimming() {
+
+		producer = StreamProducer.create(operations, StreamProducerOptions.builder().maxlen(1000).build());
+
+		when(connection.streamCommands()).thenReturn(streamCommands);
+		when(connection.closePipeline()).thenReturn(Collections.singletonList(RecordId.of("1-0")));
+
+		producer.send("stream", Collections.singletonMap("key", "value"));
+		producer.flush();
+
+		ArgumentCaptor<XAddOptions> captor = ArgumentCaptor.forClass(XAddOptions.class);
+		verify(streamCommands).xAdd(any(ByteRecord.class), captor.capture());
+
+		assertThat(captor.getValue().getMaxlen()).isEqualTo(1000);
+		assertThat(captor.getValue().isApproximateTrimming()).isTrue();
+		assertThat(captor.getValue().hasMinId()).isFalse();
+	}
+
+	@Test
+	void shouldApplyRetentionAsMinId() {
+
+		producer = StreamProducer.create(operations,
+				StreamProducerOptions.builder().retention(Duration.ofMinutes(1)).build());
+
+		when(connection.streamCommands()).thenReturn(streamCommands);
+		when(connection.closePipeline()).thenReturn(Collections.singletonList(RecordId.of("1-0")));
+
+		long before = System.currentTimeMillis();
+		producer.send("stream", Collections.singletonMap("key", "value"));
+		producer.flush();
+
+		ArgumentCaptor<XAddOptions> captor = ArgumentCaptor.forClass(XAddOptions.class);
+		verify(streamCommands).xAdd(any(ByteRecord.class), captor.capture());
+
+		assertThat(captor.getValue().hasMaxlen()).isFalse();
+		assertThat(captor.getValue().isApproximateTrimming()).isTrue();
+		assertThat(captor.getValue().getMinId().getTimestamp()).isBetween(before - 60_000,
+				System.currentTimeMillis() - 60_000);
+		assertThatIllegalStateException().isThrownBy(
+				() -> StreamProducerOptions.builder().maxlen(10).retention(Duration.ofMinutes(1)).build());
+	}
+
+	@Test
+	void shouldCompleteFailedRecordsExceptionally() {
+
+		producer = StreamProducer.create(operations,
+				StreamProducerOptions.builder().linger(Duration.ofHours(1)).build());
+
+		RedisSystemException failure = new RedisSystemException("WRONGTYPE", null);
+		when(connection.streamCommands()).thenReturn(streamCommands);
+		when(connection.closePipeline()).thenThrow(
+				new RedisPipelineException(failure, Arrays.asList(RecordId.of("1-0"), failure)));
+
+		CompletableFuture<RecordId> first = producer.send("stream", Collections.singletonMap("key", "1"));
+		CompletableFuture<RecordId> second = producer.send("stream", Collections.singletonMap("key", "2"));
+		producer.flush();
+
+		assertThat(first).isCompletedWithValue(RecordId.of("1-0"));
+		assertThatExceptionOfType(ExecutionException.class).isThrownBy(second::get).withCause(failure);
+	}
+
+	@Test
+	void shouldWriteSequentiallyIfPipeliningIsNotSupported() {
+
+		producer = StreamProducer.create(operations,
+				StreamProducerOptions.builder().linger(Duration.ofHours(1)).build());
+
+		doThrow(UnsupportedOperationException.class).when(connection).openPipeline();
+		when(connection.streamCommands()).thenReturn(streamCommands);
+		when(streamCommands.xAdd(any(ByteRecord.class), any(XAddOptions.class))).thenReturn(RecordId.of("1-0"),
+				RecordId.of("1-1"));
+
+		CompletableFuture<RecordId> first = producer.send("stream", Collections.singletonMap("key", "1"));
+		CompletableFuture<RecordId> second = producer.send("stream", Collections.singletonMap("key", "2"));
+		producer.flush();
+
+		assertThat(first).isCompletedWithValue(RecordId.of("1-0"));
+		assertThat(second).isCompletedWithValue(RecordId.of("1-1"));
+		verify(connection, never()).closePipeline();
+	}
+
+	@Test
+	void shouldRejectRecordsAfterClose() {
+
+		producer = StreamProducer.create(operations,
+				StreamProducerOptions.builder().linger(Duration.ofHours(1)).build());
+
+		when(connection.streamCommands()).thenReturn(streamCommands);
+		when(connection.closePipeline()).thenReturn(Collections.singletonList(RecordId.of("1-0")));
+
+		CompletableFuture<RecordId> future = producer.send("stream", Collections.singletonMap("key", "value"));
+		producer.close();
+
+		assertThat(future).isCompletedWithValue(RecordId.of("1-0"));
+		assertThatIllegalStateException()
+				.isThrownBy(() -> producer.send("stream", Collections.singletonMap("key", "value")));
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.stream.OrderedRecordDispatcher.DispatchCallback;
+
+/**
+ * Unit tests for {@link OrderedRecordDispatcher}.
+ *
+ * @author agent
+ */
+class OrderedRecordDispatcherUnitTests {
+
+	ExecutorService executor = Executors.newFixedThreadPool(4);
+	List<String> commits = Collections.synchronizedList(new ArrayList<>());
+	List<List<RecordId>> acknowledgements = Collections.synchronizedList(new ArrayList<>());
+	List<RuntimeException> errors = Collections.synchronizedList(new ArrayList<>());
+
+	DispatchCallback callback = new DispatchCallback() {
+
+		@Override
+		public void onError(RuntimeException e) {
+			errors.add(e);
+		}
+
+		@Override
+		public void onCommit(String recordId) {
+			commits.add(recordId);
+		}
+	};
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void shouldRetainOrderPerKey() throws InterruptedException {
+
+		Map<String, List<Integer>> processed = new ConcurrentHashMap<>();
+		CountDownLatch latch = new CountDownLatch(200);
+
+		OrderedRecordDispatcher<String, MapRecord<String, String, String>> dispatcher = createDispatcher(message -> {
+
+			processed.computeIfAbsent(message.getValue().get("key"), it -> Collections.synchronizedList(new ArrayList<>()))
+					.add(Integer.parseInt(message.getValue().get("seq")));
+			latch.countDown();
+		}, 4, 16);
+
+		for (int i = 1; i <= 200; i++) {
+			dispatcher.dispatch(record(i + "-0", "key-" + (i % 7), i), callback);
+		}
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(processed).hasSize(7);
+		processed.values().forEach(sequence -> assertThat(sequence).isSorted());
+	}
+
+	@Test
+	void shouldCommitAndAcknowledgeContiguousCompletedRecords() throws InterruptedException {
+
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch completed = new CountDownLatch(2);
+
+		OrderedRecordDispatcher<String, MapRecord<String, String, String>> dispatcher = createDispatcher(message -> {
+
+			if (message.getId().equals(RecordId.of("1-0"))) {
+				await(release);
+			} else {
+				completed.countDown();
+			}
+		}, 2, 16);
+
+		dispatcher.dispatch(record("1-0", "a", 1), callback);
+		dispatcher.dispatch(record("2-0", "b", 2), callback);
+		dispatcher.dispatch(record("3-0", "b", 3), callback);
+
+		assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(commits).isEmpty();
+		assertThat(acknowledgements).isEmpty();
+		assertThat(dispatcher.getInFlight()).isEqualTo(3);
+
+		release.countDown();
+		awaitCondition(() -> dispatcher.getInFlight() == 0);
+
+		assertThat(commits).containsExactly("3-0");
+		assertThat(acknowledgements).containsExactly(List.of(RecordId.of("1-0"), RecordId.of("2-0"), RecordId.of("3-0")));
+	}
+
+	@Test
+	void shouldNotAcknowledgeFailedRecords() throws InterruptedException {
+
+		OrderedRecordDispatcher<String, MapRecord<String, String, String>> dispatcher = createDispatcher(message -> {
+			throw new IllegalStateException("failed");
+		}, 1, 16);
+
+		dispatcher.dispatch(record("1-0", "a", 1), callback);
+
+		awaitCondition(() -> dispatcher.getInFlight() == 0);
+
+		assertThat(commits).containsExactly("1-0");
+		assertThat(acknowledgements).isEmpty();
+		assertThat(errors).hasSize(1);
+	}
+
+	@Test
+	void shouldApplyBackpressure() throws InterruptedException {
+
+		CountDownLatch release = new CountDownLatch(1);
+		AtomicBoolean dispatched = new AtomicBoolean();
+
+		OrderedRecordDispatcher<String, MapRecord<String, String, String>> dispatcher = createDispatcher(
+				message -> await(release), 2, 2);
+
+		dispatcher.dispatch(record("1-0", "a", 1), callback);
+		dispatcher.dispatch(record("2-0", "b", 2), callback);
+
+		Thread poller = new Thread(() -> {
+			try {
+				dispatcher.dispatch(record("3-0", "c", 3), callback);
+				dispatched.set(true);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		poller.start();
+
+		poller.join(100);
+		assertThat(dispatched).isFalse();
+
+		release.countDown();
+		poller.join(5000);
+
+		assertThat(dispatched).isTrue();
+	}
+
+	private OrderedRecordDispatcher<String, MapRecord<String, String, String>> createDispatcher(
+			StreamListener<String, MapRecord<String, String, String>> listener, int concurrency, int maxInFlight) {
+
+		return new OrderedRecordDispatcher<>(listener, it -> it.deserialize(RedisSerializer.string()),
+				TypeDescriptor.valueOf(MapRecord.class), it -> ((MapRecord<?, ?, ?>) it).getValue().get("key"), executor,
+				concurrency, maxInFlight, "group", (stream, group, ids) -> acknowledgements.add(ids));
+	}
+
+	private static void await(CountDownLatch latch) {
+
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void awaitCondition(BooleanSupplier condition) throws InterruptedException {
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+		while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+
+		assertThat(condition.getAsBoolean()).isTrue();
+	}
+
+	private static ByteRecord record(String id, String key, int sequence) {
+		return StreamRecords
+				.rawBytes(Map.of(bytes("key"), bytes(key), bytes("seq"), bytes(Integer.toString(sequence))))
+				.withStreamKey(bytes("stream")).withId(RecordId.of(id));
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+
+/**
+ * Unit tests for {@link PendingMessageReclaimer}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class PendingMessageReclaimerUnitTests {
+
+	static final byte[] KEY = "stream".getBytes(StandardCharsets.UTF_8);
+	static final byte[] DLQ = "stream-dlq".getBytes(StandardCharsets.UTF_8);
+	static final Consumer CONSUMER = Consumer.from("group", "consumer-1");
+
+	@Mock RedisOperations<String, String> operations;
+	@Mock RedisConnection connection;
+	@Mock RedisStreamCommands streamCommands;
+
+	@BeforeEach
+	void before() {
+
+		when(operations.execute(any(RedisCallback.class)))
+				.thenAnswer(invocation -> invocation.<RedisCallback<?>> getArgument(0).doInRedis(connection));
+		when(connection.streamCommands()).thenReturn(streamCommands);
+	}
+
+	@Test
+	void shouldClaimIdleMessages() {
+
+		PendingMessageReclaimer reclaimer = new PendingMessageReclaimer(operations, KEY, CONSUMER,
+				PendingReclaimOptions.idle(Duration.ofSeconds(30)), null);
+
+		when(streamCommands.xPending(eq(KEY), eq("group"), any(Range.class), eq(100L)))
+				.thenReturn(pending(message("1-0", Duration.ofMinutes(1), 1), message("2-0", Duration.ofSeconds(1), 1)));
+		when(streamCommands.xClaim(eq(KEY), eq("group"), eq("consumer-1"), any(XClaimOptions.class)))
+				.thenReturn(Collections.singletonList(record("1-0")));
+
+		List<ByteRecord> reclaimed = reclaimer.reclaim();
+
+		assertThat(reclaimed).extracting(MapRecord::getId).containsExactly(RecordId.of("1-0"));
+
+		ArgumentCaptor<XClaimOptions> captor = ArgumentCaptor.forClass(XClaimOptions.class);
+		verify(streamCommands).xClaim(eq(KEY), eq("group"), eq("consumer-1"), captor.capture());
+		assertThat(captor.getValue().getIds()).containsExactly(RecordId.of("1-0"));
+		assertThat(captor.getValue().getMinIdleTime()).isEqualTo(Duration.ofSeconds(30));
+	}
+
+	@Test
+	void shouldMovePoisonMessagesToDeadLetterStream() {
+
+		PendingMessageReclaimer reclaimer = new PendingMessageReclaimer(operations, KEY, CONSUMER,
+				PendingReclaimOptions.<String> idle(Duration.ofSeconds(30)).deadLetter(3, "stream-dlq"), DLQ);
+
+		when(streamCommands.xPending(eq(KEY), eq("group"), any(Range.class), eq(100L)))
+				.thenReturn(pending(message("1-0", Duration.ofMinutes(1), 3)));
+		when(streamCommands.xClaim(eq(KEY), eq("group"), eq("consumer-1"), any(XClaimOptions.class)))
+				.thenReturn(Collections.singletonList(record("1-0")));
+
+		List<ByteRecord> reclaimed = reclaimer.reclaim();
+
+		assertThat(reclaimed).isEmpty();
+
+		ArgumentCaptor<MapRecord<byte[], byte[], byte[]>> captor = ArgumentCaptor.forClass(MapRecord.class);
+		verify(streamCommands).xAdd(captor.capture());
+		assertThat(captor.getValue().getStream()).isEqualTo(DLQ);
+		assertThat(captor.getValue().getValue().entrySet()).extracting(
+				entry -> new String(entry.getKey(), StandardCharsets.UTF_8) + "="
+						+ new String(entry.getValue(), StandardCharsets.UTF_8))
+				.containsExactly("key=value", PendingReclaimOptions.DEAD_LETTER_STREAM_FIELD + "=stream",
+						PendingReclaimOptions.DEAD_LETTER_ID_FIELD + "=1-0",
+						PendingReclaimOptions.DEAD_LETTER_DELIVERY_COUNT_FIELD + "=3");
+		verify(streamCommands).xAck(KEY, "group", RecordId.of("1-0"));
+	}
+
+	@Test
+	void shouldNotReclaimBeforeIntervalElapsed() {
+
+		PendingMessageReclaimer reclaimer = new PendingMessageReclaimer(operations, KEY, CONSUMER,
+				PendingReclaimOptions.idle(Duration.ofSeconds(30)).interval(Duration.ofHours(1)), null);
+
+		when(streamCommands.xPending(eq(KEY), eq("group"), any(Range.class), eq(100L))).thenReturn(pending());
+
+		assertThat(reclaimer.reclaim()).isEmpty();
+		assertThat(reclaimer.reclaim()).isEmpty();
+
+		verify(streamCommands, times(1)).xPending(eq(KEY), eq("group"), any(Range.class), anyLong());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldContinueAfterLastInspectedMessage() {
+
+		PendingMessageReclaimer reclaimer = new PendingMessageReclaimer(operations, KEY, CONSUMER,
+				PendingReclaimOptions.idle(Duration.ofSeconds(30)).interval(Duration.ZERO).batchSize(2), null);
+
+		when(streamCommands.xPending(eq(KEY), eq("group"), any(Range.class), anyLong())).thenReturn(
+				pending(message("1-0", Duration.ZERO, 1), message("2-0", Duration.ZERO, 1)),
+				pending(message("2-0", Duration.ZERO, 1), message("3-0", Duration.ZERO, 1)));
+
+		reclaimer.reclaim();
+		reclaimer.reclaim();
+		reclaimer.reclaim();
+
+		ArgumentCaptor<Range<String>> ranges = ArgumentCaptor.forClass(Range.class);
+		ArgumentCaptor<Long> counts = ArgumentCaptor.forClass(Long.class);
+		verify(streamCommands, times(3)).xPending(eq(KEY), eq("group"), ranges.capture(), counts.capture());
+
+		assertThat(ranges.getAllValues().get(0)).isEqualTo(Range.unbounded());
+		assertThat(ranges.getAllValues().get(1).getLowerBound().getValue()).contains("2-0");
+		assertThat(ranges.getAllValues().get(2)).isEqualTo(Range.unbounded());
+		assertThat(counts.getAllValues()).containsExactly(2L, 3L, 2L);
+		verify(streamCommands, never()).xClaim(any(), any(), any(), any(XClaimOptions.class));
+	}
+
+	private static PendingMessages pending(PendingMessage... messages) {
+		return new PendingMessages("group", Arrays.asList(messages));
+	}
+
+	private static PendingMessage message(String id, Duration idle, long deliveries) {
+		return new PendingMessage(RecordId.of(id), Consumer.from("group", "consumer-2"), idle, deliveries);
+	}
+
+	private static ByteRecord record(String id) {
+		return StreamRecords.newRecord().in(KEY).withId(id)
+				.ofBytes(Map.of("key".getBytes(StandardCharsets.UTF_8), "value".getBytes(StandardCharsets.UTF_8)));
+	}
+}
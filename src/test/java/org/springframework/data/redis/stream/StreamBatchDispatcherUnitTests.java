@@ -0,0 +1,171 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.convert.ConversionFailedException;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Unit tests for {@link StreamBatchDispatcher}.
+ *
+ * @author agent
+ */
+class StreamBatchDispatcherUnitTests {
+
+	List<List<MapRecord<String, String, String>>> batches = new ArrayList<>();
+	List<String> acknowledged = new ArrayList<>();
+	List<RuntimeException> errors = new ArrayList<>();
+
+	@Test
+	void shouldDispatchBatchAndAcknowledgeWithSingleCommand() {
+
+		StreamBatchDispatcher<String, MapRecord<String, String, String>> dispatcher = createDispatcher(batches::add,
+				"group");
+
+		boolean redeliver = dispatcher.dispatch(List.of(record("1-0"), record("2-0")), errors::add);
+
+		assertThat(redeliver).isFalse();
+		assertThat(batches).hasSize(1);
+		assertThat(batches.get(0)).extracting(MapRecord::getId).containsExactly(RecordId.of("1-0"), RecordId.of("2-0"));
+		assertThat(acknowledged).containsExactly("stream:group:[1-0, 2-0]");
+		assertThat(errors).isEmpty();
+	}
+
+	@Test
+	void shouldNotAcknowledgeFailedRecords() {
+
+		StreamBatchDispatcher<String, MapRecord<String, String, String>> dispatcher = createDispatcher(messages -> {
+			throw new BatchListenerFailedException("failed", Collections.singleton(RecordId.of("2-0")));
+		}, "group");
+
+		boolean redeliver = dispatcher.dispatch(List.of(record("1-0"), record("2-0"), record("3-0")), errors::add);
+
+		assertThat(redeliver).isTrue();
+		assertThat(acknowledged).containsExactly("stream:group:[1-0, 3-0]");
+		assertThat(errors).hasSize(1).first().isInstanceOf(BatchListenerFailedException.class);
+	}
+
+	@Test
+	void shouldNotAcknowledgeBatchOnListenerError() {
+
+		StreamBatchDispatcher<String, MapRecord<String, String, String>> dispatcher = createDispatcher(messages -> {
+			throw new IllegalStateException("failed");
+		}, "group");
+
+		boolean redeliver = dispatcher.dispatch(List.of(record("1-0"), record("2-0")), errors::add);
+
+		assertThat(redeliver).isTrue();
+		assertThat(acknowledged).isEmpty();
+		assertThat(errors).hasSize(1);
+	}
+
+	@Test
+	void shouldExcludeRecordsFailingConversion() {
+
+		StreamBatchDispatcher<String, MapRecord<String, String, String>> dispatcher = new StreamBatchDispatcher<>(
+				batches::add, it -> {
+
+					if (it.getId().equals(RecordId.of("1-0"))) {
+						throw new IllegalArgumentException("conversion failed");
+					}
+					return it.deserialize(RedisSerializer.string());
+				}, TypeDescriptor.valueOf(MapRecord.class), false, "group", this::acknowledge);
+
+		boolean redeliver = dispatcher.dispatch(List.of(record("1-0"), record("2-0")), errors::add);
+
+		assertThat(redeliver).isTrue();
+		assertThat(batches.get(0)).extracting(MapRecord::getId).containsExactly(RecordId.of("2-0"));
+		assertThat(acknowledged).containsExactly("stream:group:[2-0]");
+		assertThat(errors).hasSize(1).first().isInstanceOf(ConversionFailedException.class);
+	}
+
+	@Test
+	void shouldNotAcknowledgeWithoutGroup() {
+
+		StreamBatchDispatcher<String, MapRecord<String, String, String>> dispatcher = createDispatcher(messages -> {
+			throw new IllegalStateException("failed");
+		}, null);
+
+		boolean redeliver = dispatcher.dispatch(List.of(record("1-0")), errors::add);
+
+		assertThat(redeliver).isFalse();
+		assertThat(acknowledged).isEmpty();
+		assertThat(errors).hasSize(1);
+	}
+
+	@Test
+	void parallelDeserializationShouldRetainOrder() {
+
+		StreamBatchDispatcher<String, MapRecord<String, String, String>> dispatcher = new StreamBatchDispatcher<>(
+				batches::add, it -> it.deserialize(RedisSerializer.string()), TypeDescriptor.valueOf(MapRecord.class), true,
+				"group", this::acknowledge);
+
+		List<ByteRecord> records = new ArrayList<>();
+		for (int i = 1; i <= 1000; i++) {
+			records.add(record(i + "-0"));
+		}
+
+		dispatcher.dispatch(records, errors::add);
+
+		assertThat(batches.get(0)).extracting(it -> it.getId().getValue())
+				.containsExactlyElementsOf(records.stream().map(it -> it.getId().getValue()).toList());
+		assertThat(acknowledged).hasSize(1);
+	}
+
+	@Test
+	void shouldNotNotifyListenerForEmptyBatch() {
+
+		StreamBatchDispatcher<String, MapRecord<String, String, String>> dispatcher = createDispatcher(batches::add,
+				"group");
+
+		assertThat(dispatcher.dispatch(Collections.emptyList(), errors::add)).isFalse();
+		assertThat(batches).isEmpty();
+	}
+
+	private StreamBatchDispatcher<String, MapRecord<String, String, String>> createDispatcher(
+			StreamBatchListener<String, MapRecord<String, String, String>> listener, String group) {
+		return new StreamBatchDispatcher<>(listener, it -> it.deserialize(RedisSerializer.string()),
+				TypeDescriptor.valueOf(MapRecord.class), false, group, this::acknowledge);
+	}
+
+	private void acknowledge(byte[] stream, String group, List<RecordId> ids) {
+		acknowledged.add(new String(stream, StandardCharsets.UTF_8) + ":" + group + ":" + ids);
+	}
+
+	private static ByteRecord record(String id) {
+		return StreamRecords.rawBytes(Map.of(bytes("key"), bytes("value"))).withStreamKey(bytes("stream"))
+				.withId(RecordId.of(id));
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
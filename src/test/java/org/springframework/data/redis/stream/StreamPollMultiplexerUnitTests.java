@@ -0,0 +1,336 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStreamCommands;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+import org.springframework.data.redis.stream.StreamPollMultiplexer.MultiplexedTask;
+
+/**
+ * Unit tests for {@link StreamPollMultiplexer}.
+ *
+ * @author agent
+ */
+class StreamPollMultiplexerUnitTests {
+
+	ExecutorService executor = Executors.newCachedThreadPool();
+	BlockingQueue<List<ByteRecord>> responses = new LinkedBlockingQueue<>();
+	List<List<StreamOffset<byte[]>>> reads = Collections.synchronizedList(new ArrayList<>());
+	List<Consumer> consumers = Collections.synchronizedList(new ArrayList<>());
+
+	StreamPollMultiplexer<String, MapRecord<String, String, String>> multiplexer = new StreamPollMultiplexer<>(executor,
+			(consumer, autoAck, offsets, block) -> {
+
+				reads.add(new ArrayList<>(offsets));
+				consumers.add(consumer);
+
+				try {
+					List<ByteRecord> records = responses.poll(10, TimeUnit.MILLISECONDS);
+					return records != null ? records : Collections.emptyList();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return Collections.emptyList();
+				}
+			}, key -> 0);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void shouldReadMultipleStreamsWithSingleCommand() throws InterruptedException {
+
+		BlockingQueue<MapRecord<String, String, String>> received1 = new LinkedBlockingQueue<>();
+		BlockingQueue<MapRecord<String, String, String>> received2 = new LinkedBlockingQueue<>();
+
+		MultiplexedTask<String, MapRecord<String, String, String>> task1 = createTask(
+				StreamReadRequest.builder(StreamOffset.create("stream-1", ReadOffset.from("0-0"))).build(), received1::add);
+		MultiplexedTask<String, MapRecord<String, String, String>> task2 = createTask(
+				StreamReadRequest.builder(StreamOffset.create("stream-2", ReadOffset.from("0-0"))).build(), received2::add);
+
+		task1.run();
+		task2.run();
+
+		assertThat(task1.awaitStart(Duration.ofSeconds(1))).isTrue();
+		assertThat(task2.isActive()).isTrue();
+		assertThat(multiplexer.getGroupCount()).isOne();
+
+		awaitRead(offsets -> offsets.size() == 2);
+		responses.add(List.of(record("stream-2", "1-0"), record("stream-1", "2-0")));
+
+		assertThat(received1.poll(1, TimeUnit.SECONDS).getId()).isEqualTo(RecordId.of("2-0"));
+		assertThat(received2.poll(1, TimeUnit.SECONDS).getId()).isEqualTo(RecordId.of("1-0"));
+
+		awaitRead(offsets -> offsets.size() == 2 && offsets.stream().anyMatch(it -> "2-0".equals(it.getOffset().getOffset())));
+
+		task1.cancel();
+		task2.cancel();
+
+		awaitGroupCount(0);
+	}
+
+	@Test
+	void shouldGroupByConsumer() {
+
+		createTask(StreamReadRequest.builder(StreamOffset.create("stream-1", ReadOffset.lastConsumed()))
+				.consumer(Consumer.from("group", "consumer-1")).build(), it -> {}).run();
+		createTask(StreamReadRequest.builder(StreamOffset.create("stream-2", ReadOffset.lastConsumed()))
+				.consumer(Consumer.from("group", "consumer-1")).build(), it -> {}).run();
+		createTask(StreamReadRequest.builder(StreamOffset.create("stream-1", ReadOffset.lastConsumed()))
+				.consumer(Consumer.from("group", "consumer-2")).build(), it -> {}).run();
+
+		assertThat(multiplexer.getGroupCount()).isEqualTo(2);
+
+		awaitRead(offsets -> offsets.size() == 2);
+		assertThat(consumers).contains(Consumer.from("group", "consumer-1"), Consumer.from("group", "consumer-2"));
+	}
+
+	@Test
+	void shouldNotReadSameStreamTwiceWithinSingleCommand() {
+
+		createTask(StreamReadRequest.builder(StreamOffset.create("stream-1", ReadOffset.from("0-0"))).build(), it -> {})
+				.run();
+		createTask(StreamReadRequest.builder(StreamOffset.create("stream-1", ReadOffset.latest())).build(), it -> {})
+				.run();
+
+		assertThat(multiplexer.getGroupCount()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldRejoinAfterRestart() throws InterruptedException {
+
+		MultiplexedTask<String, MapRecord<String, String, String>> task = createTask(
+				StreamReadRequest.builder(StreamOffset.create("stream-1", ReadOffset.from("0-0"))).build(), it -> {});
+
+		task.run();
+		task.cancel();
+		task.run();
+
+		assertThat(task.awaitStart(Duration.ofSeconds(1))).isTrue();
+		assertThat(multiplexer.getGroupCount()).isOne();
+
+		awaitRead(offsets -> offsets.size() == 1);
+		assertThat(new ArrayList<>(reads)).allMatch(offsets -> offsets.size() == 1);
+	}
+
+	@Test
+	void shouldNotifyAllSubscriptionsOnReadError() throws InterruptedException {
+
+		BlockingQueue<Throwable> errors = new LinkedBlockingQueue<>();
+		StreamPollMultiplexer<String, MapRecord<String, String, String>> multiplexer = new StreamPollMultiplexer<>(executor,
+				(consumer, autoAck, offsets, block) -> {
+					throw new IllegalStateException("read failed");
+				}, key -> 0);
+
+		MultiplexedTask<String, MapRecord<String, String, String>> task1 = multiplexer.createTask(
+				StreamReadRequest.builder(StreamOffset.create("stream-1", ReadOffset.from("0-0"))).build(), bytes("stream-1"),
+				it -> {}, errors::add, TypeDescriptor.valueOf(MapRecord.class), it -> it.deserialize(RedisSerializer.string()));
+		MultiplexedTask<String, MapRecord<String, String, String>> task2 = multiplexer.createTask(
+				StreamReadRequest.builder(StreamOffset.create("stream-2", ReadOffset.from("0-0"))).build(), bytes("stream-2"),
+				it -> {}, errors::add, TypeDescriptor.valueOf(MapRecord.class), it -> it.deserialize(RedisSerializer.string()));
+
+		task1.run();
+		task2.run();
+
+		assertThat(errors.poll(1, TimeUnit.SECONDS)).hasMessage("read failed");
+		assertThat(errors.poll(1, TimeUnit.SECONDS)).hasMessage("read failed");
+		assertThat(task1.isActive()).isFalse();
+		assertThat(task2.isActive()).isFalse();
+	}
+
+	@Test
+	void shouldNotifyOnlySubscriptionOfFailingStream() throws InterruptedException {
+
+		BlockingQueue<Throwable> errors = new LinkedBlockingQueue<>();
+		BlockingQueue<MapRecord<String, String, String>> received = new LinkedBlockingQueue<>();
+		List<Boolean> blocking = Collections.synchronizedList(new ArrayList<>());
+		StreamPollMultiplexer<String, MapRecord<String, String, String>> multiplexer = new StreamPollMultiplexer<>(executor,
+				(consumer, autoAck, offsets, block) -> {
+
+					blocking.add(block);
+
+					if (offsets.stream().anyMatch(it -> "stream-2".equals(new String(it.getKey(), StandardCharsets.UTF_8)))) {
+						throw new IllegalStateException("NOGROUP No such key 'stream-2' or consumer group 'group'");
+					}
+
+					return offsets.stream().map(it -> record(new String(it.getKey(), StandardCharsets.UTF_8), "1-0")).toList();
+				}, key -> 0);
+		Consumer consumer = Consumer.from("group", "consumer-1");
+
+		MultiplexedTask<String, MapRecord<String, String, String>> task1 = multiplexer.createTask(
+				StreamReadRequest.builder(StreamOffset.create("stream-1", ReadOffset.lastConsumed())).consumer(consumer)
+						.build(),
+				bytes("stream-1"), received::add, errors::add, TypeDescriptor.valueOf(MapRecord.class),
+				it -> it.deserialize(RedisSerializer.string()));
+		MultiplexedTask<String, MapRecord<String, String, String>> task2 = multiplexer.createTask(
+				StreamReadRequest.builder(StreamOffset.create("stream-2", ReadOffset.lastConsumed())).consumer(consumer)
+						.build(),
+				bytes("stream-2"), it -> {}, errors::add, TypeDescriptor.valueOf(MapRecord.class),
+				it -> it.deserialize(RedisSerializer.string()));
+		MultiplexedTask<String, MapRecord<String, String, String>> task3 = multiplexer.createTask(
+				StreamReadRequest.builder(StreamOffset.create("stream-3", ReadOffset.lastConsumed())).consumer(consumer)
+						.build(),
+				bytes("stream-3"), received::add, errors::add, TypeDescriptor.valueOf(MapRecord.class),
+				it -> it.deserialize(RedisSerializer.string()));
+
+		task1.run();
+		task2.run();
+		task3.run();
+
+		assertThat(errors.poll(1, TimeUnit.SECONDS)).hasMessageStartingWith("NOGROUP");
+		assertThat(received.poll(1, TimeUnit.SECONDS)).isNotNull();
+		assertThat(received.poll(1, TimeUnit.SECONDS)).isNotNull();
+
+		assertThat(task2.isActive()).isFalse();
+		assertThat(task1.isActive()).isTrue();
+		assertThat(task3.isActive()).isTrue();
+		assertThat(errors).isEmpty();
+		assertThat(blocking).contains(false);
+
+		task1.cancel();
+		task3.cancel();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void shouldReclaimAndDeadLetterPendingMessages() throws InterruptedException {
+
+		RedisOperations<String, String> operations = mock(RedisOperations.class);
+		RedisConnection connection = mock(RedisConnection.class);
+		RedisStreamCommands streamCommands = mock(RedisStreamCommands.class);
+		Consumer consumer = Consumer.from("group", "consumer-1");
+
+		when(operations.execute(any(RedisCallback.class)))
+				.thenAnswer(invocation -> invocation.<RedisCallback<?>> getArgument(0).doInRedis(connection));
+		when(connection.streamCommands()).thenReturn(streamCommands);
+		when(streamCommands.xPending(any(byte[].class), eq("group"), any(Range.class), anyLong()))
+				.thenReturn(new PendingMessages("group", List.of(pending("1-0", 1), pending("2-0", 3))));
+		when(streamCommands.xClaim(any(byte[].class), eq("group"), eq("consumer-1"), any(XClaimOptions.class)))
+				.thenAnswer(invocation -> invocation.<XClaimOptions> getArgument(3).getIds().stream()
+						.map(id -> record("stream-1", id.getValue())).toList());
+
+		BlockingQueue<MapRecord<String, String, String>> received = new LinkedBlockingQueue<>();
+		MultiplexedTask<String, MapRecord<String, String, String>> task = createTask(
+				StreamReadRequest.builder(StreamOffset.create("stream-1", ReadOffset.lastConsumed())).consumer(consumer)
+						.autoAcknowledge(false).build(),
+				received::add);
+		task.setReclaimer(new PendingMessageReclaimer(operations, bytes("stream-1"), consumer,
+				PendingReclaimOptions.<String> idle(Duration.ofSeconds(30)).interval(Duration.ofHours(1)).deadLetter(3,
+						"stream-1-dlq"),
+				bytes("stream-1-dlq")));
+
+		task.run();
+
+		assertThat(received.poll(1, TimeUnit.SECONDS).getId()).isEqualTo(RecordId.of("1-0"));
+
+		ArgumentCaptor<MapRecord<byte[], byte[], byte[]>> deadLetter = ArgumentCaptor.forClass(MapRecord.class);
+		verify(streamCommands, timeout(1000)).xAck(bytes("stream-1"), "group", RecordId.of("2-0"));
+		verify(streamCommands).xAdd(deadLetter.capture());
+		assertThat(deadLetter.getValue().getStream()).isEqualTo(bytes("stream-1-dlq"));
+
+		task.cancel();
+		awaitGroupCount(0);
+
+		verify(streamCommands, times(1)).xPending(any(byte[].class), eq("group"), any(Range.class), anyLong());
+		assertThat(received).isEmpty();
+	}
+
+	private MultiplexedTask<String, MapRecord<String, String, String>> createTask(StreamReadRequest<String> request,
+			StreamListener<String, MapRecord<String, String, String>> listener) {
+
+		return multiplexer.createTask(request, bytes(request.getStreamOffset().getKey()), listener, it -> {},
+				TypeDescriptor.valueOf(MapRecord.class), it -> it.deserialize(RedisSerializer.string()));
+	}
+
+	private void awaitRead(Predicate<List<StreamOffset<byte[]>>> condition) {
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+
+		while (System.nanoTime() < deadline) {
+
+			synchronized (reads) {
+				if (reads.stream().anyMatch(condition)) {
+					return;
+				}
+			}
+
+			Thread.onSpinWait();
+		}
+
+		fail("Expected read not observed");
+	}
+
+	private void awaitGroupCount(int expected) {
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+
+		while (System.nanoTime() < deadline && multiplexer.getGroupCount() != expected) {
+			Thread.onSpinWait();
+		}
+
+		assertThat(multiplexer.getGroupCount()).isEqualTo(expected);
+	}
+
+	private static PendingMessage pending(String id, long deliveries) {
+		return new PendingMessage(RecordId.of(id), Consumer.from("group", "consumer-2"), Duration.ofMinutes(1), deliveries);
+	}
+
+	private static ByteRecord record(String stream, String id) {
+		return StreamRecords.rawBytes(Collections.singletonMap(bytes("key"), bytes("value"))).withStreamKey(bytes(stream))
+				.withId(RecordId.of(id));
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
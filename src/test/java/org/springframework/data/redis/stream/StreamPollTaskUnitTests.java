@@ -0,0 +1,233 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamMessageListenerContainerOptions;
+import org.springframework.data.redis.stream.StreamMessageListenerContainer.StreamReadRequest;
+
+/**
+ * Unit tests for {@link StreamPollTask}.
+ *
+ * @author agent
+ */
+class StreamPollTaskUnitTests {
+
+	@Test
+	void shouldRedeliverPendingRecordsAfterFailedBatch() {
+
+		List<ReadOffset> offsets = new ArrayList<>();
+		List<List<ByteRecord>> responses = new ArrayList<>(List.of(List.of(record("1-0"), record("2-0")), // new records
+				List.of(record("2-0")), // pending records
+				Collections.emptyList(), // end of pending records
+				List.of(record("3-0"))));
+		List<RecordId> acknowledged = new ArrayList<>();
+		List<List<RecordId>> batches = new ArrayList<>();
+
+		StreamReadRequest<String> request = StreamReadRequest
+				.builder(StreamOffset.create("stream", ReadOffset.lastConsumed())).consumer(Consumer.from("group", "consumer"))
+				.autoAcknowledge(false).build();
+
+		StreamBatchDispatcher<String, MapRecord<String, String, String>> dispatcher = new StreamBatchDispatcher<>(
+				messages -> {
+
+					List<RecordId> ids = messages.stream().map(MapRecord::getId).toList();
+					batches.add(ids);
+
+					if (batches.size() == 1) {
+						throw new BatchListenerFailedException("failed", Collections.singleton(RecordId.of("2-0")));
+					}
+				}, it -> it.deserialize(RedisSerializer.string()), TypeDescriptor.valueOf(MapRecord.class), false, "group",
+				(stream, group, ids) -> acknowledged.addAll(ids));
+
+		StreamPollTask<String, MapRecord<String, String, String>>[] task = new StreamPollTask[1];
+		task[0] = new StreamPollTask<>(request, dispatcher, it -> {}, TypeDescriptor.valueOf(MapRecord.class), offset -> {
+
+			offsets.add(offset);
+
+			if (responses.size() == 1) {
+				task[0].cancel();
+			}
+
+			return responses.remove(0);
+		}, it -> it.deserialize(RedisSerializer.string()));
+
+		task[0].run();
+
+		assertThat(offsets).containsExactly(ReadOffset.lastConsumed(), ReadOffset.from("0-0"), ReadOffset.from("2-0"),
+				ReadOffset.lastConsumed());
+		assertThat(batches).containsExactly(List.of(RecordId.of("1-0"), RecordId.of("2-0")), List.of(RecordId.of("2-0")),
+				List.of(RecordId.of("3-0")));
+		assertThat(acknowledged).containsExactly(RecordId.of("1-0"), RecordId.of("2-0"), RecordId.of("3-0"));
+	}
+
+	@Test
+	void shouldBoundRedeliveryOfRecordsFailingRepeatedly() {
+
+		List<ReadOffset> offsets = new ArrayList<>();
+		List<RecordId> acknowledged = new ArrayList<>();
+		List<List<RecordId>> batches = new ArrayList<>();
+
+		StreamReadRequest<String> request = StreamReadRequest
+				.builder(StreamOffset.create("stream", ReadOffset.lastConsumed())).consumer(Consumer.from("group", "consumer"))
+				.autoAcknowledge(false).build();
+
+		StreamBatchDispatcher<String, MapRecord<String, String, String>> dispatcher = new StreamBatchDispatcher<>(
+				messages -> {
+
+					batches.add(messages.stream().map(MapRecord::getId).toList());
+					throw new BatchListenerFailedException("poison", Collections.singleton(RecordId.of("1-0")));
+				}, it -> it.deserialize(RedisSerializer.string()), TypeDescriptor.valueOf(MapRecord.class), false, "group",
+				(stream, group, ids) -> acknowledged.addAll(ids));
+
+		StreamPollTask<String, MapRecord<String, String, String>>[] task = new StreamPollTask[1];
+		task[0] = new StreamPollTask<>(request, dispatcher, it -> {}, TypeDescriptor.valueOf(MapRecord.class), offset -> {
+
+			offsets.add(offset);
+
+			if (offsets.size() == 100) {
+				task[0].cancel();
+			}
+
+			// the poison record is the first new record and remains pending
+			return offsets.size() == 1 || ReadOffset.from("0-0").equals(offset) ? List.of(record("1-0"))
+					: Collections.<ByteRecord> emptyList();
+		}, it -> it.deserialize(RedisSerializer.string()));
+
+		task[0].run();
+
+		long redeliveries = offsets.stream().filter(ReadOffset.from("0-0")::equals).count();
+
+		assertThat(offsets).hasSize(100);
+		assertThat(redeliveries).isBetween(1L, (long) StreamPollTask.PollState.MAX_REDELIVERY_ATTEMPTS);
+		assertThat(batches).hasSize((int) redeliveries + 1);
+		assertThat(acknowledged).isEmpty();
+	}
+
+	@Test
+	void scheduledPollingShouldRequirePositivePollInterval() {
+
+		StreamReadRequest<String> request = StreamReadRequest.builder(StreamOffset.create("stream", ReadOffset.from("0-0")))
+				.build();
+		StreamListener<String, MapRecord<String, String, String>> listener = message -> {};
+		StreamPollTask<String, MapRecord<String, String, String>> task = new StreamPollTask<>(request, listener,
+				it -> {}, TypeDescriptor.valueOf(MapRecord.class), offset -> Collections.emptyList(),
+				it -> it.deserialize(RedisSerializer.string()));
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+		try {
+
+			assertThatIllegalArgumentException().isThrownBy(() -> task.setScheduler(scheduler, Duration.ZERO));
+			assertThatIllegalStateException().isThrownBy(() -> StreamMessageListenerContainerOptions.builder()
+					.scheduler(scheduler).pollTimeout(Duration.ZERO).build());
+
+			task.setScheduler(null, Duration.ZERO);
+		} finally {
+			scheduler.shutdown();
+		}
+	}
+
+	@Test
+	void scheduledPollingShouldRejectConcurrentProcessing() {
+
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+		try {
+			assertThatIllegalStateException().isThrownBy(() -> StreamMessageListenerContainerOptions.builder()
+					.scheduler(scheduler).pollTimeout(Duration.ofMillis(100)).concurrency(4).build());
+		} finally {
+			scheduler.shutdown();
+		}
+	}
+
+	@Test
+	void shouldPollOnSchedulerAndDelayIdlePolls() throws InterruptedException {
+
+		ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+		List<Long> readTimes = new CopyOnWriteArrayList<>();
+		List<RecordId> received = new CopyOnWriteArrayList<>();
+		CountDownLatch cancelled = new CountDownLatch(1);
+		List<List<ByteRecord>> responses = new ArrayList<>(
+				List.of(List.of(record("1-0")), Collections.emptyList(), List.of(record("2-0"))));
+
+		StreamReadRequest<String> request = StreamReadRequest.builder(StreamOffset.create("stream", ReadOffset.from("0-0")))
+				.build();
+		StreamListener<String, MapRecord<String, String, String>> listener = message -> received.add(message.getId());
+
+		StreamPollTask<String, MapRecord<String, String, String>>[] task = new StreamPollTask[1];
+		task[0] = new StreamPollTask<>(request, listener, it -> {}, TypeDescriptor.valueOf(MapRecord.class), offset -> {
+
+			readTimes.add(System.nanoTime());
+
+			if (responses.size() == 1) {
+				task[0].cancel();
+				cancelled.countDown();
+			}
+
+			return responses.remove(0);
+		}, it -> it.deserialize(RedisSerializer.string()));
+		task[0].setScheduler(scheduler, Duration.ofMillis(100));
+
+		try {
+
+			task[0].run(); // returns after the first poll
+
+			assertThat(cancelled.await(5, TimeUnit.SECONDS)).isTrue();
+		} finally {
+
+			scheduler.shutdown();
+			assertThat(scheduler.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+		}
+
+		assertThat(received).containsExactly(RecordId.of("1-0"), RecordId.of("2-0"));
+		assertThat(readTimes).hasSize(3);
+		assertThat(readTimes.get(2) - readTimes.get(1)).isGreaterThanOrEqualTo(Duration.ofMillis(100).toNanos());
+		assertThat(task[0].isActive()).isFalse();
+	}
+
+	private static ByteRecord record(String id) {
+		return StreamRecords.rawBytes(Map.of(bytes("key"), bytes("value"))).withStreamKey(bytes("stream"))
+				.withId(RecordId.of(id));
+	}
+
+	private static byte[] bytes(String value) {
+		return value.getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -110,6 +110,8 @@ public class RedisPropertiesIntegrationTests extends RedisMapIntegrationTests {
 
 		StringWriter writer = new StringWriter();
 		props.store(writer, "no-comment");
+
+		assertThat(writer.toString()).contains("x=y", "a=b");
 	}
 
 	@ParameterizedRedisTest
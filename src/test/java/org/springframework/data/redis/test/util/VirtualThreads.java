@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.redis.test.util;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Assumptions;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Utility to run code on virtual threads and to detect carrier thread pinning. Virtual threads are obtained through
+ * reflection as they are not available on the Java baseline of this project. Pinning is detected by recording the
+ * {@code jdk.VirtualThreadPinned} JFR event. Tests using this utility are skipped if the runtime does not support
+ * virtual threads.
+ *
+ * @author agent
+ */
+public class VirtualThreads {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	private static final @Nullable Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = ReflectionUtils
+			.findMethod(Executors.class, "newVirtualThreadPerTaskExecutor");
+
+	private static final boolean AVAILABLE = isVirtualThreadExecutorAvailable();
+
+	private VirtualThreads() {}
+
+	/**
+	 * @return {@literal true} if the runtime supports virtual threads.
+	 */
+	public static boolean isAvailable() {
+		return AVAILABLE;
+	}
+
+	/**
+	 * Create a new {@link ExecutorService} that starts a new virtual thread for each task. Aborts the current test if
+	 * virtual threads are not available.
+	 *
+	 * @return the {@link ExecutorService}.
+	 */
+	public static ExecutorService newVirtualThreadPerTaskExecutor() {
+
+		Assumptions.assumeTrue(AVAILABLE, "Virtual threads are not available");
+
+		return (ExecutorService) ReflectionUtils.invokeMethod(NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR, null);
+	}
+
+	/**
+	 * Run {@code task} {@code concurrency} times concurrently on virtual threads while recording pinned carrier
+	 * threads. Failures of {@code task} are rethrown.
+	 *
+	 * @param concurrency number of concurrent task invocations.
+	 * @param task the task to run.
+	 * @return the recorded {@code jdk.VirtualThreadPinned} events. An empty list if no virtual thread was pinned.
+	 * @throws Exception if a task fails.
+	 */
+	public static List<RecordedEvent> runDetectingPinning(int concurrency, Callable<?> task) throws Exception {
+
+		ExecutorService executor = newVirtualThreadPerTaskExecutor();
+		Path dump = Files.createTempFile("virtual-thread-pinning", ".jfr");
+
+		try (Recording recording = new Recording()) {
+
+			recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+			recording.start();
+
+			try {
+
+				List<Future<?>> futures = new ArrayList<>(concurrency);
+				for (int i = 0; i < concurrency; i++) {
+					futures.add(executor.submit(task));
+				}
+
+				for (Future<?> future : futures) {
+					future.get(30, TimeUnit.SECONDS);
+				}
+			} finally {
+				executor.shutdown();
+				executor.awaitTermination(30, TimeUnit.SECONDS);
+				recording.stop();
+			}
+
+			recording.dump(dump);
+
+			return RecordingFile.readAllEvents(dump).stream() //
+					.filter(it -> it.getEventType().getName().equals(PINNED_EVENT)) //
+					.collect(Collectors.toList());
+		} finally {
+			Files.deleteIfExists(dump);
+		}
+	}
+
+	private static boolean isVirtualThreadExecutorAvailable() {
+
+		if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+			return false;
+		}
+
+		try {
+			((ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null)).shutdown();
+			return true;
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// e.g. preview features not enabled
+			return false;
+		}
+	}
+}